@@ -0,0 +1,158 @@
+package com.alex.universitymanagementsystem.build;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Static resource weight of every page, before and after the fingerprinted
+ * resource chain of UmsMvcConfig.
+ * <p>
+ * Before: every resource is downloaded uncompressed and, without
+ * Cache-Control, revalidated with a conditional request on each later
+ * view. After: the precompressed variant is downloaded once (brotli when
+ * written, else gzip) and the later views send no request at all until the
+ * resource changes, as its URL changes with it.
+ * <p>
+ * {@code mvn -P page-weight package}, after the precompression of the
+ * build; the resources of a page are its {@code @{/static/...}} links, the
+ * url() and @import of its stylesheets and the imports of its js modules.
+ */
+public final class PageWeightReport {
+
+    // constants
+    private static final Pattern TEMPLATE_LINK = Pattern.compile("th:(?:href|src)=\"@\\{(/static/[^}?#]+)\\}\"");
+    private static final Pattern CSS_LINK = Pattern.compile("(?:url\\(\\s*['\"]?|@import\\s+['\"])([^'\")]+)");
+    private static final Pattern JS_IMPORT = Pattern.compile("(?:import|from)\\s+['\"](\\.{1,2}/[^'\"]+)['\"]");
+    private static final String STATIC = "/static/";
+
+    private PageWeightReport() {} // private constructor to prevent instantiation
+
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: PageWeightReport <templates directory> <static directory>");
+            System.exit(2);
+        }
+        Path templates = Path.of(args[0]);
+        Path resources = Path.of(args[1]);
+
+        List<Page> pages;
+        try (Stream<Path> walk = Files.walk(templates)) {
+            pages = walk
+                .filter(file -> file.toString().endsWith(".html"))
+                .map(file -> page(templates, resources, file))
+                .filter(page -> page.resources() > 0)
+                .sorted(Comparator.comparingLong(Page::before).reversed())
+                .toList();
+        }
+
+        System.out.printf("%-60s %6s %12s %11s %7s %16s%n",
+            "page", "files", "before bytes", "after bytes", "saved", "repeat requests");
+        long before = 0;
+        long after = 0;
+        long revalidations = 0;
+        for (Page page : pages) {
+            System.out.printf("%-60s %6d %,12d %,11d %6.1f%% %9d -> 0%n",
+                page.name(), page.resources(), page.before(), page.after(), saved(page.before(), page.after()), page.resources());
+            before += page.before();
+            after += page.after();
+            revalidations += page.resources();
+        }
+        System.out.printf("%n%d pages, first views: %,d -> %,d bytes (%.1f%% saved), repeat views: %,d -> 0 requests%n",
+            pages.size(), before, after, saved(before, after), revalidations);
+
+        pages.stream()
+            .flatMap(page -> page.missing().stream().map(link -> page.name() + ": " + link))
+            .forEach(missing -> System.out.println("missing resource " + missing));
+    }
+
+
+    // helpers
+    private static Page page(Path templates, Path resources, Path template) {
+        Set<String> links = new TreeSet<>();
+        Set<String> missing = new TreeSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        Matcher matcher = TEMPLATE_LINK.matcher(read(template));
+        while (matcher.find())
+            pending.add(matcher.group(1));
+
+        // follow the links of stylesheets and js modules
+        while (!pending.isEmpty()) {
+            String link = pending.pop();
+            Path file = resources.resolve(link.substring(STATIC.length()));
+            if (!links.add(link))
+                continue;
+            if (!Files.isRegularFile(file)) {
+                missing.add(link);
+                continue;
+            }
+            Pattern nested = link.endsWith(".css") ? CSS_LINK : link.endsWith(".js") ? JS_IMPORT : null;
+            if (nested == null)
+                continue;
+            Matcher references = nested.matcher(read(file));
+            while (references.find()) {
+                String reference = references.group(1);
+                if (!reference.startsWith("data:") && !reference.contains("://"))
+                    pending.add(resolve(link, reference));
+            }
+        }
+
+        long before = 0;
+        long after = 0;
+        for (String link : links) {
+            Path file = resources.resolve(link.substring(STATIC.length()));
+            long size = size(file);
+            before += size;
+            after += Math.min(size, Math.min(variant(file, ".br", size), variant(file, ".gz", size)));
+        }
+        String name = templates.relativize(template).toString().replace('\\', '/');
+        return new Page(name, links.size(), before, after, missing);
+    }
+
+    // absolute or relative to the linking resource
+    private static String resolve(String from, String reference) {
+        if (reference.startsWith("/"))
+            return reference;
+        return Path.of(from).resolveSibling(reference).normalize().toString().replace('\\', '/');
+    }
+
+    private static long variant(Path file, String extension, long fallback) {
+        Path variant = file.resolveSibling(file.getFileName() + extension);
+        return Files.isRegularFile(variant) ? size(variant) : fallback;
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double saved(long before, long after) {
+        return before == 0 ? 0 : 100.0 * (before - after) / before;
+    }
+
+
+    private record Page(String name, int resources, long before, long after, Set<String> missing) {}
+
+}
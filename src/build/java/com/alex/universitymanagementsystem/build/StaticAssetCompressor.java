@@ -0,0 +1,145 @@
+package com.alex.universitymanagementsystem.build;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the .gz and .br variants of the text static resources next to
+ * them, served by the EncodedResourceResolver of UmsMvcConfig to the
+ * clients accepting them.
+ * <p>
+ * Run by the build on target/classes/static before packaging, as a single
+ * file program (no compilation step):
+ * {@code java src/build/java/.../StaticAssetCompressor.java target/classes/static}.
+ * Gzip uses the JDK at the best compression level; brotli needs the
+ * {@code brotli} command on the PATH and is skipped without it. A variant
+ * not saving at least {@link #MIN_SAVING} of the original is not written:
+ * the original is served instead. Stylesheets linking other resources
+ * (url(), @import) are left alone, their links are versioned at runtime
+ * by the CssLinkResourceTransformer, which does not see precompressed
+ * variants.
+ */
+public final class StaticAssetCompressor {
+
+    // constants
+    private static final Set<String> EXTENSIONS = Set.of("css", "js", "svg", "ico", "json", "txt", "html");
+    private static final int MIN_SIZE = 512;
+    private static final double MIN_SAVING = 0.1;
+    private static final Pattern CSS_LINK = Pattern.compile("url\\(|@import");
+
+    private StaticAssetCompressor() {} // private constructor to prevent instantiation
+
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 1) {
+            System.err.println("usage: StaticAssetCompressor <static directory>");
+            System.exit(2);
+        }
+        Path root = Path.of(args[0]);
+        if (!Files.isDirectory(root)) {
+            System.out.println("No static resources in " + root + ", nothing to compress");
+            return;
+        }
+
+        boolean brotli = brotliAvailable();
+        if (!brotli)
+            System.out.println("brotli not found on the PATH: only the .gz variants are written");
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).filter(StaticAssetCompressor::compressible).toList();
+        }
+
+        long raw = 0;
+        long gzip = 0;
+        long br = 0;
+        for (Path file : files) {
+            long size = Files.size(file);
+            raw += size;
+            gzip += keepIfSmaller(gzip(file), size);
+            br += brotli ? keepIfSmaller(brotli(file), size) : size;
+        }
+
+        System.out.printf("Precompressed %d static resources: %,d bytes, gzip %,d bytes%s%n",
+            files.size(), raw, gzip, brotli ? String.format(", brotli %,d bytes", br) : "");
+    }
+
+
+    // helpers
+    private static boolean compressible(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot <= 0 || !EXTENSIONS.contains(name.substring(dot + 1)))
+            return false;
+        return !name.endsWith(".css") || !linksResources(file);
+    }
+
+    private static boolean linksResources(Path stylesheet) {
+        try {
+            return CSS_LINK.matcher(Files.readString(stylesheet)).find();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path gzip(Path file) throws IOException {
+        Path target = file.resolveSibling(file.getFileName() + ".gz");
+        try (OutputStream out = new BestGzipOutputStream(Files.newOutputStream(target))) {
+            Files.copy(file, out);
+        }
+        return target;
+    }
+
+    private static Path brotli(Path file) throws IOException, InterruptedException {
+        Path target = file.resolveSibling(file.getFileName() + ".br");
+        Process process = new ProcessBuilder("brotli", "-q", "11", "-f", "-o", target.toString(), file.toString())
+            .inheritIO()
+            .start();
+        if (process.waitFor() != 0)
+            throw new IOException("brotli failed on " + file);
+        return target;
+    }
+
+    // the size served for the file: the variant if worth it, else the original
+    private static long keepIfSmaller(Path variant, long size) throws IOException {
+        long compressed = Files.size(variant);
+        if (size < MIN_SIZE || compressed > size * (1 - MIN_SAVING)) {
+            Files.delete(variant);
+            return size;
+        }
+        return compressed;
+    }
+
+    private static boolean brotliAvailable() {
+        try {
+            Process process = new ProcessBuilder("brotli", "--version").redirectErrorStream(true).start();
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return process.waitFor(10, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+
+        private BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+}
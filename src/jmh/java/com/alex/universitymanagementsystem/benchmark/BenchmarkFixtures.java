@@ -0,0 +1,74 @@
+package com.alex.universitymanagementsystem.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.DegreeCourse;
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.entity.Professor;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.entity.StudyPlan;
+import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.enum_type.CourseType;
+import com.alex.universitymanagementsystem.enum_type.DegreeType;
+
+/**
+ * Entities shaped like the seeded data, shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    // constants
+    static final int STUDY_PLAN_COURSES = 20;
+    static final int APPEAL_STUDENTS = 30;
+
+    private BenchmarkFixtures() {} // private constructor to prevent instantiation
+
+
+    static DegreeCourse degreeCourse() {
+        return new DegreeCourse("INGEGNERIA GESTIONALE", DegreeType.BACHELOR, 3);
+    }
+
+
+    static Professor professor() {
+        return new Professor("professore.genesio@dominio.it", "genesio", "rossi", "abc678rde217we12", "wer123er");
+    }
+
+
+    static Course course(int index, Professor professor, DegreeCourse degreeCourse) {
+        return new Course("course " + index, CourseType.ING_GESTIONALE, 9, professor, degreeCourse);
+    }
+
+
+    static Student student(int index, DegreeCourse degreeCourse, StudyPlan studyPlan) {
+        Student student = new Student();
+        student.setUsername("student" + index + "@gmail.com");
+        student.setFirstName("first" + index);
+        student.setLastName("last" + index);
+        student.setDob(LocalDate.of(2000, 1, 1));
+        student.setFiscalCode(new FiscalCode(String.format("abc678rde217%04d", index)));
+        student.setRegister(new Register(String.format("%06d", 100000 + index)));
+        student.setDegreeCourse(degreeCourse);
+        student.setStudyPlan(studyPlan);
+        return student;
+    }
+
+
+    static StudyPlan studyPlan(Professor professor, DegreeCourse degreeCourse) {
+        Set<Course> courses = new HashSet<>();
+        for (int i = 0; i < STUDY_PLAN_COURSES; i++)
+            courses.add(course(i, professor, degreeCourse));
+        return new StudyPlan("ORDINAMENTO 2025", courses);
+    }
+
+
+    static ExaminationAppeal appeal(Course course) {
+        Set<Register> registers = new HashSet<>();
+        for (int i = 0; i < APPEAL_STUDENTS; i++)
+            registers.add(new Register(String.format("%06d", 100000 + i)));
+        return ExaminationAppeal.of(course, "modulo 1 + modulo 2", LocalDate.of(2026, 6, 23), registers);
+    }
+
+}
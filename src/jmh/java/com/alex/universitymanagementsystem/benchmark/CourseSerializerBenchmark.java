@@ -0,0 +1,58 @@
+package com.alex.universitymanagementsystem.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alex.universitymanagementsystem.component.CourseSerializer;
+import com.alex.universitymanagementsystem.dto.CourseDto;
+import com.alex.universitymanagementsystem.entity.Professor;
+import com.alex.universitymanagementsystem.mapper.CourseMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * JSON serialization of a course as done for the degree course ajax
+ * endpoints. The serializer closes the generator it is given, so each
+ * invocation writes through a fresh one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseSerializerBenchmark {
+
+    // instance variables
+    private final CourseSerializer serializer = new CourseSerializer();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private CourseDto course;
+
+    @Setup
+    public void setup() {
+        Professor professor = BenchmarkFixtures.professor();
+        course = CourseMapper.toDto(BenchmarkFixtures.course(1, professor, BenchmarkFixtures.degreeCourse()));
+    }
+
+
+    @Benchmark
+    public String serialize() throws IOException {
+        StringWriter writer = new StringWriter(128);
+        JsonGenerator generator = jsonFactory.createGenerator(writer);
+        serializer.serialize(course, generator);
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.alex.universitymanagementsystem.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alex.universitymanagementsystem.dto.CourseDto;
+import com.alex.universitymanagementsystem.dto.ExaminationAppealDto;
+import com.alex.universitymanagementsystem.dto.StudentDto;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.DegreeCourse;
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.entity.Professor;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.mapper.CourseMapper;
+import com.alex.universitymanagementsystem.mapper.ExaminationAppealMapper;
+import com.alex.universitymanagementsystem.mapper.StudentMapper;
+
+/**
+ * Entity to DTO mapping, both directions, for students (with a full study
+ * plan), courses and examination appeals (with their booked students).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    // instance variables
+    private Student student;
+    private StudentDto studentDto;
+    private Course course;
+    private CourseDto courseDto;
+    private ExaminationAppeal appeal;
+    private ExaminationAppealDto appealDto;
+    private Set<StudentDto> appealStudents;
+
+    @Setup
+    public void setup() {
+        DegreeCourse degreeCourse = BenchmarkFixtures.degreeCourse();
+        Professor professor = BenchmarkFixtures.professor();
+
+        student = BenchmarkFixtures.student(1, degreeCourse, BenchmarkFixtures.studyPlan(professor, degreeCourse));
+        studentDto = StudentMapper.toDto(student);
+
+        course = BenchmarkFixtures.course(1, professor, degreeCourse);
+        courseDto = CourseMapper.toDto(course);
+
+        appealStudents = new HashSet<>();
+        for (int i = 0; i < BenchmarkFixtures.APPEAL_STUDENTS; i++)
+            appealStudents.add(StudentMapper.toDto(BenchmarkFixtures.student(i, degreeCourse, null)));
+        appeal = BenchmarkFixtures.appeal(course);
+        appealDto = ExaminationAppealMapper.toDto(appeal, appealStudents);
+    }
+
+
+    @Benchmark
+    public StudentDto studentToDto() {
+        return StudentMapper.toDto(student);
+    }
+
+    @Benchmark
+    public Student studentToEntity() {
+        return StudentMapper.toEntity(studentDto);
+    }
+
+    @Benchmark
+    public CourseDto courseToDto() {
+        return CourseMapper.toDto(course);
+    }
+
+    @Benchmark
+    public Course courseToEntity() {
+        return CourseMapper.toEntity(courseDto);
+    }
+
+    @Benchmark
+    public ExaminationAppealDto examinationAppealToDto() {
+        return ExaminationAppealMapper.toDto(appeal, appealStudents);
+    }
+
+    @Benchmark
+    public ExaminationAppeal examinationAppealToEntity() {
+        return ExaminationAppealMapper.toEntity(appealDto, course);
+    }
+
+}
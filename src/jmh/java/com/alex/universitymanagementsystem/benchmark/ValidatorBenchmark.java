@@ -0,0 +1,69 @@
+package com.alex.universitymanagementsystem.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alex.universitymanagementsystem.component.validator.FiscalCodeValidator;
+import com.alex.universitymanagementsystem.component.validator.PasswordValidator;
+import com.alex.universitymanagementsystem.component.validator.RegisterValidator;
+
+/**
+ * Bean validation constraint validators run on every submitted form.
+ * The context is only used to report failures, so the valid inputs can
+ * be checked without one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    // instance variables
+    private final FiscalCodeValidator fiscalCodeValidator = new FiscalCodeValidator();
+    private final PasswordValidator passwordValidator = new PasswordValidator();
+    private final RegisterValidator registerValidator = new RegisterValidator();
+
+    private String fiscalCode = "abc678rde217we56";
+    private String invalidFiscalCode = "abc678rde217we5!";
+    private String password = "Str0ngPassw0rd!";
+    private String register = "123456";
+    private String invalidRegister = "12345a";
+
+
+    @Benchmark
+    public boolean fiscalCodeValid() {
+        return fiscalCodeValidator.isValid(fiscalCode, null);
+    }
+
+    @Benchmark
+    public boolean fiscalCodeInvalid() {
+        return fiscalCodeValidator.isValid(invalidFiscalCode, null);
+    }
+
+    @Benchmark
+    public boolean passwordValid() {
+        return passwordValidator.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean registerValid() {
+        return registerValidator.isValid(register, null);
+    }
+
+    @Benchmark
+    public boolean registerInvalid() {
+        return registerValidator.isValid(invalidRegister, null);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.alex.universitymanagementsystem.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
+import com.alex.universitymanagementsystem.entity.immutable.MiurCourseCode;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
+import com.alex.universitymanagementsystem.enum_type.MiurAcronymType;
+
+/**
+ * Construction of the {@code entity.immutable} value objects, whose
+ * compact constructors validate their input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    // instance variables
+    private String register = "123456";
+    private String fiscalCode = "abc678rde217we56";
+    private String uniqueCode = "wer123er";
+    private String courseId = "3f2b8c1e-6d4a-4f0e-9a7b-2c5d8e1f0a3b";
+
+
+    @Benchmark
+    public Register register() {
+        return new Register(register);
+    }
+
+    @Benchmark
+    public FiscalCode fiscalCode() {
+        return new FiscalCode(fiscalCode);
+    }
+
+    @Benchmark
+    public UniqueCode uniqueCode() {
+        return new UniqueCode(uniqueCode);
+    }
+
+    @Benchmark
+    public CourseId courseIdNew() {
+        return CourseId.newId();
+    }
+
+    @Benchmark
+    public CourseId courseIdFromString() {
+        return new CourseId(courseId);
+    }
+
+    @Benchmark
+    public MiurCourseCode miurCourseCodeGenerate() {
+        return MiurCourseCode.generate(MiurAcronymType.ING);
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.alex.universitymanagementsystem.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.alex.universitymanagementsystem.loadtest.SimulatedUser.Page;
+
+/**
+ * Exam registration day load generator.
+ * <p>
+ * Setup: the seeded professors open one appeal for each of their courses
+ * and {@code --students} synthetic students register on
+ * {@code --degree-course}. Exam day: every student, started over
+ * {@code --ramp-up} seconds, logs in, browses the available appeals,
+ * books up to {@code --bookings} of them, checks the booked calendar and
+ * cancels one booking with probability {@code --cancel-ratio}; meanwhile
+ * the professors keep grading the booked students.
+ * <p>
+ * Run the application with the embedded profile
+ * ({@code mvn -P embedded spring-boot:run}), then
+ * {@code mvn -P loadtest test-compile exec:exec -Dsim.students=1000}.
+ * <p>
+ * With {@code --compare-url} the same simulation is run against a second
+ * instance and the throughput of the two exam days is printed side by
+ * side, e.g. platform threads on 8081 and virtual threads on 8082
+ * ({@code -Dspring-boot.run.arguments="--server.port=8082 --spring.threads.virtual.enabled=true"}),
+ * then {@code mvn -P loadtest test-compile exec:exec -Dsim.students=5000 -Dsim.compareUrl=http://localhost:8082}.
+ */
+public final class ExamDaySimulator {
+
+    // constants
+    private static final String APPEAL = "/api/v1/examination-appeal";
+    private static final String OUTCOME = "/api/v1/examination-outcome";
+    private static final String PASSWORD = "Sim-Pass1!";
+
+    private static final Pattern COURSE_OPTION =
+        Pattern.compile("<option value=\"([^\"]+)\"\\s+data-degree=\"([^\"]+)\"\\s+data-cfu=\"([^\"]+)\"");
+    private static final Pattern BOOK_ACTION = Pattern.compile(APPEAL + "/booked/(\\d+)");
+    private static final Pattern CANCEL_ACTION = Pattern.compile(APPEAL + "/delete-booked/(\\d+)");
+    private static final Pattern STUDENTS_BOOKED_LINK = Pattern.compile(APPEAL + "/read/students-booked/(\\d+/[0-9-]+)");
+    private static final Pattern GRADE_LINK = Pattern.compile(OUTCOME + "/make/(\\d{6}/\\d+)");
+
+    // seeded professor accounts
+    private static final Map<String, String> PROFESSORS = Map.of(
+        "professore.giacinto@dominio.it", "dino",
+        "professore.genesio@dominio.it", "gene",
+        "professore.giacomo@dominio.it", "giaco",
+        "professore.gioele@dominio.it", "gioele"
+    );
+
+    private ExamDaySimulator() {} // private constructor to prevent instantiation
+
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        LatencyReport examDay = simulate(options);
+        if (examDay == null || options.compareUrl() == null)
+            return;
+
+        LatencyReport compared = simulate(options.withBaseUrl(options.compareUrl()));
+        if (compared == null)
+            return;
+
+        System.out.printf("%nComparison of the exam day%n");
+        System.out.printf("%-40s %9s %8s %9s %9s %9s%n", "base url", "requests", "error%", "req/s", "p95 ms", "p99 ms");
+        examDay.summary().print(options.baseUrl(), System.out);
+        compared.summary().print(options.compareUrl(), System.out);
+    }
+
+
+    /**
+     * Runs the setup and the exam day against one application instance.
+     * @param options the simulation options
+     * @return the exam day report, null if no student could register
+     */
+    private static LatencyReport simulate(Options options) throws InterruptedException {
+        HttpClient client = HttpClient
+            .newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(options.timeout())
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        List<SimulatedUser> professors = PROFESSORS
+            .entrySet()
+            .stream()
+            .map(e -> new SimulatedUser(client, options.baseUrl(), options.timeout(), e.getKey(), e.getValue()))
+            .toList();
+
+        // setup
+        LatencyReport setup = new LatencyReport();
+        professors.forEach(professor -> professor.reportTo(setup));
+        runAll(professors.stream().<Runnable>map(professor -> () -> openAppeals(professor)).toList());
+        List<SimulatedUser> students = registerStudents(client, options, setup);
+        setup.stop();
+        setup.print(options.baseUrl() + " setup: appeals opened and " + students.size() + "/" + options.students()
+            + " students registered", System.out);
+
+        if (students.isEmpty()) {
+            System.out.println("No student registered, nothing to simulate");
+            return null;
+        }
+
+        // exam day
+        LatencyReport examDay = new LatencyReport();
+        students.forEach(student -> student.reportTo(examDay));
+        professors.forEach(professor -> professor.reportTo(examDay));
+
+        AtomicBoolean studentsDone = new AtomicBoolean();
+        List<Runnable> tasks = new ArrayList<>();
+        long rampUpNanos = options.rampUp().toNanos();
+        for (int i = 0; i < students.size(); i++) {
+            SimulatedUser student = students.get(i);
+            long delayNanos = rampUpNanos * i / students.size();
+            tasks.add(() -> {
+                sleep(delayNanos);
+                bookingSession(student, options);
+            });
+        }
+
+        examDay.start();
+        try (ExecutorService graders = Executors.newVirtualThreadPerTaskExecutor()) {
+            professors.forEach(professor -> graders.submit(() -> grade(professor, studentsDone)));
+            runAll(tasks);
+            studentsDone.set(true);
+        }
+        examDay.stop();
+        examDay.print(options.baseUrl() + " exam day: " + students.size() + " students, " + professors.size()
+            + " professors", System.out);
+        return examDay;
+    }
+
+
+    // setup
+
+    private static void openAppeals(SimulatedUser professor) {
+        if (!professor.login())
+            return;
+
+        Page page = professor.get("GET " + APPEAL + "/make", APPEAL + "/make", "Make new appeal");
+        Matcher course = COURSE_OPTION.matcher(page.body());
+        int day = 0;
+        while (course.find()) {
+            Map<String, String> form = new LinkedHashMap<>();
+            form.put("courseName", Page.unescape(course.group(1)));
+            form.put("degreeCourseName", Page.unescape(course.group(2)));
+            form.put("courseCfu", course.group(3));
+            form.put("description", "exam day simulation");
+            form.put("date", LocalDate.now().plusDays(30L + day++).toString());
+            professor.post("POST " + APPEAL + "/create", APPEAL + "/create", form, "Examination appeal created");
+        }
+    }
+
+
+    private static List<SimulatedUser> registerStudents(HttpClient client, Options options, LatencyReport setup)
+        throws InterruptedException
+    {
+        String run = Long.toString(System.currentTimeMillis() % 1_679_616, 36); // 4 base 36 digits
+        List<SimulatedUser> registered = Collections.synchronizedList(new ArrayList<>());
+        List<Runnable> tasks = new ArrayList<>();
+
+        for (int i = 0; i < options.students(); i++) {
+            String id = String.format("%06d", i);
+            SimulatedUser student = new SimulatedUser(client, options.baseUrl(), options.timeout(),
+                "sim" + run + "-" + id + "@ums.it", PASSWORD);
+            student.reportTo(setup);
+
+            tasks.add(() -> {
+                Map<String, String> form = new LinkedHashMap<>();
+                form.put("username", student.username());
+                form.put("password", PASSWORD);
+                form.put("confirm", PASSWORD);
+                form.put("firstName", "sim");
+                form.put("lastName", "student" + id);
+                form.put("dob", "2000-01-01");
+                form.put("fiscalCode", String.format("SIM%4s%09d", run, Integer.parseInt(id)).replace(' ', '0'));
+                form.put("street", "via della simulazione 1");
+                form.put("city", "bari");
+                form.put("state", "italia");
+                form.put("zip", "70100");
+                form.put("phone", "3331234567");
+                form.put("role", "STUDENT");
+
+                student.get("GET /registration", "/registration", null);
+                student.post("POST /registration", "/registration", form, null);
+                Page created = student.post("POST /api/v1/user/create-student", "/api/v1/user/create-student",
+                    Map.of("degreeCourse", options.degreeCourse(), "ordering", "ORD270"),
+                    "Registration completed successfully");
+                if (created.body().contains("Registration completed successfully"))
+                    registered.add(student);
+            });
+        }
+
+        runAll(tasks);
+        return new ArrayList<>(registered);
+    }
+
+
+    // exam day
+
+    private static void bookingSession(SimulatedUser student, Options options) {
+        if (!student.login())
+            return;
+
+        Page available = student.get("GET " + APPEAL + "/available/student", APPEAL + "/available/student", "Appeals available");
+        List<String> appeals = new ArrayList<>(available.findAll(BOOK_ACTION));
+        Collections.shuffle(appeals, ThreadLocalRandom.current());
+
+        for (String id : appeals.subList(0, Math.min(options.bookings(), appeals.size())))
+            student.post("POST " + APPEAL + "/booked/{id}", APPEAL + "/booked/" + id, Map.of(), "Appeal reservation details");
+
+        Page booked = student.get("GET " + APPEAL + "/booked/student", APPEAL + "/booked/student", "Appeals booked");
+        List<String> bookings = booked.findAll(CANCEL_ACTION);
+        if (!bookings.isEmpty() && ThreadLocalRandom.current().nextDouble() < options.cancelRatio())
+            student.post("DELETE " + APPEAL + "/delete-booked/{id}", APPEAL + "/delete-booked/" + bookings.getFirst(),
+                Map.of("_method", "DELETE"), "Appeal reservation deleted");
+
+        student.get("GET " + APPEAL + "/available/student", APPEAL + "/available/student", "Appeals available");
+    }
+
+
+    private static void grade(SimulatedUser professor, AtomicBoolean studentsDone) {
+        Set<String> graded = new HashSet<>();
+        boolean lastPass;
+        do {
+            lastPass = studentsDone.get();
+            Page calendar = professor.get("GET " + APPEAL + "/read/professor", APPEAL + "/read/professor", "Check appeals");
+
+            for (String appeal : calendar.findAll(STUDENTS_BOOKED_LINK)) {
+                Page booked = professor.get("GET " + APPEAL + "/read/students-booked/{id}/{date}",
+                    APPEAL + "/read/students-booked/" + appeal, "Student information");
+
+                for (String registerAndAppeal : booked.findAll(GRADE_LINK)) {
+                    if (!graded.add(registerAndAppeal))
+                        continue;
+
+                    Page evaluation = professor.get("GET " + OUTCOME + "/make/{register}/{id}",
+                        OUTCOME + "/make/" + registerAndAppeal, "Enter grade");
+                    if (!evaluation.ok())
+                        continue;
+
+                    Map<String, String> form = new HashMap<>(evaluation.hiddenInputs());
+                    form.remove("_csrf");
+                    form.put("present", "true");
+                    form.put("grade", Integer.toString(ThreadLocalRandom.current().nextInt(18, 31)));
+                    form.put("withHonors", "false");
+                    professor.post("POST " + OUTCOME + "/create", OUTCOME + "/create", form, "outcome created successfully");
+                }
+            }
+            sleep(TimeUnit.MILLISECONDS.toNanos(200));
+        } while (!lastPass);
+    }
+
+
+    // helpers
+
+    private static void runAll(List<Runnable> tasks) throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            tasks.forEach(task -> executor.submit(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        if (failures.get() > 0)
+            System.out.println(failures.get() + " simulated users stopped on an unexpected error");
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Command line options, given as {@code --name=value}.
+     */
+    record Options(
+        String baseUrl,
+        String compareUrl,
+        int students,
+        int bookings,
+        double cancelRatio,
+        String degreeCourse,
+        Duration rampUp,
+        Duration timeout
+    ) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("="))
+                    throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+
+            return new Options(
+                values.getOrDefault("base-url", "http://localhost:8081"),
+                values.getOrDefault("compare-url", "").isBlank() ? null : values.get("compare-url"),
+                Integer.parseInt(values.getOrDefault("students", "500")),
+                Integer.parseInt(values.getOrDefault("bookings", "2")),
+                Double.parseDouble(values.getOrDefault("cancel-ratio", "0.3")),
+                values.getOrDefault("degree-course", "INGEGNERIA GESTIONALE"),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("ramp-up", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "30")))
+            );
+        }
+
+        Options withBaseUrl(String url) {
+            return new Options(url, null, students, bookings, cancelRatio, degreeCourse, rampUp, timeout);
+        }
+    }
+
+}
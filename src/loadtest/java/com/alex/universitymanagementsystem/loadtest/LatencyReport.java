@@ -0,0 +1,133 @@
+package com.alex.universitymanagementsystem.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Latencies and failures recorded per endpoint during one phase of the
+ * simulation, printed as p50/p95/p99, throughput and error rate.
+ */
+final class LatencyReport {
+
+    // instance variables
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+    private volatile long endNanos;
+
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        endNanos = System.nanoTime();
+    }
+
+
+    /**
+     * Records one request.
+     * @param endpoint the endpoint template, e.g. "POST /api/v1/examination-appeal/booked/{id}"
+     * @param nanos the request latency
+     * @param success whether the request produced the expected page
+     */
+    void record(String endpoint, long nanos, boolean success) {
+        endpoints
+            .computeIfAbsent(endpoint, _ -> new EndpointStats())
+            .record(nanos, success);
+    }
+
+
+    /**
+     * Prints one line per endpoint, sorted by endpoint.
+     * @param title the phase name
+     * @param out the stream to print to
+     */
+    void print(String title, PrintStream out) {
+        double seconds = ((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos) / 1e9;
+
+        out.printf("%n%s (%.1f s)%n", title, seconds);
+        out.printf("%-62s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "error%", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+        new ConcurrentSkipListMap<>(endpoints).forEach((endpoint, stats) -> {
+            long[] latencies = stats.sortedLatencies();
+            int requests = latencies.length;
+            out.printf("%-62s %8d %7d %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint,
+                requests,
+                stats.errors(),
+                requests == 0 ? 0.0 : 100.0 * stats.errors() / requests,
+                requests / seconds,
+                percentile(latencies, 50),
+                percentile(latencies, 95),
+                percentile(latencies, 99),
+                requests == 0 ? 0.0 : latencies[requests - 1] / 1e6);
+        });
+    }
+
+
+    /**
+     * @return the totals of every endpoint
+     */
+    Summary summary() {
+        double seconds = ((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos) / 1e9;
+        long[] latencies = endpoints.values().stream()
+            .flatMapToLong(stats -> Arrays.stream(stats.sortedLatencies()))
+            .sorted()
+            .toArray();
+        int errors = endpoints.values().stream().mapToInt(EndpointStats::errors).sum();
+        return new Summary(latencies.length, errors, latencies.length / seconds,
+            percentile(latencies, 95), percentile(latencies, 99));
+    }
+
+
+    /**
+     * Totals of a phase, for comparing two runs.
+     */
+    record Summary(int requests, int errors, double throughput, double p95, double p99) {
+
+        void print(String label, PrintStream out) {
+            out.printf("%-40s %9d %7.2f%% %9.1f %9.1f %9.1f%n",
+                label, requests, requests == 0 ? 0.0 : 100.0 * errors / requests, throughput, p95, p99);
+        }
+    }
+
+
+    // helpers
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0)
+            return 0.0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+
+
+    private static final class EndpointStats {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void record(long nanos, boolean success) {
+            if (size == latencies.length)
+                latencies = Arrays.copyOf(latencies, size * 2);
+            latencies[size++] = nanos;
+            if (!success)
+                errors++;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+
+}
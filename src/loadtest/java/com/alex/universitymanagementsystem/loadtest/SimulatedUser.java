@@ -0,0 +1,215 @@
+package com.alex.universitymanagementsystem.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * One browser session against the application: keeps its own cookies and
+ * the last CSRF token rendered in a page, and records every request in
+ * the current {@link LatencyReport}.
+ */
+final class SimulatedUser {
+
+    // constants
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern INPUT = Pattern.compile("<input\\b[^>]*>");
+    private static final Pattern NAME = Pattern.compile("\\bname=\"([^\"]*)\"");
+    private static final Pattern VALUE = Pattern.compile("\\bvalue=\"([^\"]*)\"");
+
+    // instance variables
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final String username;
+    private final String password;
+    private final Map<String, String> cookies = new ConcurrentHashMap<>();
+    private volatile String csrfToken;
+    private volatile LatencyReport report;
+
+    // constructor
+    SimulatedUser(HttpClient client, String baseUrl, Duration timeout, String username, String password) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.username = username;
+        this.password = password;
+    }
+
+
+    String username() {
+        return username;
+    }
+
+    void reportTo(LatencyReport report) {
+        this.report = report;
+    }
+
+
+    /**
+     * Loads the login page and submits the login form.
+     * @return true if the application accepted the credentials
+     */
+    boolean login() {
+        get("GET /login", "/login", null);
+        Page page = post("POST /login", "/login", Map.of("username", username, "password", password), null);
+        return page.ok() && page.location() != null && !page.location().contains("error");
+    }
+
+
+    /**
+     * Sends a GET request.
+     * @param endpoint the endpoint template used in the report
+     * @param path the path to request
+     * @param expected text the page must contain to count as a success, or null
+     * @return the page
+     */
+    Page get(String endpoint, String path, String expected) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).GET(), expected);
+    }
+
+
+    /**
+     * Submits a form, adding the CSRF token of the last page.
+     * @param endpoint the endpoint template used in the report
+     * @param path the form action
+     * @param form the form fields
+     * @param expected text the page must contain to count as a success, or null
+     * @return the page
+     */
+    Page post(String endpoint, String path, Map<String, String> form, String expected) {
+        Map<String, String> fields = new LinkedHashMap<>(form);
+        if (csrfToken != null)
+            fields.put("_csrf", csrfToken);
+
+        String body = fields
+            .entrySet()
+            .stream()
+            .map(e -> encode(e.getKey()) + "=" + encode(e.getValue()))
+            .collect(Collectors.joining("&"));
+
+        return send(endpoint, HttpRequest
+            .newBuilder(uri(path))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(body)), expected);
+    }
+
+
+    // helpers
+    private Page send(String endpoint, HttpRequest.Builder builder, String expected) {
+        if (!cookies.isEmpty())
+            builder.header("Cookie", cookies
+                .entrySet()
+                .stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining("; ")));
+        HttpRequest request = builder.timeout(timeout).build();
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - start;
+
+            response.headers().allValues("Set-Cookie").forEach(this::storeCookie);
+            Matcher csrf = CSRF.matcher(response.body());
+            if (csrf.find())
+                csrfToken = csrf.group(1);
+
+            Page page = new Page(response.statusCode(), response.headers().firstValue("Location").orElse(null), response.body());
+            record(endpoint, elapsed, page.ok() && (expected == null || page.body().contains(expected)));
+            return page;
+        } catch (IOException e) {
+            record(endpoint, System.nanoTime() - start, false);
+            return Page.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Page.FAILED;
+        }
+    }
+
+    private void record(String endpoint, long nanos, boolean success) {
+        LatencyReport current = report;
+        if (current != null)
+            current.record(endpoint, nanos, success);
+    }
+
+    private void storeCookie(String header) {
+        String pair = header.split(";", 2)[0];
+        int separator = pair.indexOf('=');
+        if (separator > 0)
+            cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path.replace(" ", "%20"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * A response: status, redirect target and HTML body.
+     */
+    record Page(int status, String location, String body) {
+
+        static final Page FAILED = new Page(0, null, "");
+
+        boolean ok() {
+            return status >= 200 && status < 400;
+        }
+
+        /**
+         * @param pattern a pattern with one capturing group
+         * @return every distinct value captured in the body, in order
+         */
+        List<String> findAll(Pattern pattern) {
+            List<String> values = new ArrayList<>();
+            Matcher matcher = pattern.matcher(body);
+            while (matcher.find())
+                if (!values.contains(matcher.group(1)))
+                    values.add(matcher.group(1));
+            return values;
+        }
+
+        /**
+         * @return name and value of every hidden input of the page
+         */
+        Map<String, String> hiddenInputs() {
+            Map<String, String> inputs = new LinkedHashMap<>();
+            Matcher input = INPUT.matcher(body);
+            while (input.find()) {
+                String tag = input.group();
+                Matcher name = NAME.matcher(tag);
+                Matcher value = VALUE.matcher(tag);
+                if (tag.contains("type=\"hidden\"") && name.find())
+                    inputs.put(name.group(1), value.find() ? unescape(value.group(1)) : "");
+            }
+            return inputs;
+        }
+
+        static String unescape(String html) {
+            return html
+                .replace("&#39;", "'")
+                .replace("&quot;", "\"")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&");
+        }
+    }
+
+}
@@ -0,0 +1,329 @@
+package com.alex.universitymanagementsystem.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * STOMP fan-out load generator.
+ * <p>
+ * Opens {@code --sessions} STOMP sessions on the native WebSocket endpoint,
+ * at most {@code --connect-rate} per second, all subscribed to
+ * {@code /topic/load-test}. Then one more session sends {@code --broadcasts}
+ * pings, {@code --interval} apart, which the server echoes to every
+ * subscriber: the latency of a delivery is measured from the send of the
+ * ping to its receipt (one clock, the one of this process), the latency of
+ * a broadcast until its last delivery. Deliveries lost and sessions closed
+ * by the server (slow consumers, missed heartbeats) are printed too.
+ * <p>
+ * Run the application with the load test broadcaster
+ * ({@code mvn -P embedded spring-boot:run
+ * -Dspring-boot.run.jvmArguments=-Dums.websocket.load-test.enabled=true}), then
+ * {@code mvn -P stomp-loadtest test-compile exec:exec -Dstomp.sessions=10000}.
+ * 10k sessions need as many file descriptors on both sides ({@code ulimit -n}).
+ */
+public final class StompFanOutSimulator {
+
+    // constants
+    private static final String TOPIC = "/topic/load-test";
+    private static final String PING = "/ums/load-test/ping";
+    private static final int SESSIONS_PER_CLIENT = 500;
+
+    private StompFanOutSimulator() {} // private constructor to prevent instantiation
+
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+
+        // one selector thread per client: spread the sessions over several
+        int clientCount = (options.sessions() + SESSIONS_PER_CLIENT - 1) / SESSIONS_PER_CLIENT;
+        List<HttpClient> clients = IntStream.range(0, clientCount)
+            .mapToObj(_ -> HttpClient.newBuilder().connectTimeout(options.timeout()).build())
+            .toList();
+
+        Deliveries deliveries = new Deliveries(options.broadcasts());
+        List<StompSession> sessions = new CopyOnWriteArrayList<>();
+        CountDownLatch subscribed = new CountDownLatch(options.sessions());
+        AtomicInteger failed = new AtomicInteger();
+
+        // connect
+        LatencyReport connect = new LatencyReport();
+        long connectStart = System.nanoTime();
+        long intervalNanos = 1_000_000_000L / options.connectRate();
+        for (int i = 0; i < options.sessions(); i++) {
+            sleepUntil(connectStart + i * intervalNanos);
+            StompSession session = new StompSession(deliveries, connect, subscribed, options.heartbeat());
+            clients.get(i % clientCount)
+                .newWebSocketBuilder()
+                .buildAsync(options.url(), session)
+                .whenComplete((_, failure) -> {
+                    if (failure == null) {
+                        sessions.add(session);
+                    } else {
+                        failed.incrementAndGet();
+                        connect.record("CONNECT " + options.url().getPath(), System.nanoTime() - session.startNanos, false);
+                        subscribed.countDown();
+                    }
+                });
+        }
+        subscribed.await(options.timeout().toSeconds() + options.sessions() / options.connectRate(), TimeUnit.SECONDS);
+        connect.stop();
+        connect.print("Connect: " + sessions.size() + "/" + options.sessions() + " sessions subscribed", System.out);
+        if (sessions.isEmpty())
+            return;
+
+        // keep the sessions alive while broadcasting
+        ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor();
+        long heartbeatMillis = options.heartbeat().toMillis();
+        heartbeats.scheduleAtFixedRate(() -> sessions.forEach(StompSession::heartbeat),
+            heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        // broadcast
+        StompSession publisher = new StompSession(deliveries, connect, null, options.heartbeat());
+        clients.get(0).newWebSocketBuilder().buildAsync(options.url(), publisher).join();
+        publisher.awaitConnected(options.timeout());
+
+        LatencyReport fanOut = new LatencyReport();
+        deliveries.reportTo(fanOut);
+        for (int broadcast = 0; broadcast < options.broadcasts(); broadcast++) {
+            long sent = System.nanoTime();
+            deliveries.sent(broadcast, sent);
+            publisher.send(PING, broadcast + ":" + sent);
+            TimeUnit.MILLISECONDS.sleep(options.interval().toMillis());
+        }
+        TimeUnit.MILLISECONDS.sleep(options.timeout().toMillis());
+        fanOut.stop();
+
+        int open = (int) sessions.stream().filter(StompSession::isOpen).count();
+        deliveries.recordBroadcasts(fanOut, sessions.size());
+        fanOut.print("Fan-out: " + options.broadcasts() + " broadcasts to " + sessions.size() + " sessions", System.out);
+        System.out.printf("%nDeliveries: %,d of %,d (%,d lost), sessions closed by the server: %d, failed to connect: %d%n",
+            deliveries.total(), (long) options.broadcasts() * sessions.size(),
+            (long) options.broadcasts() * sessions.size() - deliveries.total(), sessions.size() - open, failed.get());
+
+        heartbeats.shutdownNow();
+        sessions.forEach(StompSession::close);
+        publisher.close();
+    }
+
+
+    // helpers
+    private static void sleepUntil(long nanos) throws InterruptedException {
+        long wait = nanos - System.nanoTime();
+        if (wait > 0)
+            TimeUnit.NANOSECONDS.sleep(wait);
+    }
+
+
+    /**
+     * Send time and deliveries of each broadcast.
+     */
+    private static final class Deliveries {
+
+        private final AtomicLongArray sentNanos;
+        private final AtomicLongArray lastDeliveryNanos;
+        private final AtomicIntegerArray received;
+        private volatile LatencyReport report;
+
+        private Deliveries(int broadcasts) {
+            this.sentNanos = new AtomicLongArray(broadcasts);
+            this.lastDeliveryNanos = new AtomicLongArray(broadcasts);
+            this.received = new AtomicIntegerArray(broadcasts);
+        }
+
+        void reportTo(LatencyReport report) {
+            this.report = report;
+        }
+
+        void sent(int broadcast, long nanos) {
+            sentNanos.set(broadcast, nanos);
+        }
+
+        // payload: <broadcast>:<send nanos>
+        void delivered(String payload, long nowNanos) {
+            int colon = payload.indexOf(':');
+            int broadcast = Integer.parseInt(payload.substring(0, colon));
+            long sent = Long.parseLong(payload.substring(colon + 1));
+            received.incrementAndGet(broadcast);
+            lastDeliveryNanos.accumulateAndGet(broadcast, nowNanos, Math::max);
+            LatencyReport current = report;
+            if (current != null)
+                current.record("MESSAGE " + TOPIC, nowNanos - sent, true);
+        }
+
+        void recordBroadcasts(LatencyReport report, int sessions) {
+            for (int broadcast = 0; broadcast < sentNanos.length(); broadcast++) {
+                long last = lastDeliveryNanos.get(broadcast);
+                long nanos = last == 0 ? 0 : last - sentNanos.get(broadcast);
+                report.record("broadcast (until the last delivery)", nanos, received.get(broadcast) == sessions);
+            }
+        }
+
+        long total() {
+            long total = 0;
+            for (int broadcast = 0; broadcast < received.length(); broadcast++)
+                total += received.get(broadcast);
+            return total;
+        }
+    }
+
+
+    /**
+     * One STOMP 1.2 session over a JDK WebSocket: CONNECT, SUBSCRIBE on
+     * {@link #TOPIC} once connected (unless publishing only), then MESSAGE
+     * frames to the deliveries. Frames are written one at a time, as the
+     * JDK WebSocket requires.
+     */
+    private static final class StompSession implements WebSocket.Listener {
+
+        private final Deliveries deliveries;
+        private final LatencyReport connectReport;
+        private final CountDownLatch subscribed;
+        private final Duration heartbeat;
+        private final CountDownLatch connected = new CountDownLatch(1);
+        private final StringBuilder buffer = new StringBuilder();
+        private final long startNanos = System.nanoTime();
+        private volatile boolean open;
+        private CompletableFuture<WebSocket> lastSend;
+
+        // subscribed null: publisher, no subscription
+        private StompSession(Deliveries deliveries, LatencyReport connectReport, CountDownLatch subscribed, Duration heartbeat) {
+            this.deliveries = deliveries;
+            this.connectReport = connectReport;
+            this.subscribed = subscribed;
+            this.heartbeat = heartbeat;
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            this.open = true;
+            synchronized (this) {
+                lastSend = CompletableFuture.completedFuture(webSocket);
+            }
+            long millis = heartbeat.toMillis();
+            write("CONNECT\naccept-version:1.2\nhost:localhost\nheart-beat:" + millis + "," + millis + "\n\n\0");
+            webSocket.request(1);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            long now = System.nanoTime();
+            buffer.append(data);
+            int end;
+            while ((end = buffer.indexOf("\0")) >= 0) {
+                frame(buffer.substring(0, end).stripLeading(), now);
+                buffer.delete(0, end + 1);
+            }
+            // heartbeats between frames
+            if (buffer.toString().isBlank())
+                buffer.setLength(0);
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            open = false;
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            open = false;
+            // not counted yet
+            if (subscribed != null && connected.getCount() > 0)
+                subscribed.countDown();
+        }
+
+        boolean isOpen() {
+            return open;
+        }
+
+        void awaitConnected(Duration timeout) throws InterruptedException {
+            if (!connected.await(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                throw new IllegalStateException("STOMP session not connected in " + timeout);
+        }
+
+        void send(String destination, String body) {
+            write("SEND\ndestination:" + destination + "\ncontent-type:text/plain\n\n" + body + "\0");
+        }
+
+        void heartbeat() {
+            if (open)
+                write("\n");
+        }
+
+        void close() {
+            if (open)
+                write("DISCONNECT\n\n\0").thenCompose(ws -> ws.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+        }
+
+        private void frame(String frame, long now) {
+            if (frame.startsWith("CONNECTED")) {
+                if (subscribed != null) {
+                    write("SUBSCRIBE\nid:sub-0\ndestination:" + TOPIC + "\n\n\0");
+                    connectReport.record("CONNECT + SUBSCRIBE", now - startNanos, true);
+                    subscribed.countDown();
+                }
+                connected.countDown();
+            } else if (frame.startsWith("MESSAGE")) {
+                int body = frame.indexOf("\n\n");
+                deliveries.delivered(frame.substring(body + 2), now);
+            } else if (frame.startsWith("ERROR")) {
+                System.err.println("STOMP error: " + frame.lines().findFirst().orElse(""));
+            }
+        }
+
+        private synchronized CompletableFuture<WebSocket> write(String frame) {
+            lastSend = lastSend.thenCompose(ws -> ws.sendText(frame, true));
+            return lastSend;
+        }
+    }
+
+
+    record Options(
+        URI url,
+        int sessions,
+        int connectRate,
+        int broadcasts,
+        Duration interval,
+        Duration heartbeat,
+        Duration timeout
+    ) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("="))
+                    throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+
+            return new Options(
+                URI.create(values.getOrDefault("url", "ws://localhost:8081/ws-native")),
+                Integer.parseInt(values.getOrDefault("sessions", "10000")),
+                Integer.parseInt(values.getOrDefault("connect-rate", "500")),
+                Integer.parseInt(values.getOrDefault("broadcasts", "20")),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("interval", "1000"))),
+                Duration.ofMillis(Long.parseLong(values.getOrDefault("heartbeat", "10000"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("timeout", "10")))
+            );
+        }
+    }
+
+}
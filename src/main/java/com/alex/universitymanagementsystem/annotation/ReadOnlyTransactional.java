@@ -0,0 +1,21 @@
+package com.alex.universitymanagementsystem.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read-only transaction. When a read replica is configured the method reads
+ * from it, unless the current user wrote to the primary a moment ago.
+ * The method must not modify entities: changes are never flushed.
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Transactional(readOnly = true)
+public @interface ReadOnlyTransactional {
+}
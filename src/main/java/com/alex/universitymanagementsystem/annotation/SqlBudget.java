@@ -0,0 +1,33 @@
+package com.alex.universitymanagementsystem.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a controller endpoint may issue while
+ * serving a single request against the seeded dataset.
+ * Checked by the SQL budget tests and, when {@code ums.sql-budget.enabled}
+ * is set, logged at runtime by the SQL budget interceptor.
+ * <p>
+ * A budget above {@value #DEBT_THRESHOLD} statements records a cost the
+ * endpoint is not meant to have, and names it in {@link #debt()}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int DEBT_THRESHOLD = 15;
+
+    int value();
+
+    /**
+     * @return the N+1 or redundant reads the budget still allows for,
+     *         empty when it is the cost of the queries the endpoint needs
+     */
+    String debt() default "";
+
+}
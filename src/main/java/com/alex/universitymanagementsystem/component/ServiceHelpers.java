@@ -1,6 +1,7 @@
 package com.alex.universitymanagementsystem.component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -207,6 +208,33 @@ public class ServiceHelpers {
     }
 
 
+    /**
+     * Maps examination appeal entities to data transfer objects, reading the
+     * students booked on all of them with a single query.
+     * @param appeals the examination appeal entities, registers loaded
+     * @return the examination appeal data transfer objects, in order
+     */
+    public List<ExaminationAppealDto> mapAppealsToDto(List<ExaminationAppeal> appeals) {
+        Set<Register> registers = appeals
+            .stream()
+            .flatMap(appeal -> appeal.getRegisters().stream())
+            .collect(Collectors.toSet());
+        Map<Register, StudentDto> students = registers.isEmpty() ? Map.of() : studentRepository
+            .findByRegisterIn(registers)
+            .stream()
+            .collect(Collectors.toMap(Student::getRegister, StudentMapper::toDto));
+        return appeals
+            .stream()
+            .map(appeal -> ExaminationAppealMapper.toDto(appeal, appeal
+                .getRegisters()
+                .stream()
+                .filter(students::containsKey)
+                .map(students::get)
+                .collect(Collectors.toSet())))
+            .toList();
+    }
+
+
     /**
      * Maps an examination appeal entity to a data transfer object.
      * @param appeal the examination appeal entity
@@ -1,5 +1,7 @@
 package com.alex.universitymanagementsystem.component;
 
+import java.util.Optional;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
@@ -42,11 +44,21 @@ public class StringToDegreeCourseConverter implements Converter<String, DegreeCo
         String normalized = source.trim();
         if (normalized.isBlank()) return null;
 
-        return degreeCourseRepository
-            .findById(new DegreeCourseId(normalized))
+        return findById(normalized)
             .or(() -> degreeCourseRepository.findByName(normalized))
             .orElseThrow(() -> new ObjectNotFoundException(DomainType.DEGREE_COURSE));
     }
 
 
+    // helpers
+    private Optional<DegreeCourse> findById(String source) {
+        try {
+            return degreeCourseRepository.findById(new DegreeCourseId(source));
+        } catch (IllegalArgumentException e) {
+            // not an id, the forms submit the degree course name
+            return Optional.empty();
+        }
+    }
+
+
 }
\ No newline at end of file
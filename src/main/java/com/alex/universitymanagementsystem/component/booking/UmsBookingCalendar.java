@@ -0,0 +1,102 @@
+package com.alex.universitymanagementsystem.component.booking;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationBus;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
+
+/**
+ * Days on which each student has booked an appeal, for the same-day
+ * clash check of the booking and the available appeals page.
+ * <p>
+ * The days of a student are read once, from today on, and kept as a
+ * sorted array of epoch days (one per booking, a day appears twice when
+ * two appeals of the same day are booked): a student books a handful of
+ * appeals, so a lookup is a binary search over a few ints. A booking or
+ * a cancellation on any node publishes the register on the
+ * {@link InvalidationTopic#BOOKING} topic of the {@link UmsInvalidationBus}
+ * and the days of the student are read again at the next lookup.
+ */
+@Component
+public class UmsBookingCalendar {
+
+    // constants
+    private static final int[] NO_DAYS = {};
+
+    // instance variables
+    private final ExaminationAppealRepository examinationAppealRepository;
+    private final int maxEntries;
+    private final Map<String, int[]> days = new ConcurrentHashMap<>();
+    // increased by every invalidation: days read across one are not kept
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // constructor
+    public UmsBookingCalendar(
+        ExaminationAppealRepository examinationAppealRepository,
+        UmsInvalidationBus invalidationBus,
+        @Value("${ums.booking.calendar.max-entries:20000}") int maxEntries
+    ) {
+        this.examinationAppealRepository = examinationAppealRepository;
+        this.maxEntries = maxEntries;
+        invalidationBus.subscribe(InvalidationTopic.BOOKING, this::invalidate);
+    }
+
+
+    /**
+     * Tells whether a student has booked an appeal on a day.
+     * @param register the student register
+     * @param date the day
+     * @return true if an appeal of that day is booked
+     */
+    public boolean isBooked(Register register, LocalDate date) {
+        return Arrays.binarySearch(daysOf(register), (int) date.toEpochDay()) >= 0;
+    }
+
+
+    /**
+     * Drops the days of a student, so that the next lookup reads them from
+     * the database: for the check of a booking made under the lock of the
+     * student, which a booking just committed by another node (or thread)
+     * may not have invalidated yet.
+     * @param register the student register
+     */
+    public void reload(Register register) {
+        invalidate(register.toString());
+    }
+
+
+    // helpers
+    private int[] daysOf(Register register) {
+        int[] booked = days.get(register.toString());
+        if (booked != null)
+            return booked;
+
+        long generation = invalidations.get();
+        List<LocalDate> dates = examinationAppealRepository.findBookedDates(register, LocalDate.now());
+        booked = dates.isEmpty()
+            ? NO_DAYS
+            : dates.stream().mapToInt(date -> (int) date.toEpochDay()).sorted().toArray();
+        if (invalidations.get() == generation) {
+            if (days.size() >= maxEntries)
+                days.clear();
+            days.put(register.toString(), booked);
+        }
+        return booked;
+    }
+
+    private void invalidate(String register) {
+        invalidations.incrementAndGet();
+        days.remove(register);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.alex.universitymanagementsystem.component.calendar;
+
+import java.util.Arrays;
+
+/**
+ * Student overlap between the courses of an examination session. Each
+ * course keeps a bitset of its students, one bit per student index; the
+ * weight of two courses is the number of students with both in the study
+ * plan, that is the students with two exams if the courses share a day.
+ */
+public final class UmsConflictGraph {
+
+    // instance variables
+    private final long[][] students;
+
+    // constructor
+    public UmsConflictGraph(int courses) {
+        this.students = new long[courses][1];
+    }
+
+
+    /**
+     * Records a student of a course.
+     * @param course the course index
+     * @param student the student index
+     */
+    public void add(int course, int student) {
+        int word = student >>> 6;
+        long[] bits = students[course];
+        if (word >= bits.length)
+            students[course] = bits = Arrays.copyOf(bits, Math.max(word + 1, bits.length * 2));
+        bits[word] |= 1L << student;
+    }
+
+
+    /**
+     * @return the number of courses
+     */
+    public int size() {
+        return students.length;
+    }
+
+
+    /**
+     * Counts the students shared by every pair of courses.
+     * @return the symmetric matrix of the weights, 0 on the diagonal
+     */
+    public int[][] weights() {
+        int size = students.length;
+        int[][] weights = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            long[] left = students[i];
+            for (int j = i + 1; j < size; j++) {
+                long[] right = students[j];
+                int words = Math.min(left.length, right.length);
+                int shared = 0;
+                for (int w = 0; w < words; w++)
+                    shared += Long.bitCount(left[w] & right[w]);
+                weights[i][j] = shared;
+                weights[j][i] = shared;
+            }
+        }
+        return weights;
+    }
+
+}
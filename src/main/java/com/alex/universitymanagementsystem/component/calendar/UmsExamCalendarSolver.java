@@ -0,0 +1,187 @@
+package com.alex.universitymanagementsystem.component.calendar;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Assigns the courses of a session to its days, at most a given number
+ * of exams a day, minimising the clashes: the students with two exams on
+ * the same day, summed over the pairs of courses sharing a day.
+ * <p>
+ * The courses are placed greedily, most conflicting first, on the day
+ * adding the fewest clashes (the current day of the course on a tie).
+ * Then local search passes move a course to a day with room, or swap two
+ * courses of different days, while a pass still lowers the clashes. The
+ * clashes of every course with every day are kept in a matrix, updated
+ * at each move, so that a move or a swap is evaluated in constant time.
+ */
+@Component
+public class UmsExamCalendarSolver {
+
+    // constants
+    public static final int NO_DAY = -1;
+
+    // instance variables
+    private final int maxPasses;
+
+    // constructor
+    public UmsExamCalendarSolver(@Value("${ums.calendar.max-passes:50}") int maxPasses) {
+        this.maxPasses = maxPasses;
+    }
+
+
+    /**
+     * Proposes a day for each course.
+     * @param weights the students shared by each pair of courses, see {@link UmsConflictGraph#weights()}
+     * @param days the number of days of the session
+     * @param maxPerDay the maximum number of exams a day
+     * @param preferredDays the current day of each course, or {@link #NO_DAY}
+     * @return the day of each course
+     * @throws IllegalArgumentException if the courses do not fit in the session
+     */
+    public int[] solve(int[][] weights, int days, int maxPerDay, int[] preferredDays) throws IllegalArgumentException {
+        int courses = weights.length;
+        if (maxPerDay <= 0 || (long) days * maxPerDay < courses)
+            throw new IllegalArgumentException(
+                courses + " courses do not fit in " + days + " days of at most " + maxPerDay + " exams");
+
+        Calendar calendar = new Calendar(weights, days);
+        int[] byConflicts = IntStream.range(0, courses)
+            .boxed()
+            .sorted(Comparator.comparingLong((Integer course) -> -Arrays.stream(weights[course]).asLongStream().sum()))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        for (int course : byConflicts)
+            calendar.place(course, bestDay(calendar, course, maxPerDay, preferredDays[course]));
+
+        for (int pass = 0; pass < maxPasses && improve(calendar, maxPerDay); pass++);
+        return calendar.dayOf;
+    }
+
+
+    /**
+     * Counts the clashes of a course: its students with another exam the same day.
+     * @param weights the students shared by each pair of courses
+     * @param days the day of each course
+     * @param course the course
+     * @return the clashes, one for each other exam of each student
+     */
+    public static int clashes(int[][] weights, int[] days, int course) {
+        int clashes = 0;
+        for (int other = 0; other < days.length; other++)
+            if (other != course && days[other] == days[course])
+                clashes += weights[course][other];
+        return clashes;
+    }
+
+
+    /**
+     * Counts the clashes of a calendar.
+     * @param weights the students shared by each pair of courses
+     * @param days the day of each course
+     * @return the clashes, one for each pair of exams of a student on the same day
+     */
+    public static long clashes(int[][] weights, int[] days) {
+        long clashes = 0;
+        for (int course = 0; course < days.length; course++)
+            clashes += clashes(weights, days, course);
+        return clashes / 2;
+    }
+
+
+    // helpers
+    private static int bestDay(Calendar calendar, int course, int maxPerDay, int preferredDay) {
+        int best = NO_DAY;
+        for (int day = 0; day < calendar.exams.length; day++) {
+            if (calendar.exams[day] >= maxPerDay)
+                continue;
+            if (best == NO_DAY)
+                best = day;
+            else {
+                long difference = calendar.clash[course][day] - calendar.clash[course][best];
+                // on a tie: the current day of the course, then the day with fewer exams
+                if (difference < 0
+                    || difference == 0 && best != preferredDay
+                        && (day == preferredDay || calendar.exams[day] < calendar.exams[best]))
+                    best = day;
+            }
+        }
+        return best;
+    }
+
+    // one pass of moves and swaps, true if the clashes went down
+    private static boolean improve(Calendar calendar, int maxPerDay) {
+        int[][] weights = calendar.weights;
+        int[] dayOf = calendar.dayOf;
+        boolean improved = false;
+        for (int course = 0; course < dayOf.length; course++) {
+            int from = dayOf[course];
+            for (int day = 0; day < calendar.exams.length; day++) {
+                if (day != from && calendar.exams[day] < maxPerDay
+                    && calendar.clash[course][day] < calendar.clash[course][from]) {
+                    calendar.move(course, day);
+                    from = day;
+                    improved = true;
+                }
+            }
+        }
+        for (int a = 0; a < dayOf.length; a++) {
+            for (int b = a + 1; b < dayOf.length; b++) {
+                int dayA = dayOf[a];
+                int dayB = dayOf[b];
+                if (dayA == dayB)
+                    continue;
+                long delta = calendar.clash[a][dayB] - calendar.clash[a][dayA]
+                    + calendar.clash[b][dayA] - calendar.clash[b][dayB]
+                    - 2L * weights[a][b];
+                if (delta < 0) {
+                    calendar.move(a, dayB);
+                    calendar.move(b, dayA);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+
+    // days of the courses, with the clashes each course would have on each day
+    private static final class Calendar {
+
+        private final int[][] weights;
+        private final int[] dayOf;
+        private final int[] exams;
+        private final long[][] clash;
+
+        private Calendar(int[][] weights, int days) {
+            this.weights = weights;
+            this.dayOf = new int[weights.length];
+            this.exams = new int[days];
+            this.clash = new long[weights.length][days];
+            Arrays.fill(dayOf, NO_DAY);
+        }
+
+        private void place(int course, int day) {
+            dayOf[course] = day;
+            exams[day]++;
+            int[] row = weights[course];
+            for (int other = 0; other < row.length; other++)
+                clash[other][day] += row[other];
+        }
+
+        private void move(int course, int day) {
+            int from = dayOf[course];
+            exams[from]--;
+            int[] row = weights[course];
+            for (int other = 0; other < row.length; other++)
+                clash[other][from] -= row[other];
+            place(course, day);
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.alex.universitymanagementsystem.component.catalog;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener of the catalog entities, created by Spring through the
+ * Hibernate bean container: every insert, update or delete of a degree
+ * course, course or professor changes the {@link UmsCatalogVersion}.
+ */
+public class UmsCatalogChangeListener {
+
+    // instance variables
+    private final UmsCatalogVersion catalogVersion;
+
+    // constructor
+    public UmsCatalogChangeListener(UmsCatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void catalogChanged(Object entity) {
+        catalogVersion.changed();
+    }
+
+}
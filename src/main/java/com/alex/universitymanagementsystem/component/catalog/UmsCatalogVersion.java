@@ -0,0 +1,56 @@
+package com.alex.universitymanagementsystem.component.catalog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version of the catalog (degree courses, courses, professors), increased
+ * each time a transaction changing it commits. Whatever is derived from
+ * the catalog, such as the cached catalog fragments, is valid as long as
+ * the version it was built with is the current one.
+ */
+@Component
+public class UmsCatalogVersion {
+
+    // instance variables
+    private final AtomicLong version = new AtomicLong();
+
+
+    /**
+     * @return the current catalog version
+     */
+    public long current() {
+        return version.get();
+    }
+
+
+    /**
+     * Increases the version when the current transaction commits, or now
+     * outside a transaction. Rolled back changes keep the version.
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        // once per transaction, however many entities it changes
+        if (TransactionSynchronizationManager.hasResource(this))
+            return;
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UmsCatalogVersion.this);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.time.Duration;
+
+/**
+ * Settings of the inter-node messaging ({@code ums.cluster.*}).
+ * @param nodeId the name of this node in the messages and in the user registry
+ * @param pollInterval how often the database transport polls the messages
+ * @param rescanWindow how far back the polls look for messages committed late
+ * @param retention how long the messages are kept
+ * @param batchSize the messages read per poll
+ * @param registryTtl how long the user entries of a silent node stay valid
+ */
+public record UmsClusterProperties(
+    String nodeId,
+    Duration pollInterval,
+    Duration rescanWindow,
+    Duration retention,
+    int batchSize,
+    Duration registryTtl
+) {}
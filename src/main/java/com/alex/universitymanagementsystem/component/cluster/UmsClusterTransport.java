@@ -0,0 +1,37 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries messages between the nodes of the application, without an
+ * external broker. A node never receives its own messages.
+ * <p>
+ * Implementations: {@link UmsDatabaseClusterTransport}, through a table
+ * polled by every node, and {@link UmsLoopbackClusterTransport}, in
+ * memory, for a single node and for the tests.
+ */
+public interface UmsClusterTransport {
+
+    /**
+     * Sends a message. With the database transport the message is written
+     * in the current transaction, if any, and is seen by the other nodes
+     * only once it commits.
+     * @param channel the channel, e.g. "user-destination"
+     * @param targetNode the receiving node, null for every other node
+     * @param payload the message
+     */
+    void publish(String channel, String targetNode, String payload);
+
+    /**
+     * Registers a listener for the messages of a channel sent by the other nodes.
+     * @param channel the channel
+     * @param listener called with the payload, on a transport thread
+     */
+    void subscribe(String channel, Consumer<String> listener);
+
+    /**
+     * @return the id of this node
+     */
+    String getNodeId();
+
+}
@@ -0,0 +1,163 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.ClusterMessage;
+import com.alex.universitymanagementsystem.repository.ClusterMessageRepository;
+
+/**
+ * Transport through the {@code cluster_messages} table, in the manner of
+ * LISTEN/NOTIFY but portable to every database of the application: the
+ * sender inserts a row, every node polls the rows after the last one it
+ * has seen every {@code ums.cluster.poll-interval}.
+ * <p>
+ * Identities are taken before commit, so a message can become visible
+ * after one with a greater id already polled: each poll also rescans the
+ * messages of the last {@code ums.cluster.rescan-window}, page after page
+ * until the cursor, skipping the ones already delivered. Messages older than {@code ums.cluster.retention}
+ * are deleted.
+ */
+public class UmsDatabaseClusterTransport implements UmsClusterTransport, SmartLifecycle {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsDatabaseClusterTransport.class);
+
+    // instance variables
+    private final ClusterMessageRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler scheduler;
+    private final UmsClusterProperties properties;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    // only touched by the poll thread: id of each delivered message of the rescan window -> creation time
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private long cursor;
+    private ScheduledFuture<?> poll;
+    private ScheduledFuture<?> purge;
+    private volatile boolean running;
+
+    // constructor
+    public UmsDatabaseClusterTransport(
+        ClusterMessageRepository repository,
+        PlatformTransactionManager transactionManager,
+        TaskScheduler scheduler,
+        UmsClusterProperties properties
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = scheduler;
+        this.properties = properties;
+    }
+
+
+    @Override
+    public void publish(String channel, String targetNode, String payload) {
+        if (payload.length() > ClusterMessage.MAX_PAYLOAD_LENGTH)
+            throw new IllegalArgumentException("Cluster message longer than " + ClusterMessage.MAX_PAYLOAD_LENGTH);
+        repository.save(new ClusterMessage(channel, properties.nodeId(), targetNode, payload, LocalDateTime.now()));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, _ -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public String getNodeId() {
+        return properties.nodeId();
+    }
+
+
+    @Override
+    public void start() {
+        // messages sent before this node started are not for it
+        cursor = transactionTemplate.execute(status -> repository.findLastId());
+        poll = scheduler.scheduleWithFixedDelay(this::poll, properties.pollInterval());
+        purge = scheduler.scheduleWithFixedDelay(this::purge, properties.retention());
+        running = true;
+        logger.info("Cluster messages polled every {} on node {}", properties.pollInterval(), properties.nodeId());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        poll.cancel(false);
+        purge.cancel(false);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * Delivers the messages committed since the last poll.
+     */
+    void poll() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = now.minus(properties.rescanWindow());
+            PageRequest page = PageRequest.ofSize(properties.batchSize());
+            // the whole window: a late message may sit behind a full page of delivered ones
+            long upTo = cursor;
+            long after = 0;
+            List<ClusterMessage> late;
+            do {
+                long from = after;
+                late = transactionTemplate.execute(status ->
+                    repository.findRecent(since, from, upTo, properties.nodeId(), page));
+                late.forEach(this::deliver);
+                if (!late.isEmpty())
+                    after = late.getLast().getId();
+            } while (late.size() == properties.batchSize());
+
+            List<ClusterMessage> next = transactionTemplate.execute(status ->
+                repository.findAfter(cursor, properties.nodeId(), page));
+            next.forEach(this::deliver);
+            if (!next.isEmpty())
+                cursor = next.getLast().getId();
+            delivered.values().removeIf(createdAt -> createdAt.isBefore(since));
+        } catch (RuntimeException e) {
+            logger.warn("Cluster messages could not be polled on node {}", properties.nodeId(), e);
+        }
+    }
+
+
+    // helpers
+    private void deliver(ClusterMessage message) {
+        if (delivered.putIfAbsent(message.getId(), message.getCreatedAt()) != null)
+            return;
+        for (Consumer<String> listener : listeners.getOrDefault(message.getChannel(), List.of())) {
+            try {
+                listener.accept(message.getPayload());
+            } catch (RuntimeException e) {
+                logger.warn("Cluster message {} on {} not handled", message.getId(), message.getChannel(), e);
+            }
+        }
+    }
+
+    private void purge() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(properties.retention());
+            transactionTemplate.executeWithoutResult(status -> repository.deleteCreatedBefore(before));
+        } catch (RuntimeException e) {
+            logger.warn("Cluster messages could not be purged", e);
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogVersion;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tells the in-memory caches of every node that some data changed.
+ * <p>
+ * The services publish an {@link UmsInvalidationEvent} inside their
+ * transaction. Just before commit the event is written on the
+ * {@value #CHANNEL} channel of the {@link UmsClusterTransport}, so that
+ * the other nodes see it only if the change commits; after commit it is
+ * delivered to the listeners of this node, and a rolled back change
+ * invalidates nothing. Outside a transaction both happen at once.
+ * <p>
+ * The catalog topics (course, degree course, professor) received from
+ * the other nodes change the {@link UmsCatalogVersion}; on the node of
+ * the change the JPA listener of the catalog has already changed it.
+ * The delay between publication and delivery on the other nodes is
+ * timed on {@code ums.invalidation.lag}.
+ */
+@Component
+public class UmsInvalidationBus {
+
+    // constants
+    public static final String CHANNEL = "invalidation";
+    private static final Set<InvalidationTopic> CATALOG_TOPICS =
+        EnumSet.of(InvalidationTopic.COURSE, InvalidationTopic.DEGREE_COURSE, InvalidationTopic.PROFESSOR);
+    private static final String SEPARATOR = "\n";
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsInvalidationBus.class);
+
+    // instance variables
+    private final UmsClusterTransport transport;
+    private final UmsCatalogVersion catalogVersion;
+    private final MeterRegistry meterRegistry;
+    private final Map<InvalidationTopic, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    // constructor
+    public UmsInvalidationBus(
+        UmsClusterTransport transport,
+        UmsCatalogVersion catalogVersion,
+        MeterRegistry meterRegistry
+    ) {
+        this.transport = transport;
+        this.catalogVersion = catalogVersion;
+        this.meterRegistry = meterRegistry;
+        transport.subscribe(CHANNEL, this::receive);
+    }
+
+
+    /**
+     * Registers a listener of the changes committed on any node. The
+     * listener runs after the commit of the change, or on a transport
+     * thread, and must not write to the database.
+     * @param topic the topic
+     * @param listener called with the key of the changed data
+     */
+    public void subscribe(InvalidationTopic topic, Consumer<String> listener) {
+        listeners.computeIfAbsent(topic, _ -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+
+    /**
+     * Sends the event to the other nodes, in the transaction of the change.
+     * @param event the event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void broadcast(UmsInvalidationEvent event) {
+        String message = event.topic() + SEPARATOR + System.currentTimeMillis() + SEPARATOR + event.key();
+        transport.publish(CHANNEL, null, message);
+        meterRegistry.counter("ums.invalidation.sent", "topic", event.topic().name()).increment();
+    }
+
+
+    /**
+     * Delivers the event to the listeners of this node once the change is committed.
+     * @param event the event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void deliverLocally(UmsInvalidationEvent event) {
+        deliver(event.topic(), event.key());
+    }
+
+
+    // helpers
+    private void receive(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        InvalidationTopic topic = InvalidationTopic.valueOf(parts[0]);
+        // clocks of different nodes may disagree by a few milliseconds
+        long lag = Math.max(0, System.currentTimeMillis() - Long.parseLong(parts[1]));
+        meterRegistry.timer("ums.invalidation.lag", "topic", topic.name()).record(Duration.ofMillis(lag));
+        if (CATALOG_TOPICS.contains(topic))
+            catalogVersion.changed();
+        deliver(topic, parts[2]);
+    }
+
+    private void deliver(InvalidationTopic topic, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(topic, List.of())) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                logger.warn("Invalidation of {} {} not handled", topic, key, e);
+            }
+        }
+    }
+
+}
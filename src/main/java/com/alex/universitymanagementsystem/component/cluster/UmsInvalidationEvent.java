@@ -0,0 +1,32 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+
+/**
+ * Domain event published by the services when they change data that the
+ * nodes may hold in memory; delivered by the {@link UmsInvalidationBus}.
+ * @param topic what changed
+ * @param key which one changed, e.g. the course "name@degree course"
+ */
+public record UmsInvalidationEvent(InvalidationTopic topic, String key) {
+
+    /**
+     * @param topic the topic
+     * @param course the changed course
+     * @return an event keyed "course name@degree course name"
+     */
+    public static UmsInvalidationEvent of(InvalidationTopic topic, Course course) {
+        return new UmsInvalidationEvent(topic, key(course.getName(), course.getDegreeCourse().getName()));
+    }
+
+    /**
+     * @param courseName the course name
+     * @param degreeCourseName the degree course name
+     * @return the key of the course in the events
+     */
+    public static String key(String courseName, String degreeCourseName) {
+        return courseName + "@" + degreeCourseName;
+    }
+
+}
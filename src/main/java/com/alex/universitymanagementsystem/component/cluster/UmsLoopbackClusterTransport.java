@@ -0,0 +1,60 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-memory transport: the messages are delivered synchronously to the
+ * transports joined to the same network. Alone it is the transport of a
+ * single node (nothing to deliver); the tests join several to simulate a
+ * cluster in one JVM.
+ */
+public class UmsLoopbackClusterTransport implements UmsClusterTransport {
+
+    // instance variables
+    private final String nodeId;
+    private final List<UmsLoopbackClusterTransport> network;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    // constructors
+    public UmsLoopbackClusterTransport(String nodeId) {
+        this(nodeId, new CopyOnWriteArrayList<>());
+    }
+
+    private UmsLoopbackClusterTransport(String nodeId, List<UmsLoopbackClusterTransport> network) {
+        this.nodeId = nodeId;
+        this.network = network;
+        network.add(this);
+    }
+
+
+    /**
+     * @param otherNodeId the id of the other node
+     * @return the transport of another node on the same network
+     */
+    public UmsLoopbackClusterTransport join(String otherNodeId) {
+        return new UmsLoopbackClusterTransport(otherNodeId, network);
+    }
+
+
+    @Override
+    public void publish(String channel, String targetNode, String payload) {
+        for (UmsLoopbackClusterTransport node : network)
+            if (node != this && (targetNode == null || targetNode.equals(node.nodeId)))
+                node.listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(payload));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, _ -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.util.List;
+
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends a message to a user destination on every node holding sessions
+ * of the user, not only on this one as
+ * {@link SimpMessagingTemplate#convertAndSendToUser} does.
+ * <p>
+ * The sessions of this node receive the message directly; for the other
+ * nodes listed by the {@link UmsUserNodeRegistry} the message is relayed
+ * on the {@value #CHANNEL} channel of the {@link UmsClusterTransport} and
+ * delivered there to the local sessions. A user without sessions costs
+ * one registry lookup and no message.
+ */
+@Component
+public class UmsUserDestinationRelay {
+
+    // constants
+    public static final String CHANNEL = "user-destination";
+    private static final String SEPARATOR = "\n";
+
+    // instance variables
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UmsClusterTransport transport;
+    private final UmsUserNodeRegistry registry;
+
+    // constructor
+    public UmsUserDestinationRelay(
+        SimpMessagingTemplate messagingTemplate,
+        UmsClusterTransport transport,
+        UmsUserNodeRegistry registry
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.transport = transport;
+        this.registry = registry;
+        transport.subscribe(CHANNEL, this::deliver);
+    }
+
+
+    /**
+     * Sends a text message to a user destination, on every node.
+     * @param username the username
+     * @param destination the user destination, e.g. "/topic/exam-outcome"
+     * @param payload the message
+     * @throws MessagingException if the message cannot be sent to the local sessions
+     */
+    public void convertAndSendToUser(String username, String destination, String payload) throws MessagingException {
+        if (registry.isLocal(username))
+            messagingTemplate.convertAndSendToUser(username, destination, payload);
+
+        List<String> nodes = registry.remoteNodes(username);
+        // username and destination have no line breaks, the payload may
+        String message = username + SEPARATOR + destination + SEPARATOR + payload;
+        nodes.forEach(node -> transport.publish(CHANNEL, node, message));
+    }
+
+
+    // helpers
+    private void deliver(String message) {
+        String[] parts = message.split(SEPARATOR, 3);
+        if (registry.isLocal(parts[0]))
+            messagingTemplate.convertAndSendToUser(parts[0], parts[1], parts[2]);
+    }
+
+}
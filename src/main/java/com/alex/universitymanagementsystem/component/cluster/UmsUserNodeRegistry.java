@@ -0,0 +1,186 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.alex.universitymanagementsystem.entity.WebSocketUserNode;
+import com.alex.universitymanagementsystem.repository.WebSocketUserNodeRepository;
+
+/**
+ * Which nodes hold the WebSocket sessions of each user, so that a message
+ * for a user is sent only to those nodes instead of to every node.
+ * <p>
+ * The sessions of this node are counted in memory; the first session of
+ * a user writes the entry (user, node) in {@code websocket_user_nodes},
+ * the last one deletes it. The node refreshes its entries every third of
+ * {@code ums.cluster.registry-ttl} and deletes them on shutdown; the
+ * entries of a node that died expire after the ttl.
+ */
+@Component
+public class UmsUserNodeRegistry implements SmartLifecycle {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsUserNodeRegistry.class);
+
+    // instance variables
+    private final WebSocketUserNodeRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler scheduler;
+    private final UmsClusterProperties properties;
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Integer> users = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> heartbeat;
+    private volatile boolean running;
+
+    // constructor
+    public UmsUserNodeRegistry(
+        WebSocketUserNodeRepository repository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("umsClusterScheduler") TaskScheduler scheduler,
+        UmsClusterProperties properties
+    ) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduler = scheduler;
+        this.properties = properties;
+    }
+
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (user != null && sessionId != null)
+            connected(sessionId, user.getName());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnected(event.getSessionId());
+    }
+
+
+    /**
+     * Records a session of a user on this node.
+     * @param sessionId the session id
+     * @param username the username
+     */
+    public void connected(String sessionId, String username) {
+        if (sessions.putIfAbsent(sessionId, username) != null)
+            return;
+        // only the count is updated under the lock of the user, the database is written outside it
+        if (users.merge(username, 1, Integer::sum) == 1)
+            sync(username);
+    }
+
+
+    /**
+     * Records the end of a session; a session may be reported closed more than once.
+     * @param sessionId the session id
+     */
+    public void disconnected(String sessionId) {
+        String username = sessions.remove(sessionId);
+        if (username == null)
+            return;
+        if (users.computeIfPresent(username, (_, count) -> count > 1 ? count - 1 : null) == null)
+            sync(username);
+    }
+
+
+    /**
+     * @param username the username
+     * @return true if the user has a session on this node
+     */
+    public boolean isLocal(String username) {
+        return users.containsKey(username);
+    }
+
+
+    /**
+     * @param username the username
+     * @return the other live nodes holding sessions of the user
+     */
+    public List<String> remoteNodes(String username) {
+        LocalDateTime since = LocalDateTime.now().minus(properties.registryTtl());
+        return repository
+            .findNodes(username, since)
+            .stream()
+            .filter(node -> !node.equals(properties.nodeId()))
+            .toList();
+    }
+
+
+    @Override
+    public void start() {
+        heartbeat = scheduler.scheduleWithFixedDelay(this::heartbeat, properties.registryTtl().dividedBy(3));
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.cancel(false);
+        write(() -> repository.deleteNode(properties.nodeId()));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    // helpers
+    private void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        write(() -> {
+            repository.touch(properties.nodeId(), now);
+            repository.deleteStale(now.minus(properties.registryTtl()));
+        });
+    }
+
+    // writes the entry of a user as the in-memory count says; a connect racing a
+    // disconnect may commit in the other order, so the count is read again afterwards
+    private void sync(String username) {
+        boolean local;
+        do {
+            local = users.containsKey(username);
+            if (local)
+                write(() -> {
+                    WebSocketUserNode entry = repository
+                        .findByUsernameAndNode(username, properties.nodeId())
+                        .orElseGet(() -> new WebSocketUserNode(username, properties.nodeId(), LocalDateTime.now()));
+                    entry.setSeenAt(LocalDateTime.now());
+                    repository.save(entry);
+                });
+            else
+                write(() -> repository.deleteEntry(username, properties.nodeId()));
+        } while (local != users.containsKey(username));
+    }
+
+    // a registry failure must not fail the WebSocket session: the user only misses the live pushes
+    private void write(Runnable operation) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> operation.run());
+        } catch (RuntimeException e) {
+            logger.warn("WebSocket user registry not updated on node {}", properties.nodeId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.alex.universitymanagementsystem.component.dataset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Buffers the rows of a single insert statement and sends them to the
+ * database in JDBC batches when flushed. Rows are grouped into multi-row
+ * inserts, which saves the per-statement overhead on every database.
+ */
+final class BatchWriter {
+
+    // constants
+    private static final int ROWS_PER_STATEMENT = 50;
+
+    // instance variables
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String singleRowSql;
+    private final String multiRowSql;
+    private final int batchSize;
+    private final List<Object[]> rows = new ArrayList<>();
+    private long written;
+
+    // constructor
+    BatchWriter(JdbcTemplate jdbcTemplate, int batchSize, String table, String... columns) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.batchSize = batchSize;
+
+        String insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        String values = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        this.singleRowSql = insert + values;
+        this.multiRowSql = insert + String.join(", ", Collections.nCopies(ROWS_PER_STATEMENT, values));
+    }
+
+
+    void add(Object... row) {
+        rows.add(row);
+    }
+
+
+    /**
+     * Writes the buffered rows, about batchSize rows per round trip.
+     */
+    void flush() {
+        int grouped = rows.size() - rows.size() % ROWS_PER_STATEMENT;
+
+        List<Object[]> statements = new ArrayList<>();
+        for (int from = 0; from < grouped; from += ROWS_PER_STATEMENT)
+            statements.add(flatten(rows.subList(from, from + ROWS_PER_STATEMENT)));
+        send(multiRowSql, statements, Math.max(1, batchSize / ROWS_PER_STATEMENT));
+        send(singleRowSql, rows.subList(grouped, rows.size()), batchSize);
+
+        written += rows.size();
+        rows.clear();
+    }
+
+
+    String table() {
+        return table;
+    }
+
+
+    long written() {
+        return written;
+    }
+
+
+    // helpers
+    private void send(String sql, List<Object[]> arguments, int statementsPerBatch) {
+        for (int from = 0; from < arguments.size(); from += statementsPerBatch)
+            jdbcTemplate.batchUpdate(sql, arguments.subList(from, Math.min(from + statementsPerBatch, arguments.size())));
+    }
+
+
+    private static Object[] flatten(List<Object[]> group) {
+        List<Object> values = new ArrayList<>();
+        for (Object[] row : group)
+            Collections.addAll(values, row);
+        return values.toArray();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.alex.universitymanagementsystem.component.dataset;
+
+import org.springframework.util.Assert;
+
+/**
+ * Size and shape of a synthetic dataset.
+ * @param degreeCourses number of degree courses
+ * @param courses number of courses, spread evenly over the degree courses
+ * @param professors number of professors
+ * @param students number of students
+ * @param appealsPerCourse examination appeals per course, half in the past and half upcoming
+ * @param batchSize rows sent to the database in a single JDBC batch
+ * @param seed random seed, the same seed produces the same dataset
+ */
+public record DatasetSpec(
+    int degreeCourses,
+    int courses,
+    int professors,
+    int students,
+    int appealsPerCourse,
+    int batchSize,
+    long seed
+) {
+
+    // registers are six digits and the generated ones start at 200000
+    public static final int MAX_STUDENTS = 799_999;
+
+    public DatasetSpec {
+        Assert.isTrue(degreeCourses > 0, "degree courses must be positive");
+        Assert.isTrue(courses >= degreeCourses, "courses must be at least as many as the degree courses");
+        Assert.isTrue(professors > 0, "professors must be positive");
+        Assert.isTrue(students >= 0 && students <= MAX_STUDENTS, "students must be between 0 and " + MAX_STUDENTS);
+        Assert.isTrue(appealsPerCourse >= 0, "appeals per course must not be negative");
+        Assert.isTrue(batchSize > 0, "batch size must be positive");
+    }
+
+}
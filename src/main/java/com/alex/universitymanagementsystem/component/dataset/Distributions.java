@@ -0,0 +1,86 @@
+package com.alex.universitymanagementsystem.component.dataset;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded random draws shaped like the real data: skewed popularity of the
+ * degree courses, bell shaped grades, fewer students in the later years.
+ */
+final class Distributions {
+
+    // instance variables
+    private final Random random;
+
+    // constructor
+    Distributions(long seed) {
+        this.random = new Random(seed);
+    }
+
+
+    int uniform(int bound) {
+        return random.nextInt(bound);
+    }
+
+
+    int between(int min, int max) {
+        return min + random.nextInt(max - min + 1);
+    }
+
+
+    boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+
+    double gaussian(double mean, double deviation) {
+        return mean + random.nextGaussian() * deviation;
+    }
+
+
+    /**
+     * Grade of a passed exam, 18 to 30, centered around 25.
+     * @return the grade
+     */
+    int passingGrade() {
+        return (int) Math.round(Math.clamp(gaussian(25.5, 3.2), 18, 30));
+    }
+
+
+    <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+
+    /**
+     * Cumulative Zipf weights: the first rank is the most likely and the
+     * likelihood of rank k decays as 1/k^exponent.
+     * @param size number of ranks
+     * @param exponent skew, 0 is uniform
+     * @return cumulative weights to be used with {@link #weighted(double[])}
+     */
+    static double[] zipf(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1 / Math.pow(k + 1.0, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < size; k++)
+            cumulative[k] /= total;
+        return cumulative;
+    }
+
+
+    /**
+     * Draws a rank from cumulative weights.
+     * @param cumulative cumulative weights, ending with 1
+     * @return the drawn rank
+     */
+    int weighted(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+}
@@ -0,0 +1,681 @@
+package com.alex.universitymanagementsystem.component.dataset;
+
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.kpi.UmsAdminKpis;
+import com.alex.universitymanagementsystem.enum_type.CourseType;
+import com.alex.universitymanagementsystem.enum_type.DegreeType;
+import com.alex.universitymanagementsystem.enum_type.MiurAcronymType;
+import com.alex.universitymanagementsystem.enum_type.RoleType;
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
+
+/**
+ * Populates the database with a large synthetic dataset: degree courses,
+ * courses, professors, students with study plans and examination histories,
+ * examination appeals with bookings, outcomes and notifications.
+ * <p>
+ * Rows are written with batched JDBC statements, bypassing the persistence
+ * context; students are generated in parallel chunks, each one written in
+ * a single transaction and in foreign key order. Every generated user has
+ * the password {@code ums.dataset.password}, or a random one written to the
+ * log when it is not set.
+ * <p>
+ * The address ids are reserved by restarting the address sequence, in the
+ * syntax shared by PostgreSQL and H2: any other database is refused before
+ * anything is written.
+ */
+@Component
+public class UmsDatasetGenerator {
+
+    // constants
+    private static final List<String> SUPPORTED_DATABASES = List.of("PostgreSQL", "H2");
+    private static final String UNSUPPORTED_DATABASE_ERROR =
+        "Synthetic dataset generation supports PostgreSQL and H2 only, not %s";
+    private static final int FIRST_REGISTER = 200_000;
+    private static final int STUDENTS_PER_CHUNK = 1_000;
+    private static final int MAX_THREADS = 4;
+    // room left for the ids Hibernate already pulled from the address sequence
+    private static final long ADDRESS_ID_GAP = 1_000;
+    private static final LocalDate CREDENTIALS_EXPIRATION = LocalDate.of(2100, 1, 1);
+    private static final List<Integer> CFU = List.of(6, 6, 9, 9, 12);
+
+    private static final List<String> DISCIPLINES = List.of(
+        "ECONOMIA AZIENDALE", "FISICA", "MATEMATICA", "CHIMICA", "INFORMATICA",
+        "INGEGNERIA CHIMICA", "INGEGNERIA ELETTRONICA", "INGEGNERIA AEROSPAZIALE",
+        "INGEGNERIA BIOMEDICA", "INGEGNERIA DELLE TELECOMUNICAZIONI",
+        "INGEGNERIA AMBIENTALE", "INGEGNERIA ENERGETICA", "INGEGNERIA NAUTICA",
+        "STATISTICA", "ARCHITETTURA", "SCIENZE DEI MATERIALI", "ECONOMIA E FINANZA",
+        "BIOTECNOLOGIE", "SCIENZE GEOLOGICHE", "FISICA APPLICATA"
+    );
+    private static final List<String> COURSE_NAMES = List.of(
+        "analisi matematica", "geometria e algebra", "fisica generale",
+        "fondamenti di informatica", "economia aziendale", "chimica generale",
+        "disegno tecnico", "basi di dati", "sistemi operativi", "reti di calcolatori",
+        "ricerca operativa", "elettrotecnica", "meccanica razionale",
+        "scienza delle costruzioni", "idraulica", "lingua inglese", "statistica",
+        "controlli automatici", "elettronica", "programmazione", "fisica tecnica",
+        "impianti industriali", "calcolo numerico", "gestione aziendale"
+    );
+    private static final List<String> FIRST_NAMES = List.of(
+        "alessandro", "andrea", "antonio", "chiara", "davide", "elena", "federica",
+        "francesca", "francesco", "giorgia", "giovanni", "giulia", "giuseppe",
+        "lorenzo", "luca", "marco", "maria", "martina", "matteo", "paolo",
+        "roberta", "sara", "simone", "sofia", "stefano", "valentina"
+    );
+    private static final List<String> LAST_NAMES = List.of(
+        "barbieri", "bianchi", "bruno", "colombo", "conti", "costa", "de luca",
+        "esposito", "ferrari", "fontana", "galli", "gallo", "greco", "lombardi",
+        "mancini", "marino", "moretti", "ricci", "rinaldi", "romano", "rossi",
+        "russo", "santoro", "testa", "villa"
+    );
+    private static final List<String> CITIES = List.of(
+        "Roma", "Milano", "Napoli", "Torino", "Palermo", "Genova", "Bologna",
+        "Firenze", "Bari", "Catania", "Venezia", "Verona", "Messina", "Padova"
+    );
+    private static final List<String> STREETS = List.of(
+        "via Roma", "via Garibaldi", "via Mazzini", "via Verdi", "corso Italia",
+        "via Dante", "via Cavour", "piazza della Repubblica", "viale Europa"
+    );
+
+    private static final Logger logger = LoggerFactory.getLogger(UmsDatasetGenerator.class);
+
+    // instance variables
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final StudentTranscriptRepository studentTranscriptRepository;
+    private final UmsAdminKpis adminKpis;
+    private final TransactionTemplate transactionTemplate;
+    private final String password;
+
+    // constructor
+    public UmsDatasetGenerator(
+        JdbcTemplate jdbcTemplate,
+        PasswordEncoder passwordEncoder,
+        StudentTranscriptRepository studentTranscriptRepository,
+        UmsAdminKpis adminKpis,
+        PlatformTransactionManager transactionManager,
+        @Value("${ums.dataset.password:}") String password
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.studentTranscriptRepository = studentTranscriptRepository;
+        this.adminKpis = adminKpis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.password = password;
+    }
+
+
+    /**
+     * Generates a dataset on top of the data already in the database.
+     * @param spec the size of the dataset
+     * @return the number of rows written, by table
+     * @throws IllegalStateException if the database is not supported
+     */
+    public Map<String, Long> generate(DatasetSpec spec) {
+        long start = System.nanoTime();
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if (!SUPPORTED_DATABASES.contains(database))
+            throw new IllegalStateException(UNSUPPORTED_DATABASE_ERROR.formatted(database));
+
+        Distributions random = new Distributions(spec.seed());
+        Context context = new Context(
+            spec,
+            LocalDate.now(),
+            // hashing is slow by design, all the generated users share one hash
+            passwordEncoder.encode(password()),
+            reserveAddressIds(spec.professors() + spec.students()),
+            new AtomicLong(System.currentTimeMillis() << 12),
+            new LinkedHashMap<>());
+
+        List<ProfessorRow> professors = insertProfessors(context, random);
+        List<DegreeCourseRow> degreeCourses = insertDegreeCourses(context, random);
+        insertCourses(context, random, degreeCourses, professors);
+        insertAppeals(context, random, degreeCourses);
+        insertStudents(context, degreeCourses);
+        rebuildTranscripts(context);
+        transactionTemplate.executeWithoutResult(_ -> adminKpis.reconcile());
+
+        logger.info("Synthetic dataset generated in {} ms: {}",
+            (System.nanoTime() - start) / 1_000_000, context.written());
+        return context.written();
+    }
+
+
+
+
+
+
+
+
+
+
+    // TRANSCRIPTS, of the existing students too: the examinations were not written through the service
+    private void rebuildTranscripts(Context context) {
+        long transcripts = transactionTemplate.execute(status -> {
+            studentTranscriptRepository.deleteAfter("");
+            return (long) studentTranscriptRepository.insertAfter("");
+        });
+        context.written().merge("student_transcripts", transcripts, Long::sum);
+    }
+
+
+
+
+
+
+
+
+
+
+    // PROFESSORS
+    private List<ProfessorRow> insertProfessors(Context context, Distributions random) {
+        Writers writers = new Writers(context);
+        List<ProfessorRow> professors = new ArrayList<>(context.spec().professors());
+
+        for (int p = 0; p < context.spec().professors(); p++) {
+            UUID id = context.nextId();
+            String uniqueCode = String.format("p%07d", p);
+            String firstName = random.pick(FIRST_NAMES);
+            String lastName = random.pick(LAST_NAMES);
+            LocalDate dob = context.today().minusYears(random.between(30, 68)).minusDays(random.uniform(365));
+
+            writers.user(context, random, id, p, "prof." + username(lastName) + p + "@ums.dataset",
+                firstName, lastName, dob, RoleType.PROFESSOR);
+            writers.professors.add(id, uniqueCode);
+            professors.add(new ProfessorRow(id, uniqueCode));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> writers.flush());
+        writers.record(context);
+        return professors;
+    }
+
+
+
+
+
+
+
+
+
+
+    // DEGREE COURSES AND COURSES
+    private List<DegreeCourseRow> insertDegreeCourses(Context context, Distributions random) {
+        BatchWriter writer = new BatchWriter(jdbcTemplate, context.spec().batchSize(),
+            "degree_courses", "id", "name", "graduation_class", "duration");
+        List<DegreeCourseRow> degreeCourses = new ArrayList<>();
+
+        for (int d = 0; d < context.spec().degreeCourses(); d++) {
+            // every discipline has a bachelor and a master degree
+            boolean master = d % 2 == 1;
+            int cycle = d / (2 * DISCIPLINES.size());
+            String name = DISCIPLINES.get(d / 2 % DISCIPLINES.size())
+                + (master ? " MAGISTRALE" : "")
+                + (cycle > 0 ? " " + (cycle + 1) : "");
+            DegreeCourseRow degreeCourse =
+                new DegreeCourseRow(context.nextId(), master ? 2 : 3, random.uniform(COURSE_NAMES.size()), new ArrayList<>());
+
+            writer.add(degreeCourse.id(), name,
+                (master ? DegreeType.MASTER : DegreeType.BACHELOR).ordinal(), degreeCourse.duration());
+            degreeCourses.add(degreeCourse);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> writer.flush());
+        context.record(writer);
+        return degreeCourses;
+    }
+
+
+    private void insertCourses(
+        Context context,
+        Distributions random,
+        List<DegreeCourseRow> degreeCourses,
+        List<ProfessorRow> professors
+    ) {
+        BatchWriter writer = new BatchWriter(jdbcTemplate, context.spec().batchSize(),
+            "courses", "id", "miur_course_code", "name", "type", "cfu", "professor_id", "degree_course_id");
+        CourseType[] types = CourseType.values();
+
+        for (int c = 0; c < context.spec().courses(); c++) {
+            DegreeCourseRow degreeCourse = degreeCourses.get(c % degreeCourses.size());
+            int position = degreeCourse.courses().size();
+            String name = COURSE_NAMES.get((degreeCourse.firstCourseName() + position) % COURSE_NAMES.size())
+                + (position >= COURSE_NAMES.size() ? " " + (position / COURSE_NAMES.size() + 1) : "");
+            CourseType type = types[random.uniform(types.length)];
+            ProfessorRow professor = random.pick(professors);
+            CourseRow course = new CourseRow(context.nextId(), name, professor.uniqueCode(), new ArrayList<>(), new ArrayList<>());
+
+            writer.add(course.id(), acronym(type).getCode() + "-" + UUID.randomUUID(), name, type.name(),
+                random.pick(CFU), professor.id(), degreeCourse.id());
+            degreeCourse.courses().add(course);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> writer.flush());
+        context.record(writer);
+    }
+
+
+
+
+
+
+
+
+
+
+    // EXAMINATION APPEALS
+    private void insertAppeals(Context context, Distributions random, List<DegreeCourseRow> degreeCourses) {
+        List<Object[]> rows = new ArrayList<>();
+        List<List<AppealRow>> targets = new ArrayList<>();
+
+        for (DegreeCourseRow degreeCourse : degreeCourses) {
+            for (CourseRow course : degreeCourse.courses()) {
+                for (int a = 0; a < context.spec().appealsPerCourse(); a++) {
+                    boolean past = a < context.spec().appealsPerCourse() / 2;
+                    LocalDate date = past
+                        ? context.today().minusDays(random.between(3, 90))
+                        : context.today().plusDays(random.between(7, 90));
+                    rows.add(new Object[] { course.id(), course.professor(), "Appello di " + course.name(), date });
+                    targets.add(past ? course.pastAppeals() : course.upcomingAppeals());
+                }
+            }
+        }
+
+        // the appeal ids are generated by the database
+        String sql = "INSERT INTO examination_appeals (course_id, unique_code, description, date) VALUES (?, ?, ?, ?)";
+        int batchSize = context.spec().batchSize();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<Object[]> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, new String[] { "examination_appeal_id" }),
+                    new RowSetter(batch),
+                    keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < batch.size(); i++) {
+                    Number id = (Number) keys.get(i).values().iterator().next();
+                    targets.get(from + i).add(new AppealRow(id.longValue(), (LocalDate) batch.get(i)[3]));
+                }
+            }
+        });
+
+        context.written().merge("examination_appeals", (long) rows.size(), Long::sum);
+    }
+
+
+
+
+
+
+
+
+
+
+    // STUDENTS
+    private void insertStudents(Context context, List<DegreeCourseRow> degreeCourses) {
+        double[] popularity = Distributions.zipf(degreeCourses.size(), 0.8);
+        int students = context.spec().students();
+        List<Future<Writers>> chunks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()))) {
+
+            for (int from = 0; from < students; from += STUDENTS_PER_CHUNK) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(from + STUDENTS_PER_CHUNK, students);
+                chunks.add(executor.submit(() ->
+                    insertStudentChunk(context, degreeCourses, popularity, chunkFrom, chunkTo)));
+            }
+
+            for (Future<Writers> chunk : chunks)
+                chunk.get().record(context);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dataset generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Dataset generation failed", e.getCause());
+        }
+    }
+
+
+    private Writers insertStudentChunk(
+        Context context,
+        List<DegreeCourseRow> degreeCourses,
+        double[] popularity,
+        int from,
+        int to
+    ) {
+        // one random sequence per chunk keeps the dataset reproducible
+        Distributions random = new Distributions(context.spec().seed() + from);
+        Writers writers = new Writers(context);
+
+        for (int s = from; s < to; s++) {
+            UUID id = context.nextId();
+            String register = String.valueOf(FIRST_REGISTER + s);
+            String firstName = random.pick(FIRST_NAMES);
+            String lastName = random.pick(LAST_NAMES);
+            DegreeCourseRow degreeCourse = degreeCourses.get(random.weighted(popularity));
+            List<CourseRow> courses = degreeCourse.courses();
+
+            // years since enrolment, past the duration for the students out of course
+            int year = random.weighted(Distributions.zipf(degreeCourse.duration() + 2, 0.35));
+            LocalDate dob = context.today()
+                .minusYears(19L + year + (random.chance(0.05) ? random.between(1, 10) : 0))
+                .minusDays(random.uniform(365));
+
+            writers.user(context, random, id, context.spec().professors() + s,
+                username(firstName) + "." + username(lastName) + "." + register + "@studenti.ums.dataset",
+                firstName, lastName, dob, RoleType.STUDENT);
+            writers.students.add(id, register, degreeCourse.id());
+
+            UUID studyPlanId = context.nextId();
+            writers.studyPlans.add(studyPlanId, id, random.chance(0.9) ? "ORD270" : "ORD509");
+            for (CourseRow course : courses)
+                writers.studyPlanCourses.add(studyPlanId, course.id());
+
+            // examination history, in study plan order
+            double progress = Math.clamp(year / (double) degreeCourse.duration() + random.gaussian(0, 0.12), 0, 1);
+            int passed = (int) Math.round(progress * courses.size());
+            LocalDate enrolment = context.today().minusMonths(12L * year + random.between(1, 11));
+            long span = Math.max(1, ChronoUnit.DAYS.between(enrolment, context.today()));
+            for (int k = 0; k < passed; k++) {
+                int grade = random.passingGrade();
+                LocalDate date = enrolment.plusDays(span * (k + 1) / (passed + 1));
+                writers.examination(courses.get(k), register, firstName, lastName, grade, grade == 30 && random.chance(0.3), date);
+            }
+
+            // the next course was tried in a past session
+            if (passed < courses.size() && random.chance(0.6)) {
+                CourseRow course = courses.get(passed);
+                if (!course.pastAppeals().isEmpty()) {
+                    AppealRow appeal = random.pick(course.pastAppeals());
+                    writers.outcome(random, id, course, appeal, register, firstName, lastName);
+                    passed++;
+                }
+            }
+
+            // upcoming bookings for the following courses
+            for (int k = passed; k < Math.min(passed + 4, courses.size()); k++) {
+                CourseRow course = courses.get(k);
+                if (!course.upcomingAppeals().isEmpty() && random.chance(0.5))
+                    writers.appealRegisters.add(random.pick(course.upcomingAppeals()).id(), register);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> writers.flush());
+        return writers;
+    }
+
+
+
+
+
+
+
+
+
+
+    // helpers
+    private String password() {
+        if (!password.isBlank())
+            return password;
+        byte[] bytes = new byte[12];
+        new SecureRandom().nextBytes(bytes);
+        String generated = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        logger.info("Synthetic dataset users get the random password {}", generated);
+        return generated;
+    }
+
+
+    private long reserveAddressIds(int count) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(address_id), 0) FROM addresses", Long.class);
+        long first = (max != null ? max : 0) + ADDRESS_ID_GAP;
+        // Hibernate keeps numbering addresses after the generated ones
+        jdbcTemplate.execute("ALTER SEQUENCE addresses_seq RESTART WITH " + (first + count + ADDRESS_ID_GAP));
+        return first;
+    }
+
+
+    private static String username(String name) {
+        return name.replace(" ", "");
+    }
+
+
+    private static MiurAcronymType acronym(CourseType type) {
+        return switch (type) {
+            case MATEMATICA -> MiurAcronymType.MAT;
+            case INFORMATICA -> MiurAcronymType.INF;
+            case FISICA -> MiurAcronymType.FIS;
+            case CHIMICA -> MiurAcronymType.CHI;
+            case ECONOMIA -> MiurAcronymType.ECO;
+            case LINGUA_STRANIERA -> MiurAcronymType.LET;
+            default -> MiurAcronymType.ING;
+        };
+    }
+
+
+
+
+
+
+
+
+
+
+    // generation state shared by the steps
+    private record Context(
+        DatasetSpec spec,
+        LocalDate today,
+        String password,
+        long firstAddressId,
+        AtomicLong idSequence,
+        Map<String, Long> written
+    ) {
+        /**
+         * Time ordered (version 7 layout) ids: rows are appended to the
+         * primary key indexes instead of being scattered over them.
+         */
+        UUID nextId() {
+            long sequence = idSequence.getAndIncrement();
+            long mostSignificant = (sequence >>> 12) << 16 | 0x7000 | (sequence & 0xfff);
+            long leastSignificant = ThreadLocalRandom.current().nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+            return new UUID(mostSignificant, leastSignificant);
+        }
+
+        synchronized void record(BatchWriter writer) {
+            written.merge(writer.table(), writer.written(), Long::sum);
+        }
+    }
+
+    private record ProfessorRow(UUID id, String uniqueCode) {}
+
+    private record DegreeCourseRow(UUID id, int duration, int firstCourseName, List<CourseRow> courses) {}
+
+    private record CourseRow(
+        UUID id,
+        String name,
+        String professor,
+        List<AppealRow> pastAppeals,
+        List<AppealRow> upcomingAppeals
+    ) {}
+
+    private record AppealRow(long id, LocalDate date) {}
+
+
+    // binds the rows of a batch to a statement created by the caller
+    private record RowSetter(List<Object[]> rows) implements BatchPreparedStatementSetter {
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            Object[] row = rows.get(i);
+            for (int column = 0; column < row.length; column++)
+                ps.setObject(column + 1, row[column]);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return rows.size();
+        }
+    }
+
+
+    // one writer per table, flushed in foreign key order
+    private final class Writers {
+
+        private final Context context;
+        private final BatchWriter addresses;
+        private final BatchWriter users;
+        private final BatchWriter professors;
+        private final BatchWriter students;
+        private final BatchWriter studyPlans;
+        private final BatchWriter studyPlanCourses;
+        private final BatchWriter examinations;
+        private final BatchWriter appealRegisters;
+        private final BatchWriter outcomes;
+        private final BatchWriter notifications;
+
+        private Writers(Context context) {
+            this.context = context;
+            int batchSize = context.spec().batchSize();
+            addresses = new BatchWriter(jdbcTemplate, batchSize,
+                "addresses", "address_id", "street", "city", "state", "zip_code");
+            users = new BatchWriter(jdbcTemplate, batchSize,
+                "users", "id", "username", "password", "first_name", "last_name", "dob", "fiscal_code",
+                "phone", "role", "address_address_id", "enabled", "account_locked", "credentials_expiration");
+            professors = new BatchWriter(jdbcTemplate, batchSize,
+                "professors", "id", "unique_code");
+            students = new BatchWriter(jdbcTemplate, batchSize,
+                "students", "id", "register", "degree_course_id");
+            studyPlans = new BatchWriter(jdbcTemplate, batchSize,
+                "study_plans", "study_plan_id", "student_id", "ordering");
+            studyPlanCourses = new BatchWriter(jdbcTemplate, batchSize,
+                "study_plan_courses", "study_plan_id", "course_id");
+            examinations = new BatchWriter(jdbcTemplate, batchSize,
+                "examinations", "id", "course_id", "course_name_snapshot", "register",
+                "student_first_name", "student_last_name", "grade", "with_honors", "examination_date");
+            appealRegisters = new BatchWriter(jdbcTemplate, batchSize,
+                "examination_appeal_registers", "examination_appeal_id", "register");
+            outcomes = new BatchWriter(jdbcTemplate, batchSize,
+                "examination_outcomes", "examination_appeal_id", "register", "present", "grade",
+                "with_honors", "accepted", "message");
+            notifications = new BatchWriter(jdbcTemplate, batchSize,
+                "outcome_notifications", "student_id", "message", "created_at", "expires_at", "read");
+        }
+
+
+        private void user(
+            Context context,
+            Distributions random,
+            UUID id,
+            int index,
+            String username,
+            String firstName,
+            String lastName,
+            LocalDate dob,
+            RoleType role
+        ) {
+            long addressId = context.firstAddressId() + index;
+            addresses.add(addressId, random.pick(STREETS) + " " + random.between(1, 200),
+                random.pick(CITIES), "Italia", String.format("%05d", random.between(10, 98168)));
+            users.add(id, username, context.password(), firstName, lastName, dob,
+                String.format("UMSDS%011d", index), "3" + String.format("%09d", random.uniform(1_000_000_000)),
+                role.name(), addressId, true, false, CREDENTIALS_EXPIRATION);
+        }
+
+
+        private void examination(
+            CourseRow course,
+            String register,
+            String firstName,
+            String lastName,
+            int grade,
+            boolean withHonors,
+            LocalDate date
+        ) {
+            examinations.add(context.nextId(), course.id(), course.name(), register,
+                firstName, lastName, grade, withHonors, date);
+        }
+
+
+        private void outcome(
+            Distributions random,
+            UUID studentId,
+            CourseRow course,
+            AppealRow appeal,
+            String register,
+            String firstName,
+            String lastName
+        ) {
+            boolean present = random.chance(0.85);
+            int grade = !present ? 0 : random.chance(0.75) ? random.passingGrade() : random.between(10, 17);
+            boolean withHonors = grade == 30 && random.chance(0.3);
+            boolean accepted = grade >= 18 && random.chance(0.85);
+
+            appealRegisters.add(appeal.id(), register);
+            outcomes.add(appeal.id(), register, present, grade, withHonors, accepted,
+                present ? "Esito dell'esame di " + course.name() + ": " + grade : "Assente");
+
+            if (present) {
+                LocalDateTime createdAt = appeal.date().plusDays(2).atTime(10, 0);
+                notifications.add(studentId, "Esito dell'esame di " + course.name() + ": " + grade,
+                    createdAt, createdAt.plusDays(3), accepted);
+            }
+
+            // an accepted outcome is recorded in the examination history
+            if (accepted)
+                examination(course, register, firstName, lastName, grade, withHonors, appeal.date());
+        }
+
+
+        private void flush() {
+            for (BatchWriter writer : all())
+                writer.flush();
+        }
+
+
+        private void record(Context context) {
+            for (BatchWriter writer : all())
+                if (writer.written() > 0)
+                    context.record(writer);
+        }
+
+
+        private List<BatchWriter> all() {
+            return List.of(addresses, users, professors, students, studyPlans, studyPlanCourses,
+                examinations, appealRegisters, outcomes, notifications);
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.alex.universitymanagementsystem.component.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Admission gate in front of a connection pool, for virtual threads.
+ * <p>
+ * With one virtual thread per request nothing limits how many threads ask
+ * the pool for a connection at once: thousands of them would spin in the
+ * pool hand-off and time out together. The gate lets as many threads
+ * through as the pool has connections, queues the others in arrival order
+ * and fails fast, with a {@link SQLTransientConnectionException}, when the
+ * queue is full or the wait is longer than the timeout.
+ * A permit is held until the connection is closed.
+ * <p>
+ * Closing this data source closes the pool it wraps.
+ */
+public class UmsConnectionAdmissionDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    // instance variables
+    private final String poolName;
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final Duration timeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // constructor
+    public UmsConnectionAdmissionDataSource(
+        DataSource targetDataSource,
+        String poolName,
+        int maxConnections,
+        int maxWaiting,
+        Duration timeout
+    ) {
+        super(targetDataSource);
+        this.poolName = poolName;
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWaiting = maxWaiting;
+        this.timeout = timeout;
+    }
+
+
+    public String getPoolName() { return poolName; }
+    public int getWaiting() { return waiting.get(); }
+    public long getRejected() { return rejected.get(); }
+
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable)
+            closeable.close();
+    }
+
+
+    // helpers
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire())
+            return;
+
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new SQLTransientConnectionException(
+                poolName + " - connection refused, " + maxWaiting + " requests already waiting");
+        }
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rejected.incrementAndGet();
+                throw new SQLTransientConnectionException(
+                    poolName + " - connection not available, waited " + timeout.toMillis() + " ms for admission");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(poolName + " - interrupted while waiting for admission", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            UmsConnectionAdmissionDataSource.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                // identity semantics, the pools and Spring compare connection handles
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Admission proxy for " + connection;
+                default -> {
+                    try {
+                        yield method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true))
+                            permits.release();
+                    }
+                }
+            }
+        );
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.alex.universitymanagementsystem.component.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Remembers which users committed a read-write transaction in the last
+ * {@code window}, so that their reads can be kept on the primary until the
+ * replica has caught up with their own writes.
+ * <p>
+ * Requests without an authenticated user (login, registration, password
+ * reset, scheduled jobs) cannot be told apart and always read the primary.
+ * <p>
+ * The state is local to the instance: behind a load balancer the sessions
+ * must be sticky for the guarantee to hold.
+ */
+public class UmsRecentWriteTracker implements TransactionExecutionListener {
+
+    // instance variables
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    // constructor
+    public UmsRecentWriteTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction())
+            return;
+        String user = currentUser();
+        if (user != null)
+            lastWrites.put(user, System.nanoTime());
+    }
+
+
+    /**
+     * Whether the current read must see the primary: there is no
+     * authenticated user, or they committed a write within the window.
+     * @return boolean
+     */
+    public boolean mustReadFromPrimary() {
+        String user = currentUser();
+        if (user == null)
+            return true;
+        Long lastWrite = lastWrites.get(user);
+        if (lastWrite == null)
+            return false;
+        if (System.nanoTime() - lastWrite < windowNanos)
+            return true;
+        lastWrites.remove(user, lastWrite);
+        return false;
+    }
+
+
+    // helpers
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken)
+            return null;
+        return authentication.getName();
+    }
+
+}
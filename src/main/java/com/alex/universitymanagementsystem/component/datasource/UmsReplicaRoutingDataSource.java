@@ -0,0 +1,38 @@
+package com.alex.universitymanagementsystem.component.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Data source of the read-only transactions: the replica, or the primary
+ * when the replica may not have the changes the current user expects.
+ * @see UmsRecentWriteTracker#mustReadFromPrimary()
+ */
+public class UmsReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    // constants
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // instance variables
+    private final UmsRecentWriteTracker writeTracker;
+
+    // constructor
+    public UmsReplicaRoutingDataSource(DataSource primary, DataSource replica, UmsRecentWriteTracker writeTracker) {
+        this.writeTracker = writeTracker;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return writeTracker.mustReadFromPrimary() ? PRIMARY : REPLICA;
+    }
+
+}
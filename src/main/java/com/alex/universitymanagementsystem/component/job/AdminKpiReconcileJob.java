@@ -0,0 +1,41 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.component.kpi.UmsAdminKpis;
+
+/**
+ * Recounts the counters of the admin dashboard from the data, every hour
+ * on the hour: repairs the drift of the incremental updates and moves the
+ * appeals of the week forward on Monday. One chunk, no checkpoint.
+ */
+@Component
+public class AdminKpiReconcileJob implements UmsJob {
+
+    // instance variables
+    private final UmsAdminKpis adminKpis;
+
+    // constructor
+    public AdminKpiReconcileJob(UmsAdminKpis adminKpis) {
+        this.adminKpis = adminKpis;
+    }
+
+
+    @Override
+    public String getName() {
+        return "reconcileAdminKpis";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.cron("0 0 * * * *");
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        return UmsJobChunk.last(adminKpis.reconcile());
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
+
+/**
+ * Deletes the examination appeals older than a month that nobody booked.
+ * Runs every day; the checkpoint is the last appeal id examined.
+ */
+@Component
+public class ExpiredAppealsCleanupJob implements UmsJob {
+
+    // instance variables
+    private final ExaminationAppealRepository examinationAppealRepository;
+    private final UmsJobProperties properties;
+
+    // constructor
+    public ExpiredAppealsCleanupJob(ExaminationAppealRepository examinationAppealRepository, UmsJobProperties properties) {
+        this.examinationAppealRepository = examinationAppealRepository;
+        this.properties = properties;
+    }
+
+
+    @Override
+    public String getName() {
+        return "cleanExpiredAppeals";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.fixedDelay(Duration.ofDays(1));
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        LocalDate expirationDateOneMonth = LocalDate.now().minusMonths(1);
+        long after = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+
+        List<ExaminationAppeal> expired = examinationAppealRepository.findByDateBeforeAndIdGreaterThanOrderByIdAsc(
+            expirationDateOneMonth, after, PageRequest.ofSize(properties.chunkSize()));
+
+        List<ExaminationAppeal> deletable = expired
+            .stream()
+            .filter(ExaminationAppeal::deleteIfExpiredAndNoRegisters)
+            .toList();
+        examinationAppealRepository.deleteAll(deletable);
+
+        if (expired.size() < properties.chunkSize())
+            return UmsJobChunk.last(deletable.size());
+        return UmsJobChunk.next(deletable.size(), String.valueOf(expired.getLast().getId()));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.repository.OutcomeNotificationRepository;
+
+/**
+ * Deletes the expired outcome notifications, every night at 2:00.
+ * The checkpoint is the last notification id deleted.
+ */
+@Component
+public class ExpiredNotificationsCleanupJob implements UmsJob {
+
+    // instance variables
+    private final OutcomeNotificationRepository outcomeNotificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UmsJobProperties properties;
+
+    // constructor
+    public ExpiredNotificationsCleanupJob(
+        OutcomeNotificationRepository outcomeNotificationRepository,
+        ApplicationEventPublisher eventPublisher,
+        UmsJobProperties properties
+    ) {
+        this.outcomeNotificationRepository = outcomeNotificationRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+
+    @Override
+    public String getName() {
+        return "cleanExpiredNotifications";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.cron("0 0 2 * * ?");
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        long after = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+        List<Long> expired = outcomeNotificationRepository.findExpiredIds(
+            LocalDateTime.now(), after, PageRequest.ofSize(properties.chunkSize()));
+        if (!expired.isEmpty()) {
+            long unread = outcomeNotificationRepository.countByIdInAndReadFalse(expired);
+            outcomeNotificationRepository.deleteAllByIdInBatch(expired);
+            eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.UNREAD_NOTIFICATIONS, -unread));
+        }
+
+        if (expired.size() < properties.chunkSize())
+            return UmsJobChunk.last(expired.size());
+        return UmsJobChunk.next(expired.size(), String.valueOf(expired.getLast()));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
+import com.alex.universitymanagementsystem.dto.ExaminationDto;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.Examination;
+import com.alex.universitymanagementsystem.entity.ExaminationOutcome;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.repository.ExaminationOutcomeRepository;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.service.ExaminationService;
+
+/**
+ * Closes the examination outcomes of the appeals older than two weeks:
+ * passed outcomes become examinations of the student, then every outcome
+ * is deleted. Runs every two weeks; the checkpoint is the last outcome id.
+ * <p>
+ * Each examination is created in a transaction of its own: an outcome that
+ * cannot be promoted (the student left the degree course, the course left
+ * the study plan) is logged and skipped instead of rolling back the chunk.
+ * The examinations already registered are read once per chunk, so an
+ * outcome promoted by a chunk that failed afterwards is not promoted twice
+ * when the run is resumed.
+ */
+@Component
+public class ExpiredOutcomesCleanupJob implements UmsJob {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(ExpiredOutcomesCleanupJob.class);
+
+    // instance variables
+    private final ExaminationOutcomeRepository examinationOutcomeRepository;
+    private final ExaminationRepository examinationRepository;
+    private final ExaminationService examinationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UmsJobProperties properties;
+    private final TransactionTemplate promotionTransaction;
+
+    // constructor
+    public ExpiredOutcomesCleanupJob(
+        ExaminationOutcomeRepository examinationOutcomeRepository,
+        ExaminationRepository examinationRepository,
+        ExaminationService examinationService,
+        ApplicationEventPublisher eventPublisher,
+        UmsJobProperties properties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.examinationOutcomeRepository = examinationOutcomeRepository;
+        this.examinationRepository = examinationRepository;
+        this.examinationService = examinationService;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.promotionTransaction = new TransactionTemplate(transactionManager);
+        this.promotionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+
+    @Override
+    public String getName() {
+        return "cleanExpiredOutcomes";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.fixedDelay(Duration.ofDays(14));
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        LocalDate expirationDateTwoWeeks = LocalDate.now().minusWeeks(2);
+        long after = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+
+        List<ExaminationOutcome> expired = examinationOutcomeRepository.findByAppeal_DateBeforeAndIdGreaterThan(
+            expirationDateTwoWeeks, after, PageRequest.ofSize(properties.chunkSize()));
+
+        Set<RegisteredExamination> registered = findRegistered(expired);
+        for (ExaminationOutcome outcome : expired) {
+            if (outcome.getGrade() > 18)
+                promote(outcome, registered);
+            examinationOutcomeRepository.delete(outcome);
+        }
+        eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.PENDING_OUTCOMES, -expired.size()));
+
+        if (expired.size() < properties.chunkSize())
+            return UmsJobChunk.last(expired.size());
+        return UmsJobChunk.next(expired.size(), String.valueOf(expired.getLast().getId()));
+    }
+
+
+    // helpers
+    private Set<RegisteredExamination> findRegistered(List<ExaminationOutcome> outcomes) {
+        Set<RegisteredExamination> registered = new HashSet<>();
+        if (outcomes.isEmpty())
+            return registered;
+        Set<String> registers = new HashSet<>();
+        Set<Course> courses = new HashSet<>();
+        for (ExaminationOutcome outcome : outcomes) {
+            registers.add(outcome.getRegister());
+            courses.add(outcome.getAppeal().getCourse());
+        }
+        for (Examination examination : examinationRepository.findByRegisterInAndCourseIn(registers, courses))
+            registered.add(new RegisteredExamination(examination.getRegister(), examination.getCourse()));
+        return registered;
+    }
+
+    private void promote(ExaminationOutcome outcome, Set<RegisteredExamination> registered) {
+        Course course = outcome.getAppeal().getCourse();
+        String register = outcome.getRegister();
+
+        // already registered by hand through the admin pages
+        if (!registered.add(new RegisteredExamination(register, course))) {
+            logger.debug("Examination of {} for {} already registered", register, course.getName());
+            return;
+        }
+
+        ExaminationDto examination = new ExaminationDto(
+            register,
+            course.getName(),
+            course.getDegreeCourse().getName(),
+            course.getCfu(),
+            outcome.getGrade(),
+            outcome.isWithHonors(),
+            outcome.getAppeal().getDate()
+        );
+        try {
+            promotionTransaction.executeWithoutResult(status -> examinationService.addNewExamination(examination));
+        } catch (RuntimeException e) {
+            logger.warn("Outcome {} of {} for {} not promoted, skipped", outcome.getId(), register, course.getName(), e);
+        }
+    }
+
+    private record RegisteredExamination(String register, Course course) {}
+
+}
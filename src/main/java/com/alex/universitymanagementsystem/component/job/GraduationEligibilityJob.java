@@ -0,0 +1,220 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.dto.PassedCourseDto;
+import com.alex.universitymanagementsystem.dto.PlanCourseDto;
+import com.alex.universitymanagementsystem.entity.GraduationEligibility;
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.repository.GraduationEligibilityRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Compares the study plan of every student with the examinations passed,
+ * every night at 1:30 ({@code ums.graduation.cron}), and records who can
+ * graduate and the CFU still missing.
+ * <p>
+ * Each chunk covers {@code parallelism x partition-size} registers: the
+ * range is split by a fork-join task into partitions read in parallel,
+ * each in its own read-only transaction (on the replica when there is
+ * one), streaming the plan courses and the passed courses of the
+ * partition. The evaluations are then written in the transaction of the
+ * chunk, which replaces the rows of its range; the checkpoint is the last
+ * register of the range.
+ */
+@Component
+public class GraduationEligibilityJob implements UmsJob {
+
+    // instance variables
+    private final GraduationEligibilityRepository graduationEligibilityRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+    private final int partitionSize;
+    private final String cron;
+
+    // constructor
+    public GraduationEligibilityJob(
+        GraduationEligibilityRepository graduationEligibilityRepository,
+        EntityManager entityManager,
+        PlatformTransactionManager transactionManager,
+        @Value("${ums.graduation.parallelism:4}") int parallelism,
+        @Value("${ums.graduation.partition-size:1000}") int partitionSize,
+        @Value("${ums.graduation.cron:0 30 1 * * ?}") String cron
+    ) {
+        this.graduationEligibilityRepository = graduationEligibilityRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = parallelism;
+        this.partitionSize = partitionSize;
+        this.cron = cron;
+    }
+
+
+    @Override
+    public String getName() {
+        return "evaluateGraduation";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.cron(cron);
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        String after = checkpoint != null ? checkpoint : "";
+        int rangeSize = parallelism * partitionSize;
+        List<String> registers = graduationEligibilityRepository.findStudentRegistersAfter(
+            after, PageRequest.ofSize(rangeSize));
+
+        List<GraduationEligibility> evaluations;
+        // the partitions block on the database: a pool of their own, not the common one
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            evaluations = pool.invoke(new PartitionTask(registers, 0, registers.size(), after, LocalDateTime.now()));
+        }
+
+        // last range: also drops the evaluations of the students deleted since the last run
+        boolean last = registers.size() < rangeSize;
+        if (last)
+            graduationEligibilityRepository.deleteAfter(after);
+        else
+            graduationEligibilityRepository.deleteRange(after, registers.getLast());
+        for (GraduationEligibility evaluation : evaluations)
+            entityManager.persist(evaluation);
+
+        return last
+            ? UmsJobChunk.last(evaluations.size())
+            : UmsJobChunk.next(evaluations.size(), registers.getLast());
+    }
+
+
+    // helpers
+    // evaluates the students of a partition, reading in a transaction of the calling thread
+    private List<GraduationEligibility> evaluate(String after, String upTo, LocalDateTime now) {
+        return readOnlyTransaction.execute(status -> {
+            Map<String, Set<CourseId>> passed = new HashMap<>();
+            try (Stream<PassedCourseDto> courses = graduationEligibilityRepository.streamPassedCourses(after, upTo)) {
+                courses.forEach(course ->
+                    passed.computeIfAbsent(course.register(), _ -> new HashSet<>()).add(course.courseId()));
+            }
+
+            List<GraduationEligibility> evaluations = new ArrayList<>();
+            try (Stream<PlanCourseDto> courses = graduationEligibilityRepository.streamPlanCourses(after, upTo)) {
+                Iterator<PlanCourseDto> iterator = courses.iterator();
+                StudentPlan plan = null;
+                while (iterator.hasNext()) {
+                    PlanCourseDto course = iterator.next();
+                    if (plan == null || !plan.register.equals(course.register())) {
+                        if (plan != null)
+                            evaluations.add(plan.evaluate(now));
+                        plan = new StudentPlan(course.register(), course.degreeCourseName(),
+                            passed.getOrDefault(course.register(), Set.of()));
+                    }
+                    plan.add(course);
+                }
+                if (plan != null)
+                    evaluations.add(plan.evaluate(now));
+            }
+            return evaluations;
+        });
+    }
+
+
+    // splits registers[from, to) until a partition is small enough to be read at once
+    private final class PartitionTask extends RecursiveTask<List<GraduationEligibility>> {
+
+        private final List<String> registers;
+        private final int from;
+        private final int to;
+        private final String after;
+        private final LocalDateTime now;
+
+        private PartitionTask(List<String> registers, int from, int to, String after, LocalDateTime now) {
+            this.registers = registers;
+            this.from = from;
+            this.to = to;
+            this.after = after;
+            this.now = now;
+        }
+
+        @Override
+        protected List<GraduationEligibility> compute() {
+            if (from == to)
+                return List.of();
+            if (to - from <= partitionSize)
+                return evaluate(after, registers.get(to - 1), now);
+
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(registers, from, middle, after, now);
+            PartitionTask right = new PartitionTask(registers, middle, to, registers.get(middle - 1), now);
+            left.fork();
+            List<GraduationEligibility> rightEvaluations = right.compute();
+            List<GraduationEligibility> evaluations = new ArrayList<>(left.join());
+            evaluations.addAll(rightEvaluations);
+            return evaluations;
+        }
+
+    }
+
+
+    // the plan courses of one student, streamed in register order
+    private static final class StudentPlan {
+
+        private final String register;
+        private final String degreeCourse;
+        private final Set<CourseId> passed;
+        private final StringBuilder missingNames = new StringBuilder();
+        private int planCfu;
+        private int earnedCfu;
+        private int missingCourses;
+
+        private StudentPlan(String register, String degreeCourse, Set<CourseId> passed) {
+            this.register = register;
+            this.degreeCourse = degreeCourse;
+            this.passed = passed;
+        }
+
+        private void add(PlanCourseDto course) {
+            planCfu += course.cfu();
+            if (passed.contains(course.courseId())) {
+                earnedCfu += course.cfu();
+                return;
+            }
+            missingCourses++;
+            if (!missingNames.isEmpty())
+                missingNames.append(", ");
+            missingNames.append(course.courseName());
+        }
+
+        private GraduationEligibility evaluate(LocalDateTime now) {
+            String names = missingNames.length() > GraduationEligibility.MAX_NAMES_LENGTH
+                ? missingNames.substring(0, GraduationEligibility.MAX_NAMES_LENGTH)
+                : missingNames.toString();
+            return new GraduationEligibility(
+                register, degreeCourse, planCfu, earnedCfu, missingCourses, names.isEmpty() ? null : names, now);
+        }
+
+    }
+
+}
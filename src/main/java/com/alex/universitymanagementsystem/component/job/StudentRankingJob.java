@@ -0,0 +1,143 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.dto.RankedGradeDto;
+import com.alex.universitymanagementsystem.entity.StudentRanking;
+import com.alex.universitymanagementsystem.repository.StudentRankingRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Ranks the students of each degree course by CFU-weighted average of
+ * the examinations passed, every Sunday at 4:00, for the scholarships.
+ * <p>
+ * Each chunk ranks one degree course: the examinations of its students
+ * are streamed in register order into primitive accumulators, then the
+ * students are sorted by average, comparing the grade points and CFU
+ * exactly so that equal averages share the rank. The checkpoint is the
+ * name of the degree course; the last chunk also drops the rankings of
+ * the students deleted or moved to another degree course.
+ */
+@Component
+public class StudentRankingJob implements UmsJob {
+
+    // instance variables
+    private final StudentRankingRepository studentRankingRepository;
+    private final EntityManager entityManager;
+
+    // constructor
+    public StudentRankingJob(StudentRankingRepository studentRankingRepository, EntityManager entityManager) {
+        this.studentRankingRepository = studentRankingRepository;
+        this.entityManager = entityManager;
+    }
+
+
+    @Override
+    public String getName() {
+        return "rankStudents";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.cron("0 0 4 * * SUN");
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        String after = checkpoint != null ? checkpoint : "";
+        // the next degree course, and whether there is one more
+        List<String> names = studentRankingRepository.findDegreeCourseNamesAfter(after, PageRequest.ofSize(2));
+        if (names.isEmpty()) {
+            studentRankingRepository.deleteStale();
+            return UmsJobChunk.last(0);
+        }
+
+        String degreeCourseName = names.getFirst();
+        Cohort cohort = new Cohort();
+        try (Stream<RankedGradeDto> grades = studentRankingRepository.streamGrades(degreeCourseName)) {
+            grades.forEach(grade -> cohort.add(grade.register(), grade.cfu(), grade.grade()));
+        }
+
+        studentRankingRepository.deleteDegreeCourse(degreeCourseName);
+        List<StudentRanking> rankings = cohort.rank(degreeCourseName, LocalDateTime.now());
+        for (StudentRanking ranking : rankings)
+            entityManager.persist(ranking);
+
+        if (names.size() == 1) {
+            studentRankingRepository.deleteStale();
+            return UmsJobChunk.last(rankings.size());
+        }
+        return UmsJobChunk.next(rankings.size(), degreeCourseName);
+    }
+
+
+    // helpers
+    // grade points and CFU of the students of a degree course, fed in register order
+    private static final class Cohort {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private String[] registers = new String[INITIAL_CAPACITY];
+        private long[] gradePoints = new long[INITIAL_CAPACITY];
+        private int[] cfu = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(String register, int courseCfu, int grade) {
+            if (size == 0 || !registers[size - 1].equals(register)) {
+                if (size == registers.length) {
+                    registers = Arrays.copyOf(registers, size * 2);
+                    gradePoints = Arrays.copyOf(gradePoints, size * 2);
+                    cfu = Arrays.copyOf(cfu, size * 2);
+                }
+                registers[size++] = register;
+            }
+            gradePoints[size - 1] += (long) grade * courseCfu;
+            cfu[size - 1] += courseCfu;
+        }
+
+        // higher average first; a / b > c / d without rounding: a * d > c * b
+        private int compareAverages(int left, int right) {
+            return Long.compare(gradePoints[right] * cfu[left], gradePoints[left] * cfu[right]);
+        }
+
+        private List<StudentRanking> rank(String degreeCourseName, LocalDateTime now) {
+            // students without CFU (courses without CFU only) have no average
+            Comparator<Integer> byAverage = this::compareAverages;
+            int[] order = IntStream.range(0, size)
+                .filter(i -> cfu[i] > 0)
+                .boxed()
+                .sorted(byAverage.thenComparing(i -> registers[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+            StudentRanking[] rankings = new StudentRanking[order.length];
+            int denseRank = 0;
+            int above = 0;
+            for (int position = 0; position < order.length; position++) {
+                int student = order[position];
+                if (position == 0 || compareAverages(order[position - 1], student) != 0) {
+                    denseRank++;
+                    above = position;
+                }
+                // share of the cohort with an average not higher
+                double percentile = 100.0 * (order.length - above) / order.length;
+                rankings[position] = new StudentRanking(registers[student], degreeCourseName,
+                    cfu[student], gradePoints[student], denseRank, percentile, now);
+            }
+            return List.of(rankings);
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
+
+/**
+ * Recomputes the student transcripts from the examinations, every Sunday
+ * at 3:00, repairing any drift of the incremental updates (examinations
+ * written outside the examination service, a transcript missing when an
+ * examination was removed). Each chunk replaces the transcripts of a
+ * range of registers; the checkpoint is the last register of the range.
+ */
+@Component
+public class TranscriptRebuildJob implements UmsJob {
+
+    // instance variables
+    private final StudentTranscriptRepository studentTranscriptRepository;
+    private final UmsJobProperties properties;
+
+    // constructor
+    public TranscriptRebuildJob(StudentTranscriptRepository studentTranscriptRepository, UmsJobProperties properties) {
+        this.studentTranscriptRepository = studentTranscriptRepository;
+        this.properties = properties;
+    }
+
+
+    @Override
+    public String getName() {
+        return "rebuildTranscripts";
+    }
+
+
+    @Override
+    public UmsJobSchedule getSchedule() {
+        return UmsJobSchedule.cron("0 0 3 * * SUN");
+    }
+
+
+    @Override
+    public UmsJobChunk processChunk(String checkpoint) {
+        String after = checkpoint != null ? checkpoint : "";
+        List<String> registers = studentTranscriptRepository.findRegistersAfter(
+            after, PageRequest.ofSize(properties.chunkSize()));
+
+        // last chunk: also drops the transcripts of the students left without examinations
+        if (registers.size() < properties.chunkSize()) {
+            studentTranscriptRepository.deleteAfter(after);
+            return UmsJobChunk.last(studentTranscriptRepository.insertAfter(after));
+        }
+
+        String upTo = registers.getLast();
+        studentTranscriptRepository.deleteRange(after, upTo);
+        return UmsJobChunk.next(studentTranscriptRepository.insertRange(after, upTo), upTo);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A scheduled job run by the {@link UmsJobRunner}: once across all the
+ * nodes, one chunk per transaction. Implementations are Spring beans.
+ * <p>
+ * The checkpoint returned by a chunk is saved in the same transaction as
+ * the chunk's work, so after a crash the job resumes from the last
+ * committed chunk.
+ */
+public interface UmsJob {
+
+    /**
+     * @return the job name, unique, used as the key of the persisted state
+     */
+    String getName();
+
+
+    /**
+     * @return when the job runs
+     */
+    UmsJobSchedule getSchedule();
+
+
+    /**
+     * Processes the next chunk. Called inside a transaction.
+     * @param checkpoint where the previous chunk stopped, null for the first chunk of a run
+     * @return the rows processed and the checkpoint of the next chunk
+     */
+    UmsJobChunk processChunk(@Nullable String checkpoint);
+
+}
@@ -0,0 +1,24 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Result of a processed chunk.
+ * @param rowsAffected the rows the chunk touched
+ * @param nextCheckpoint where the next chunk starts, null when the run is complete
+ */
+public record UmsJobChunk(long rowsAffected, @Nullable String nextCheckpoint) {
+
+    public static UmsJobChunk next(long rowsAffected, String nextCheckpoint) {
+        return new UmsJobChunk(rowsAffected, nextCheckpoint);
+    }
+
+    public static UmsJobChunk last(long rowsAffected) {
+        return new UmsJobChunk(rowsAffected, null);
+    }
+
+    public boolean isLast() {
+        return nextCheckpoint == null;
+    }
+
+}
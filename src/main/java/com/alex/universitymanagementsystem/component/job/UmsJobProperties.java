@@ -0,0 +1,23 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link UmsJobRunner} ({@code ums.jobs.*}).
+ * @param enabled false on the nodes that must never run jobs
+ * @param nodeId the name of this node in the leases and in the job history
+ * @param pollInterval how often each node checks whether a job is due
+ * @param initialDelay the delay of the first poll after startup
+ * @param leaseDuration how long a node holds a job without checkpointing before another node may take over
+ * @param chunkSize the rows processed per chunk (and per transaction)
+ * @param maxFailures the consecutive failed runs after which a job is parked
+ */
+public record UmsJobProperties(
+    boolean enabled,
+    String nodeId,
+    Duration pollInterval,
+    Duration initialDelay,
+    Duration leaseDuration,
+    int chunkSize,
+    int maxFailures
+) {}
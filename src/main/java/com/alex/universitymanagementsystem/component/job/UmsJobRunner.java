@@ -0,0 +1,240 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.metrics.UmsJobMetrics;
+import com.alex.universitymanagementsystem.entity.JobRun;
+import com.alex.universitymanagementsystem.entity.ScheduledJob;
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+import com.alex.universitymanagementsystem.repository.JobRunRepository;
+import com.alex.universitymanagementsystem.repository.ScheduledJobRepository;
+
+/**
+ * Runs the {@link UmsJob} beans on the dedicated job scheduler.
+ * <p>
+ * Every node polls each job at {@code ums.jobs.poll-interval}. A due job
+ * is run by the node that takes its database lease; the lease is extended
+ * after every chunk and expires after {@code ums.jobs.lease-duration} if
+ * the node dies, letting another node resume the run from the last
+ * checkpoint. A failed run is retried from its checkpoint with an
+ * exponential backoff, and the job is parked after
+ * {@code ums.jobs.max-failures} failures in a row. Each run is recorded
+ * in the job history and on the {@link UmsJobMetrics} gauges.
+ */
+@Component
+public class UmsJobRunner implements SmartLifecycle {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsJobRunner.class);
+
+    // instance variables
+    private final List<UmsJob> jobs;
+    private final ScheduledJobRepository scheduledJobRepository;
+    private final JobRunRepository jobRunRepository;
+    private final UmsJobMetrics jobMetrics;
+    private final TaskScheduler jobScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final UmsJobProperties properties;
+    private final List<ScheduledFuture<?>> polls = new ArrayList<>();
+    private volatile boolean running;
+
+    // constructor
+    public UmsJobRunner(
+        List<UmsJob> jobs,
+        ScheduledJobRepository scheduledJobRepository,
+        JobRunRepository jobRunRepository,
+        UmsJobMetrics jobMetrics,
+        @Qualifier("umsJobScheduler") TaskScheduler jobScheduler,
+        PlatformTransactionManager transactionManager,
+        UmsJobProperties properties
+    ) {
+        this.jobs = jobs;
+        this.scheduledJobRepository = scheduledJobRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.jobMetrics = jobMetrics;
+        this.jobScheduler = jobScheduler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            logger.info("Scheduled jobs disabled on node {}", properties.nodeId());
+            running = true;
+            return;
+        }
+        running = true;
+        Instant firstPoll = Instant.now().plus(properties.initialDelay());
+        for (UmsJob job : jobs) {
+            register(job, LocalDateTime.now());
+            polls.add(jobScheduler.scheduleWithFixedDelay(() -> poll(job), firstPoll, properties.pollInterval()));
+        }
+        logger.info("Scheduled jobs {} polled every {} on node {}",
+            jobs.stream().map(UmsJob::getName).toList(), properties.pollInterval(), properties.nodeId());
+    }
+
+
+    @Override
+    public void stop() {
+        // a run in progress stops after its current chunk and resumes from the checkpoint
+        running = false;
+        polls.forEach(poll -> poll.cancel(false));
+        polls.clear();
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+
+    /**
+     * Runs the job now if it is due and no other node is running it.
+     * @param job the job
+     * @return true if this node ran the job
+     */
+    public boolean poll(UmsJob job) {
+        try {
+            // the timestamp columns round to microseconds: a first run stored from a finer time could be later than now
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            ScheduledJob state = scheduledJobRepository.findById(job.getName()).orElseGet(() -> register(job, now));
+            if (!state.isDue(now) || !acquireLease(job, now))
+                return false;
+
+            // another node may have completed the run between the read and the lease
+            state = scheduledJobRepository.findById(job.getName()).orElseThrow();
+            if (!state.isDue(now)) {
+                transactionTemplate.execute(status -> scheduledJobRepository.releaseLease(job.getName(), properties.nodeId()));
+                return false;
+            }
+            run(job, state.getCheckpoint());
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Job {} could not be polled", job.getName(), e);
+            return false;
+        }
+    }
+
+
+    // helpers
+    // the first run is computed from the time of the poll, so that a fixed delay job is due at once
+    private ScheduledJob register(UmsJob job, LocalDateTime now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!scheduledJobRepository.existsById(job.getName()))
+                    scheduledJobRepository.saveAndFlush(
+                        new ScheduledJob(job.getName(), job.getSchedule().first(now)));
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Job {} registered by another node", job.getName());
+        }
+        return scheduledJobRepository.findById(job.getName()).orElseThrow();
+    }
+
+
+    private boolean acquireLease(UmsJob job, LocalDateTime now) {
+        Integer acquired = transactionTemplate.execute(status -> scheduledJobRepository.acquireLease(
+            job.getName(), properties.nodeId(), now, now.plus(properties.leaseDuration())));
+        return acquired != null && acquired == 1;
+    }
+
+
+    private void run(UmsJob job, String resumedFrom) {
+        String name = job.getName();
+        String node = properties.nodeId();
+        long start = System.nanoTime();
+
+        JobRun jobRun = transactionTemplate.execute(status -> {
+            if (resumedFrom != null)
+                jobRunRepository.closeRuns(name, JobRunStatus.RUNNING, JobRunStatus.INTERRUPTED, LocalDateTime.now());
+            return jobRunRepository.save(new JobRun(name, node, resumedFrom));
+        });
+        logger.info("Job {} started on node {}{}", name, node, resumedFrom != null ? ", resuming from " + resumedFrom : "");
+
+        int chunks = 0;
+        long rows = 0;
+        String checkpoint = resumedFrom;
+        try {
+            UmsJobChunk chunk;
+            do {
+                if (!running) {
+                    finish(jobRun, JobRunStatus.INTERRUPTED, chunks, rows, "node shutting down");
+                    transactionTemplate.execute(status -> scheduledJobRepository.releaseLease(name, node));
+                    return;
+                }
+                chunk = processChunk(job, checkpoint);
+                chunks++;
+                rows += chunk.rowsAffected();
+                checkpoint = chunk.nextCheckpoint();
+            } while (!chunk.isLast());
+
+            finish(jobRun, JobRunStatus.COMPLETED, chunks, rows, null);
+            jobMetrics.recordRun(name, start, rows);
+            logger.info("Job {} completed: {} chunks, {} rows in {} ms",
+                name, chunks, rows, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            finish(jobRun, JobRunStatus.FAILED, chunks, rows, e.toString());
+            recordFailure(job, chunks, e);
+        }
+    }
+
+
+    // a chunk failing every time must not be retried at every poll: the retry is
+    // postponed by the poll interval, doubled at each failure in a row, and the job
+    // is parked after ums.jobs.max-failures until an admin resumes it
+    private void recordFailure(UmsJob job, int chunks, RuntimeException e) {
+        String name = job.getName();
+        int failures = scheduledJobRepository.findById(name).map(ScheduledJob::getConsecutiveFailures).orElse(0) + 1;
+        LocalDateTime retryAt = LocalDateTime.now().plus(properties.pollInterval().multipliedBy(1L << Math.min(failures - 1, 20)));
+        transactionTemplate.execute(status ->
+            scheduledJobRepository.recordFailure(name, properties.nodeId(), retryAt, properties.maxFailures()));
+
+        if (failures >= properties.maxFailures())
+            logger.error("Job {} failed after {} chunks, {} failures in a row: parked until resumed", name, chunks, failures, e);
+        else
+            logger.error("Job {} failed after {} chunks, resuming from the last checkpoint at {}", name, chunks, retryAt, e);
+    }
+
+
+    private UmsJobChunk processChunk(UmsJob job, String checkpoint) {
+        String name = job.getName();
+        String node = properties.nodeId();
+        return transactionTemplate.execute(status -> {
+            UmsJobChunk chunk = job.processChunk(checkpoint);
+            LocalDateTime now = LocalDateTime.now();
+            int updated = chunk.isLast()
+                ? scheduledJobRepository.complete(name, node, now, job.getSchedule().next(now))
+                : scheduledJobRepository.saveCheckpoint(name, node, chunk.nextCheckpoint(), now.plus(properties.leaseDuration()));
+            // the chunk is rolled back: the node now holding the lease processes it again
+            if (updated == 0)
+                throw new IllegalStateException("Lease of job " + name + " lost by node " + node);
+            return chunk;
+        });
+    }
+
+
+    private void finish(JobRun jobRun, JobRunStatus status, int chunks, long rows, String error) {
+        jobRun.finish(status, chunks, rows, error);
+        transactionTemplate.executeWithoutResult(tx -> jobRunRepository.save(jobRun));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.support.CronExpression;
+
+/**
+ * When a job runs: a fixed delay after the previous completion, or a cron
+ * expression. Computed from the persisted completion time, so a restart
+ * does not reset the timer.
+ */
+public final class UmsJobSchedule {
+
+    // instance variables
+    private final Duration fixedDelay;
+    private final CronExpression cron;
+    private final String description;
+
+    // constructor
+    private UmsJobSchedule(Duration fixedDelay, CronExpression cron, String description) {
+        this.fixedDelay = fixedDelay;
+        this.cron = cron;
+        this.description = description;
+    }
+
+
+    /**
+     * @param delay the delay between the end of a run and the start of the next one
+     * @return a schedule whose first run is immediate
+     */
+    public static UmsJobSchedule fixedDelay(Duration delay) {
+        return new UmsJobSchedule(delay, null, "every " + delay);
+    }
+
+
+    /**
+     * @param expression a Spring cron expression
+     * @return a schedule whose first run is the next match of the expression
+     */
+    public static UmsJobSchedule cron(String expression) {
+        return new UmsJobSchedule(null, CronExpression.parse(expression), "cron " + expression);
+    }
+
+
+    /**
+     * @param now the time the job is registered
+     * @return the first run of a job never run before
+     */
+    public LocalDateTime first(LocalDateTime now) {
+        return fixedDelay != null ? now : cron.next(now);
+    }
+
+
+    /**
+     * @param completedAt the completion time of the last run
+     * @return the next run
+     */
+    public LocalDateTime next(LocalDateTime completedAt) {
+        return fixedDelay != null ? completedAt.plus(fixedDelay) : cron.next(completedAt);
+    }
+
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.alex.universitymanagementsystem.component.kpi;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+
+/**
+ * Domain event published by the services when they change data counted
+ * by the admin dashboard; applied by {@link UmsAdminKpis} in the
+ * transaction of the change.
+ * @param kpi the counter
+ * @param scope the scope, "" for the global counters
+ * @param delta the change, 0 when nothing to count changed
+ */
+public record AdminKpiEvent(AdminKpi kpi, String scope, long delta) {
+
+    /**
+     * @param kpi a global counter
+     * @param delta the change
+     * @return the event
+     */
+    public static AdminKpiEvent of(AdminKpi kpi, long delta) {
+        return new AdminKpiEvent(kpi, "", delta);
+    }
+
+
+    /**
+     * @param student the student whose degree course changed
+     * @param delta 1 when the student joins the degree course, -1 when leaving
+     * @return the event, with no change if the student has no degree course
+     */
+    public static AdminKpiEvent degreeCourse(Student student, long delta) {
+        if (student.getDegreeCourse() == null)
+            return of(AdminKpi.DEGREE_COURSE_STUDENTS, 0);
+        return new AdminKpiEvent(AdminKpi.DEGREE_COURSE_STUDENTS, student.getDegreeCourse().getName(), delta);
+    }
+
+
+    /**
+     * @param date the date of the examination appeal added or deleted
+     * @param delta 1 or -1
+     * @return the event, with no change if the appeal is not in the current week
+     */
+    public static AdminKpiEvent appeal(LocalDate date, long delta) {
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        boolean thisWeek = !date.isBefore(monday) && date.isBefore(monday.plusWeeks(1));
+        return of(AdminKpi.APPEALS_THIS_WEEK, thisWeek ? delta : 0);
+    }
+
+}
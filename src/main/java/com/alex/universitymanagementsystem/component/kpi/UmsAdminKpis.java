@@ -0,0 +1,115 @@
+package com.alex.universitymanagementsystem.component.kpi;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.dto.KpiCountDto;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.repository.AdminKpiValueRepository;
+
+/**
+ * Keeps the counters of the admin dashboard in the {@code admin_kpis}
+ * table, so that the dashboard is read from a handful of rows instead of
+ * counting students, appeals, bookings, outcomes and notifications.
+ * <p>
+ * The {@link AdminKpiEvent}s of a change are applied once it has
+ * committed, in a transaction of their own: the business transactions
+ * never wait on the row lock of a counter and never fail because of one,
+ * and a rolled back change counts nothing. A delta lost to a crash or a
+ * failure between the two commits is a drift like any other:
+ * {@link #reconcile()} recounts everything from the data every hour,
+ * repairing it as well as the changes made outside the services, and
+ * moves the appeals of the week forward.
+ */
+@Component
+public class UmsAdminKpis {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsAdminKpis.class);
+
+    // instance variables
+    private final AdminKpiValueRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    // constructor
+    public UmsAdminKpis(AdminKpiValueRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+
+    /**
+     * Applies a delta once the change has committed (or at once if the
+     * change was made outside a transaction), in a new transaction; a
+     * failure is logged and left to the reconcile job.
+     * @param event the event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void apply(AdminKpiEvent event) {
+        if (event.delta() == 0)
+            return;
+        try {
+            transactionTemplate.executeWithoutResult(_ -> add(event));
+        } catch (RuntimeException e) {
+            logger.warn("Admin KPI {} '{}' not changed by {}, left to the reconcile job",
+                event.kpi(), event.scope(), event.delta(), e);
+        }
+    }
+
+
+    /**
+     * Recounts every counter from the data, in the current transaction.
+     * A delta committed while counting may be lost until the next run.
+     * @return the number of counters written
+     */
+    public int reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+
+        set(AdminKpi.STUDENTS, "", repository.countStudents(), now);
+        set(AdminKpi.APPEALS_THIS_WEEK, "", repository.countAppealsBetween(monday, monday.plusDays(6)), now);
+        set(AdminKpi.BOOKINGS, "", repository.countBookings(), now);
+        set(AdminKpi.PENDING_OUTCOMES, "", repository.countOutcomes(), now);
+        set(AdminKpi.UNREAD_NOTIFICATIONS, "", repository.countUnreadNotifications(), now);
+        int written = 5;
+
+        // degree courses left without students keep their row, at zero
+        repository.resetScopes(AdminKpi.DEGREE_COURSE_STUDENTS, now);
+        for (KpiCountDto count : repository.countStudentsByDegreeCourse()) {
+            set(AdminKpi.DEGREE_COURSE_STUDENTS, count.scope(), count.total(), now);
+            written++;
+        }
+        return written;
+    }
+
+
+    // helpers
+
+    // in the current transaction; a missing counter is created first, a concurrent creation is not an error
+    void add(AdminKpiEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (repository.applyDelta(event.kpi(), event.scope(), event.delta(), now) == 0) {
+            repository.createIfAbsent(event.kpi(), event.scope(), now);
+            repository.applyDelta(event.kpi(), event.scope(), event.delta(), now);
+        }
+    }
+
+    private void set(AdminKpi kpi, String scope, long total, LocalDateTime now) {
+        if (repository.setTotal(kpi, scope, total, now) == 0) {
+            repository.createIfAbsent(kpi, scope, now);
+            repository.setTotal(kpi, scope, total, now);
+        }
+    }
+
+}
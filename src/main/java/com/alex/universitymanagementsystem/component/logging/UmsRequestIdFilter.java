@@ -0,0 +1,65 @@
+package com.alex.universitymanagementsystem.component.logging;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Puts a request id in the MDC for the whole request, so every log line
+ * written while serving it carries the {@code requestId} key (a field of
+ * the JSON output of the prod profile). The id of the load balancer is
+ * reused when the request carries a valid {@code X-Request-Id} header,
+ * and the id is echoed in the response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UmsRequestIdFilter extends OncePerRequestFilter {
+
+    // constants
+    public static final String MDC_KEY = "requestId";
+    public static final String HEADER = "X-Request-Id";
+    private static final int MAX_LENGTH = 64;
+
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String requestId = resolveRequestId(request.getHeader(HEADER));
+        MDC.put(MDC_KEY, requestId);
+        response.setHeader(HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+
+    // helpers
+    private static String resolveRequestId(String header) {
+        // untrusted input ends up in the logs: only short ids made of safe characters are kept
+        if (header != null && !header.isEmpty() && header.length() <= MAX_LENGTH && header.chars().allMatch(UmsRequestIdFilter::isSafe))
+            return header;
+        return UUID.randomUUID().toString();
+    }
+
+
+    private static boolean isSafe(int c) {
+        return c < 128 && Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.';
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.alex.universitymanagementsystem.component.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Gauges describing the last execution of each scheduled job:
+ * {@code ums.job.last.run} (epoch seconds), {@code ums.job.duration}
+ * (seconds) and {@code ums.job.rows.affected}, all tagged by job name.
+ */
+@Component
+public class UmsJobMetrics {
+
+    // instance variables
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobState> states = new ConcurrentHashMap<>();
+
+    // constructor
+    public UmsJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * Records a completed job run.
+     * @param job the job name
+     * @param startNanos the value of {@link System#nanoTime()} taken when the job started
+     * @param rowsAffected the number of rows the job touched
+     */
+    public void recordRun(String job, long startNanos, long rowsAffected) {
+        JobState state = states.computeIfAbsent(job, this::register);
+        state.lastRunEpochSecond.set(System.currentTimeMillis() / 1000);
+        state.durationNanos.set(System.nanoTime() - startNanos);
+        state.rowsAffected.set(rowsAffected);
+    }
+
+
+    // helpers
+    private JobState register(String job) {
+        JobState state = new JobState();
+
+        Gauge.builder("ums.job.last.run", state.lastRunEpochSecond, AtomicLong::get)
+            .description("Epoch second of the last completed run")
+            .tag("job", job)
+            .register(meterRegistry);
+
+        Gauge.builder("ums.job.duration", state.durationNanos, nanos -> nanos.get() / 1e9)
+            .description("Duration of the last completed run")
+            .baseUnit("seconds")
+            .tag("job", job)
+            .register(meterRegistry);
+
+        Gauge.builder("ums.job.rows.affected", state.rowsAffected, AtomicLong::get)
+            .description("Rows affected by the last completed run")
+            .tag("job", job)
+            .register(meterRegistry);
+
+        return state;
+    }
+
+
+    private static final class JobState {
+        private final AtomicLong lastRunEpochSecond = new AtomicLong();
+        private final AtomicLong durationNanos = new AtomicLong();
+        private final AtomicLong rowsAffected = new AtomicLong();
+    }
+
+}
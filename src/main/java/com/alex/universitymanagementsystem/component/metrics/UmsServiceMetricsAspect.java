@@ -0,0 +1,71 @@
+package com.alex.universitymanagementsystem.component.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public method of the service implementations.
+ * Each invocation is recorded on the {@code ums.service} timer tagged by
+ * service, method and exception type ("none" when the call succeeds);
+ * failures are also counted on {@code ums.service.errors}.
+ */
+@Aspect
+@Component
+public class UmsServiceMetricsAspect {
+
+    // constants
+    private static final String TIMER_NAME = "ums.service";
+    private static final String ERROR_COUNTER_NAME = "ums.service.errors";
+    private static final String NO_EXCEPTION = "none";
+
+    // instance variables
+    private final MeterRegistry meterRegistry;
+
+    // constructor
+    public UmsServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * Records latency and outcome of a service call.
+     * @param joinPoint the intercepted invocation
+     * @return the value returned by the service method
+     * @throws Throwable whatever the service method throws, unchanged
+     */
+    @Around("execution(public * com.alex.universitymanagementsystem.service.impl..*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            Counter.builder(ERROR_COUNTER_NAME)
+                .description("Failed service invocations")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("exception", exception)
+                .register(meterRegistry)
+                .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                .description("Service method latency")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.alex.universitymanagementsystem.component.seed;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.alex.universitymanagementsystem.dto.RegistrationForm;
+import com.alex.universitymanagementsystem.enum_type.CourseType;
+import com.alex.universitymanagementsystem.enum_type.DegreeType;
+import com.alex.universitymanagementsystem.enum_type.MiurAcronymType;
+import com.alex.universitymanagementsystem.enum_type.RoleType;
+
+/**
+ * Declarative seed data, read from JSON. Entities refer to each other by
+ * natural key: degree course name, professor unique code, course name
+ * within its degree course, student register.
+ */
+public record SeedDataset(
+    List<UserSeed> admins,
+    List<ProfessorSeed> professors,
+    List<DegreeCourseSeed> degreeCourses,
+    List<StudentSeed> students
+) {
+
+    public SeedDataset {
+        admins = admins == null ? List.of() : admins;
+        professors = professors == null ? List.of() : professors;
+        degreeCourses = degreeCourses == null ? List.of() : degreeCourses;
+        students = students == null ? List.of() : students;
+    }
+
+
+    public record UserSeed(
+        String username,
+        String password,
+        String firstName,
+        String lastName,
+        LocalDate dob,
+        String fiscalCode,
+        String street,
+        String city,
+        String state,
+        String zip,
+        String phone
+    ) {
+        public RegistrationForm toForm(RoleType role) {
+            RegistrationForm form = new RegistrationForm();
+            form.setUsername(username);
+            form.setPassword(password);
+            form.setFirstName(firstName);
+            form.setLastName(lastName);
+            form.setDob(dob);
+            form.setFiscalCode(fiscalCode);
+            form.setStreet(street);
+            form.setCity(city);
+            form.setState(state);
+            form.setZip(zip);
+            form.setPhone(phone);
+            form.setRole(role);
+            return form;
+        }
+    }
+
+    public record ProfessorSeed(String uniqueCode, UserSeed user) {}
+
+    public record DegreeCourseSeed(String name, DegreeType graduationClass, int duration, List<CourseSeed> courses) {
+        public DegreeCourseSeed {
+            courses = courses == null ? List.of() : courses;
+        }
+    }
+
+    public record CourseSeed(
+        MiurAcronymType acronym,
+        String name,
+        CourseType type,
+        int cfu,
+        String professor,
+        List<AppealSeed> appeals
+    ) {
+        public CourseSeed {
+            appeals = appeals == null ? List.of() : appeals;
+        }
+    }
+
+    public record AppealSeed(String description, LocalDate date, List<String> registers) {
+        public AppealSeed {
+            registers = registers == null ? List.of() : registers;
+        }
+    }
+
+    /**
+     * @param studyPlan the study plan ordering, the student has no study plan when null
+     */
+    public record StudentSeed(
+        String register,
+        String degreeCourse,
+        String studyPlan,
+        UserSeed user,
+        List<ExaminationSeed> examinations
+    ) {
+        public StudentSeed {
+            examinations = examinations == null ? List.of() : examinations;
+        }
+    }
+
+    /**
+     * @param course the course name, within the degree course of the student
+     */
+    public record ExaminationSeed(String course, int grade, boolean withHonors, LocalDate date) {}
+
+}
@@ -0,0 +1,218 @@
+package com.alex.universitymanagementsystem.component.seed;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.kpi.UmsAdminKpis;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.AppealSeed;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.CourseSeed;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.DegreeCourseSeed;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.ExaminationSeed;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.ProfessorSeed;
+import com.alex.universitymanagementsystem.component.seed.SeedDataset.StudentSeed;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.DegreeCourse;
+import com.alex.universitymanagementsystem.entity.Examination;
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.entity.Professor;
+import com.alex.universitymanagementsystem.entity.SeedChecksum;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.entity.StudyPlan;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
+import com.alex.universitymanagementsystem.enum_type.RoleType;
+import com.alex.universitymanagementsystem.repository.SeedChecksumRepository;
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Loads a declarative {@link SeedDataset} into the database.
+ * <p>
+ * Cross references are resolved against in-memory maps instead of
+ * repository lookups and every entity is persisted (not merged) in a
+ * single transaction, so the inserts can be batched by Hibernate.
+ * The SHA-256 of the dataset is stored once it has been applied: loading
+ * the same dataset again against the same database is a no-op, while a
+ * dataset that changed since it was applied is refused, since its rows
+ * would collide with the ones already stored.
+ */
+@Component
+public class UmsSeedLoader {
+
+    // constants
+    private static final String DEGREE_COURSE_NOT_FOUND_ERROR = "Degree course not found: ";
+    private static final String COURSE_NOT_FOUND_ERROR = "Course not found: ";
+    private static final String PROFESSOR_NOT_FOUND_ERROR = "Professor not found: ";
+    private static final String STUDENT_NOT_FOUND_ERROR = "Student not found: ";
+    private static final String DATASET_CHANGED_ERROR =
+        "Seed dataset %s changed since it was applied on %s: reset the database to load it again";
+
+    private static final Logger logger = LoggerFactory.getLogger(UmsSeedLoader.class);
+
+    // instance variables
+    private final EntityManager entityManager;
+    private final SeedChecksumRepository seedChecksumRepository;
+    private final StudentTranscriptRepository studentTranscriptRepository;
+    private final UmsAdminKpis adminKpis;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // constructor
+    public UmsSeedLoader(
+        EntityManager entityManager,
+        SeedChecksumRepository seedChecksumRepository,
+        StudentTranscriptRepository studentTranscriptRepository,
+        UmsAdminKpis adminKpis,
+        PasswordEncoder passwordEncoder,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.entityManager = entityManager;
+        this.seedChecksumRepository = seedChecksumRepository;
+        this.studentTranscriptRepository = studentTranscriptRepository;
+        this.adminKpis = adminKpis;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+
+    /**
+     * Loads the dataset unless it has already been applied.
+     * @param resource the JSON dataset
+     * @return true if the dataset was loaded, false if it was skipped
+     * @throws IOException if the resource cannot be read
+     * @throws NoSuchElementException if the dataset refers to a missing entity
+     * @throws IllegalStateException if a different version of the dataset was already applied
+     */
+    public boolean load(Resource resource) throws IOException {
+        long start = System.nanoTime();
+        String dataset = resource.getFilename();
+        byte[] content;
+        try (InputStream in = resource.getInputStream()) {
+            content = in.readAllBytes();
+        }
+        String checksum = sha256(content);
+
+        Optional<SeedChecksum> applied = seedChecksumRepository.findById(dataset);
+        if (applied.isPresent()) {
+            if (!applied.get().getChecksum().equals(checksum))
+                throw new IllegalStateException(
+                    DATASET_CHANGED_ERROR.formatted(dataset, applied.get().getAppliedAt()));
+            logger.info("Seed dataset {} already applied, skipping", dataset);
+            return false;
+        }
+
+        SeedDataset seed = objectMapper.readValue(content, SeedDataset.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            persist(seed);
+            // the examinations are persisted directly, not through the examination service
+            studentTranscriptRepository.deleteAfter("");
+            studentTranscriptRepository.insertAfter("");
+            adminKpis.reconcile();
+            seedChecksumRepository.save(new SeedChecksum(dataset, checksum));
+        });
+
+        logger.info("Seed dataset {} loaded in {} ms", dataset, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+
+    // helpers
+    private void persist(SeedDataset seed) {
+        seed.admins().forEach(admin ->
+            entityManager.persist(admin.toForm(RoleType.ADMIN).toUser(passwordEncoder)));
+
+        Map<String, Professor> professors = new HashMap<>();
+        for (ProfessorSeed p : seed.professors()) {
+            Professor professor = new Professor(
+                p.user().toForm(RoleType.PROFESSOR), passwordEncoder, new UniqueCode(p.uniqueCode()));
+            entityManager.persist(professor);
+            professors.put(p.uniqueCode(), professor);
+        }
+
+        Map<String, DegreeCourse> degreeCourses = new HashMap<>();
+        Map<String, Map<String, Course>> courses = new HashMap<>();
+        for (DegreeCourseSeed d : seed.degreeCourses()) {
+            DegreeCourse degreeCourse = new DegreeCourse(d.name(), d.graduationClass(), d.duration());
+            entityManager.persist(degreeCourse);
+            degreeCourses.put(d.name(), degreeCourse);
+
+            Map<String, Course> byName = courses.computeIfAbsent(d.name(), name -> new HashMap<>());
+            for (CourseSeed c : d.courses()) {
+                Professor professor = require(professors, c.professor(), PROFESSOR_NOT_FOUND_ERROR);
+                Course course = new Course(c.acronym(), c.name(), c.type(), c.cfu(), professor, degreeCourse);
+                degreeCourse.addCourse(course);
+                entityManager.persist(course);
+                byName.put(c.name(), course);
+            }
+        }
+
+        Map<String, Student> students = new HashMap<>();
+        for (StudentSeed s : seed.students()) {
+            DegreeCourse degreeCourse = require(degreeCourses, s.degreeCourse(), DEGREE_COURSE_NOT_FOUND_ERROR);
+            Student student = new Student(
+                s.user().toForm(RoleType.STUDENT), passwordEncoder, new Register(s.register()), degreeCourse);
+            entityManager.persist(student);
+            students.put(s.register(), student);
+
+            if (s.studyPlan() != null)
+                entityManager.persist(
+                    new StudyPlan(student, s.studyPlan(), new HashSet<>(degreeCourse.getCourses())));
+
+            Map<String, Course> byName = courses.get(s.degreeCourse());
+            for (ExaminationSeed e : s.examinations())
+                entityManager.persist(new Examination(
+                    require(byName, e.course(), COURSE_NOT_FOUND_ERROR),
+                    student, e.grade(), e.withHonors(), e.date()));
+        }
+
+        // appeals last, they may be booked by any student
+        for (DegreeCourseSeed d : seed.degreeCourses()) {
+            for (CourseSeed c : d.courses()) {
+                Course course = courses.get(d.name()).get(c.name());
+                for (AppealSeed a : c.appeals()) {
+                    ExaminationAppeal appeal = ExaminationAppeal.of(course, a.description(), a.date());
+                    a.registers().forEach(register ->
+                        appeal.addRegister(require(students, register, STUDENT_NOT_FOUND_ERROR).getRegister()));
+                    entityManager.persist(appeal);
+                }
+            }
+        }
+    }
+
+    private static <T> T require(Map<String, T> entities, String key, String error) {
+        T entity = entities.get(key);
+        if (entity == null)
+            throw new NoSuchElementException(error + key);
+        return entity;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+}
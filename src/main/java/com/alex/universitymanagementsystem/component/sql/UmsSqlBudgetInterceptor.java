@@ -0,0 +1,78 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Counts the SQL statements issued while serving each request and logs the
+ * requests whose handler exceeds its {@link SqlBudget}.
+ * Enabled with {@code ums.sql-budget.enabled=true} (staging and tests).
+ */
+@Component
+@ConditionalOnProperty(name = "ums.sql-budget.enabled", havingValue = "true")
+public class UmsSqlBudgetInterceptor implements HandlerInterceptor {
+
+    // constants
+    public static final String STATEMENT_COUNT_ATTRIBUTE = UmsSqlBudgetInterceptor.class.getName() + ".statementCount";
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsSqlBudgetInterceptor.class);
+
+    // instance variables
+    private final UmsSqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    // constructor
+    public UmsSqlBudgetInterceptor(UmsSqlStatementCounter statementCounter, MeterRegistry meterRegistry) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    @Override
+    public boolean preHandle(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler
+    ) {
+        statementCounter.start();
+        return true;
+    }
+
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler,
+        @Nullable Exception ex
+    ) {
+        int statements = statementCounter.stop();
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, statements);
+
+        if (!(handler instanceof HandlerMethod handlerMethod))
+            return;
+
+        SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        if (budget == null || statements <= budget.value())
+            return;
+
+        String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        logger.warn("SQL budget exceeded: {} {} ({}) issued {} statements, budget {}",
+            request.getMethod(), request.getRequestURI(), endpoint, statements, budget.value());
+        meterRegistry.counter("ums.sql.budget.exceeded", "endpoint", endpoint).increment();
+    }
+
+}
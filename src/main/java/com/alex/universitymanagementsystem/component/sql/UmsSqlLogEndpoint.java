@@ -0,0 +1,49 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/sqllog}) reading and changing the
+ * {@link UmsSqlLogSettings} at runtime, e.g.
+ * {@code POST {"slowThresholdMillis": 50, "sampleRate": 0.01}}.
+ * Only the given values are changed.
+ */
+@Endpoint(id = "sqllog")
+public class UmsSqlLogEndpoint {
+
+    // instance variables
+    private final UmsSqlLogSettings settings;
+
+    // constructor
+    public UmsSqlLogEndpoint(UmsSqlLogSettings settings) {
+        this.settings = settings;
+    }
+
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        return settings.toMap();
+    }
+
+
+    @WriteOperation
+    public Map<String, Object> update(
+        @Nullable Boolean enabled,
+        @Nullable Long slowThresholdMillis,
+        @Nullable Double sampleRate
+    ) {
+        if (slowThresholdMillis != null)
+            settings.setSlowThresholdMillis(slowThresholdMillis);
+        if (sampleRate != null)
+            settings.setSampleRate(sampleRate);
+        if (enabled != null)
+            settings.setEnabled(enabled);
+        return settings.toMap();
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime settings of the SQL statement log, changed through the
+ * {@code sqllog} actuator endpoint without a restart.
+ * <ul>
+ *     <li>statements slower than {@code slowThresholdMillis} are always logged (WARN)</li>
+ *     <li>the other statements are logged (INFO) with probability {@code sampleRate}</li>
+ * </ul>
+ * @see UmsSqlLoggingDataSource
+ */
+public class UmsSqlLogSettings {
+
+    // instance variables
+    private volatile boolean enabled;
+    private volatile long slowThresholdMillis;
+    private volatile double sampleRate;
+
+    // constructor
+    public UmsSqlLogSettings(boolean enabled, long slowThresholdMillis, double sampleRate) {
+        setEnabled(enabled);
+        setSlowThresholdMillis(slowThresholdMillis);
+        setSampleRate(sampleRate);
+    }
+
+
+    // getters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+
+    // setters
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        if (slowThresholdMillis < 0)
+            throw new IllegalArgumentException("slowThresholdMillis must not be negative");
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1)
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1");
+        this.sampleRate = sampleRate;
+    }
+
+
+    /**
+     * @return the current settings, as exposed by the actuator endpoint
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", enabled);
+        map.put("slowThresholdMillis", slowThresholdMillis);
+        map.put("sampleRate", sampleRate);
+        return map;
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source timing the execution of every JDBC statement and logging
+ * the slow ones, plus a random sample of the others, according to the
+ * {@link UmsSqlLogSettings}. Unlike {@code show-sql} and the Hibernate
+ * SQL loggers the cost is a clock read per statement, and only the
+ * statements worth looking at are written.
+ * <p>
+ * Connections borrowed while the log is disabled are not wrapped.
+ * Closing this data source closes the pool it wraps.
+ */
+public class UmsSqlLoggingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsSqlLoggingDataSource.class);
+
+    // instance variables
+    private final UmsSqlLogSettings settings;
+
+    // constructor
+    public UmsSqlLoggingDataSource(DataSource targetDataSource, UmsSqlLogSettings settings) {
+        super(targetDataSource);
+        this.settings = settings;
+    }
+
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable)
+            closeable.close();
+    }
+
+
+    // helpers
+    private Connection wrap(Connection connection) {
+        if (!settings.isEnabled())
+            return connection;
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepared statements carry their SQL, plain statements receive it on execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql, method.getReturnType());
+            }
+            return result;
+        });
+    }
+
+
+    private Statement wrap(Statement statement, String preparedSql, Class<?> type) {
+        Class<? extends Statement> statementType =
+            CallableStatement.class.isAssignableFrom(type) ? CallableStatement.class
+            : PreparedStatement.class.isAssignableFrom(type) ? PreparedStatement.class
+            : Statement.class;
+        return proxy(statementType, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute"))
+                return invoke(statement, method, args);
+
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                log(sql, method.getName(), System.nanoTime() - start);
+            }
+        });
+    }
+
+
+    private void log(String sql, String execution, long elapsedNanos) {
+        if (!settings.isEnabled())
+            return;
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (millis >= settings.getSlowThresholdMillis())
+            logger.warn("Slow SQL ({} ms, {}): {}", millis, execution, sql);
+        else if (settings.getSampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.getSampleRate())
+            logger.info("Sampled SQL ({} ms, {}): {}", millis, execution, sql);
+    }
+
+
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+            UmsSqlLoggingDataSource.class.getClassLoader(),
+            new Class<?>[] { type },
+            (proxy, method, args) -> switch (method.getName()) {
+                // identity semantics, the pools and Spring compare connection handles
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Logging proxy for " + target;
+                default -> handler.invoke(proxy, method, args);
+            }
+        ));
+    }
+
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+}
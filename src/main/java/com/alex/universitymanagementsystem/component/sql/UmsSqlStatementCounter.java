@@ -0,0 +1,99 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate statement inspector counting the SQL statements prepared by
+ * the current thread between {@link #start()} and {@link #stop()}, plus
+ * the ones of the tasks it forks through {@link #propagate(Runnable)}.
+ * Statements are passed through unchanged.
+ */
+@Component
+public class UmsSqlStatementCounter implements StatementInspector {
+
+    // thread bound statements, null when counting is not active
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+
+    /**
+     * Starts counting the statements issued by the current thread.
+     */
+    public void start() {
+        STATEMENTS.set(Collections.synchronizedList(new ArrayList<>()));
+    }
+
+
+    /**
+     * Counts the statements of a task run on another thread together with
+     * the ones of the current thread.
+     * @param task the task
+     * @return the task, counting its statements if the current thread is counting
+     */
+    public Runnable propagate(Runnable task) {
+        List<String> statements = STATEMENTS.get();
+        if (statements == null)
+            return task;
+        return () -> {
+            STATEMENTS.set(statements);
+            try {
+                task.run();
+            } finally {
+                STATEMENTS.remove();
+            }
+        };
+    }
+
+
+    /**
+     * @return true if the current thread is counting statements
+     */
+    public boolean isActive() {
+        return STATEMENTS.get() != null;
+    }
+
+
+    /**
+     * Returns the statements counted so far, without stopping.
+     * @return the number of statements issued since {@link #start()}
+     */
+    public int count() {
+        List<String> statements = STATEMENTS.get();
+        return statements != null ? statements.size() : 0;
+    }
+
+
+    /**
+     * Stops counting for the current thread.
+     * @return the number of statements issued since {@link #start()}
+     */
+    public int stop() {
+        return collect().size();
+    }
+
+
+    /**
+     * Stops counting for the current thread.
+     * @return the statements issued since {@link #start()}, in order
+     */
+    public List<String> collect() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        // copied: a forked task may still be running
+        return statements != null ? List.copyOf(statements) : List.of();
+    }
+
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null)
+            statements.add(sql);
+        return sql;
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.alex.universitymanagementsystem.component.sql;
+
+import org.hibernate.LazyInitializationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.boot.web.servlet.error.ErrorAttributes;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Flags the requests whose view triggers lazy loading while it is rendered.
+ * <p>
+ * With open-in-view enabled a lazy association touched by a template is
+ * loaded with an extra SQL statement, holding the connection while the
+ * HTML is written; with open-in-view disabled the same access fails with
+ * a {@link LazyInitializationException}. Both cases are logged and counted
+ * on the {@code ums.view.lazy.loads} meter, tagged with the handler.
+ * Enabled with {@code ums.view-lazy-load-detector.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "ums.view-lazy-load-detector.enabled", havingValue = "true")
+public class UmsViewRenderingSqlDetector implements HandlerInterceptor {
+
+    // constants
+    public static final String RENDERING_STATEMENT_COUNT_ATTRIBUTE =
+        UmsViewRenderingSqlDetector.class.getName() + ".renderingStatementCount";
+    public static final String LAZY_INITIALIZATION_FAILURE_ATTRIBUTE =
+        UmsViewRenderingSqlDetector.class.getName() + ".lazyInitializationFailure";
+    private static final String RENDERING_START_ATTRIBUTE =
+        UmsViewRenderingSqlDetector.class.getName() + ".renderingStart";
+    private static final String COUNTER_OWNER_ATTRIBUTE =
+        UmsViewRenderingSqlDetector.class.getName() + ".counterOwner";
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsViewRenderingSqlDetector.class);
+
+    // instance variables
+    private final UmsSqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final ErrorAttributes errorAttributes;
+
+    // constructor
+    public UmsViewRenderingSqlDetector(
+        UmsSqlStatementCounter statementCounter,
+        MeterRegistry meterRegistry,
+        ErrorAttributes errorAttributes
+    ) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.errorAttributes = errorAttributes;
+    }
+
+
+    @Override
+    public boolean preHandle(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler
+    ) {
+        // shares the counter with the SQL budget interceptor when both are enabled
+        if (!statementCounter.isActive()) {
+            statementCounter.start();
+            request.setAttribute(COUNTER_OWNER_ATTRIBUTE, Boolean.TRUE);
+        }
+        return true;
+    }
+
+
+    @Override
+    public void postHandle(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler,
+        @Nullable ModelAndView modelAndView
+    ) {
+        if (modelAndView != null && modelAndView.hasView())
+            request.setAttribute(RENDERING_START_ATTRIBUTE, statementCounter.count());
+    }
+
+
+    @Override
+    public void afterCompletion(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull Object handler,
+        @Nullable Exception ex
+    ) {
+        int rendered = request.getAttribute(RENDERING_START_ATTRIBUTE) instanceof Integer start
+            ? statementCounter.count() - start
+            : 0;
+        if (request.getAttribute(COUNTER_OWNER_ATTRIBUTE) != null)
+            statementCounter.stop();
+        request.setAttribute(RENDERING_STATEMENT_COUNT_ATTRIBUTE, rendered);
+
+        // exceptions turned into an error view by a resolver are only recorded by the error attributes
+        Throwable error = ex != null ? ex : errorAttributes.getError(new ServletWebRequest(request));
+        boolean lazyFailure = causedByLazyInitialization(error);
+        request.setAttribute(LAZY_INITIALIZATION_FAILURE_ATTRIBUTE, lazyFailure);
+        if (rendered == 0 && !lazyFailure)
+            return;
+
+        String endpoint = handler instanceof HandlerMethod handlerMethod
+            ? handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName()
+            : handler.getClass().getSimpleName();
+        if (lazyFailure)
+            logger.warn("Lazy initialization outside a transaction: {} {} ({})",
+                request.getMethod(), request.getRequestURI(), endpoint);
+        else
+            logger.warn("View rendering issued SQL: {} {} ({}) issued {} statements while rendering",
+                request.getMethod(), request.getRequestURI(), endpoint, rendered);
+        meterRegistry.counter("ums.view.lazy.loads", "endpoint", endpoint).increment();
+    }
+
+
+    // helpers
+    private static boolean causedByLazyInitialization(@Nullable Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause())
+            if (cause instanceof LazyInitializationException)
+                return true;
+        return false;
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.alex.universitymanagementsystem.component.thread;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint ({@code /actuator/pinning}) listing the sites where
+ * virtual threads were pinned since startup, as seen by the
+ * {@link UmsPinningMonitor}.
+ */
+@Endpoint(id = "pinning")
+public class UmsPinningEndpoint {
+
+    // instance variables
+    private final UmsPinningMonitor monitor;
+
+    // constructor
+    public UmsPinningEndpoint(UmsPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+
+    @ReadOperation
+    public List<Map<String, Object>> sites() {
+        return monitor.report();
+    }
+
+}
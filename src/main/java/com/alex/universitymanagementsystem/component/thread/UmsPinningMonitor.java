@@ -0,0 +1,152 @@
+package com.alex.universitymanagementsystem.component.thread;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports the virtual threads pinned to their carrier thread, i.e. blocked
+ * inside a {@code synchronized} block or a native frame, where they hold a
+ * platform thread the same as a pooled request thread would.
+ * <p>
+ * The {@code jdk.VirtualThreadPinned} JFR events longer than the threshold
+ * are streamed in process and grouped by site: the first frame outside the
+ * JDK, usually the JDBC driver, the mail client or our own code. Each site
+ * is logged with its stack trace the first time it is seen, and recorded on
+ * the {@code ums.virtual.thread.pinned} timer tagged by site.
+ */
+public class UmsPinningMonitor implements SmartLifecycle {
+
+    // constants
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 25;
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsPinningMonitor.class);
+
+    // instance variables
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    // constructor
+    public UmsPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+    }
+
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null)
+            recording.close();
+    }
+
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+
+    /**
+     * @return the pinning sites, the most frequent first
+     */
+    public List<Map<String, Object>> report() {
+        return sites.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, PinnedSite> e) -> e.getValue().count.get()).reversed())
+            .map(e -> e.getValue().toMap(e.getKey()))
+            .toList();
+    }
+
+
+    // helpers
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = site(frames);
+        Duration duration = event.getDuration();
+
+        PinnedSite pinned = sites.computeIfAbsent(site, key -> {
+            logger.warn("Virtual thread pinned for {} ms at {}:{}{}",
+                duration.toMillis(), key, System.lineSeparator(), format(frames));
+            return new PinnedSite(Timer.builder("ums.virtual.thread.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("site", key)
+                .register(meterRegistry));
+        });
+        pinned.count.incrementAndGet();
+        pinned.maxNanos.accumulateAndGet(duration.toNanos(), Math::max);
+        pinned.timer.record(duration);
+    }
+
+
+    private static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+            .filter(method -> !method.startsWith("java.") && !method.startsWith("jdk.") && !method.startsWith("sun."))
+            .findFirst()
+            .orElse(frames.isEmpty() ? "unknown" : frames.getFirst().getMethod().getType().getName());
+    }
+
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+            .limit(LOGGED_FRAMES)
+            .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")")
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+
+    private static final class PinnedSite {
+
+        private final Timer timer;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private PinnedSite(Timer timer) {
+            this.timer = timer;
+        }
+
+        private Map<String, Object> toMap(String site) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("site", site);
+            map.put("count", count.get());
+            map.put("maxMillis", maxNanos.get() / 1_000_000);
+            map.put("totalMillis", (long) timer.totalTime(TimeUnit.MILLISECONDS));
+            return map;
+        }
+    }
+
+}
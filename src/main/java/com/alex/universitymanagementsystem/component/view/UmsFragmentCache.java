@@ -0,0 +1,112 @@
+package com.alex.universitymanagementsystem.component.view;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogVersion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rendered HTML of the catalog fragments (course, degree course and
+ * professor tables), kept in memory until the catalog changes.
+ * <p>
+ * An entry is keyed by fragment, role and locale and is valid for the
+ * {@link UmsCatalogVersion} it was rendered with: on a hit neither the
+ * database nor the template engine are used. The fragments are rendered
+ * outside the web context, so they must not contain links or security
+ * expressions. Hits and misses are counted on {@code ums.fragment.cache}.
+ */
+@Component
+public class UmsFragmentCache {
+
+    // instance variables
+    private final ITemplateEngine templateEngine;
+    private final UmsCatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    // constructor
+    public UmsFragmentCache(
+        ITemplateEngine templateEngine,
+        UmsCatalogVersion catalogVersion,
+        MeterRegistry meterRegistry,
+        @Value("${ums.fragment-cache.enabled:false}") boolean enabled,
+        @Value("${ums.fragment-cache.max-entries:500}") int maxEntries
+    ) {
+        this.templateEngine = templateEngine;
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.hits = meterRegistry.counter("ums.fragment.cache", "result", "hit");
+        this.misses = meterRegistry.counter("ums.fragment.cache", "result", "miss");
+    }
+
+
+    /**
+     * Returns the HTML of a fragment, rendering it only if the catalog
+     * changed since it was last rendered for the same role.
+     * @param template the template holding the fragment, e.g. "fragments/catalog"
+     * @param fragment the fragment name
+     * @param variables the fragment variables, read only on a miss
+     * @return the rendered HTML, to be written with th:utext
+     */
+    public String render(String template, String fragment, Supplier<Map<String, Object>> variables) {
+        if (!enabled)
+            return process(template, fragment, variables.get());
+
+        // read before rendering: a change committed meanwhile makes the entry stale
+        long version = catalogVersion.current();
+        String key = template + "::" + fragment + "|" + role() + "|" + LocaleContextHolder.getLocale().toLanguageTag();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+            return entry.html();
+        }
+
+        misses.increment();
+        String html = process(template, fragment, variables.get());
+        if (entries.size() >= maxEntries)
+            entries.clear();
+        entries.put(key, new Entry(version, html));
+        return html;
+    }
+
+
+    // helpers
+    private String process(String template, String fragment, Map<String, Object> variables) {
+        return templateEngine.process(template, Set.of(fragment), new Context(LocaleContextHolder.getLocale(), variables));
+    }
+
+
+    private static String role() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated())
+            return "anonymous";
+        return authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .filter(authority -> authority.startsWith("ROLE_"))
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+
+
+    private record Entry(long version, String html) {}
+
+}
@@ -0,0 +1,27 @@
+package com.alex.universitymanagementsystem.component.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.stereotype.Controller;
+
+/**
+ * Echoes the pings of the STOMP fan-out load test to every subscriber of
+ * {@code /topic/load-test}. Only registered with
+ * {@code ums.websocket.load-test.enabled=true}, never in prod.
+ */
+@Controller
+@ConditionalOnProperty(name = "ums.websocket.load-test.enabled", havingValue = "true")
+public class UmsLoadTestBroadcaster {
+
+    /**
+     * @param payload the ping, opaque to the server
+     * @return the same payload, broadcast
+     */
+    @MessageMapping("/load-test/ping")
+    @SendTo("/topic/load-test")
+    public String ping(String payload) {
+        return payload;
+    }
+
+}
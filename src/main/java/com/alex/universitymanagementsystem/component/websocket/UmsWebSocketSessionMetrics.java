@@ -0,0 +1,63 @@
+package com.alex.universitymanagementsystem.component.websocket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Open WebSocket sessions ({@code ums.websocket.sessions}) and the ones
+ * closed for exceeding the send time or buffer limit
+ * ({@code ums.websocket.evicted}), i.e. the slow consumers dropped so
+ * that they do not hold the outbound channel threads.
+ */
+@Component
+public class UmsWebSocketSessionMetrics implements WebSocketHandlerDecoratorFactory {
+
+    // instance variables
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter evicted;
+
+    // constructor
+    public UmsWebSocketSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("ums.websocket.sessions", open, AtomicInteger::get)
+            .description("Open WebSocket sessions, native and SockJS")
+            .register(meterRegistry);
+        this.evicted = Counter.builder("ums.websocket.evicted")
+            .description("Sessions closed for exceeding the send time or buffer limit")
+            .register(meterRegistry);
+    }
+
+
+    @Override
+    @NonNull
+    public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+                open.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) throws Exception {
+                open.decrementAndGet();
+                // the status of ConcurrentWebSocketSessionDecorator when a limit is exceeded
+                if (status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE))
+                    evicted.increment();
+                super.afterConnectionClosed(session, status);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.alex.universitymanagementsystem.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.alex.universitymanagementsystem.component.cluster.UmsClusterProperties;
+import com.alex.universitymanagementsystem.component.cluster.UmsDatabaseClusterTransport;
+import com.alex.universitymanagementsystem.component.cluster.UmsLoopbackClusterTransport;
+import com.alex.universitymanagementsystem.repository.ClusterMessageRepository;
+
+/**
+ * Messaging between the nodes of the application. The transport is chosen
+ * by {@code ums.cluster.transport}: {@code loopback} for a single node,
+ * {@code database} when several nodes run behind a load balancer.
+ */
+@Configuration
+public class UmsClusterConfig {
+
+    /**
+     * Cluster settings; the node id defaults to the one of the job runner, then to pid@hostname.
+     * @return UmsClusterProperties
+     */
+    @Bean
+    UmsClusterProperties clusterProperties(
+        @Value("${ums.cluster.node-id:${ums.jobs.node-id:}}") String nodeId,
+        @Value("${ums.cluster.poll-interval:250ms}") Duration pollInterval,
+        @Value("${ums.cluster.rescan-window:10s}") Duration rescanWindow,
+        @Value("${ums.cluster.retention:10m}") Duration retention,
+        @Value("${ums.cluster.batch-size:500}") int batchSize,
+        @Value("${ums.cluster.registry-ttl:90s}") Duration registryTtl
+    ) {
+        String node = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        return new UmsClusterProperties(node, pollInterval, rescanWindow, retention, batchSize, registryTtl);
+    }
+
+
+    /**
+     * Thread of the message polls and of the registry heartbeat.
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean
+    ThreadPoolTaskScheduler umsClusterScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ums-cluster-");
+        return scheduler;
+    }
+
+
+    /**
+     * @param properties the cluster settings
+     * @return the in-memory transport of a single node
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.cluster.transport", havingValue = "loopback", matchIfMissing = true)
+    UmsLoopbackClusterTransport loopbackClusterTransport(UmsClusterProperties properties) {
+        return new UmsLoopbackClusterTransport(properties.nodeId());
+    }
+
+
+    /**
+     * @param repository the message table
+     * @param transactionManager the transaction manager
+     * @param scheduler the cluster scheduler
+     * @param properties the cluster settings
+     * @return the transport through the database shared by the nodes
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.cluster.transport", havingValue = "database")
+    UmsDatabaseClusterTransport databaseClusterTransport(
+        ClusterMessageRepository repository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("umsClusterScheduler") TaskScheduler scheduler,
+        UmsClusterProperties properties
+    ) {
+        return new UmsDatabaseClusterTransport(repository, transactionManager, scheduler, properties);
+    }
+
+}
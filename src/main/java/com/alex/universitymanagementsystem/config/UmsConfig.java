@@ -169,6 +169,9 @@ public class UmsConfig {
 		"/static/js/ums-degree-courses.js",
 		"/static/js/ums-password-rules.js",
         "/static/images/**",
+        // js modules behind their version prefix (UmsMvcConfig), versioned favicon
+        "/static/*/js/**",
+        "/static/favicon*.ico",
 		"/favicon.ico",
 		"/exception/**",
         "/user_student/create/select-degree-course",
@@ -176,7 +179,16 @@ public class UmsConfig {
 		"/api/v1/user/create-student",
 		"/api/v1/user/create-professor",
 		"/api/v1/degree-course/read/degree-courses/ajax",
-        "/ws/**"
+        "/ws/**",
+        "/ws-native",
+        "/actuator/health"
+    };
+
+
+    // actuator endpoints: scraped by Prometheus and called by the admin
+    // scripts with the HTTP basic credentials of an admin, never a session
+    protected static final String[] METRICS_URLS = {
+        "/actuator/**"
     };
 
 
@@ -205,13 +217,28 @@ public class UmsConfig {
 		"/api/v1/degree-course/read/degree-courses",
 		"/api/v1/degree-course/read/professors",
 		"/api/v1/degree-course/read/students",
+		"/api/v1/degree-course/read/graduation",
+		"/api/v1/degree-course/read/ranking",
 
         // examination
 		"/api/v1/examination/read/examinations",
 		"/api/v1/examination/update/update",
 		"/api/v1/examination/delete/delete",
 		"/api/v1/examination/read/course/degree-course",
-		"/api/v1/examination/read/professor/unique-code"
+		"/api/v1/examination/read/professor/unique-code",
+		"/api/v1/examination/read/analytics",
+		"/api/v1/examination/read/analytics/ajax",
+
+        // examination appeal
+		"/api/v1/examination-appeal/read/calendar",
+
+        // scheduled jobs
+        "/api/v1/job/read/**",
+        "/api/v1/job/resume/**",
+
+        // dashboard
+        "/api/v1/dashboard/admin",
+        "/api/v1/dashboard/admin/ajax"
     };
 
 
@@ -232,7 +259,8 @@ public class UmsConfig {
 		"/api/v1/examination-outcome/read/outcome",
 		"/api/v1/examination-outcome/read/outcomes",
 		"/api/v1/examination-outcome/confirm-refusal",
-		"/api/v1/outcome-notifications"
+		"/api/v1/outcome-notifications",
+		"/api/v1/dashboard/student"
     };
 
 
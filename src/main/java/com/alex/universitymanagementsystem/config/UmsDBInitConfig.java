@@ -1,2166 +1,47 @@
 package com.alex.universitymanagementsystem.config;
 
-import java.io.Serializable;
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.io.Resource;
 
-import com.alex.universitymanagementsystem.dto.RegistrationForm;
-import com.alex.universitymanagementsystem.entity.Course;
-import com.alex.universitymanagementsystem.entity.DegreeCourse;
-import com.alex.universitymanagementsystem.entity.Examination;
-import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
-import com.alex.universitymanagementsystem.entity.Professor;
-import com.alex.universitymanagementsystem.entity.Student;
-import com.alex.universitymanagementsystem.entity.StudyPlan;
-import com.alex.universitymanagementsystem.entity.User;
-import com.alex.universitymanagementsystem.entity.immutable.Register;
-import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
-import com.alex.universitymanagementsystem.enum_type.CourseType;
-import com.alex.universitymanagementsystem.enum_type.DegreeType;
-import com.alex.universitymanagementsystem.enum_type.MiurAcronymType;
-import com.alex.universitymanagementsystem.enum_type.RoleType;
-import com.alex.universitymanagementsystem.repository.CourseRepository;
-import com.alex.universitymanagementsystem.repository.DegreeCourseRepository;
-import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
-import com.alex.universitymanagementsystem.repository.ExaminationRepository;
-import com.alex.universitymanagementsystem.repository.ProfessorRepository;
-import com.alex.universitymanagementsystem.repository.StudentRepository;
-import com.alex.universitymanagementsystem.repository.StudyPlanRepository;
-import com.alex.universitymanagementsystem.repository.UserRepository;
+import com.alex.universitymanagementsystem.component.seed.UmsSeedLoader;
 
 
 @Configuration
-public class UmsDBInitConfig implements Serializable {
+@ConditionalOnProperty(name = "ums.seed.enabled", havingValue = "true")
+public class UmsDBInitConfig {
 
     // constants
-    private static final String INGEGNERIA_GESTIONALE = "INGEGNERIA GESTIONALE";
-    private static final String INGEGNERIA_MECCANICA = "INGEGNERIA MECCANICA";
-    private static final String INGEGNERIA_ELETTRICA = "INGEGNERIA ELETTRICA";
-    private static final String INGEGNERIA_CIVILE = "INGEGNERIA CIVILE";
-    private static final String INGEGNERIA_INFORMATICA = "INGEGNERIA INFORMATICA";
-    private static final String INGEGNERIA_GESTIONALE_MAGISTRALE = "INGEGNERIA GESTIONALE MAGISTRALE";
-    private static final String INGEGNERIA_INFORMATICA_MAGISTRALE = "INGEGNERIA INFORMATICA MAGISTRALE";
-    private static final String INGEGNERIA_MECCANICA_MAGISTRALE = "INGEGNERIA MECCANICA MAGISTRALE";
-    private static final String INGEGNERIA_ELETTRICA_MAGISTRALE = "INGEGNERIA ELETTRICA MAGISTRALE";
-
-    private static final String UC_GIACINTO = "wer456er";
-    private static final String UC_GENESIO = "wer123er";
-    private static final String UC_GIACOMO = "wer321er";
-    private static final String UC_GIOELE = "wer111er";
-
-    private static final String DEGREE_COURSE_NOT_FOUND_ERROR = "Degree course not found";
-    private static final String COURSE_NOT_FOUND_ERROR = "Course not found";
-    private static final String PROFESSOR_NOT_FOUND_ERROR = "Professor not found";
-    private static final String STUDENT_NOT_FOUND_ERROR = "Student not found";
-
-    private final transient Logger logger =
-        LoggerFactory.getLogger(UmsDBInitConfig.class);
-
+    private static final String PROFILE_ERROR =
+        "The seed dataset is loaded only in the embedded and test profiles, not in %s";
+
+    /**
+     * Loads the base dataset (admins, professors, degree courses, courses,
+     * students, study plans, examinations and appeals) at startup.
+     * Refused outside the embedded and test profiles: the seeded accounts,
+     * an admin among them, have well known passwords and the schema is
+     * not dropped on shutdown.
+     * @param seedLoader the seed loader
+     * @param environment the environment
+     * @param location the JSON dataset
+     * @return CommandLineRunner
+     */
     @Bean
-    @SuppressWarnings("unused")
     CommandLineRunner commandLineRunner(
-        @Autowired
-        UserRepository userRepository,
-        @Autowired
-        PasswordEncoder passwordEncoder,
-        @Autowired
-        DegreeCourseRepository degreeCourseRepository,
-        @Autowired
-        StudyPlanRepository studyPlanRepository,
-        @Autowired
-        StudentRepository studentRepository,
-        @Autowired
-        CourseRepository courseRepository,
-        @Autowired
-        ProfessorRepository professorRepository,
-        @Autowired
-        ExaminationRepository examinationRepository,
-        @Autowired
-        ExaminationAppealRepository examinationAppealRepository
+        UmsSeedLoader seedLoader,
+        Environment environment,
+        @Value("${ums.seed.location:classpath:seed/ums-seed.json}") Resource location
     ) {
         return args -> {
-
-            // user initializer
-            initializeUsers(userRepository, passwordEncoder);
-
-            // degree course initializer
-            initializeDegreeCourse(degreeCourseRepository);
-
-            // student initializer
-            initializeStudents(studentRepository, degreeCourseRepository, passwordEncoder);
-
-            // professor initializer
-            initializeProfessors(professorRepository, passwordEncoder);
-
-            // course initializer
-            initializeCourses(courseRepository, professorRepository, degreeCourseRepository);
-
-            // study plan initializer
-            initializeStudyPlan(studyPlanRepository, degreeCourseRepository, studentRepository);
-
-            // examination initializer
-            initializeExaminations(studentRepository, courseRepository, examinationRepository);
-
-            // examination appeal initializer
-            initializeExaminationAppeals(examinationAppealRepository, courseRepository, studentRepository);
-
+            if (!environment.acceptsProfiles(Profiles.of("embedded | test")))
+                throw new IllegalStateException(PROFILE_ERROR.formatted(String.join(",", environment.getActiveProfiles())));
+            seedLoader.load(location);
         };
     }
 
-
-
-
-
-
-
-
-
-
-    // initialize user
-    private void initializeUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
-        logger.info("\n\n\n--- INITIALIZE ADMIN ---");
-
-        // create user  - 2 admin + 18 students + 9 professors
-        RegistrationForm form = new RegistrationForm();
-        form.setUsername("rico@gmail.com");
-        form.setPassword("rico");
-        form.setFirstName("brant");
-        form.setLastName("bjork");
-        form.setDob(LocalDate.of(1993, 1, 1));
-        form.setFiscalCode("abc678rde217we56");
-        form.setStreet("sky valley road");
-        form.setCity("Palm Desert");
-        form.setState("Rockalandia");
-        form.setZip("12398");
-        form.setPhone("7416328954");
-        form.setRole(RoleType.ADMIN);
-
-        RegistrationForm formTwo = new RegistrationForm();
-        formTwo.setUsername("fido@gmail.com");
-        formTwo.setPassword("fido");
-        formTwo.setFirstName("enrico");
-        formTwo.setLastName("ruggieri");
-        formTwo.setDob(LocalDate.of(1993, 4, 1));
-        formTwo.setFiscalCode("abc678rde217we47");
-        formTwo.setStreet("calvario street");
-        formTwo.setCity("  Oslo");
-        formTwo.setState("Norway");
-        formTwo.setZip("89632");
-        formTwo.setPhone("1234567894");
-        formTwo.setRole(RoleType.ADMIN);
-
-        // create users
-        List<User> users = List.of(
-            form.toUser(passwordEncoder),
-            formTwo.toUser(passwordEncoder)
-        );
-
-        // save user
-        users.forEach(user -> {
-            try {
-                userRepository.saveAndFlush(user);
-            } catch (Exception e) {
-                logger.error("Error: {}", e.getMessage());
-            }
-        });
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // INITIALIZE DEGREE COURSE
-    private void initializeDegreeCourse(DegreeCourseRepository degreeCourseRepository) {
-        logger.info("\n\n\n--- INITIALIZE DEGREE COURSES ---");
-        // degree courses list
-        List<DegreeCourse> degreeCourses = new ArrayList<>();
-
-        // create DegreeCourse
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_GESTIONALE,
-                DegreeType.BACHELOR,
-                3
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_INFORMATICA,
-                DegreeType.BACHELOR,
-                3
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_ELETTRICA,
-                DegreeType.BACHELOR,
-                3
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_CIVILE,
-                DegreeType.BACHELOR,
-                3
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_MECCANICA,
-                DegreeType.BACHELOR,
-                3
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_GESTIONALE_MAGISTRALE,
-                DegreeType.MASTER,
-                2
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_INFORMATICA_MAGISTRALE,
-                DegreeType.MASTER,
-                2
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_ELETTRICA_MAGISTRALE,
-                DegreeType.MASTER,
-                2
-            )
-        );
-
-        degreeCourses.add(
-            new DegreeCourse(
-                INGEGNERIA_MECCANICA_MAGISTRALE,
-                DegreeType.MASTER,
-                2
-            )
-        );
-
-        // sanity check
-        if(degreeCourses.isEmpty())
-            throw new IllegalStateException("Could not load degree course data");
-
-        // save DegreeCourse
-        degreeCourses.forEach(degreeCourseRepository::saveAndFlush);
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // INITIALIZE STUDENTS
-    private void initializeStudents(
-        StudentRepository studentRepository,
-        DegreeCourseRepository degreeCourseRepository,
-        PasswordEncoder passwordEncoder
-    ) {
-        logger.info("\n\n\n--- INITIALIZE STUDENTS ---");
-        // 1
-        RegistrationForm formStudentOne = new RegistrationForm();
-        formStudentOne.setUsername("alexpetruzzi89@gmail.com");
-        formStudentOne.setPassword("nino");
-        formStudentOne.setFirstName("bob");
-        formStudentOne.setLastName("dylamie");
-        formStudentOne.setDob(LocalDate.of(1991, 4, 6));
-        formStudentOne.setFiscalCode("abc678rde217we12");
-        formStudentOne.setStreet("hollywood boulevard");
-        formStudentOne.setCity("Bishkek");
-        formStudentOne.setState("Kyrgyzstan");
-        formStudentOne.setZip("96358");
-        formStudentOne.setPhone("1111111110");
-        formStudentOne.setRole(RoleType.STUDENT);
-
-        // 2
-        RegistrationForm formStudentTwo = new RegistrationForm();
-        formStudentTwo.setUsername("luca@gmail.com");
-        formStudentTwo.setPassword("luca");
-        formStudentTwo.setFirstName("pelaccio");
-        formStudentTwo.setLastName("pelaccio");
-        formStudentTwo.setDob(LocalDate.of(1991, 11, 12));
-        formStudentTwo.setFiscalCode("abc678rde217we71");
-        formStudentTwo.setStreet("Loreto Square");
-        formStudentTwo.setCity("Milan");
-        formStudentTwo.setState("Italy");
-        formStudentTwo.setZip("20127");
-        formStudentTwo.setPhone("2804194500");
-        formStudentTwo.setRole(RoleType.STUDENT);
-
-        // 3
-        RegistrationForm formStudentThree = new RegistrationForm();
-        formStudentThree.setUsername("ennio@gmail.com");
-        formStudentThree.setPassword("ennio");
-        formStudentThree.setFirstName("ennio");
-        formStudentThree.setLastName("morricone");
-        formStudentThree.setDob(LocalDate.of(1991, 11, 12));
-        formStudentThree.setFiscalCode("abc678rde217we43");
-        formStudentThree.setStreet("Pancho Villa Street");
-        formStudentThree.setCity("San Juan del Río");
-        formStudentThree.setState("Messico");
-        formStudentThree.setZip("76800");
-        formStudentThree.setPhone("9876543210");
-        formStudentThree.setRole(RoleType.STUDENT);
-
-        // 4
-        RegistrationForm formStudentFour = new RegistrationForm();
-        formStudentFour.setUsername("gino@gmail.com");
-        formStudentFour.setPassword("gino");
-        formStudentFour.setFirstName("gino");
-        formStudentFour.setLastName("bramieri");
-        formStudentFour.setDob(LocalDate.of(1991, 11, 12));
-        formStudentFour.setFiscalCode("abc678rde217we34");
-        formStudentFour.setStreet("via delle lamie di olimpia");
-        formStudentFour.setCity("laureto");
-        formStudentFour.setState("italia");
-        formStudentFour.setZip("72015");
-        formStudentFour.setPhone("38412369547");
-        formStudentFour.setRole(RoleType.STUDENT);
-
-        // 5
-        RegistrationForm formStudentFive = new RegistrationForm();
-        formStudentFive.setUsername("pino@gmail.com");
-        formStudentFive.setPassword("pino");
-        formStudentFive.setFirstName("pino");
-        formStudentFive.setLastName("pino");
-        formStudentFive.setDob(LocalDate.of(1991, 11, 12));
-        formStudentFive.setFiscalCode("abc678rde217we18");
-        formStudentFive.setStreet("via delle lamie di olimpia");
-        formStudentFive.setCity("laureto");
-        formStudentFive.setState("italia");
-        formStudentFive.setZip("72015");
-        formStudentFive.setPhone("38412369547");
-        formStudentFive.setRole(RoleType.STUDENT);
-
-        // 6
-        RegistrationForm formStudentSix = new RegistrationForm();
-        formStudentSix.setUsername("tino@gmail.com");
-        formStudentSix.setPassword("tino");
-        formStudentSix.setFirstName("tino");
-        formStudentSix.setLastName("filipp");
-        formStudentSix.setDob(LocalDate.of(1991, 11, 12));
-        formStudentSix.setFiscalCode("abc678rde217we19");
-        formStudentSix.setStreet("via delle lamie di olimpia");
-        formStudentSix.setCity("laureto");
-        formStudentSix.setState("italia");
-        formStudentSix.setZip("72015");
-        formStudentSix.setPhone("38412369547");
-        formStudentSix.setRole(RoleType.STUDENT);
-
-        // 7
-        RegistrationForm formStudentSeven = new RegistrationForm();
-        formStudentSeven.setUsername("solo@gmail.com");
-        formStudentSeven.setPassword("tino");
-        formStudentSeven.setFirstName("tino");
-        formStudentSeven.setLastName("laghezza");
-        formStudentSeven.setDob(LocalDate.of(1991, 11, 12));
-        formStudentSeven.setFiscalCode("abc678rde217we20");
-        formStudentSeven.setStreet("via delle lamie di olimpia");
-        formStudentSeven.setCity("laureto");
-        formStudentSeven.setState("italia");
-        formStudentSeven.setZip("72015");
-        formStudentSeven.setPhone("38412369547");
-        formStudentSeven.setRole(RoleType.STUDENT);
-
-        // 8
-        RegistrationForm formStudentEight = new RegistrationForm();
-        formStudentEight.setUsername("otto@gmail.com");
-        formStudentEight.setPassword("otto");
-        formStudentEight.setFirstName("otto");
-        formStudentEight.setLastName("von bismarck");
-        formStudentEight.setDob(LocalDate.of(1991, 11, 12));
-        formStudentEight.setFiscalCode("abc678rde217we21");
-        formStudentEight.setStreet("via delle lamie di olimpia");
-        formStudentEight.setCity("laureto");
-        formStudentEight.setState("italia");
-        formStudentEight.setZip("72015");
-        formStudentEight.setPhone("38412369547");
-        formStudentEight.setRole(RoleType.STUDENT);
-
-        // 9
-        RegistrationForm formStudentNine = new RegistrationForm();
-        formStudentNine.setUsername("raffo@gmail.com");
-        formStudentNine.setPassword("raffo");
-        formStudentNine.setFirstName("raffaele");
-        formStudentNine.setLastName("macina leone");
-        formStudentNine.setDob(LocalDate.of(1991, 11, 12));
-        formStudentNine.setFiscalCode("abc678rde217we22");
-        formStudentNine.setStreet("via les claypool 71");
-        formStudentNine.setCity("Bari");
-        formStudentNine.setState("italia");
-        formStudentNine.setZip("72100");
-        formStudentNine.setPhone("38412369547");
-        formStudentNine.setRole(RoleType.STUDENT);
-
-
-        List<Student> students = new ArrayList<>();
-
-        // 1
-        students.add(
-            new Student(
-                formStudentOne,
-                passwordEncoder,
-                new Register("123456"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_GESTIONALE)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 2
-        students.add(
-            new Student(
-                formStudentTwo,
-                passwordEncoder,
-                new Register("123457"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_GESTIONALE_MAGISTRALE)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 3
-        students.add(
-            new Student(
-                formStudentThree,
-                passwordEncoder,
-                new Register("123458"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_INFORMATICA)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 4
-        students.add(
-            new Student(
-                formStudentFour,
-                passwordEncoder,
-                new Register("123459"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_INFORMATICA_MAGISTRALE)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 5
-        students.add(
-            new Student(
-                formStudentFive,
-                passwordEncoder,
-                new Register("123460"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_MECCANICA)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 6
-        students.add(
-            new Student(
-                formStudentSix,
-                passwordEncoder,
-                new Register("123461"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_MECCANICA_MAGISTRALE)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 7
-        students.add(
-            new Student(
-                formStudentSeven,
-                passwordEncoder,
-                new Register("123462"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_ELETTRICA)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 7
-        students.add(
-            new Student(
-                formStudentEight,
-                passwordEncoder,
-                new Register("169841"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_MECCANICA)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-        // 8
-        students.add(
-            new Student(
-                formStudentNine,
-                passwordEncoder,
-                new Register("555555"),
-                degreeCourseRepository
-                    .findByName(INGEGNERIA_GESTIONALE)
-                    .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR))
-            )
-        );
-
-
-        // sanity check
-        if(students.isEmpty())
-            throw new IllegalArgumentException("students list is empty");
-
-        // save students
-        students.stream().forEach(studentRepository::saveAndFlush);
-
-        // save students for GESTIONALE degree course
-        DegreeCourse ingGest = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        // set students of ING. GESTIONALE in degreeCourse object
-        ingGest.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_GESTIONALE))
-                .toList()
-        );
-
-        // save degree course ING. GESTIONALE
-        degreeCourseRepository.saveAndFlush(ingGest);
-
-
-        // save students for GESTIONALE MAGISTRALE degree course
-        DegreeCourse ingGestMag = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        // set students of ING. GESTIONALE MAGISTRALE in degreeCourse object
-        ingGestMag.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_GESTIONALE_MAGISTRALE))
-                .toList()
-        );
-
-        // save degree course ING. GESTIONALE MAGISTRALE
-        degreeCourseRepository.saveAndFlush(ingGestMag);
-
-
-        // save students for INFORMATICA degree course
-        DegreeCourse ingInf = degreeCourseRepository
-            .findByName(INGEGNERIA_INFORMATICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        ingInf.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_INFORMATICA))
-                .toList()
-        );
-
-        degreeCourseRepository.saveAndFlush(ingInf);
-
-
-        DegreeCourse ingInfMag = degreeCourseRepository
-            .findByName(INGEGNERIA_INFORMATICA_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        ingInf.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_INFORMATICA_MAGISTRALE))
-                .toList()
-        );
-
-        degreeCourseRepository.saveAndFlush(ingInfMag);
-
-
-        DegreeCourse ingMecc = degreeCourseRepository
-            .findByName(INGEGNERIA_MECCANICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        ingMecc.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_MECCANICA))
-                .toList()
-        );
-
-        degreeCourseRepository.saveAndFlush(ingMecc);
-
-        DegreeCourse ingMeccMag = degreeCourseRepository
-            .findByName(INGEGNERIA_MECCANICA_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        ingMeccMag.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_MECCANICA_MAGISTRALE))
-                .toList()
-        );
-
-        degreeCourseRepository.saveAndFlush(ingMeccMag);
-
-        DegreeCourse ingEle = degreeCourseRepository
-            .findByName(INGEGNERIA_ELETTRICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        ingEle.setStudents(
-            studentRepository
-                .findAll()
-                .stream()
-                .filter(student -> student.getDegreeCourse().getName().equals(INGEGNERIA_ELETTRICA))
-                .toList()
-        );
-
-        degreeCourseRepository.saveAndFlush(ingEle);
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // INITIALIZE PROFESSORS
-    void initializeProfessors(ProfessorRepository professorRepository, PasswordEncoder passwordEncoder) {
-        logger.info("\n\n\n--- INITIALIZE PROFESSORS ---");
-
-        RegistrationForm fbProfOne = new RegistrationForm();
-        fbProfOne.setUsername("professore.giacinto@dominio.it");
-        fbProfOne.setPassword("dino");
-        fbProfOne.setFirstName("gilles");
-        fbProfOne.setLastName("villeneuve");
-        fbProfOne.setDob(LocalDate.of(1993, 4, 6));
-        fbProfOne.setFiscalCode("abc678rde217we11");
-        fbProfOne.setStreet("via di vancouver");
-        fbProfOne.setCity("vancouver");
-        fbProfOne.setState("canada");
-        fbProfOne.setZip("48759");
-        fbProfOne.setPhone("8749652314");
-        fbProfOne.setRole(RoleType.PROFESSOR);
-        List<Professor> professors = new ArrayList<>();
-
-        // 1
-        professors.add(
-            new Professor(
-                fbProfOne,
-                passwordEncoder,
-                new UniqueCode(UC_GIACINTO)
-            )
-        );
-
-
-        // 2
-        RegistrationForm fbProfTwo = new RegistrationForm();
-        fbProfTwo.setUsername("professore.genesio@dominio.it");
-        fbProfTwo.setPassword("gene");
-        fbProfTwo.setFirstName("tazio");
-        fbProfTwo.setLastName("nuvolari");
-        fbProfTwo.setDob(LocalDate.of(1968, 4, 6));
-        fbProfTwo.setFiscalCode("abc999rde217we48");
-        fbProfTwo.setStreet("via di babel");
-        fbProfTwo.setCity("firenze");
-        fbProfTwo.setState("italia");
-        fbProfTwo.setZip("41695");
-        fbProfTwo.setPhone("8749652314");
-        fbProfTwo.setRole(RoleType.PROFESSOR);
-
-        // 2
-        professors.add(
-            new Professor(
-                fbProfTwo,
-                passwordEncoder,
-                new UniqueCode(UC_GENESIO)
-            )
-        );
-
-
-        // 3
-        RegistrationForm fbProfThree = new RegistrationForm();
-        fbProfThree.setUsername("professore.giacomo@dominio.it");
-        fbProfThree.setPassword("giaco");
-        fbProfThree.setFirstName("giacomo");
-        fbProfThree.setLastName("agostini");
-        fbProfThree.setDob(LocalDate.of(1984, 8, 7));
-        fbProfThree.setFiscalCode("abc568rde217we76");
-        fbProfThree.setStreet("via di florio");
-        fbProfThree.setCity("palermo");
-        fbProfThree.setState("italia");
-        fbProfThree.setZip("91000");
-        fbProfThree.setPhone("8749652314");
-        fbProfThree.setRole(RoleType.PROFESSOR);
-
-        // 3
-        professors.add(
-            new Professor(
-                fbProfThree,
-                passwordEncoder,
-                new UniqueCode(UC_GIACOMO)
-            )
-        );
-
-
-        // 3
-        RegistrationForm fbProfFour = new RegistrationForm();
-        fbProfFour.setUsername("professore.gioele@dominio.it");
-        fbProfFour.setPassword("gioele");
-        fbProfFour.setFirstName("john");
-        fbProfFour.setLastName("surtees");
-        fbProfFour.setDob(LocalDate.of(1993, 4, 6));
-        fbProfFour.setFiscalCode("zzz665rde217we56");
-        fbProfFour.setStreet("via di vancouver");
-        fbProfFour.setCity("vancouver");
-        fbProfFour.setState("canada");
-        fbProfFour.setZip("48759");
-        fbProfFour.setPhone("8749652314");
-        fbProfFour.setRole(RoleType.PROFESSOR);
-
-        // 3
-        professors.add(
-            new Professor(
-                fbProfFour,
-                passwordEncoder,
-                new UniqueCode(UC_GIOELE)
-            )
-        );
-
-
-        // sanity check
-        if(professors.isEmpty())
-            throw new IllegalArgumentException("professors list is empty");
-
-        // save professors
-        professors.stream().forEach(professorRepository::saveAndFlush);
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // INITIALIZE COURSES
-    private void initializeCourses(
-        CourseRepository courseRepository,
-        ProfessorRepository professorRepository,
-        DegreeCourseRepository degreeCourseRepository
-    ) {
-        logger.info("\n\n\n--- INITIALIZE COURSES ---");
-        // retrieve degreeCourses
-        DegreeCourse ingGest = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingGestMag = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingInf = degreeCourseRepository
-            .findByName(INGEGNERIA_INFORMATICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingInfMag = degreeCourseRepository
-            .findByName(INGEGNERIA_INFORMATICA_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingMecc = degreeCourseRepository
-            .findByName(INGEGNERIA_MECCANICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingMeccMag = degreeCourseRepository
-            .findByName(INGEGNERIA_MECCANICA_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        DegreeCourse ingEle = degreeCourseRepository
-            .findByName(INGEGNERIA_ELETTRICA)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-        List<DegreeCourse> degreeCourses = Arrays.asList(ingGest,ingGestMag, ingInf, ingInfMag, ingMecc, ingMeccMag, ingEle);
-        List<Course> courses = new ArrayList<>();
-
-        // create courses
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi matematica",
-                CourseType.MATEMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi matematica",
-                CourseType.MATEMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi matematica",
-                CourseType.MATEMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi matematica",
-                CourseType.MATEMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ECO,
-                "elementi di economia",
-                CourseType.ECONOMIA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ECO,
-                "elementi di economia",
-                CourseType.ECONOMIA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ECO,
-                "elementi di economia",
-                CourseType.ECONOMIA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "geometria e algebra",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "geometria e algebra",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "geometria e algebra",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi dei sistemi dinamici",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi dei sistemi dinamici",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "fisica generale",
-                CourseType.FISICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "fisica generale",
-                CourseType.FISICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "fisica generale",
-                CourseType.FISICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "fisica generale",
-                CourseType.FISICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di informatica",
-                CourseType.INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di informatica",
-                CourseType.INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di informatica",
-                CourseType.INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di informatica",
-                CourseType.INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.CHI,
-                "chimica generale",
-                CourseType.CHIMICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.CHI,
-                "chimica generale",
-                CourseType.CHIMICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.CHI,
-                "chimica generale",
-                CourseType.CHIMICA,
-                9,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.CHI,
-                "chimica generale",
-                CourseType.CHIMICA,
-                9,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "scienza delle costruzioni",
-                CourseType.ING_MECCANICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "scienza delle costruzioni",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "metodi di ottimizzazione",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "metodi di rappresentazione tecnica",
-                CourseType.DISEGNO,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "elementi di meccanica delle macchine e progettazione meccanica",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "fisica tecnica e sistemi energetici",
-                CourseType.FISICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ECO,
-                "gestione aziendale",
-                CourseType.ECONOMIA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "meccanica dei fluidi",
-                CourseType.IDRAULICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "principi di ingegneria elettrica",
-                CourseType.ING_ELETTRICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "tecnologia meccaniche e dei materiali",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "calcolo numerico",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "gestione dei progetti",
-                CourseType.ING_GESTIONALE,
-                9,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "impianti industriali",
-                CourseType.ING_MECCANICA,
-                9,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.LET,
-                "inglese",
-                CourseType.LINGUA_STRANIERA,
-                3,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "progettazione dei processi produttivi e qualità dei processi produttivi",
-                CourseType.ING_GESTIONALE,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "sicurezza degli impianti industriali",
-                CourseType.ING_GESTIONALE,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "materiali innovativi per l'ingegneria elettrica",
-                CourseType.ING_ELETTRICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "tirocinio",
-                CourseType.ING_GESTIONALE,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "prova finale",
-                CourseType.ING_GESTIONALE,
-                3,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGest
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "sistemi informativi",
-                CourseType.ING_INFORMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "sistemi informativi",
-                CourseType.ING_INFORMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "big data analytics",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "internet of things",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "internet of things",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di cybersecurity",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "basi di dati",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "basi di dati",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "produzione avanzata nella fabbrica digitale",
-                CourseType.ING_MECCANICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingGestMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.MAT,
-                "analisi dei sistemi dinamici",
-                CourseType.MATEMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMeccMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "algoritmi e strutture dati in java",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "fondamenti di telecomunicazioni",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "fondamenti di elettronica",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInf
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "compilatori",
-                CourseType.ING_INFORMATICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACOMO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.INF,
-                "big data",
-                CourseType.ING_INFORMATICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingInfMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "impianti meccanici",
-                CourseType.ING_MECCANICA,
-                3,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GENESIO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "energetica e macchine a fluido",
-                CourseType.ING_MECCANICA,
-                6,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "misure meccaniche e termiche",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMecc
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "turbomacchine",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMeccMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.FIS,
-                "gasdinamica e fluidodinamica",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingMeccMag
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "macchine elettriche",
-                CourseType.ING_ELETTRICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIACINTO))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "elettrica di potenza",
-                CourseType.ING_ELETTRICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-        courses.add(
-            new Course(
-                MiurAcronymType.ING,
-                "impianti elettrici civili e industriali",
-                CourseType.ING_MECCANICA,
-                12,
-                professorRepository
-                    .findByUniqueCode(new UniqueCode(UC_GIOELE))
-                    .orElseThrow(() -> new NoSuchElementException(PROFESSOR_NOT_FOUND_ERROR)),
-                ingEle
-            )
-        );
-
-
-        // save courses
-        courses.forEach(courseRepository::saveAndFlush);
-
-        // associate the respective courses to each degree course
-        courses
-            .stream()
-            .forEach(course -> degreeCourses
-                .stream()
-                .filter(degreeCourse -> degreeCourse.equals(course.getDegreeCourse()))
-                .forEach(degreeCourse -> degreeCourse.addCourse(course))
-            );
-
-
-        // save updated degree courses
-        degreeCourses.forEach(degreeCourseRepository::saveAndFlush);
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // initialize examinations
-    private void initializeExaminations(
-        StudentRepository studentRepository,
-        CourseRepository courseRepository,
-        ExaminationRepository examinationRepository
-    ) {
-
-        logger.info("\n\n\n--- INITIALIZE EXAMINATIONS ---");
-
-        // Retrieve existing Student entity from the database
-        Student nino = studentRepository
-            .findByRegister(new Register("123456"))
-            .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR));
-        Student raffo = studentRepository
-            .findByRegister(new Register("555555"))
-            .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR));
-        Student luca = studentRepository
-            .findByRegister(new Register("123457"))
-            .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR));
-
-
-        // Retrieve existing Course entity from the database
-
-        Course analisiMatematica = courseRepository
-            .findByNameAndDegreeCourseName("analisi matematica", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course geometria = courseRepository
-            .findByNameAndDegreeCourseName("geometria e algebra", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course scienzaCostr = courseRepository
-            .findByNameAndDegreeCourseName("scienza delle costruzioni", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course impInd = courseRepository
-            .findByNameAndDegreeCourseName("impianti industriali", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course metodiOttimizzazione = courseRepository
-            .findByNameAndDegreeCourseName("metodi di ottimizzazione", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course anSisDin = courseRepository
-            .findByNameAndDegreeCourseName("analisi dei sistemi dinamici", INGEGNERIA_GESTIONALE_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course basiDiDati = courseRepository
-            .findByNameAndDegreeCourseName("basi di dati", INGEGNERIA_GESTIONALE_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        List<Examination> examinations = new ArrayList<>();
-
-        // create examinations
-        examinations.add(
-            new Examination(
-                analisiMatematica,
-                nino,
-                30,
-                true,
-                LocalDate.of(2022, 6, 23)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                geometria,
-                nino,
-                30,
-                true,
-                LocalDate.of(2018, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                scienzaCostr,
-                nino,
-                18,
-                false,
-                LocalDate.of(2019, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                impInd,
-                nino,
-                24,
-                false,
-                LocalDate.of(2020, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                metodiOttimizzazione,
-                nino,
-                27,
-                false,
-                LocalDate.of(2021, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                analisiMatematica,
-                raffo,
-                30,
-                true,
-                LocalDate.of(2022, 6, 23)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                geometria,
-                raffo,
-                30,
-                true,
-                LocalDate.of(2018, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                scienzaCostr,
-                raffo,
-                30,
-                true,
-                LocalDate.of(2019, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                impInd,
-                raffo,
-                30,
-                false,
-                LocalDate.of(2020, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                metodiOttimizzazione,
-                raffo,
-                21,
-                false,
-                LocalDate.of(2021, 2, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                anSisDin,
-                luca,
-                28,
-                false,
-                LocalDate.of(2024, 05, 18)
-            )
-        );
-
-        examinations.add(
-            new Examination(
-                basiDiDati,
-                luca,
-                25,
-                false,
-                LocalDate.of(2024, 05, 18)
-            )
-        );
-
-
-
-
-        // save examination
-        examinations
-            .stream()
-            .forEach(examination -> {
-                try {
-                    examinationRepository.saveAndFlush(examination);
-                } catch (Exception e) {
-                    logger.info("Error: {}", e.getMessage());
-                }
-            });
-
-    }
-
-
-    // INITIALIZE STUDY PLANS
-    private void initializeStudyPlan(
-        StudyPlanRepository studyPlanRepository,
-        DegreeCourseRepository degreeCourseRepository,
-        StudentRepository studentRepository
-    ) {
-        logger.info("\n\n\n--- INITIALIZE STUDY PLANS ---");
-
-        DegreeCourse ingGest = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-
-        DegreeCourse ingGestMag = degreeCourseRepository
-            .findByName(INGEGNERIA_GESTIONALE_MAGISTRALE)
-            .orElseThrow(() -> new NoSuchElementException(DEGREE_COURSE_NOT_FOUND_ERROR));
-
-
-        List<StudyPlan> studyPlans = new ArrayList<>();
-
-        studyPlans.add(
-            new StudyPlan(
-                studentRepository
-                    .findByRegister(new Register("123456"))
-                    .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR)),
-                "ORD509",
-                new HashSet<>(ingGest.getCourses()
-                    .stream()
-                    .collect(Collectors.toSet())
-                )
-            )
-        );
-
-        studyPlans.add(
-            new StudyPlan(
-                studentRepository
-                    .findByRegister(new Register("123457"))
-                    .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR)),
-                "ORD270",
-                new HashSet<>(ingGestMag.getCourses()
-                    .stream()
-                    .collect(Collectors.toSet())
-                )
-            )
-        );
-
-        studyPlans.add(
-            new StudyPlan(
-                studentRepository
-                    .findByRegister(new Register("555555"))
-                    .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR)),
-                "ORD509",
-                new HashSet<>(ingGest.getCourses()
-                    .stream()
-                    .collect(Collectors.toSet())
-                )
-            )
-        );
-
-        // sanity check
-        if(studyPlans.isEmpty())
-            throw new IllegalArgumentException("study plan list is empty");
-
-        // save students
-        studyPlans
-            .stream()
-            .forEach(studyPlanRepository::saveAndFlush);
-
-    }
-
-
-
-
-
-
-
-
-
-
-    // initialize examination appeal
-    private void initializeExaminationAppeals(
-        ExaminationAppealRepository examinationAppealRepository,
-        CourseRepository courseRepository,
-        StudentRepository studentRepository
-    ) {
-        logger.info("\n\n\n--- INITIALIZE EXAMINATION APPEALS ---");
-
-        Course analisiMat = courseRepository
-            .findByNameAndDegreeCourseName("analisi matematica", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course geometria = courseRepository
-            .findByNameAndDegreeCourseName("geometria e algebra", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course fisicaGen = courseRepository
-            .findByNameAndDegreeCourseName("fisica generale", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course informatica = courseRepository
-            .findByNameAndDegreeCourseName("fondamenti di informatica", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course gp = courseRepository
-            .findByNameAndDegreeCourseName("gestione dei progetti", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course scienzaDelleCostr = courseRepository
-            .findByNameAndDegreeCourseName("scienza delle costruzioni", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course chimicaGen = courseRepository
-            .findByNameAndDegreeCourseName("chimica generale", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course calcoloNum = courseRepository
-            .findByNameAndDegreeCourseName("calcolo numerico", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course economia = courseRepository
-            .findByNameAndDegreeCourseName("elementi di economia", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course sicurezza = courseRepository
-            .findByNameAndDegreeCourseName("sicurezza degli impianti industriali", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        Course materialiInnovativi = courseRepository
-            .findByNameAndDegreeCourseName("materiali innovativi per l'ingegneria elettrica", INGEGNERIA_GESTIONALE)
-            .orElseThrow(() -> new NoSuchElementException(COURSE_NOT_FOUND_ERROR));
-
-        List<ExaminationAppeal> examinationAppeals = new ArrayList<>();
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                analisiMat,
-                "modulo 1 + modulo 2",
-                LocalDate.of(2026, 6, 23)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                geometria,
-                "matrici",
-                LocalDate.of(2025, 6, 23)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                fisicaGen,
-                "meccanica, termodinamica, elettromagnetismo",
-                LocalDate.of(2025, 4, 23)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                scienzaDelleCostr,
-                "tensori, travi, sollecitazioni",
-                LocalDate.of(2025, 7, 26)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                chimicaGen,
-                "chimica inorganica",
-                LocalDate.of(2025, 5, 16)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                calcoloNum,
-                "fondamenti del calcolo numerico",
-                LocalDate.of(2025, 5, 18)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                economia,
-                "microeconomia + macroeconomia",
-                LocalDate.of(2025, 11, 18)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                sicurezza,
-                "sicurezza degli impianti industriali",
-                LocalDate.of(2025, 05, 03)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                materialiInnovativi,
-                "materiali innovativi per l'ingegneria elettrica",
-                LocalDate.of(2025, 8, 18)
-            )
-        );
-
-        examinationAppeals.add(
-            ExaminationAppeal.of(
-                informatica,
-                "fondamenti di informatica",
-                LocalDate.of(2025, 7, 15)
-            )
-        );
-
-
-        // retrieve students
-        Student nino = studentRepository
-            .findByRegister(new Register("123456"))
-            .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR));
-        Student raffo = studentRepository
-            .findByRegister(new Register("555555"))
-            .orElseThrow(() -> new NoSuchElementException(STUDENT_NOT_FOUND_ERROR));
-
-        // add students
-        ExaminationAppeal gpAppeal = ExaminationAppeal.of(gp, "crm, pert", LocalDate.of(2025, 04, 30));
-        gpAppeal.addRegister(nino.getRegister());
-        gpAppeal.addRegister(raffo.getRegister());
-        examinationAppeals.add(gpAppeal);
-
-        ExaminationAppeal infAppeal = ExaminationAppeal.of(informatica, "programmazione", LocalDate.of(2025, 10, 19));
-        infAppeal.addRegister(nino.getRegister());
-        infAppeal.addRegister(raffo.getRegister());
-        examinationAppeals.add(infAppeal);
-
-        ExaminationAppeal sicurezzaAppeal = ExaminationAppeal.of(sicurezza, "sicurezza degli impianti industriali", LocalDate.of(2025, 05, 07));
-        sicurezzaAppeal.addRegister(nino.getRegister());
-        sicurezzaAppeal.addRegister(raffo.getRegister());
-        examinationAppeals.add(sicurezzaAppeal);
-
-        ExaminationAppeal materialiInnovativiAppeal = ExaminationAppeal.of(materialiInnovativi, "materiali innovativi per l'ingegneria elettrica", LocalDate.of(2025, 8, 18));
-        materialiInnovativiAppeal.addRegister(nino.getRegister());
-        materialiInnovativiAppeal.addRegister(raffo.getRegister());
-        examinationAppeals.add(materialiInnovativiAppeal);
-
-        ExaminationAppeal inf2Appeal = ExaminationAppeal.of(informatica, "fondamenti di informatica", LocalDate.of(2025, 7, 15));
-        inf2Appeal.addRegister(nino.getRegister());
-        inf2Appeal.addRegister(raffo.getRegister());
-        examinationAppeals.add(inf2Appeal);
-
-        if(examinationAppeals.isEmpty())
-            throw new IllegalArgumentException("examination appeal list is empty");
-
-        examinationAppeals
-            .stream()
-            .forEach(examinationAppealRepository::saveAndFlush);
-
-    }
-
 }
-
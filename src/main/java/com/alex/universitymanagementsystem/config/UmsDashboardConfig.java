@@ -0,0 +1,45 @@
+package com.alex.universitymanagementsystem.config;
+
+import java.util.Map;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+import com.alex.universitymanagementsystem.component.sql.UmsSqlStatementCounter;
+
+
+@Configuration
+public class UmsDashboardConfig {
+
+    /**
+     * Virtual threads of the dashboard reads. The forked reads see the
+     * security context (replica routing, auditing), the MDC request id and
+     * the SQL statement counter of the request that forked them.
+     * Unbounded: the dashboard service admits the reads, without blocking.
+     * @param statementCounter counts the statements of the request
+     * @return AsyncTaskExecutor
+     */
+    @Bean
+    AsyncTaskExecutor dashboardExecutor(UmsSqlStatementCounter statementCounter) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ums-dashboard-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(task -> {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            return statementCounter.propagate(() -> {
+                if (mdc != null)
+                    MDC.setContextMap(mdc);
+                try {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            });
+        });
+        return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.alex.universitymanagementsystem.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.alex.universitymanagementsystem.component.datasource.UmsRecentWriteTracker;
+import com.alex.universitymanagementsystem.component.datasource.UmsReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primary / read replica data sources, enabled by
+ * {@code ums.datasource.replica.jdbc-url}. Without it the single
+ * {@code spring.datasource} is auto-configured as usual.
+ * <p>
+ * Connections are obtained lazily, on the first statement, so the
+ * read-only flag of the transaction is known by then: read-only
+ * transactions use the replica, everything else the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ums.datasource.replica.jdbc-url")
+public class UmsDataSourceConfig {
+
+    /**
+     * The primary pool, configured by {@code spring.datasource.*}.
+     * @param properties the spring.datasource properties
+     * @return HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("ums-primary");
+        return dataSource;
+    }
+
+
+    /**
+     * The replica pool, configured by {@code ums.datasource.replica.*}
+     * (Hikari property names: jdbc-url, username, password, maximum-pool-size...).
+     * @return HikariDataSource
+     */
+    @Bean
+    @ConfigurationProperties("ums.datasource.replica")
+    HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        dataSource.setPoolName("ums-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+
+    /**
+     * Users who committed a write within the window read from the primary.
+     * @param window how far the replica is allowed to lag behind
+     * @return UmsRecentWriteTracker
+     */
+    @Bean
+    UmsRecentWriteTracker recentWriteTracker(@Value("${ums.datasource.read-your-writes-window:5s}") Duration window) {
+        return new UmsRecentWriteTracker(window);
+    }
+
+
+    /**
+     * The data source used by JPA, JDBC and Flyway.
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @param writeTracker the recent writes of each user
+     * @return DataSource
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        @Qualifier("replicaDataSource") DataSource replica,
+        UmsRecentWriteTracker writeTracker
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new UmsReplicaRoutingDataSource(primary, replica, writeTracker));
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.alex.universitymanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import com.alex.universitymanagementsystem.component.dataset.DatasetSpec;
+import com.alex.universitymanagementsystem.component.dataset.UmsDatasetGenerator;
+import com.alex.universitymanagementsystem.component.job.UmsJobRunner;
+
+
+@Configuration
+@ConditionalOnProperty(name = "ums.dataset.enabled", havingValue = "true")
+public class UmsDatasetConfig {
+
+    // constants
+    private static final String PROFILE_ERROR =
+        "Synthetic dataset generation runs only in the default (development) and embedded profiles, not in %s";
+
+    /**
+     * Generates the synthetic dataset at startup, after the base data.
+     * Refused outside the default and embedded profiles: the generated
+     * accounts share one password and must never reach a real database.
+     * The scheduled jobs are paused while the dataset is written: the
+     * cleanup of the past appeals would delete the ones whose bookings are
+     * not written yet.
+     * @param generator the dataset generator
+     * @param jobRunner the scheduled jobs runner
+     * @param environment the environment
+     * @return CommandLineRunner
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    CommandLineRunner datasetRunner(
+        UmsDatasetGenerator generator,
+        UmsJobRunner jobRunner,
+        Environment environment,
+        @Value("${ums.dataset.degree-courses}") int degreeCourses,
+        @Value("${ums.dataset.courses}") int courses,
+        @Value("${ums.dataset.professors}") int professors,
+        @Value("${ums.dataset.students}") int students,
+        @Value("${ums.dataset.appeals-per-course}") int appealsPerCourse,
+        @Value("${ums.dataset.batch-size}") int batchSize,
+        @Value("${ums.dataset.seed}") long seed
+    ) {
+        DatasetSpec spec = new DatasetSpec(
+            degreeCourses, courses, professors, students, appealsPerCourse, batchSize, seed);
+        return args -> {
+            if (environment.getActiveProfiles().length > 0 && !environment.acceptsProfiles(Profiles.of("embedded")))
+                throw new IllegalStateException(PROFILE_ERROR.formatted(String.join(",", environment.getActiveProfiles())));
+            jobRunner.stop();
+            try {
+                generator.generate(spec);
+            } finally {
+                jobRunner.start();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.alex.universitymanagementsystem.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.alex.universitymanagementsystem.component.job.UmsJobProperties;
+
+
+@Configuration
+public class UmsJobConfig {
+
+    /**
+     * Job runner settings; the node id defaults to pid@hostname.
+     * @return UmsJobProperties
+     */
+    @Bean
+    UmsJobProperties jobProperties(
+        @Value("${ums.jobs.enabled:true}") boolean enabled,
+        @Value("${ums.jobs.node-id:}") String nodeId,
+        @Value("${ums.jobs.poll-interval:1m}") Duration pollInterval,
+        @Value("${ums.jobs.initial-delay:30s}") Duration initialDelay,
+        @Value("${ums.jobs.lease-duration:10m}") Duration leaseDuration,
+        @Value("${ums.jobs.chunk-size:500}") int chunkSize,
+        @Value("${ums.jobs.max-failures:5}") int maxFailures
+    ) {
+        String node = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        return new UmsJobProperties(enabled, node, pollInterval, initialDelay, leaseDuration, chunkSize, maxFailures);
+    }
+
+
+    /**
+     * Threads of the scheduled jobs, separate from the request and the
+     * websocket threads, so a long job does not delay the others.
+     * Platform threads even when {@code spring.threads.virtual.enabled} is
+     * set: the pool size bounds how many jobs run at the same time, a
+     * bound virtual threads are not meant to be pooled for.
+     * @param poolSize the number of jobs that can run at the same time
+     * @return ThreadPoolTaskScheduler
+     */
+    @Bean
+    ThreadPoolTaskScheduler umsJobScheduler(@Value("${ums.jobs.pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("ums-job-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.alex.universitymanagementsystem.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.alex.universitymanagementsystem.component.sql.UmsSqlStatementCounter;
+
+
+@Configuration
+public class UmsJpaConfig {
+
+    /**
+     * Registers the statement counter used by the SQL budget checks.
+     * @param statementCounter the statement inspector
+     * @return HibernatePropertiesCustomizer
+     */
+    @Bean
+    HibernatePropertiesCustomizer statementInspectorCustomizer(UmsSqlStatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.alex.universitymanagementsystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import com.alex.universitymanagementsystem.component.sql.UmsSqlLogEndpoint;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlLogSettings;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlLoggingDataSource;
+
+
+@Configuration
+public class UmsLoggingConfig {
+
+    // constants
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+
+    /**
+     * Initial settings of the slow / sampled SQL log.
+     * @param enabled whether statements are timed
+     * @param slowThresholdMillis statements at least this slow are always logged
+     * @param sampleRate fraction of the other statements that is logged
+     * @return UmsSqlLogSettings
+     */
+    @Bean
+    UmsSqlLogSettings sqlLogSettings(
+        @Value("${ums.sql-log.enabled:false}") boolean enabled,
+        @Value("${ums.sql-log.slow-threshold-millis:200}") long slowThresholdMillis,
+        @Value("${ums.sql-log.sample-rate:0}") double sampleRate
+    ) {
+        return new UmsSqlLogSettings(enabled, slowThresholdMillis, sampleRate);
+    }
+
+
+    /**
+     * Exposes the SQL log settings on {@code /actuator/sqllog}.
+     * @param settings the SQL log settings
+     * @return UmsSqlLogEndpoint
+     */
+    @Bean
+    UmsSqlLogEndpoint sqlLogEndpoint(UmsSqlLogSettings settings) {
+        return new UmsSqlLogEndpoint(settings);
+    }
+
+
+    /**
+     * Wraps the application data source (the auto-configured one, or the
+     * routing proxy of {@link UmsDataSourceConfig}) so that every statement
+     * is timed while the SQL log is enabled.
+     * @param settings the SQL log settings, resolved when the data source is created
+     * @return BeanPostProcessor
+     */
+    @Bean
+    static BeanPostProcessor sqlLoggingDataSourcePostProcessor(ObjectProvider<UmsSqlLogSettings> settings) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName))
+                    return new UmsSqlLoggingDataSource(dataSource, settings.getObject());
+                return bean;
+            }
+        };
+    }
+
+}
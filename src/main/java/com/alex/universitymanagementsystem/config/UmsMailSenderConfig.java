@@ -1,19 +1,30 @@
 package com.alex.universitymanagementsystem.config;
 
+import java.util.Arrays;
 import java.util.Properties;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import jakarta.mail.internet.MimeMessage;
+
 
 
 @Configuration
 public class UmsMailSenderConfig {
 
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(UmsMailSenderConfig.class);
+
     @Value("${EMAIL_HOST}")
     private String host;
 
@@ -27,6 +38,7 @@ public class UmsMailSenderConfig {
     private String password;
 
     @Bean
+    @Profile("!embedded")
     JavaMailSender getJavaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
         mailSender.setHost(host);
@@ -43,6 +55,23 @@ public class UmsMailSenderConfig {
         return mailSender;
     }
 
+    /**
+     * Mail sender of the embedded profile: there is no SMTP server, so
+     * messages are logged and dropped.
+     * @return JavaMailSender
+     */
+    @Bean
+    @Profile("embedded")
+    JavaMailSender loggingMailSender() {
+        return new JavaMailSenderImpl() {
+            @Override
+            protected void doSend(@NonNull MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) {
+                logger.info("Mail not sent (embedded profile): {}",
+                    originalMessages != null ? Arrays.toString(originalMessages) : mimeMessages.length + " mime messages");
+            }
+        };
+    }
+
     @Bean
     SimpleMailMessage templateSimpleMessage() {
         SimpleMailMessage message = new SimpleMailMessage();
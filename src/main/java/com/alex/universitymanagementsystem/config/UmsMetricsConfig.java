@@ -0,0 +1,24 @@
+package com.alex.universitymanagementsystem.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.MetricsRetryListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+
+@Configuration
+public class UmsMetricsConfig {
+
+    /**
+     * Global retry listener: every @Retryable invocation is recorded on the
+     * {@code spring.retry} timer, tagged with the number of attempts made.
+     * @param meterRegistry the meter registry
+     * @return MetricsRetryListener
+     */
+    @Bean
+    MetricsRetryListener metricsRetryListener(MeterRegistry meterRegistry) {
+        return new MetricsRetryListener(meterRegistry);
+    }
+
+}
@@ -1,31 +1,75 @@
 package com.alex.universitymanagementsystem.config;
 
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.format.FormatterRegistry;
+import org.springframework.http.CacheControl;
 import org.springframework.lang.NonNull;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.filter.HiddenHttpMethodFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 import com.alex.universitymanagementsystem.component.StringToDegreeCourseConverter;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlBudgetInterceptor;
+import com.alex.universitymanagementsystem.component.sql.UmsViewRenderingSqlDetector;
 import com.alex.universitymanagementsystem.repository.DegreeCourseRepository;
 
 @Configuration
 public class UmsMvcConfig implements WebMvcConfigurer, Serializable {
 
+    // constants
+    private static final String STATIC_LOCATION = "classpath:/static/";
+    // URLs carrying a content hash: the js version prefix, or the hash in the file name
+    private static final String[] FINGERPRINTED_URLS = {
+        "/static/{version:[0-9a-f]{32}}/js/**",
+        "/static/{file:.+-[0-9a-f]{32}\\.\\w+}",
+        "/static/*/{file:.+-[0-9a-f]{32}\\.\\w+}"
+    };
+
     // instance variables
     private final transient UmsConfig umsConfig;
     private final transient DegreeCourseRepository degreeCourseRepository;
+    private final transient ObjectProvider<UmsSqlBudgetInterceptor> sqlBudgetInterceptor;
+    private final transient ObjectProvider<UmsViewRenderingSqlDetector> viewRenderingSqlDetector;
+    private final Duration staticCachePeriod;
+    private final boolean staticChainCache;
 
     // constructor
-    public UmsMvcConfig(UmsConfig umsConfig, DegreeCourseRepository degreeCourseRepository) {
+    public UmsMvcConfig(
+        UmsConfig umsConfig,
+        DegreeCourseRepository degreeCourseRepository,
+        ObjectProvider<UmsSqlBudgetInterceptor> sqlBudgetInterceptor,
+        ObjectProvider<UmsViewRenderingSqlDetector> viewRenderingSqlDetector,
+        @Value("${ums.static.cache-period:365d}") Duration staticCachePeriod,
+        @Value("${ums.static.chain-cache:true}") boolean staticChainCache
+    ) {
         this.umsConfig = umsConfig;
         this.degreeCourseRepository = degreeCourseRepository;
+        this.sqlBudgetInterceptor = sqlBudgetInterceptor;
+        this.viewRenderingSqlDetector = viewRenderingSqlDetector;
+        this.staticCachePeriod = staticCachePeriod;
+        this.staticChainCache = staticChainCache;
     }
 
 
@@ -58,9 +102,35 @@ public class UmsMvcConfig implements WebMvcConfigurer, Serializable {
     }
 
 
+    /**
+     * Static resources behind fingerprinted URLs, cached by the browsers
+     * for {@code ums.static.cache-period} without revalidation. The same
+     * resources requested by their plain URL (hard-coded links) can
+     * change under it, so they are revalidated on every use.
+     * <p>
+     * The {@code @{/static/...}} links of the templates are rewritten by the
+     * {@link ResourceUrlEncodingFilter}: a stylesheet or an image gets the
+     * hash of its content in the file name (login-&lt;hash&gt;.css), the url()
+     * references inside the stylesheets too. The js modules import each
+     * other by relative path, so they share one version prefix
+     * (/static/&lt;hash&gt;/js/...) computed from all of them. The .br and .gz
+     * variants written at build time are served to the clients accepting them.
+     */
     @Override
     public void addResourceHandlers(@NonNull ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/static/**").addResourceLocations("classpath:/static/");
+        String jsVersion = contentHash(STATIC_LOCATION + "js/**/*.js");
+        staticResources(registry.addResourceHandler(FINGERPRINTED_URLS),
+            CacheControl.maxAge(staticCachePeriod).cachePublic().immutable(), jsVersion);
+        staticResources(registry.addResourceHandler("/static/**"),
+            CacheControl.noCache().cachePublic(), jsVersion);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // SQL statement budget, only when ums.sql-budget.enabled=true
+        sqlBudgetInterceptor.ifAvailable(registry::addInterceptor);
+        // lazy loading during view rendering, only when ums.view-lazy-load-detector.enabled=true
+        viewRenderingSqlDetector.ifAvailable(registry::addInterceptor);
     }
 
     @Override
@@ -80,5 +150,47 @@ public class UmsMvcConfig implements WebMvcConfigurer, Serializable {
     }
 
 
+    /**
+     * Rewrites the static resource links of the rendered pages into their
+     * versioned URLs.
+     * @return ResourceUrlEncodingFilter
+     */
+    @Bean
+    ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+
+    // helpers
+    // both handlers resolve and write the versioned URLs, only the caching differs
+    private void staticResources(ResourceHandlerRegistration registration, CacheControl cacheControl, String jsVersion) {
+        registration
+            .addResourceLocations(STATIC_LOCATION)
+            .setCacheControl(cacheControl)
+            .resourceChain(staticChainCache)
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new VersionResourceResolver()
+                .addFixedVersionStrategy(jsVersion, "/js/**")
+                .addContentVersionStrategy("/**"));
+    }
+
+    // MD5 of the matching resources, concatenated in path order
+    private static String contentHash(String locationPattern) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locationPattern);
+            Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (Resource resource : resources) {
+                try (InputStream in = resource.getInputStream()) {
+                    in.transferTo(content);
+                }
+            }
+            return DigestUtils.md5DigestAsHex(content.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
 }
 
@@ -0,0 +1,22 @@
+package com.alex.universitymanagementsystem.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+
+/**
+ * Activates the {@code @Retryable} annotations of the services.
+ * <p>
+ * They were declared long before retries were enabled, so turning this on
+ * changes the behaviour of every annotated service method: a
+ * {@code PersistenceException} is retried (three attempts, one second
+ * apart) instead of failing at once. The retry advice wraps the
+ * transactional one, so when the caller has no transaction each attempt
+ * runs in a transaction of its own.
+ * Set {@code ums.retry.enabled=false} to fail at the first error again.
+ */
+@Configuration
+@EnableRetry
+@ConditionalOnProperty(name = "ums.retry.enabled", havingValue = "true", matchIfMissing = true)
+public class UmsRetryConfig {}
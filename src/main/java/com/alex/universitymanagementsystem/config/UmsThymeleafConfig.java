@@ -18,6 +18,10 @@ public class UmsThymeleafConfig {
     @Value("${spring.thymeleaf.enabled}")
     private boolean thymeleafEnabled;
 
+    // parsed templates kept in memory (prod profile)
+    @Value("${spring.thymeleaf.cache:false}")
+    private boolean templateCache;
+
     private static final Logger logger = LoggerFactory.getLogger(UmsThymeleafConfig.class);
 
     private final ApplicationContext applicationContext;
@@ -35,7 +39,7 @@ public class UmsThymeleafConfig {
             templateResolver.setPrefix("classpath:/templates/");
             templateResolver.setSuffix(".html");
             templateResolver.setTemplateMode(TemplateMode.HTML);
-            templateResolver.setCacheable(false);
+            templateResolver.setCacheable(templateCache);
             logger.info("method templateResolver created: {}", templateResolver);
             return templateResolver;
         } else {
@@ -0,0 +1,139 @@
+package com.alex.universitymanagementsystem.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+import com.alex.universitymanagementsystem.component.datasource.UmsConnectionAdmissionDataSource;
+import com.alex.universitymanagementsystem.component.thread.UmsPinningEndpoint;
+import com.alex.universitymanagementsystem.component.thread.UmsPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Virtual thread mode, enabled by {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Spring Boot then runs the Tomcat requests and the {@code @Scheduled}
+ * methods on virtual threads; the job scheduler and the STOMP channels
+ * follow the same property ({@link UmsJobConfig}, {@link UmsWebSocketConfig}).
+ * This configuration adds what the mode needs to be run safely: the
+ * report of the pinned virtual threads and the admission gate in front
+ * of every connection pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class UmsVirtualThreadConfig {
+
+    /**
+     * Streams the pinning events of the virtual threads.
+     * @param meterRegistry the meter registry
+     * @param threshold pinning shorter than this is not reported
+     * @return UmsPinningMonitor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    UmsPinningMonitor pinningMonitor(
+        MeterRegistry meterRegistry,
+        @Value("${ums.virtual-threads.pinning.threshold:20ms}") Duration threshold
+    ) {
+        return new UmsPinningMonitor(meterRegistry, threshold);
+    }
+
+
+    /**
+     * Exposes the pinning sites on {@code /actuator/pinning}.
+     * @param monitor the pinning monitor
+     * @return UmsPinningEndpoint
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.virtual-threads.pinning.enabled", havingValue = "true", matchIfMissing = true)
+    UmsPinningEndpoint pinningEndpoint(UmsPinningMonitor monitor) {
+        return new UmsPinningEndpoint(monitor);
+    }
+
+
+    /**
+     * Wraps every Hikari pool in an admission gate letting through as many
+     * threads as the pool has connections.
+     * @param environment resolves the ums.db.admission properties
+     * @return ConnectionAdmissionPostProcessor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.db.admission.enabled", havingValue = "true", matchIfMissing = true)
+    static ConnectionAdmissionPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        return new ConnectionAdmissionPostProcessor(
+            environment.getProperty("ums.db.admission.max-waiting", Integer.class, 1000),
+            environment.getProperty("ums.db.admission.timeout", Duration.class, Duration.ofSeconds(10))
+        );
+    }
+
+
+    /**
+     * {@code ums.db.admission.waiting} and {@code ums.db.admission.rejected}, tagged by pool.
+     * @param postProcessor the post processor creating the gates
+     * @return MeterBinder
+     */
+    @Bean
+    @ConditionalOnProperty(name = "ums.db.admission.enabled", havingValue = "true", matchIfMissing = true)
+    MeterBinder connectionAdmissionMetrics(ConnectionAdmissionPostProcessor postProcessor) {
+        return registry -> postProcessor.gates.forEach(gate -> {
+            Gauge.builder("ums.db.admission.waiting", gate, UmsConnectionAdmissionDataSource::getWaiting)
+                .description("Threads waiting for admission to the connection pool")
+                .tag("pool", gate.getPoolName())
+                .register(registry);
+            FunctionCounter.builder("ums.db.admission.rejected", gate, UmsConnectionAdmissionDataSource::getRejected)
+                .description("Connection requests refused by the admission gate")
+                .tag("pool", gate.getPoolName())
+                .register(registry);
+        });
+    }
+
+
+    /**
+     * Runs before the other post processors (the SQL log wraps the data
+     * source too), while the bean is still the Hikari pool.
+     */
+    static final class ConnectionAdmissionPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final int maxWaiting;
+        private final Duration timeout;
+        private final List<UmsConnectionAdmissionDataSource> gates = new CopyOnWriteArrayList<>();
+
+        private ConnectionAdmissionPostProcessor(int maxWaiting, Duration timeout) {
+            this.maxWaiting = maxWaiting;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+            if (!(bean instanceof HikariDataSource pool))
+                return bean;
+            String poolName = pool.getPoolName() != null ? pool.getPoolName() : beanName;
+            UmsConnectionAdmissionDataSource gate =
+                new UmsConnectionAdmissionDataSource(pool, poolName, pool.getMaximumPoolSize(), maxWaiting, timeout);
+            gates.add(gate);
+            return gate;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+}
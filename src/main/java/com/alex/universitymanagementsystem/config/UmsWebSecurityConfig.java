@@ -5,13 +5,17 @@ import java.util.List;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.LogoutConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -31,6 +35,7 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import com.alex.universitymanagementsystem.component.login.UmsCustomAuthenticationSuccessHandler;
 import com.alex.universitymanagementsystem.component.login.UmsOAuth2LoginSuccessHandler;
 import static com.alex.universitymanagementsystem.config.UmsConfig.ADMIN_URLS;
+import static com.alex.universitymanagementsystem.config.UmsConfig.METRICS_URLS;
 import static com.alex.universitymanagementsystem.config.UmsConfig.PROFESSOR_URLS;
 import static com.alex.universitymanagementsystem.config.UmsConfig.PUBLIC_URLS;
 import static com.alex.universitymanagementsystem.config.UmsConfig.STUDENT_URLS;
@@ -168,6 +173,39 @@ public class UmsWebSecurityConfig implements Serializable {
 	}
 
 
+	/**
+	 * Configures the security filter chain of the actuator endpoints: admin
+	 * only but the public health check, with HTTP basic authentication and
+	 * no session, since a scraper cannot log in through the login form.
+	 * Without a session cookie there is no cross site request to forge, so
+	 * the runtime settings (loggers, SQL log) are changed without a token.
+	 * @param http the HttpSecurity object
+	 * @return SecurityFilterChain for the actuator endpoints
+	 * @throws Exception if an error occurs
+	 */
+	@Bean
+	@Order(1)
+	SecurityFilterChain metricsFilterChain(HttpSecurity http) throws AccessDeniedException {
+		try {
+			return http
+				.securityMatcher(METRICS_URLS)
+				.authorizeHttpRequests(requests -> requests
+					.requestMatchers(PUBLIC_URLS)
+					.permitAll()
+					.anyRequest()
+					.hasRole(ADMIN)
+				)
+				.httpBasic(Customizer.withDefaults())
+				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+				.csrf(AbstractHttpConfigurer::disable)
+				.build();
+
+		} catch (Exception e) {
+			throw new AccessDeniedException("Access Denied: " + e.getMessage(), e);
+		}
+	}
+
+
 	/**
 	 * Configures the security filter chain for the application.
 	 * @param http the HttpSecurity object
@@ -209,7 +247,8 @@ public class UmsWebSecurityConfig implements Serializable {
 					.successHandler(umsOAuth2LoginSuccessHandler())
 				)
 				.logout(LogoutConfigurer::permitAll)
-				.csrf(csrf -> csrf.ignoringRequestMatchers("/ws/**")) // disabled cross site request forgery for web socket
+				// disabled cross site request forgery for web socket
+				.csrf(csrf -> csrf.ignoringRequestMatchers("/ws/**"))
 				.build();
 
 		} catch (Exception e) {
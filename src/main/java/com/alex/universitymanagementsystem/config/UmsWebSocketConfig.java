@@ -1,33 +1,147 @@
 package com.alex.universitymanagementsystem.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.alex.universitymanagementsystem.component.websocket.UmsWebSocketSessionMetrics;
 
+/**
+ * STOMP over WebSocket, on {@code /ws-native} and with the SockJS fallback
+ * on {@code /ws}.
+ * <p>
+ * The channel executors are sized by {@code ums.websocket.inbound.*} and
+ * {@code ums.websocket.outbound.*}: the outbound threads write the
+ * messages of the broker to the sessions, so their number bounds how many
+ * students receive a published result in parallel. A session that does
+ * not take its messages within {@code ums.websocket.send-time-limit} or
+ * lets more than {@code ums.websocket.send-buffer-size-limit} pile up is
+ * closed instead of holding an outbound thread; the broker heartbeats
+ * ({@code ums.websocket.heartbeat}) close the silent ones.
+ * With {@code spring.threads.virtual.enabled} each message runs on its own
+ * virtual thread instead, and the pool sizes do not apply.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class UmsWebSocketConfig implements WebSocketMessageBrokerConfigurer{
 
+    // constants
+    private static final String PREFIX = "ums.websocket.";
+
+    // instance variables
+    private final boolean virtualThreads;
+    private final Environment environment;
+    private final TaskScheduler heartbeatScheduler;
+    private final UmsWebSocketSessionMetrics sessionMetrics;
+
+    // constructor
+    public UmsWebSocketConfig(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        Environment environment,
+        @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler,
+        UmsWebSocketSessionMetrics sessionMetrics
+    ) {
+        this.virtualThreads = virtualThreads;
+        this.environment = environment;
+        this.heartbeatScheduler = heartbeatScheduler;
+        this.sessionMetrics = sessionMetrics;
+    }
+
+
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config){
         // Prefisso per il broker (client -> server)
         config.setApplicationDestinationPrefixes("/ums");
 
         // Prefisso per il topic/broker interno (server -> client)
-        config.enableSimpleBroker("/topic");
+        config
+            .enableSimpleBroker("/topic")
+            .setHeartbeatValue(environment.getProperty(PREFIX + "heartbeat", long[].class, new long[] {10000, 10000}))
+            .setTaskScheduler(heartbeatScheduler);
 
         config.setUserDestinationPrefix("/user");
     }
 
     @Override
     public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
+        String[] allowedOrigins = environment
+            .getProperty(PREFIX + "allowed-origins", String[].class, new String[] {"http://localhost:8081"});
+
+        registry
+            .addEndpoint("/ws-native")
+            .setAllowedOriginPatterns(allowedOrigins);
+
         registry
             .addEndpoint("/ws")
-            .setAllowedOriginPatterns("http://localhost:8081")
+            .setAllowedOriginPatterns(allowedOrigins)
             .withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration
+            .setSendTimeLimit(millis("send-time-limit", Duration.ofSeconds(10)))
+            .setSendBufferSizeLimit(bytes("send-buffer-size-limit", DataSize.ofKilobytes(512)))
+            .setMessageSizeLimit(bytes("message-size-limit", DataSize.ofKilobytes(64)))
+            .setTimeToFirstMessage(millis("time-to-first-message", Duration.ofSeconds(30)))
+            .addDecoratorFactory(sessionMetrics);
+    }
+
+    @Override
+    public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        configureChannel(registration, "inbound", "ums-ws-in-");
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        configureChannel(registration, "outbound", "ums-ws-out-");
+    }
+
+
+    // helpers
+    private void configureChannel(ChannelRegistration registration, String channel, String threadPrefix) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+            executor.setVirtualThreads(true);
+            registration.executor(executor);
+            return;
+        }
+
+        // sized and initialized by the channel registration
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadPrefix);
+
+        String prefix = PREFIX + channel + ".";
+        int processors = Runtime.getRuntime().availableProcessors();
+        registration
+            .taskExecutor(executor)
+            .corePoolSize(environment.getProperty(prefix + "core-pool-size", Integer.class, processors * 2))
+            .maxPoolSize(environment.getProperty(prefix + "max-pool-size", Integer.class, processors * 8))
+            .queueCapacity(environment.getProperty(prefix + "queue-capacity", Integer.class, 10_000))
+            .keepAliveSeconds(60);
+    }
+
+    private int millis(String property, Duration defaultValue) {
+        return Math.toIntExact(environment.getProperty(PREFIX + property, Duration.class, defaultValue).toMillis());
+    }
+
+    private int bytes(String property, DataSize defaultValue) {
+        return Math.toIntExact(environment.getProperty(PREFIX + property, DataSize.class, defaultValue).toBytes());
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.alex.universitymanagementsystem.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.dto.AdminDashboardDto;
+import com.alex.universitymanagementsystem.service.AdminDashboardService;
+
+
+@RestController
+@RequestMapping(path = "api/v1/dashboard")
+public class AdminDashboardController {
+
+    // instance variable
+    private final AdminDashboardService adminDashboardService;
+
+    /** Autowired - dependency injection - constructor */
+    public AdminDashboardController(AdminDashboardService adminDashboardService) {
+        this.adminDashboardService = adminDashboardService;
+    }
+
+
+    /**
+     * Counters of students, appeals, bookings, outcomes and notifications
+     * in one page, read from the snapshot table.
+     * @return ModelAndView
+     */
+    @GetMapping(path = "/admin")
+    @SqlBudget(1)
+    public ModelAndView getAdminDashboard() {
+        return new ModelAndView("user_admin/admin-dashboard", "dashboard", adminDashboardService.getDashboard());
+    }
+
+
+    /**
+     * Counters of the admin dashboard for ajax request
+     * @return http response entity
+     */
+    @GetMapping(path = "/admin/ajax")
+    @SqlBudget(1)
+    public ResponseEntity<AdminDashboardDto> getJsonOfAdminDashboard() {
+        return ResponseEntity.ok(adminDashboardService.getDashboard());
+    }
+
+}
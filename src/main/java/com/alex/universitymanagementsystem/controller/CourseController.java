@@ -1,7 +1,7 @@
 package com.alex.universitymanagementsystem.controller;
 
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.component.view.UmsFragmentCache;
 import com.alex.universitymanagementsystem.dto.CourseDto;
 import com.alex.universitymanagementsystem.dto.CreateCourseDto;
 import com.alex.universitymanagementsystem.dto.DegreeCourseDto;
@@ -39,11 +41,18 @@ public class CourseController {
     private final CourseService courseService;
     private final ProfessorService professorService;
     private final DegreeCourseService degreeCourseService;
-
-    public CourseController(CourseService courseService, ProfessorService professorService, DegreeCourseService degreeCourseService) {
+    private final UmsFragmentCache fragmentCache;
+
+    public CourseController(
+        CourseService courseService,
+        ProfessorService professorService,
+        DegreeCourseService degreeCourseService,
+        UmsFragmentCache fragmentCache
+    ) {
         this.courseService = courseService;
         this.professorService = professorService;
         this.degreeCourseService = degreeCourseService;
+        this.fragmentCache = fragmentCache;
     }
 
 
@@ -52,9 +61,11 @@ public class CourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/courses")
+    @SqlBudget(6)
     public ModelAndView getAllCourses() {
-        Set<CourseDto> courses = courseService.getCourses();
-        return new ModelAndView("user_admin/course/courses", "courses", courses);
+        String courseTable = fragmentCache.render("fragments/catalog", "course-table",
+            () -> Map.of("courses", courseService.getCourses()));
+        return new ModelAndView("user_admin/course/courses", "courseTable", courseTable);
     }
 
 
@@ -65,9 +76,10 @@ public class CourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/course")
+    @SqlBudget(5)
     public ModelAndView getCourse(@RequestParam String courseName, @RequestParam String degreeCourseName) {
         CourseDto course = courseService.getCourseByNameAndDegreeCourseName(courseName, degreeCourseName);
-        return new ModelAndView("User_admin/course/read/read-result", COURSE, course);
+        return new ModelAndView("user_admin/course/read/read-result", COURSE, course);
     }
 
 
@@ -76,6 +88,7 @@ public class CourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/professor")
+    @SqlBudget(3)
     public ModelAndView getCoursesByProfessor(@AuthenticationPrincipal Professor professor) {
         ProfessorDto professorDto = ProfessorMapper.toDto(professor);
         List<CourseDto> courses = courseService.getCoursesByProfessor(professorDto);
@@ -88,8 +101,9 @@ public class CourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/create")
+    @SqlBudget(0)
     public ModelAndView instantiateCourseForCreate() {
-        return new ModelAndView("User_admin/course/create/create", COURSE, new CreateCourseDto());
+        return new ModelAndView("user_admin/course/create/create", COURSE, new CreateCourseDto());
     }
 
 
@@ -98,6 +112,7 @@ public class CourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/update")
+    @SqlBudget(0)
     public ModelAndView instantiateCourseForUpdate() {
         return new ModelAndView("user_admin/course/update/update", COURSE, new UpdateCourseDto());
     }
@@ -109,6 +124,7 @@ public class CourseController {
      * @return ModelAndView
      */
     @PostMapping(path = "/create")
+    @SqlBudget(8)
     public ModelAndView createNewCourse(@Valid @ModelAttribute("course") CreateCourseDto formDto) {
 
         ProfessorDto professor = professorService.getProfessorByUniqueCode(formDto.getUniqueCode());
@@ -133,6 +149,7 @@ public class CourseController {
      * @return ModelAndView
      */
     @PutMapping(path = "/update")
+    @SqlBudget(8)
     public ModelAndView updateCourse(@Valid @ModelAttribute UpdateCourseDto dto) {
         CourseDto course = courseService.updateCourse(dto);
         return new ModelAndView("user_admin/course/update/update-result", COURSE, course);
@@ -146,6 +163,7 @@ public class CourseController {
      * @return ModelAndView
      */
     @DeleteMapping("/delete/{degreeCourseName}/{courseName}")
+    @SqlBudget(10)
     public ModelAndView deleteCourseByName(@PathVariable String courseName, @PathVariable String degreeCourseName) {
         CourseDto courseDto = courseService.getCourseByNameAndDegreeCourseName(courseName, degreeCourseName);
         courseService.deleteByNameAndDegreeCourse(courseName, degreeCourseName);
@@ -2,6 +2,7 @@ package com.alex.universitymanagementsystem.controller;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -12,12 +13,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.component.view.UmsFragmentCache;
 import com.alex.universitymanagementsystem.dto.CourseDto;
 import com.alex.universitymanagementsystem.dto.DegreeCourseDto;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
 import com.alex.universitymanagementsystem.dto.StudentDto;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.JsonProcessingException;
+import com.alex.universitymanagementsystem.service.GraduationService;
+import com.alex.universitymanagementsystem.service.StudentRankingService;
 import com.alex.universitymanagementsystem.service.impl.DegreeCourseServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -30,10 +35,21 @@ public class DegreeCourseController {
 
     // instance variables
     private final DegreeCourseServiceImpl degreeCourseService;
+    private final UmsFragmentCache fragmentCache;
+    private final GraduationService graduationService;
+    private final StudentRankingService studentRankingService;
 
     // autowired - dependency injection - constructor
-    public DegreeCourseController(DegreeCourseServiceImpl degreeCourseService) {
+    public DegreeCourseController(
+        DegreeCourseServiceImpl degreeCourseService,
+        UmsFragmentCache fragmentCache,
+        GraduationService graduationService,
+        StudentRankingService studentRankingService
+    ) {
         this.degreeCourseService = degreeCourseService;
+        this.fragmentCache = fragmentCache;
+        this.graduationService = graduationService;
+        this.studentRankingService = studentRankingService;
     }
 
 
@@ -43,9 +59,11 @@ public class DegreeCourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/degree-courses")
+    @SqlBudget(2)
     public ModelAndView getAllDegreeCourses() {
-        Set<DegreeCourseDto> degreeCourses = degreeCourseService.getDegreeCourses();
-        return new ModelAndView("user_admin/degree_course/read/degree-courses", "degreeCourses", degreeCourses);
+        String degreeCourseTable = fragmentCache.render("fragments/catalog", "degree-course-table",
+            () -> Map.of("degreeCourses", degreeCourseService.getDegreeCourses()));
+        return new ModelAndView("user_admin/degree_course/read/degree-courses", "degreeCourseTable", degreeCourseTable);
     }
 
 
@@ -55,6 +73,7 @@ public class DegreeCourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/courses")
+    @SqlBudget(3)
     public ModelAndView getCourses(@RequestParam String name) {
         List<CourseDto> courses = degreeCourseService.getCourses(name.toUpperCase());
         return new ModelAndView("user_admin/degree_course/courses", "courses",courses);
@@ -67,6 +86,7 @@ public class DegreeCourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/professors")
+    @SqlBudget(3)
     public ModelAndView getProfessors(@RequestParam String name) {
         List<ProfessorDto> professors = degreeCourseService.getProfessors(name.toUpperCase());
         return new ModelAndView("user_admin/degree_course/professor-with-course-list","professors", professors);
@@ -79,18 +99,64 @@ public class DegreeCourseController {
      * @return ModelAndView
      */
     @GetMapping(path = "read/students")
+    @SqlBudget(5)
     public ModelAndView getStudents(@RequestParam String name) {
         List<StudentDto> students = degreeCourseService.getStudents(name.toUpperCase());
         return new ModelAndView("user_admin/degree_course/students","students", students);
     }
 
 
+    /**
+     * retrieves the graduation eligibility of every degree course and,
+     * given a degree course, its students eligible or not
+     * @param name the name of the degree course
+     * @param eligible true for the eligible students
+     * @return ModelAndView
+     */
+    @GetMapping(path = "read/graduation")
+    @SqlBudget(2)
+    public ModelAndView getGraduation(
+        @RequestParam(required = false) String name,
+        @RequestParam(defaultValue = "true") boolean eligible
+    ) {
+        ModelAndView modelAndView = new ModelAndView("user_admin/degree_course/read/graduation", "summaries", graduationService.getGraduationSummary());
+        if (name != null && !name.isBlank()) {
+            modelAndView.addObject("degreeCourseName", name.toUpperCase());
+            modelAndView.addObject("eligible", eligible);
+            modelAndView.addObject("students", graduationService.getStudents(name, eligible));
+        }
+        return modelAndView;
+    }
+
+
+    /**
+     * retrieves a page of the ranking of a degree course by weighted average
+     * @param name the name of the degree course
+     * @param page the page number, from 0
+     * @return ModelAndView
+     */
+    @GetMapping(path = "read/ranking")
+    @SqlBudget(2)
+    public ModelAndView getRanking(
+        @RequestParam(required = false) String name,
+        @RequestParam(defaultValue = "0") int page
+    ) {
+        ModelAndView modelAndView = new ModelAndView("user_admin/degree_course/read/ranking");
+        if (name != null && !name.isBlank()) {
+            modelAndView.addObject("degreeCourseName", name.toUpperCase());
+            modelAndView.addObject("ranking", studentRankingService.getRanking(name, page));
+        }
+        return modelAndView;
+    }
+
+
     /**
      * retrieves all degree courses for ajax request
      * @return http response entity
      * @throws JsonProcessingException if the object cannot be serialized to JSON
      */
     @GetMapping(path = "read/degree-courses/ajax")
+    @SqlBudget(2)
     public ResponseEntity<Set<DegreeCourseDto>> getJsonOfDegreeCourses() {
         try {
             return ResponseEntity.ok(degreeCourseService.getDegreeCourses());
@@ -107,6 +173,7 @@ public class DegreeCourseController {
      * @throws JsonProcessingException if the object cannot be serialized to JSON
      */
     @GetMapping(path = "read/courses/ajax")
+    @SqlBudget(3)
     public String getJsonOfCourses(@RequestParam String name) throws JsonProcessingException {
         try {
             // retrieve the courses
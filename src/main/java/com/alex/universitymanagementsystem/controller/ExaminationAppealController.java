@@ -14,13 +14,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.CourseDto;
 import com.alex.universitymanagementsystem.dto.ExaminationAppealDto;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
 import com.alex.universitymanagementsystem.entity.Professor;
 import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.exception.SameDayBookingException;
 import com.alex.universitymanagementsystem.mapper.ProfessorMapper;
 import com.alex.universitymanagementsystem.service.CourseService;
+import com.alex.universitymanagementsystem.service.ExamCalendarService;
 import com.alex.universitymanagementsystem.service.ExaminationAppealService;
 
 @RestController
@@ -34,14 +37,17 @@ public class ExaminationAppealController {
     // instance variables
     private final ExaminationAppealService examinationAppealService;
     private final CourseService courseService;
+    private final ExamCalendarService examCalendarService;
 
     // constructor
     public ExaminationAppealController(
         ExaminationAppealService examinationAppealService,
-        CourseService courseService
+        CourseService courseService,
+        ExamCalendarService examCalendarService
     ) {
         this.examinationAppealService = examinationAppealService;
         this.courseService = courseService;
+        this.examCalendarService = examCalendarService;
     }
 
 
@@ -51,6 +57,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @GetMapping(path = "/available/student")
+    @SqlBudget(7)
     public ModelAndView getExaminationAppealsAvailableForStudent(@AuthenticationPrincipal Student student) {
         List<ExaminationAppealDto> appeals = examinationAppealService.getExaminationAppealsAvailable(student.getRegister());
         return new ModelAndView("user_student/examinations/examination_appeal/available-calendar", EXAMINATION_APPEALS, appeals);
@@ -63,6 +70,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @GetMapping(path = "/booked/student")
+    @SqlBudget(6)
     public ModelAndView getExaminationAppealsBookedByStudent(@AuthenticationPrincipal Student student) {
         List<ExaminationAppealDto> appeals = examinationAppealService.getExaminationAppealsBookedByStudent(student.getRegister());
         return new ModelAndView("user_student/examinations/examination_appeal/booked-calendar", EXAMINATION_APPEALS, appeals);
@@ -75,6 +83,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/professor")
+    @SqlBudget(4)
     public ModelAndView getExaminationAppealsMadeByProfessor(@AuthenticationPrincipal Professor professor) {
         List<ExaminationAppealDto> appeals = examinationAppealService.getExaminationAppealsMadeByProfessor(professor.getUniqueCode());
         return new ModelAndView("user_professor/examinations/examination_appeal/calendar", EXAMINATION_APPEALS, appeals);
@@ -89,6 +98,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/students-booked/{id}/{date}")
+    @SqlBudget(5)
     public ModelAndView getStudentsBooked(@PathVariable Long id, @PathVariable LocalDate date, @AuthenticationPrincipal Professor professor) {
         ExaminationAppealDto appeal = examinationAppealService.getExaminationAppealById(id);
         return new ModelAndView("user_professor/examinations/examination_appeal/students-booked", EXAMINATION_APPEAL, appeal);
@@ -101,6 +111,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @GetMapping(path = "/make")
+    @SqlBudget(3)
     public ModelAndView getProfessorCourses(@AuthenticationPrincipal Professor professor) {
         List<CourseDto> courses = courseService.getCoursesByProfessor(ProfessorMapper.toDto(professor));
         return new ModelAndView("user_professor/examinations/examination_appeal/create/create-examination-appeal", "courses", courses);
@@ -113,6 +124,7 @@ public class ExaminationAppealController {
      * @return a ModelAndView object that represents the delete examination appeal view
      */
     @GetMapping(path = "/delete")
+    @SqlBudget(4)
     public ModelAndView deleteExaminationAppeal(@AuthenticationPrincipal Professor professor) {
         List<ExaminationAppealDto> appeals = examinationAppealService.getExaminationAppealsMadeByProfessor(professor.getUniqueCode());
         return new ModelAndView("user_professor/examinations/examination_appeal/delete/delete-examination-appeal", EXAMINATION_APPEALS, appeals);
@@ -128,6 +140,7 @@ public class ExaminationAppealController {
      * @param LocalDate date of the examination appeal
      */
     @PostMapping(path = "/create")
+    @SqlBudget(8)
     public ModelAndView createNewExaminationAppeal(
         @AuthenticationPrincipal Professor professor,
         @RequestParam String courseName,
@@ -149,6 +162,30 @@ public class ExaminationAppealController {
     }
 
 
+    /**
+     * Proposes the dates of the appeals of a session with the fewest
+     * students having two exams on the same day
+     * @param LocalDate first day of the session
+     * @param LocalDate last day of the session
+     * @param int maximum number of exams a day
+     * @param String degree course name, all degree courses if missing
+     * @return ModelAndView
+     */
+    @GetMapping(path = "/read/calendar")
+    @SqlBudget(2)
+    public ModelAndView getSessionCalendar(
+        @RequestParam(required = false) LocalDate from,
+        @RequestParam(required = false) LocalDate to,
+        @RequestParam(defaultValue = "20") int maxPerDay,
+        @RequestParam(required = false) String degreeCourseName
+    ) {
+        ModelAndView modelAndView = new ModelAndView("user_admin/examination/read/exam-calendar");
+        if (from != null && to != null)
+            modelAndView.addObject("calendar", examCalendarService.proposeCalendar(from, to, maxPerDay, degreeCourseName));
+        return modelAndView;
+    }
+
+
     /**
      * Delete an examination appeal
      * @param Professor professor owners of the examination appeal
@@ -157,6 +194,7 @@ public class ExaminationAppealController {
      * @param LocalDate date of the examination appeal
      */
     @DeleteMapping(path = "/delete")
+    @SqlBudget(8)
     public ModelAndView deleteExaminationAppeal(
         @AuthenticationPrincipal Professor professor,
         @RequestParam Long id
@@ -182,6 +220,7 @@ public class ExaminationAppealController {
      * Endpoint to confirm cancellation from the warning
      */
     @DeleteMapping("/delete/confirm")
+    @SqlBudget(8)
     public ModelAndView confirmDeleteExaminationAppeal(
         @AuthenticationPrincipal Professor professor,
         @RequestParam Long id
@@ -205,9 +244,14 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @PostMapping(path = "/booked/{id}")
+    @SqlBudget(13)
     public ModelAndView bookExaminationAppeal(@AuthenticationPrincipal Student student, @PathVariable Long id) {
-        ExaminationAppealDto appeal = examinationAppealService.addStudentToAppeal(id, student.getRegister());
-        return new ModelAndView("user_student/examinations/examination_appeal/booked-result", EXAMINATION_APPEAL, appeal);
+        try {
+            ExaminationAppealDto appeal = examinationAppealService.addStudentToAppeal(id, student.getRegister());
+            return new ModelAndView("user_student/examinations/examination_appeal/booked-result", EXAMINATION_APPEAL, appeal);
+        } catch (SameDayBookingException e) {
+            return new ModelAndView("user_student/examinations/examination_appeal/booked-result", "errorMessage", e.getMessage());
+        }
     }
 
 
@@ -218,6 +262,7 @@ public class ExaminationAppealController {
      * @return ModelAndView
      */
     @DeleteMapping(path = "delete-booked/{id}")
+    @SqlBudget(6)
     public ModelAndView deleteBookedExaminationAppeal(@AuthenticationPrincipal Student student, @PathVariable Long id) {
         examinationAppealService.removeStudentFromAppeal(id, student.getRegister());
         return new ModelAndView("user_student/examinations/examination_appeal/delete-booked-result");
@@ -3,6 +3,7 @@ package com.alex.universitymanagementsystem.controller;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,8 +14,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.ExaminationDto;
 import com.alex.universitymanagementsystem.dto.ExaminationOutcomeDto;
+import com.alex.universitymanagementsystem.dto.GradeDistributionDto;
 import com.alex.universitymanagementsystem.dto.UpdateExaminationDto;
 import com.alex.universitymanagementsystem.entity.Examination;
 import com.alex.universitymanagementsystem.entity.Student;
@@ -22,6 +25,7 @@ import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
 import com.alex.universitymanagementsystem.service.ExaminationOutcomeService;
 import com.alex.universitymanagementsystem.service.ExaminationService;
+import com.alex.universitymanagementsystem.service.GradeAnalyticsService;
 
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -33,20 +37,23 @@ public class ExaminationController {
     // constants
     private static final String EXAMINATION = "examination";
     private static final String EXAMINATIONS = "examinations";
-    private static final String EXAMINATIONS_LIST = "user_admin/examination/examination-list";
+    private static final String EXAMINATIONS_LIST = "user_admin/examination/examinations";
 
 
     // instance variable
     private final ExaminationService examinationService;
     private final ExaminationOutcomeService examinationOutcomeService;
+    private final GradeAnalyticsService gradeAnalyticsService;
 
     // autowired - dependency injection - constructor
     public ExaminationController(
         ExaminationService examinationService,
-        ExaminationOutcomeService examinationOutcomeService
+        ExaminationOutcomeService examinationOutcomeService,
+        GradeAnalyticsService gradeAnalyticsService
     ) {
         this.examinationService = examinationService;
         this.examinationOutcomeService = examinationOutcomeService;
+        this.gradeAnalyticsService = gradeAnalyticsService;
     }
 
 
@@ -56,6 +63,7 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/examinations")
+    @SqlBudget(6)
     public ModelAndView getAllExaminations() {
         List<ExaminationDto> examinations = examinationService.getExaminations();
         return new ModelAndView(EXAMINATIONS_LIST, EXAMINATIONS, examinations);
@@ -69,6 +77,7 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/course/degree-course")
+    @SqlBudget(3)
     public ModelAndView getExaminationsByCourseAndDegreeCourse(@RequestParam String courseName, @RequestParam String degreeCourseName) {
         List<ExaminationDto> examinations = examinationService.getExaminationsByCourseNameAndDegreeCourseName(courseName, degreeCourseName);
         return new ModelAndView(EXAMINATIONS_LIST, EXAMINATIONS, examinations);
@@ -81,6 +90,7 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/student/register")
+    @SqlBudget(5)
     public ModelAndView getExaminationsByStudent(
         @AuthenticationPrincipal Student student,
         @Valid @RequestParam(required = false) String register
@@ -88,7 +98,9 @@ public class ExaminationController {
         Register studRegister = student != null ? student.getRegister() : new Register(register);
 
         List<ExaminationDto> examinations = examinationService.getExaminationsByStudentRegister(studRegister);
-        return new ModelAndView("user_student/examinations/examinations", EXAMINATIONS, examinations);
+        ModelAndView modelAndView = new ModelAndView("user_student/examinations/examinations", EXAMINATIONS, examinations);
+        modelAndView.addObject("transcript", examinationService.getTranscript(studRegister));
+        return modelAndView;
     }
 
 
@@ -98,17 +110,54 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @GetMapping(path = "read/professor/unique-code")
+    @SqlBudget(4)
     public ModelAndView getExaminationsByProfessor(@RequestParam String uniqueCode) {
         List<ExaminationDto> examinations = examinationService.getExaminationsByProfessorUniqueCode(new UniqueCode(uniqueCode));
         return new ModelAndView(EXAMINATIONS_LIST, EXAMINATIONS, examinations);
     }
 
 
+    /**
+     * Returns the grade analytics of a course, or the form to choose it
+     * @param courseName name of the course
+     * @param degreeCourseName name of the degree course
+     * @return ModelAndView
+     */
+    @GetMapping(path = "/read/analytics")
+    @SqlBudget(6)
+    public ModelAndView getGradeAnalytics(
+        @RequestParam(required = false) String courseName,
+        @RequestParam(required = false) String degreeCourseName
+    ) {
+        ModelAndView modelAndView = new ModelAndView("user_admin/examination/read/grade-analytics");
+        if (courseName != null && degreeCourseName != null)
+            modelAndView.addObject("distribution", gradeAnalyticsService.getGradeDistribution(courseName, degreeCourseName));
+        return modelAndView;
+    }
+
+
+    /**
+     * Returns the grade analytics of a course for ajax request
+     * @param courseName name of the course
+     * @param degreeCourseName name of the degree course
+     * @return http response entity
+     */
+    @GetMapping(path = "/read/analytics/ajax")
+    @SqlBudget(6)
+    public ResponseEntity<GradeDistributionDto> getJsonOfGradeAnalytics(
+        @RequestParam String courseName,
+        @RequestParam String degreeCourseName
+    ) {
+        return ResponseEntity.ok(gradeAnalyticsService.getGradeDistribution(courseName, degreeCourseName));
+    }
+
+
     /**
      * Creates a new Examination
      * @return ModelAndView
      */
     @GetMapping("/create")
+    @SqlBudget(0)
     public ModelAndView instantiateExaminationForCreate() {
         return new ModelAndView("user_admin/examination/create/create", EXAMINATION, new Examination());
     }
@@ -119,6 +168,7 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @GetMapping("/update")
+    @SqlBudget(0)
     public ModelAndView instantiateExaminationForUpdate() {
         return new ModelAndView("user_admin/examination/update/update", EXAMINATION, new Examination());
     }
@@ -135,6 +185,7 @@ public class ExaminationController {
      * @return a ModelAndView containing the details of the newly added examination
      */
     @PostMapping(path = "/create")
+    @SqlBudget(12)
     public ModelAndView createNewExamination(
         @RequestParam String register,
         @RequestParam String courseName,
@@ -166,6 +217,7 @@ public class ExaminationController {
      * @return Examination
      */
     @PutMapping(path = "/update")
+    @SqlBudget(12)
     @Transactional
     public ModelAndView updateExamination(
         @RequestParam("old_register") String oldRegister,
@@ -200,6 +252,7 @@ public class ExaminationController {
      * @return ModelAndView
      */
     @DeleteMapping(path = "/delete")
+    @SqlBudget(6)
     public ModelAndView deleteExamination(
         @RequestParam String register,
         @RequestParam String courseName,
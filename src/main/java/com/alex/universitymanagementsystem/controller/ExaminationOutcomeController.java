@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.ExaminationAppealDto;
 import com.alex.universitymanagementsystem.dto.ExaminationOutcomeDto;
 import com.alex.universitymanagementsystem.entity.Student;
@@ -75,6 +76,7 @@ public class ExaminationOutcomeController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/outcomes")
+    @SqlBudget(2)
     public ModelAndView getAllExaminationOutcomes(@AuthenticationPrincipal Student student) {
         List<ExaminationOutcomeDto> outcomes = examinationOutcomeService.getStudentOutcomes(student.getRegister().toString());
         return new ModelAndView("user_student/examinations/examination_outcome/outcome", "outcomes", outcomes);
@@ -87,6 +89,7 @@ public class ExaminationOutcomeController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/outcome")
+    @SqlBudget(4)
     public ModelAndView getOutcome(@RequestParam Long id) {
         ExaminationOutcomeDto outcome = examinationOutcomeService.getOutcomeById(id);
         return new ModelAndView("user_student/examinations/examination_outcome/outcome-result", "outcome", outcome);
@@ -100,6 +103,7 @@ public class ExaminationOutcomeController {
      * @return ModelAndView
      */
     @GetMapping(path = "/make/{register}/{id}")
+    @SqlBudget(5)
     public ModelAndView makeExaminationOutcome(@PathVariable String register, @PathVariable Long id) {
         ExaminationAppealDto appeal = examinationAppealService.getExaminationAppealById(id);
         ExaminationOutcomeDto outcome = new ExaminationOutcomeDto(appeal, register);
@@ -113,6 +117,7 @@ public class ExaminationOutcomeController {
      * @return ModelAndView
      */
     @PostMapping(path = "/create")
+    @SqlBudget(8)
     public ModelAndView addNewExaminationOutcome(@Valid @ModelAttribute ExaminationOutcomeDto outcome) {
         return examinationOutcomeService
             .addNewExaminationOutcome(outcome)
@@ -128,6 +133,7 @@ public class ExaminationOutcomeController {
      * @return String
      */
     @PostMapping(path = "confirm-refusal")
+    @SqlBudget(0)
     public void handleRefusalConfirmation(@RequestParam String confirm, HttpServletResponse response)
         throws IOException
     {
@@ -145,6 +151,7 @@ public class ExaminationOutcomeController {
      * @return ModelAndView
      */
     @DeleteMapping(path = "/delete/{id}")
+    @SqlBudget(3)
     public ModelAndView deleteExaminationOutcome(@PathVariable Long id) {
         examinationOutcomeService.deleteExaminationOutcome(id);
         return new ModelAndView("/user_student/examinations/examination-menu");
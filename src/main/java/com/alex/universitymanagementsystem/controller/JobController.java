@@ -0,0 +1,55 @@
+package com.alex.universitymanagementsystem.controller;
+
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.service.JobService;
+
+
+@RestController
+@RequestMapping(path = "api/v1/job")
+public class JobController {
+
+    // instance variable
+    private final JobService jobService;
+
+    /** Autowired - dependency injection - constructor */
+    public JobController(JobService jobService) {
+        this.jobService = jobService;
+    }
+
+
+    /**
+     * Retrieves the scheduled jobs and their latest runs
+     * @return ModelAndView
+     */
+    @GetMapping(path = "/read/history")
+    @SqlBudget(2)
+    public ModelAndView getJobHistory() {
+        return new ModelAndView("user_admin/job/job-history", Map.of(
+            "jobs", jobService.getJobs(),
+            "runs", jobService.getJobHistory()
+        ));
+    }
+
+
+    /**
+     * Makes a parked or failing job due now, resuming from its checkpoint
+     * @param name the job name
+     * @return ModelAndView
+     */
+    @PostMapping(path = "/resume/{name}")
+    @SqlBudget(1)
+    public ModelAndView resumeJob(@PathVariable String name) {
+        jobService.resumeJob(name);
+        return new ModelAndView("redirect:/api/v1/job/read/history");
+    }
+
+}
@@ -5,10 +5,13 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+
 @Controller
 public class LoginController {
 
     @GetMapping("/login")
+    @SqlBudget(0)
     public String loginPage(
         @RequestParam(value = "error", required = false) String error,
         @RequestParam(value = "logout", required = false) String logout,
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.OutcomeNotificationDto;
 import com.alex.universitymanagementsystem.entity.Student;
 import com.alex.universitymanagementsystem.service.OutcomeNotificationService;
@@ -31,6 +32,7 @@ public class OutcomeNotificationController {
      * @return a list of OutcomeNotificationDto
      */
     @GetMapping
+    @SqlBudget(1)
     public List<OutcomeNotificationDto> getAllStudentNotifications(@AuthenticationPrincipal Student student) {
         return outcomeNotificationService.getActiveNotifications(student)
             .stream()
@@ -45,6 +47,7 @@ public class OutcomeNotificationController {
      * @param id
      */
     @PostMapping("/{id}/read")
+    @SqlBudget(2)
     public void markAsRead(@PathVariable Long id) {
         outcomeNotificationService.markAsRead(id);
     }
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.service.PasswordResetTokenService;
 
 @Controller
@@ -30,6 +31,7 @@ public class PasswordResetController {
      * @return
      */
     @GetMapping("/forgot-password")
+    @SqlBudget(0)
     public String forgotPasswordForm() { return "forgot-password"; }
 
 
@@ -40,6 +42,7 @@ public class PasswordResetController {
      * @return
      */
     @PostMapping("/forgot-password")
+    @SqlBudget(3)
     public String processForgotPassword(@RequestParam String email, Model model) {
         try {
             resetService.sendPasswordResetLink(email);
@@ -58,6 +61,7 @@ public class PasswordResetController {
      * @return
      */
     @GetMapping("/reset-password")
+    @SqlBudget(0)
     public String resetPasswordForm(@RequestParam String token, Model model) {
         model.addAttribute("token", token);
         return RESET_PASSWORD; // pagina con campi password/confirm
@@ -73,6 +77,7 @@ public class PasswordResetController {
      * @return
      */
     @PostMapping("/reset-password")
+    @SqlBudget(3)
     public String processReset(
         @RequestParam String token,
         @RequestParam String password,
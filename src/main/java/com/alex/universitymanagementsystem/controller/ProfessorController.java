@@ -2,6 +2,7 @@ package com.alex.universitymanagementsystem.controller;
 
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.springframework.validation.annotation.Validated;
@@ -11,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.component.view.UmsFragmentCache;
 import com.alex.universitymanagementsystem.annotation.ValidUniqueCode;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -30,10 +33,12 @@ public class ProfessorController {
 
     // instance variable
     private final ProfessorService professorService;
+    private final UmsFragmentCache fragmentCache;
 
     /** Autowired - dependency injection - constructor */
-    public ProfessorController(ProfessorService professorService) {
+    public ProfessorController(ProfessorService professorService, UmsFragmentCache fragmentCache) {
         this.professorService = professorService;
+        this.fragmentCache = fragmentCache;
     }
 
 
@@ -44,9 +49,11 @@ public class ProfessorController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/professors")
+    @SqlBudget(1)
     public ModelAndView getAllProfessors() {
-        List<ProfessorDto> professors = professorService.getProfessors();
-        return new ModelAndView("user_admin/professor/read/professors", PROFESSORS, professors);
+        String professorTable = fragmentCache.render("fragments/catalog", "professor-table",
+            () -> Map.of(PROFESSORS, professorService.getProfessors()));
+        return new ModelAndView("user_admin/professor/read/professors", "professorTable", professorTable);
     }
 
 
@@ -56,6 +63,7 @@ public class ProfessorController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/uniquecode")
+    @SqlBudget(1)
     public ModelAndView getProfessorByUniqueCode(@RequestParam @ValidUniqueCode String uniqueCode) {
         return handleProfessorSearch(() -> professorService.getProfessorByUniqueCode(uniqueCode),
             "No professors found with unique code: " + uniqueCode);
@@ -68,6 +76,7 @@ public class ProfessorController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/name")
+    @SqlBudget(1)
     public ModelAndView getProfessorsByFullname(@RequestParam String fullName) {
         List<ProfessorDto> professors = professorService.getProfessorsByFullname(fullName);
         return new ModelAndView("user_admin/professor/read/read-results", PROFESSORS, professors);
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.support.SessionStatus;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.enum_type.RoleType;
 
@@ -27,6 +28,7 @@ public class RegistrationController {
      * @return String
      */
     @GetMapping
+    @SqlBudget(0)
     public ModelAndView registration() {
         return new ModelAndView("registration", "form", new RegistrationForm());
     }
@@ -41,6 +43,7 @@ public class RegistrationController {
      * @return String - redirect
      */
     @PostMapping
+    @SqlBudget(6)
     public String processRegistration (
         @Valid @ModelAttribute RegistrationForm form,
         HttpServletRequest request,
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.annotation.ValidRegister;
 import com.alex.universitymanagementsystem.dto.StudentDto;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -42,6 +43,7 @@ public class StudentController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/students")
+    @SqlBudget(6)
 	public ModelAndView getAllStudents() {
         List<StudentDto> students = studentService.getStudents();
         return new ModelAndView("user_admin/student/read/students", STUDENTS, students);
@@ -54,6 +56,7 @@ public class StudentController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/register")
+    @SqlBudget(4)
 	public ModelAndView getStudentByRegister(@RequestParam @ValidRegister String register) {
         return handleStudentSearch(() -> studentService.getStudentByRegister(register),
             "No student found with register: " + register);
@@ -66,6 +69,7 @@ public class StudentController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/name")
+    @SqlBudget(1)
 	public ModelAndView getStudentsByFullName(@RequestParam String name) {
         List<StudentDto> students = studentService.getStudentsByFullname(name.toLowerCase());
         return new ModelAndView("user_admin/student/read/read-results", STUDENTS, students);
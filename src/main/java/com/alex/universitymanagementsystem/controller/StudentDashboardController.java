@@ -0,0 +1,41 @@
+package com.alex.universitymanagementsystem.controller;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.dto.StudentDashboardDto;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.service.StudentDashboardService;
+
+
+@RestController
+@RequestMapping(path = "api/v1/dashboard")
+public class StudentDashboardController {
+
+    // instance variable
+    private final StudentDashboardService studentDashboardService;
+
+    /** Autowired - dependency injection - constructor */
+    public StudentDashboardController(StudentDashboardService studentDashboardService) {
+        this.studentDashboardService = studentDashboardService;
+    }
+
+
+    /**
+     * Study plan, appeals, outcomes and notifications of the student in
+     * one page; the sections are read concurrently.
+     * @param student the authenticated student
+     * @return ModelAndView
+     */
+    @GetMapping(path = "/student")
+    @SqlBudget(value = 20, debt = "sum of the five sections, each in its own transaction and reading the student again")
+    public ModelAndView getStudentDashboard(@AuthenticationPrincipal Student student) {
+        StudentDashboardDto dashboard = studentDashboardService.getDashboard(student);
+        return new ModelAndView("user_student/student-dashboard", "dashboard", dashboard);
+    }
+
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.CourseDto;
 import com.alex.universitymanagementsystem.dto.DegreeCourseDto;
 import com.alex.universitymanagementsystem.dto.ExaminationDto;
@@ -24,6 +25,7 @@ import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.service.DegreeCourseService;
 import com.alex.universitymanagementsystem.service.ExaminationService;
+import com.alex.universitymanagementsystem.service.StudentService;
 import com.alex.universitymanagementsystem.service.StudyPlanService;
 
 import jakarta.validation.Valid;
@@ -42,15 +44,18 @@ public class StudyPlanController {
     private final StudyPlanService studyPlanService;
     private final DegreeCourseService degreeCourseService;
     private final ExaminationService examinationService;
+    private final StudentService studentService;
 
     public StudyPlanController(
         StudyPlanService studyPlanService,
         DegreeCourseService degreeCourseService,
-        ExaminationService examinationService
+        ExaminationService examinationService,
+        StudentService studentService
     ) {
         this.studyPlanService = studyPlanService;
         this.degreeCourseService = degreeCourseService;
         this.examinationService = examinationService;
+        this.studentService = studentService;
     }
 
 
@@ -61,6 +66,7 @@ public class StudyPlanController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read")
+    @SqlBudget(4)
     public ModelAndView getStudyPlan(@AuthenticationPrincipal Student student) {
         StudyPlanDto studyPlan = studyPlanService.getStudyPlanByRegister(student.getRegister());
         return new ModelAndView("user_student/study_plan/study-plan-read", "studyPlan", studyPlan);
@@ -82,10 +88,15 @@ public class StudyPlanController {
      * view with the SwapCoursesDto object as the model
      */
     @GetMapping(path = "/change")
+    @SqlBudget(14)
     public ModelAndView modifyStudyPlan(@AuthenticationPrincipal Student student) {
         // Retrieve all degree courses, student's degree course, student's study plan and security token
         Set<DegreeCourseDto> degreeCourses = degreeCourseService.getDegreeCourses();
-        String studentDegreeCourse = student.getDegreeCourse().getName();
+        // the principal is detached, its degree course is read through the service
+        String studentDegreeCourse = studentService
+            .getStudentByRegister(student.getRegister().toString())
+            .getDegreeCourse()
+            .getName();
         Set<CourseDto> availableCourses = getFilteredCourses(student.getRegister());
         String token = getFirstAuthorityToken();
 
@@ -104,6 +115,7 @@ public class StudyPlanController {
      * @return ModelAndView
      */
     @PutMapping(path = "/swap")
+    @SqlBudget(value = 20, debt = "both courses looked up by the validator and again by the service, the study plan read again for the response")
     public ModelAndView swapCourses(
         @AuthenticationPrincipal Student student,
         @Valid @ModelAttribute SwapCoursesDto dto
@@ -125,21 +137,22 @@ public class StudyPlanController {
      */
     private Set<CourseDto> getFilteredCourses(Register register) throws DataAccessServiceException
     {
+        Set<String> examinedCourses;
+        try {
+            examinedCourses = examinationService
+                .getExaminationsByStudentRegister(register)
+                .stream()
+                .map(ExaminationDto::getCourseName)
+                .collect(Collectors.toSet());
+        } catch (DataAccessServiceException e) {
+            logger.error("Failed to get filtered courses for student {}", register, e);
+            return Set.of();
+        }
+
         return studyPlanService
             .getCoursesByRegister(register)
             .stream()
-            .filter(course -> {
-                try {
-                    return examinationService
-                        .getExaminationsByStudentRegister(register)
-                        .stream()
-                        .map(ExaminationDto::getCourseName)
-                        .noneMatch(courseName -> courseName.equals(course.getName()));
-                } catch (DataAccessServiceException e) {
-                    logger.error("Failed to get filtered courses for student {}", register, e);
-                    return false;
-                }
-            })
+            .filter(course -> !examinedCourses.contains(course.getName()))
             .collect(Collectors.toSet());
     }
 
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.ModelAndView;
 
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.dto.StudentDto;
@@ -59,6 +60,7 @@ public class UserController {
      * @return ModelAndView
      */
     @GetMapping(path = "/read/users")
+    @SqlBudget(2)
     public ModelAndView getAllUsers() {
         List<UserDto> users = userService.getUsers();
         return new ModelAndView("user_admin/admin/read/users", "users", users);
@@ -70,6 +72,7 @@ public class UserController {
      * @return ModelAndView
      */
     @GetMapping(path = "/selection")
+    @SqlBudget(2)
     public ModelAndView getAllUsersForAction() {
         List<UserDto> users = userService.getUsers();
         return new ModelAndView("user_admin/admin/update/user-selection", "users", users);
@@ -81,6 +84,7 @@ public class UserController {
      * @return ModelAndView
      */
     @GetMapping(path = "/update")
+    @SqlBudget(0)
     public ModelAndView instantiateFormForAdminUpdate() {
         return new ModelAndView("user_admin/admin/update/update", UPDATE_FORM, new UpdateForm());
     }
@@ -91,6 +95,7 @@ public class UserController {
      * @return ModelAndView
      */
     @GetMapping(path = "/update/student")
+    @SqlBudget(0)
     public ModelAndView instantiateFormForStudentUpdate() {
         return new ModelAndView("user_student/student/update/update", UPDATE_FORM, new UpdateForm());
     }
@@ -101,6 +106,7 @@ public class UserController {
      * @return ModelAndView
      */
     @GetMapping(path = "/update/professor")
+    @SqlBudget(0)
     public ModelAndView instantiateFormForProfessorUpdate() {
         return new ModelAndView("user_professor/professor/update/update", UPDATE_FORM, new UpdateForm());
     }
@@ -112,6 +118,7 @@ public class UserController {
      * @return String
      */
     @PostMapping(path = "/create-admin")
+    @SqlBudget(4)
     public ModelAndView createNewUserWithRoleAdmin(HttpServletRequest request) {
         return handleCreation(
             request,
@@ -130,6 +137,7 @@ public class UserController {
      * @return ModelAndView
      */
     @PostMapping(path = "/create-student")
+    @SqlBudget(6)
     public ModelAndView createNewUserWithRoleStudent(HttpServletRequest request, @ModelAttribute DegreeCourse degreeCourse, String ordering) {
         return handleCreation(
             request,
@@ -146,6 +154,7 @@ public class UserController {
      * @return ModelAndView
      */
     @PostMapping(path = "/create-professor")
+    @SqlBudget(4)
     public ModelAndView createNewUserWithRoleProfessor(HttpServletRequest request) {
         return handleCreation(
             request,
@@ -162,6 +171,7 @@ public class UserController {
      * @return ModelAndView
      */
     @PutMapping(path = "/update")
+    @SqlBudget(4)
     public ModelAndView updateUser(@Valid @ModelAttribute UpdateForm form) {
         return new ModelAndView(
             "user_admin/update/update-result",
@@ -180,6 +190,7 @@ public class UserController {
      * @return ModelAndView
      */
     @DeleteMapping(path = "/delete")
+    @SqlBudget(6)
     public ModelAndView deleteUser(@RequestParam("id") String userId) {
         return new ModelAndView(
             "user_admin/delete/delete-result",
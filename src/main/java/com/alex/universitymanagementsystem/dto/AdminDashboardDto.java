@@ -0,0 +1,51 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.alex.universitymanagementsystem.entity.AdminKpiValue;
+
+public record AdminDashboardDto(
+    long students,
+    Map<String, Long> studentsByDegreeCourse,
+    long appealsThisWeek,
+    long bookings,
+    long pendingOutcomes,
+    long unreadNotifications,
+    LocalDateTime updatedAt
+) {
+    public static AdminDashboardDto toDto(Collection<AdminKpiValue> values) {
+        long students = 0;
+        Map<String, Long> studentsByDegreeCourse = new TreeMap<>();
+        long appealsThisWeek = 0;
+        long bookings = 0;
+        long pendingOutcomes = 0;
+        long unreadNotifications = 0;
+        LocalDateTime updatedAt = null;
+
+        for (AdminKpiValue value : values) {
+            switch (value.getKpi()) {
+                case STUDENTS -> students = value.getTotal();
+                case DEGREE_COURSE_STUDENTS -> studentsByDegreeCourse.put(value.getScope(), value.getTotal());
+                case APPEALS_THIS_WEEK -> appealsThisWeek = value.getTotal();
+                case BOOKINGS -> bookings = value.getTotal();
+                case PENDING_OUTCOMES -> pendingOutcomes = value.getTotal();
+                case UNREAD_NOTIFICATIONS -> unreadNotifications = value.getTotal();
+            }
+            if (updatedAt == null || value.getUpdatedAt().isAfter(updatedAt))
+                updatedAt = value.getUpdatedAt();
+        }
+
+        return new AdminDashboardDto(
+                students,
+                studentsByDegreeCourse,
+                appealsThisWeek,
+                bookings,
+                pendingOutcomes,
+                unreadNotifications,
+                updatedAt
+        );
+    }
+}
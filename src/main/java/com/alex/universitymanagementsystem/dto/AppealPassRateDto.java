@@ -0,0 +1,22 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Outcomes of the appeals of a course on one date, before they are
+ * closed into examinations.
+ * @param date the appeal date
+ * @param outcomes the outcomes
+ * @param present the students who sat the exam
+ * @param passed the students who passed
+ */
+public record AppealPassRateDto(LocalDate date, long outcomes, long present, long passed) {
+
+    /**
+     * @return the passed students over the present ones, 0 if nobody sat the exam
+     */
+    public double passRate() {
+        return present == 0 ? 0 : (double) passed / present;
+    }
+
+}
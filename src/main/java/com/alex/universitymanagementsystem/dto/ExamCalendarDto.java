@@ -0,0 +1,24 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A proposed calendar of an examination session.
+ * @param from the first day of the session
+ * @param to the last day of the session
+ * @param maxPerDay the maximum number of exams a day
+ * @param students the students with at least one course of the session in the study plan
+ * @param currentClashes the pairs of exams of a student on the same day, with the current dates
+ * @param proposedClashes the same, with the proposed dates
+ * @param entries the courses, by proposed date
+ */
+public record ExamCalendarDto(
+    LocalDate from,
+    LocalDate to,
+    int maxPerDay,
+    int students,
+    long currentClashes,
+    long proposedClashes,
+    List<ExamCalendarEntryDto> entries
+) {}
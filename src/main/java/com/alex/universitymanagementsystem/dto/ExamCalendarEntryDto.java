@@ -0,0 +1,21 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A course of the proposed session calendar.
+ * @param courseName the course name
+ * @param degreeCourseName the degree course name
+ * @param currentDate the date of the first appeal of the course in the session
+ * @param proposedDate the proposed date
+ * @param currentClashes the students of the course with another exam on the current date
+ * @param proposedClashes the students of the course with another exam on the proposed date
+ */
+public record ExamCalendarEntryDto(
+    String courseName,
+    String degreeCourseName,
+    LocalDate currentDate,
+    LocalDate proposedDate,
+    int currentClashes,
+    int proposedClashes
+) {}
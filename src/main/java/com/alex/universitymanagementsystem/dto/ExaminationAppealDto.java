@@ -38,6 +38,9 @@ public class ExaminationAppealDto {
 
     private Set<StudentDto> students;
 
+    // another appeal of the same day booked by the student
+    private boolean clashing;
+
     // Getters
     public Long getId() { return id; }
     public String getCourse() { return course; }
@@ -48,6 +51,7 @@ public class ExaminationAppealDto {
     public String getDescription() { return description; }
     public LocalDate getDate() { return date; }
     public Set<StudentDto> getStudents() { return students; }
+    public boolean isClashing() { return clashing; }
 
     // Setters
     public void setId(Long id) { this.id = id; }
@@ -59,5 +63,6 @@ public class ExaminationAppealDto {
     public void setDescription(String description) { this.description = description; }
     public void setDate(LocalDate date) { this.date = date; }
     public void setStudents(Set<StudentDto> students) { this.students = students; }
+    public void setClashing(boolean clashing) { this.clashing = clashing; }
 }
 
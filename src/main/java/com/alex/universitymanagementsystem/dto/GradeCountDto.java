@@ -0,0 +1,9 @@
+package com.alex.universitymanagementsystem.dto;
+
+/**
+ * Examinations of a course with a given grade.
+ * @param grade the grade, 18 to 30
+ * @param withHonors whether passed with honours (30 only)
+ * @param count the examinations
+ */
+public record GradeCountDto(int grade, boolean withHonors, long count) {}
@@ -0,0 +1,30 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grade analytics of a course: the histogram and the trend of its
+ * examinations, the pass rates of its appeals still open.
+ * @param courseName the course
+ * @param degreeCourseName the degree course
+ * @param examinations the examinations passed
+ * @param averageGrade the average grade of the examinations
+ * @param honors the examinations passed with honours
+ * @param histogram the examinations by grade, 18 to 30, honours included in 30
+ * @param trend the examinations by date
+ * @param appeals the outcomes by appeal date
+ * @param computedAt when the analytics were computed
+ */
+public record GradeDistributionDto(
+    String courseName,
+    String degreeCourseName,
+    long examinations,
+    double averageGrade,
+    long honors,
+    Map<Integer, Long> histogram,
+    List<GradeTrendDto> trend,
+    List<AppealPassRateDto> appeals,
+    LocalDateTime computedAt
+) {}
@@ -0,0 +1,12 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Examinations of a course registered on one appeal date.
+ * @param date the examination date
+ * @param examinations the examinations
+ * @param averageGrade the average grade
+ * @param honors the examinations passed with honours
+ */
+public record GradeTrendDto(LocalDate date, long examinations, double averageGrade, long honors) {}
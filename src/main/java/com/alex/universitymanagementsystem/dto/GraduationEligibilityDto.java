@@ -0,0 +1,32 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.entity.GraduationEligibility;
+
+public record GraduationEligibilityDto(
+    String register,
+    String degreeCourseName,
+    int planCfu,
+    int earnedCfu,
+    int missingCfu,
+    int missingCourses,
+    String missingCourseNames,
+    boolean eligible,
+    LocalDateTime evaluatedAt
+) {
+    public static GraduationEligibilityDto toDto(GraduationEligibility evaluation) {
+        if (evaluation == null) return null;
+        return new GraduationEligibilityDto(
+                evaluation.getRegister(),
+                evaluation.getDegreeCourse(),
+                evaluation.getPlanCfu(),
+                evaluation.getEarnedCfu(),
+                evaluation.getMissingCfu(),
+                evaluation.getMissingCourses(),
+                evaluation.getMissingCourseNames(),
+                evaluation.isEligible(),
+                evaluation.getEvaluatedAt()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.alex.universitymanagementsystem.dto;
+
+/**
+ * Graduation eligibility of the students of a degree course.
+ * @param degreeCourseName the degree course
+ * @param students the students with a study plan
+ * @param eligible the students who passed every course of their plan
+ * @param missingCfu the CFU still missing, summed over the students
+ */
+public record GraduationSummaryDto(String degreeCourseName, long students, long eligible, long missingCfu) {
+
+    /**
+     * @return the CFU missing on average, 0 without students
+     */
+    public double averageMissingCfu() {
+        return students == 0 ? 0 : (double) missingCfu / students;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.entity.JobRun;
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+
+public record JobRunDto(
+    Long id,
+    String jobName,
+    String node,
+    JobRunStatus status,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String resumedFrom,
+    int chunks,
+    long rowsAffected,
+    String error
+) {
+    public static JobRunDto toDto(JobRun run) {
+        if (run == null) return null;
+        return new JobRunDto(
+                run.getId(),
+                run.getJobName(),
+                run.getNode(),
+                run.getStatus(),
+                run.getStartedAt(),
+                run.getFinishedAt(),
+                run.getResumedFrom(),
+                run.getChunks(),
+                run.getRowsAffected(),
+                run.getError()
+        );
+    }
+}
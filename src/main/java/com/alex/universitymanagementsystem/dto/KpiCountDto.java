@@ -0,0 +1,8 @@
+package com.alex.universitymanagementsystem.dto;
+
+/**
+ * A count grouped by scope, e.g. the students of a degree course.
+ * @param scope the group
+ * @param total the count
+ */
+public record KpiCountDto(String scope, long total) {}
@@ -0,0 +1,10 @@
+package com.alex.universitymanagementsystem.dto;
+
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+
+/**
+ * A course passed by a student, as read by the graduation job.
+ * @param register the register of the student
+ * @param courseId the course
+ */
+public record PassedCourseDto(String register, CourseId courseId) {}
@@ -0,0 +1,13 @@
+package com.alex.universitymanagementsystem.dto;
+
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+
+/**
+ * A course of the study plan of a student, as read by the graduation job.
+ * @param register the register of the student
+ * @param degreeCourseName the degree course of the student, may be null
+ * @param courseId the course
+ * @param courseName the course name
+ * @param cfu the cfu of the course
+ */
+public record PlanCourseDto(String register, String degreeCourseName, CourseId courseId, String courseName, int cfu) {}
@@ -0,0 +1,11 @@
+package com.alex.universitymanagementsystem.dto;
+
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.entity.immutable.StudyPlanId;
+
+/**
+ * A course of a study plan, as read by the calendar planning.
+ * @param studyPlanId the study plan, one for each student
+ * @param courseId the course
+ */
+public record PlanEnrollmentDto(StudyPlanId studyPlanId, CourseId courseId) {}
@@ -0,0 +1,10 @@
+package com.alex.universitymanagementsystem.dto;
+
+/**
+ * An examination as read by the ranking job, with primitive components
+ * so that the accumulation does not box.
+ * @param register the register of the student
+ * @param cfu the CFU of the course
+ * @param grade the grade
+ */
+public record RankedGradeDto(String register, int cfu, int grade) {}
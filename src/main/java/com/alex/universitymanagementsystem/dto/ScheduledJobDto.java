@@ -0,0 +1,30 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.entity.ScheduledJob;
+
+public record ScheduledJobDto(
+    String name,
+    LocalDateTime nextRunAt,
+    LocalDateTime lastCompletedAt,
+    String checkpoint,
+    String leaseOwner,
+    LocalDateTime leaseUntil,
+    int consecutiveFailures,
+    boolean parked
+) {
+    public static ScheduledJobDto toDto(ScheduledJob job) {
+        if (job == null) return null;
+        return new ScheduledJobDto(
+                job.getName(),
+                job.getNextRunAt(),
+                job.getLastCompletedAt(),
+                job.getCheckpoint(),
+                job.getLeaseOwner(),
+                job.getLeaseUntil(),
+                job.getConsecutiveFailures(),
+                job.isParked()
+        );
+    }
+}
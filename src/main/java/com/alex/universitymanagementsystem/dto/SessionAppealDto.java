@@ -0,0 +1,14 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+
+/**
+ * An examination appeal of a session, as read by the calendar planning.
+ * @param courseId the course
+ * @param courseName the course name
+ * @param degreeCourseName the degree course name
+ * @param date the date chosen by the professor
+ */
+public record SessionAppealDto(CourseId courseId, String courseName, String degreeCourseName, LocalDate date) {}
@@ -0,0 +1,35 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything the student home page shows. A section whose read failed or
+ * missed its deadline is empty (null for the study plan) and listed in
+ * {@code unavailable}.
+ */
+public record StudentDashboardDto(
+    StudyPlanDto studyPlan,
+    List<ExaminationAppealDto> availableAppeals,
+    List<ExaminationAppealDto> bookedAppeals,
+    List<ExaminationOutcomeDto> outcomes,
+    List<OutcomeNotificationDto> notifications,
+    Set<String> unavailable
+) {
+
+    // section names
+    public static final String STUDY_PLAN = "studyPlan";
+    public static final String AVAILABLE_APPEALS = "availableAppeals";
+    public static final String BOOKED_APPEALS = "bookedAppeals";
+    public static final String OUTCOMES = "outcomes";
+    public static final String NOTIFICATIONS = "notifications";
+
+    public boolean isAvailable(String section) {
+        return !unavailable.contains(section);
+    }
+
+    public boolean isComplete() {
+        return unavailable.isEmpty();
+    }
+
+}
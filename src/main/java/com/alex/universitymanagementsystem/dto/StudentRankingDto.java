@@ -0,0 +1,28 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.entity.StudentRanking;
+
+public record StudentRankingDto(
+    String register,
+    String degreeCourseName,
+    int cfu,
+    double weightedAverage,
+    int denseRank,
+    double percentile,
+    LocalDateTime computedAt
+) {
+    public static StudentRankingDto toDto(StudentRanking ranking) {
+        if (ranking == null) return null;
+        return new StudentRankingDto(
+                ranking.getRegister(),
+                ranking.getDegreeCourse(),
+                ranking.getCfu(),
+                ranking.getWeightedAverage(),
+                ranking.getDenseRank(),
+                ranking.getPercentile(),
+                ranking.getComputedAt()
+        );
+    }
+}
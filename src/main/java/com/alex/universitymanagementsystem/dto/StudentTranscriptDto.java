@@ -0,0 +1,30 @@
+package com.alex.universitymanagementsystem.dto;
+
+import java.time.LocalDate;
+
+import com.alex.universitymanagementsystem.entity.StudentTranscript;
+
+public record StudentTranscriptDto(
+    String register,
+    double weightedAverage,
+    int cfu,
+    int examinations,
+    int honors,
+    LocalDate lastExamDate
+) {
+    public static StudentTranscriptDto toDto(StudentTranscript transcript) {
+        if (transcript == null) return null;
+        return new StudentTranscriptDto(
+                transcript.getRegister(),
+                transcript.getWeightedAverage(),
+                transcript.getCfu(),
+                transcript.getExaminations(),
+                transcript.getHonors(),
+                transcript.getLastExamDate()
+        );
+    }
+
+    public static StudentTranscriptDto empty(String register) {
+        return new StudentTranscriptDto(register, 0, 0, 0, 0, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * One counter of the admin dashboard, e.g. the students of a degree
+ * course (the scope) or the pending outcomes (empty scope). Changed by
+ * the deltas of the services and reconciled with the data every hour.
+ */
+@Entity
+@Table(name = "ADMIN_KPIS")
+public class AdminKpiValue {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kpi", nullable = false, length = 50)
+    private AdminKpi kpi;
+
+    @Column(name = "scope", nullable = false)
+    private String scope;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // constructors
+    protected AdminKpiValue() {}
+
+    public AdminKpiValue(AdminKpi kpi, String scope, long total, LocalDateTime updatedAt) {
+        this.kpi = kpi;
+        this.scope = scope;
+        this.total = total;
+        this.updatedAt = updatedAt;
+    }
+
+    // getters
+    public Long getId() { return id; }
+    public AdminKpi getKpi() { return kpi; }
+    public String getScope() { return scope; }
+    public long getTotal() { return total; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+}
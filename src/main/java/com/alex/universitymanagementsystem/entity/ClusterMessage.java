@@ -0,0 +1,61 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A message between the nodes, written by the sender and polled by the
+ * others; without target node it is for every node.
+ */
+@Entity
+@Table(name = "CLUSTER_MESSAGES")
+public class ClusterMessage {
+
+    // constants
+    public static final int MAX_PAYLOAD_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "channel", nullable = false, length = 100)
+    private String channel;
+
+    @Column(name = "sender_node", nullable = false, length = 100)
+    private String senderNode;
+
+    @Column(name = "target_node", length = 100)
+    private String targetNode;
+
+    @Column(name = "payload", nullable = false, length = MAX_PAYLOAD_LENGTH)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // constructors
+    protected ClusterMessage() {}
+
+    public ClusterMessage(String channel, String senderNode, String targetNode, String payload, LocalDateTime createdAt) {
+        this.channel = channel;
+        this.senderNode = senderNode;
+        this.targetNode = targetNode;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // getters
+    public Long getId() { return id; }
+    public String getChannel() { return channel; }
+    public String getSenderNode() { return senderNode; }
+    public String getTargetNode() { return targetNode; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+}
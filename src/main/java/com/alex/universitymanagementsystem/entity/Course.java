@@ -6,6 +6,7 @@ import java.util.Objects;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogChangeListener;
 import com.alex.universitymanagementsystem.entity.immutable.CourseId;
 import com.alex.universitymanagementsystem.entity.immutable.MiurCourseCode;
 import com.alex.universitymanagementsystem.enum_type.CourseType;
@@ -18,6 +19,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -28,6 +30,7 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "COURSES")
+@EntityListeners(UmsCatalogChangeListener.class)
 @Access(value = AccessType.PROPERTY)
 public class Course implements Serializable {
 
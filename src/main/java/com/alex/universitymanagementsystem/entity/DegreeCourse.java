@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
 
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogChangeListener;
 import com.alex.universitymanagementsystem.entity.immutable.DegreeCourseId;
 import com.alex.universitymanagementsystem.enum_type.DegreeType;
 
@@ -14,12 +15,14 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "DEGREE_COURSES")
+@EntityListeners(UmsCatalogChangeListener.class)
 @Access(AccessType.PROPERTY)
 public class DegreeCourse implements Serializable {
 
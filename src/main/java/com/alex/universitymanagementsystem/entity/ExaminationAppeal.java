@@ -90,8 +90,9 @@ public class ExaminationAppeal implements Serializable {
     public void setProfessor(UniqueCode professor) { this.professor = professor; }
     public void setDescription(String description) { this.description = description; }
     public void setDate(LocalDate date) { this.date = date; }
+    // kept as given: a copy of the collection set by Hibernate would load it row by row and rewrite it at flush
     public void setRegisters(Set<Register> registers) {
-        this.registers = (registers != null) ? new HashSet<>(registers) : new HashSet<>();
+        this.registers = (registers != null) ? registers : new HashSet<>();
     }
 
     // Bi-directional helpers
@@ -135,7 +136,7 @@ public class ExaminationAppeal implements Serializable {
 
     // initialization
     private void initializeRegisters(Set<Register> registers) {
-        setRegisters(registers);
+        setRegisters(registers != null ? new HashSet<>(registers) : null);
     }
 
 }
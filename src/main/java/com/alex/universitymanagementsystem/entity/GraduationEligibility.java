@@ -0,0 +1,85 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * How far a student is from graduation: the courses and CFU of the study
+ * plan still without an examination. Recomputed every night by the
+ * graduation eligibility job.
+ */
+@Entity
+@Table(name = "GRADUATION_ELIGIBILITY")
+public class GraduationEligibility {
+
+    // constants
+    public static final int MAX_NAMES_LENGTH = 2000;
+
+    @Id
+    @Column(name = "register", nullable = false, length = 6)
+    private String register;
+
+    @Column(name = "degree_course")
+    private String degreeCourse;
+
+    @Column(name = "plan_cfu", nullable = false)
+    private int planCfu;
+
+    @Column(name = "earned_cfu", nullable = false)
+    private int earnedCfu;
+
+    @Column(name = "missing_cfu", nullable = false)
+    private int missingCfu;
+
+    @Column(name = "missing_courses", nullable = false)
+    private int missingCourses;
+
+    // comma separated, truncated
+    @Column(name = "missing_course_names", length = MAX_NAMES_LENGTH)
+    private String missingCourseNames;
+
+    @Column(name = "eligible", nullable = false)
+    private boolean eligible;
+
+    @Column(name = "evaluated_at", nullable = false)
+    private LocalDateTime evaluatedAt;
+
+    // constructors
+    protected GraduationEligibility() {}
+
+    public GraduationEligibility(
+        String register,
+        String degreeCourse,
+        int planCfu,
+        int earnedCfu,
+        int missingCourses,
+        String missingCourseNames,
+        LocalDateTime evaluatedAt
+    ) {
+        this.register = register;
+        this.degreeCourse = degreeCourse;
+        this.planCfu = planCfu;
+        this.earnedCfu = earnedCfu;
+        this.missingCfu = planCfu - earnedCfu;
+        this.missingCourses = missingCourses;
+        this.missingCourseNames = missingCourseNames;
+        this.eligible = missingCourses == 0;
+        this.evaluatedAt = evaluatedAt;
+    }
+
+    // getters
+    public String getRegister() { return register; }
+    public String getDegreeCourse() { return degreeCourse; }
+    public int getPlanCfu() { return planCfu; }
+    public int getEarnedCfu() { return earnedCfu; }
+    public int getMissingCfu() { return missingCfu; }
+    public int getMissingCourses() { return missingCourses; }
+    public String getMissingCourseNames() { return missingCourseNames; }
+    public boolean isEligible() { return eligible; }
+    public LocalDateTime getEvaluatedAt() { return evaluatedAt; }
+
+}
@@ -0,0 +1,90 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * One execution of a scheduled job, as shown by the admin job history.
+ */
+@Entity
+@Table(name = "JOB_RUNS")
+public class JobRun {
+
+    // constants
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "node", nullable = false, length = 100)
+    private String node;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobRunStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "resumed_from", length = 255)
+    private String resumedFrom;
+
+    @Column(name = "chunks", nullable = false)
+    private int chunks;
+
+    @Column(name = "rows_affected", nullable = false)
+    private long rowsAffected;
+
+    @Column(name = "error", length = MAX_ERROR_LENGTH)
+    private String error;
+
+    // constructors
+    protected JobRun() {}
+
+    public JobRun(String jobName, String node, String resumedFrom) {
+        this.jobName = jobName;
+        this.node = node;
+        this.resumedFrom = resumedFrom;
+        this.status = JobRunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // getters
+    public Long getId() { return id; }
+    public String getJobName() { return jobName; }
+    public String getNode() { return node; }
+    public JobRunStatus getStatus() { return status; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getResumedFrom() { return resumedFrom; }
+    public int getChunks() { return chunks; }
+    public long getRowsAffected() { return rowsAffected; }
+    public String getError() { return error; }
+
+    // state changes
+    public void finish(JobRunStatus status, int chunks, long rowsAffected, String error) {
+        this.status = status;
+        this.chunks = chunks;
+        this.rowsAffected = rowsAffected;
+        this.finishedAt = LocalDateTime.now();
+        this.error = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+}
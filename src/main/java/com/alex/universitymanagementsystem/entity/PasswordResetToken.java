@@ -25,10 +25,10 @@ public class PasswordResetToken {
     @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
     private User user;
 
-    @Column(name = "expiry_date", nullable = false, unique = true)
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
 
-    @Column(name = "used", nullable = false, unique = true)
+    @Column(name = "used", nullable = false)
     private boolean used = false;
 
     // constructors
@@ -5,6 +5,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogChangeListener;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
@@ -13,10 +14,12 @@ import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "PROFESSORS")
+@EntityListeners(UmsCatalogChangeListener.class)
 @Access(AccessType.PROPERTY)
 public class Professor extends User {
 
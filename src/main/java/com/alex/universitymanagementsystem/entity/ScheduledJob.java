@@ -0,0 +1,73 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Persistent state of a scheduled job, shared by all the nodes: when it
+ * runs next, where an interrupted run stopped, how many runs failed in a
+ * row and which node holds the lease to run it. The lease columns are
+ * only written through the conditional updates of the repository.
+ */
+@Entity
+@Table(name = "SCHEDULED_JOBS")
+public class ScheduledJob {
+
+    @Id
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "checkpoint", length = 255)
+    private String checkpoint;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "consecutive_failures", nullable = false)
+    private int consecutiveFailures;
+
+    @Column(name = "parked", nullable = false)
+    private boolean parked;
+
+    // constructors
+    protected ScheduledJob() {}
+
+    public ScheduledJob(String name, LocalDateTime nextRunAt) {
+        this.name = name;
+        this.nextRunAt = nextRunAt;
+    }
+
+    // getters
+    public String getName() { return name; }
+    public LocalDateTime getNextRunAt() { return nextRunAt; }
+    public LocalDateTime getLastCompletedAt() { return lastCompletedAt; }
+    public String getCheckpoint() { return checkpoint; }
+    public String getLeaseOwner() { return leaseOwner; }
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+    public int getConsecutiveFailures() { return consecutiveFailures; }
+    public boolean isParked() { return parked; }
+
+    /**
+     * An interrupted run keeps the past run time of its schedule, a failed
+     * one is postponed to its retry.
+     * @param now the current time
+     * @return true if the job must run: it is scheduled, resumed or retried, and not parked
+     */
+    public boolean isDue(LocalDateTime now) {
+        return !parked && !nextRunAt.isAfter(now);
+    }
+
+}
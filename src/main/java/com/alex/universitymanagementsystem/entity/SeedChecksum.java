@@ -0,0 +1,42 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Checksum of a seed dataset already loaded in the database.
+ * Lives in the same schema as the seeded data, so it disappears with it.
+ */
+@Entity
+@Table(name = "SEED_CHECKSUMS")
+public class SeedChecksum {
+
+    @Id
+    @Column(name = "dataset", nullable = false, length = 100)
+    private String dataset;
+
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    // constructors
+    protected SeedChecksum() {}
+
+    public SeedChecksum(String dataset, String checksum) {
+        this.dataset = dataset;
+        this.checksum = checksum;
+        this.appliedAt = LocalDateTime.now();
+    }
+
+    // getters
+    public String getDataset() { return dataset; }
+    public String getChecksum() { return checksum; }
+    public LocalDateTime getAppliedAt() { return appliedAt; }
+
+}
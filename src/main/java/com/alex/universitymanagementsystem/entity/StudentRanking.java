@@ -0,0 +1,77 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Position of a student within the degree course by CFU-weighted average
+ * of the examinations passed. Students with the same average share the
+ * rank (dense ranking); the percentile is the share of the degree course
+ * students with an average not higher. Recomputed by the ranking job.
+ */
+@Entity
+@Table(name = "STUDENT_RANKINGS")
+public class StudentRanking {
+
+    @Id
+    @Column(name = "register", nullable = false, length = 6)
+    private String register;
+
+    @Column(name = "degree_course", nullable = false)
+    private String degreeCourse;
+
+    @Column(name = "cfu", nullable = false)
+    private int cfu;
+
+    @Column(name = "grade_points", nullable = false)
+    private long gradePoints;
+
+    @Column(name = "weighted_average", nullable = false)
+    private double weightedAverage;
+
+    @Column(name = "dense_rank", nullable = false)
+    private int denseRank;
+
+    @Column(name = "percentile", nullable = false)
+    private double percentile;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    // constructors
+    protected StudentRanking() {}
+
+    public StudentRanking(
+        String register,
+        String degreeCourse,
+        int cfu,
+        long gradePoints,
+        int denseRank,
+        double percentile,
+        LocalDateTime computedAt
+    ) {
+        this.register = register;
+        this.degreeCourse = degreeCourse;
+        this.cfu = cfu;
+        this.gradePoints = gradePoints;
+        this.weightedAverage = cfu == 0 ? 0 : (double) gradePoints / cfu;
+        this.denseRank = denseRank;
+        this.percentile = percentile;
+        this.computedAt = computedAt;
+    }
+
+    // getters
+    public String getRegister() { return register; }
+    public String getDegreeCourse() { return degreeCourse; }
+    public int getCfu() { return cfu; }
+    public long getGradePoints() { return gradePoints; }
+    public double getWeightedAverage() { return weightedAverage; }
+    public int getDenseRank() { return denseRank; }
+    public double getPercentile() { return percentile; }
+    public LocalDateTime getComputedAt() { return computedAt; }
+
+}
@@ -0,0 +1,66 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Aggregates of the examinations of a student, updated with each
+ * examination added, changed or deleted: the transcript header is read
+ * from one row instead of from every examination and course.
+ */
+@Entity
+@Table(name = "STUDENT_TRANSCRIPTS")
+public class StudentTranscript {
+
+    @Id
+    @Column(name = "register", nullable = false, length = 20)
+    private String register;
+
+    // sum of grade x cfu
+    @Column(name = "grade_points", nullable = false)
+    private long gradePoints;
+
+    @Column(name = "cfu", nullable = false)
+    private int cfu;
+
+    @Column(name = "examinations", nullable = false)
+    private int examinations;
+
+    @Column(name = "honors", nullable = false)
+    private int honors;
+
+    @Column(name = "last_exam_date")
+    private LocalDate lastExamDate;
+
+    // constructors
+    protected StudentTranscript() {}
+
+    public StudentTranscript(String register, long gradePoints, int cfu, int examinations, int honors, LocalDate lastExamDate) {
+        this.register = register;
+        this.gradePoints = gradePoints;
+        this.cfu = cfu;
+        this.examinations = examinations;
+        this.honors = honors;
+        this.lastExamDate = lastExamDate;
+    }
+
+    // getters
+    public String getRegister() { return register; }
+    public long getGradePoints() { return gradePoints; }
+    public int getCfu() { return cfu; }
+    public int getExaminations() { return examinations; }
+    public int getHonors() { return honors; }
+    public LocalDate getLastExamDate() { return lastExamDate; }
+
+    /**
+     * @return the average grade weighted by cfu, 0 without examinations
+     */
+    public double getWeightedAverage() {
+        return cfu == 0 ? 0 : (double) gradePoints / cfu;
+    }
+
+}
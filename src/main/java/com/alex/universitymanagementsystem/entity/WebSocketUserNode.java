@@ -0,0 +1,52 @@
+package com.alex.universitymanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A node holding at least one WebSocket session of a user. The node
+ * refreshes {@code seenAt} while it is alive: the rows of a dead node
+ * expire instead of attracting messages.
+ */
+@Entity
+@Table(name = "WEBSOCKET_USER_NODES")
+public class WebSocketUserNode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "username", nullable = false, length = 100)
+    private String username;
+
+    @Column(name = "node", nullable = false, length = 100)
+    private String node;
+
+    @Column(name = "seen_at", nullable = false)
+    private LocalDateTime seenAt;
+
+    // constructors
+    protected WebSocketUserNode() {}
+
+    public WebSocketUserNode(String username, String node, LocalDateTime seenAt) {
+        this.username = username;
+        this.node = node;
+        this.seenAt = seenAt;
+    }
+
+    // getters
+    public Long getId() { return id; }
+    public String getUsername() { return username; }
+    public String getNode() { return node; }
+    public LocalDateTime getSeenAt() { return seenAt; }
+
+    // setters
+    public void setSeenAt(LocalDateTime seenAt) { this.seenAt = seenAt; }
+
+}
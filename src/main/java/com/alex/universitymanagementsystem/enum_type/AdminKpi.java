@@ -0,0 +1,10 @@
+package com.alex.universitymanagementsystem.enum_type;
+
+public enum AdminKpi {
+    STUDENTS,
+    DEGREE_COURSE_STUDENTS,
+    APPEALS_THIS_WEEK,
+    BOOKINGS,
+    PENDING_OUTCOMES,
+    UNREAD_NOTIFICATIONS
+}
@@ -10,5 +10,6 @@ public enum DomainType {
     STUDY_PLAN,
     EXAMINATION,
     EXAMINATION_APPEAL,
-    EXAMINATION_OUTCOME
+    EXAMINATION_OUTCOME,
+    SCHEDULED_JOB
 }
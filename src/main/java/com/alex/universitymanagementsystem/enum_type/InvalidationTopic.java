@@ -0,0 +1,11 @@
+package com.alex.universitymanagementsystem.enum_type;
+
+public enum InvalidationTopic {
+    COURSE,
+    DEGREE_COURSE,
+    PROFESSOR,
+    USER,
+    EXAMINATION,
+    GRADES,
+    BOOKING
+}
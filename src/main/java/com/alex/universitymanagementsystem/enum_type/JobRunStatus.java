@@ -0,0 +1,8 @@
+package com.alex.universitymanagementsystem.enum_type;
+
+public enum JobRunStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    INTERRUPTED
+}
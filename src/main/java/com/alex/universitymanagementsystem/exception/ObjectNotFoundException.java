@@ -42,6 +42,7 @@ public class ObjectNotFoundException extends RuntimeException {
             case DomainType.EXAMINATION -> "Examination";
             case DomainType.EXAMINATION_APPEAL -> "Examination appeal";
             case DomainType.EXAMINATION_OUTCOME -> "Examination outcome";
+            case DomainType.SCHEDULED_JOB -> "Scheduled job";
             default -> "Unknown";
         };
     }
@@ -0,0 +1,14 @@
+package com.alex.universitymanagementsystem.exception;
+
+import java.time.LocalDate;
+
+
+public class SameDayBookingException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SameDayBookingException(LocalDate date) {
+        super("Another appeal on " + date + " is already booked");
+    }
+
+}
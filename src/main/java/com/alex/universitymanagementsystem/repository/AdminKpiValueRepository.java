@@ -0,0 +1,158 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.dto.KpiCountDto;
+import com.alex.universitymanagementsystem.entity.AdminKpiValue;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface AdminKpiValueRepository extends JpaRepository<AdminKpiValue, Long> {
+
+    /**
+     * Adds a delta to a counter in one statement: concurrent changes are
+     * serialized by the row lock.
+     * @param kpi the counter
+     * @param scope the scope, "" for the global counters
+     * @param delta the change
+     * @param now the update time
+     * @return 0 if the counter does not exist yet, 1 otherwise
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AdminKpiValue v
+        SET v.total = v.total + :delta, v.updatedAt = :now
+        WHERE v.kpi = :kpi AND v.scope = :scope
+        """)
+    int applyDelta(
+        @Param("kpi") AdminKpi kpi,
+        @Param("scope") String scope,
+        @Param("delta") long delta,
+        @Param("now") LocalDateTime now
+    );
+
+
+    /**
+     * Creates a counter at zero, unless another transaction has just
+     * created it: no failure on the unique key of the counters. The update
+     * on conflict never applies: unlike DO NOTHING, it is emulated on H2 as well.
+     * @param kpi the counter
+     * @param scope the scope, "" for the global counters
+     * @param now the update time
+     * @return 1 if the counter was created, 0 if it already existed
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        INSERT INTO AdminKpiValue (kpi, scope, total, updatedAt)
+        VALUES (:kpi, :scope, 0, :now)
+        ON CONFLICT (kpi, scope) DO UPDATE SET updatedAt = excluded.updatedAt WHERE 1 = 0
+        """)
+    int createIfAbsent(
+        @Param("kpi") AdminKpi kpi,
+        @Param("scope") String scope,
+        @Param("now") LocalDateTime now
+    );
+
+
+    /**
+     * Replaces the value of a counter.
+     * @param kpi the counter
+     * @param scope the scope, "" for the global counters
+     * @param total the new value
+     * @param now the update time
+     * @return 0 if the counter does not exist yet, 1 otherwise
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AdminKpiValue v
+        SET v.total = :total, v.updatedAt = :now
+        WHERE v.kpi = :kpi AND v.scope = :scope
+        """)
+    int setTotal(
+        @Param("kpi") AdminKpi kpi,
+        @Param("scope") String scope,
+        @Param("total") long total,
+        @Param("now") LocalDateTime now
+    );
+
+
+    /**
+     * Sets to zero every scope of a counter.
+     * @param kpi the counter
+     * @param now the update time
+     * @return the number of scopes
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AdminKpiValue v SET v.total = 0, v.updatedAt = :now WHERE v.kpi = :kpi")
+    int resetScopes(@Param("kpi") AdminKpi kpi, @Param("now") LocalDateTime now);
+
+
+    /**
+     * @return the number of students
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COUNT(s) FROM Student s")
+    long countStudents();
+
+
+    /**
+     * @return the number of students of each degree course with students
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.KpiCountDto(d.name, COUNT(s))
+        FROM Student s JOIN s.degreeCourse d
+        GROUP BY d.name
+        """)
+    List<KpiCountDto> countStudentsByDegreeCourse();
+
+
+    /**
+     * @param from the first day
+     * @param to the last day
+     * @return the number of examination appeals between the two days
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COUNT(a) FROM ExaminationAppeal a WHERE a.date BETWEEN :from AND :to")
+    long countAppealsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+
+    /**
+     * @return the number of students booked on the examination appeals
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COUNT(r) FROM ExaminationAppeal a JOIN a.registers r")
+    long countBookings();
+
+
+    /**
+     * @return the number of outcomes not yet closed
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COUNT(o) FROM ExaminationOutcome o")
+    long countOutcomes();
+
+
+    /**
+     * @return the number of unread outcome notifications
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COUNT(n) FROM OutcomeNotification n WHERE n.read = false")
+    long countUnreadNotifications();
+
+}
@@ -0,0 +1,82 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.ClusterMessage;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface ClusterMessageRepository extends JpaRepository<ClusterMessage, Long> {
+
+    /**
+     * Messages for a node after the last one it polled, oldest first.
+     * @param after the id of the last message polled
+     * @param node the polling node, whose own messages are skipped
+     * @param pageable the page size
+     * @return the messages
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT m FROM ClusterMessage m
+        WHERE m.id > :after AND m.senderNode <> :node AND (m.targetNode IS NULL OR m.targetNode = :node)
+        ORDER BY m.id
+        """)
+    List<ClusterMessage> findAfter(@Param("after") long after, @Param("node") String node, Pageable pageable);
+
+
+    /**
+     * Recent messages for a node up to the last one it polled: an identity
+     * taken before the last polled one may be committed after it. Read
+     * one page at a time, oldest first.
+     * @param since the start of the rescan window
+     * @param after the id of the last message of the previous page, 0 for the first page
+     * @param upTo the id of the last message polled
+     * @param node the polling node, whose own messages are skipped
+     * @param pageable the page size
+     * @return the messages
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT m FROM ClusterMessage m
+        WHERE m.createdAt > :since AND m.id > :after AND m.id <= :upTo AND m.senderNode <> :node
+            AND (m.targetNode IS NULL OR m.targetNode = :node)
+        ORDER BY m.id
+        """)
+    List<ClusterMessage> findRecent(
+        @Param("since") LocalDateTime since,
+        @Param("after") long after,
+        @Param("upTo") long upTo,
+        @Param("node") String node,
+        Pageable pageable
+    );
+
+
+    /**
+     * @return the id of the last message, 0 without messages
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM ClusterMessage m")
+    long findLastId();
+
+
+    /**
+     * Deletes the messages older than the retention.
+     * @param before the creation time limit
+     * @return the number of messages deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM ClusterMessage m WHERE m.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+
+}
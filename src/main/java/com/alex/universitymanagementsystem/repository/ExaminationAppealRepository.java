@@ -5,13 +5,16 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.alex.universitymanagementsystem.dto.SessionAppealDto;
 import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
 import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
 
 
 
@@ -40,13 +43,55 @@ public interface ExaminationAppealRepository
 
 
     /**
-     * Find all examination appeals by course ids and date
+     * Find all examination appeals by course ids, with their course, its degree
+     * course and professor, and the registers booked, in a single statement
      * @param ids
-     * @param date
      * @return a list of examination appeals
      */
-    // @Query(value = "SELECT * FROM examination_appeal ea WHERE ea.course_id IN (:ids) AND ea.date = :date", nativeQuery = true)
-    List<ExaminationAppeal> findByDateBefore(LocalDate expirationDateOneMonth);
+    @Query("""
+        SELECT DISTINCT ea FROM ExaminationAppeal ea
+        JOIN FETCH ea.course c
+        JOIN FETCH c.degreeCourse
+        LEFT JOIN FETCH c.professor
+        LEFT JOIN FETCH ea.registers
+        WHERE c.id.id IN :ids
+        """)
+    List<ExaminationAppeal> findWithRegistersByCourseIdIn(@Param("ids") List<UUID> ids);
+
+
+    /**
+     * Find the examination appeals held before a date, in id order, one chunk at a time
+     * @param date the expiration date
+     * @param id the last id of the previous chunk
+     * @param pageable the chunk size
+     * @return a list of examination appeals
+     */
+    List<ExaminationAppeal> findByDateBeforeAndIdGreaterThanOrderByIdAsc(LocalDate date, Long id, Pageable pageable);
+
+
+    /**
+     * Find the examination appeals of a session, with their course, for the calendar planning
+     * @param from the first day of the session
+     * @param to the last day of the session
+     * @return the appeals by date
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.SessionAppealDto(c.id, c.name, d.name, ea.date)
+        FROM ExaminationAppeal ea JOIN ea.course c JOIN c.degreeCourse d
+        WHERE ea.date BETWEEN :from AND :to
+        ORDER BY ea.date
+        """)
+    List<SessionAppealDto> findSessionAppeals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+
+    /**
+     * Find the dates of the examination appeals booked by a student from a day on
+     * @param register the student register
+     * @param from the first day
+     * @return the dates, one for each booking
+     */
+    @Query("SELECT ea.date FROM ExaminationAppeal ea JOIN ea.registers r WHERE r = :register AND ea.date >= :from")
+    List<LocalDate> findBookedDates(@Param("register") Register register, @Param("from") LocalDate from);
 
 
 }
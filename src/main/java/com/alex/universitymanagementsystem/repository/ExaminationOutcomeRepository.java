@@ -4,8 +4,12 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.alex.universitymanagementsystem.dto.AppealPassRateDto;
 import com.alex.universitymanagementsystem.entity.Course;
 import com.alex.universitymanagementsystem.entity.ExaminationOutcome;
 
@@ -36,12 +40,41 @@ public interface ExaminationOutcomeRepository
 
 
     /**
-     * Find examination outcomes with date less than the assigned value
+     * Aggregates the outcomes of the appeals of a course by appeal date, in the database.
+     * @param course the course
+     * @return the appeal dates with at least one outcome, oldest first
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.AppealPassRateDto(
+            a.date,
+            COUNT(o),
+            SUM(CASE WHEN o.present = true THEN 1 ELSE 0 END),
+            SUM(CASE WHEN o.present = true AND o.grade >= 18 THEN 1 ELSE 0 END))
+        FROM ExaminationOutcome o JOIN o.appeal a
+        WHERE a.course = :course
+        GROUP BY a.date
+        ORDER BY a.date
+        """)
+    List<AppealPassRateDto> findPassRates(@Param("course") Course course);
+
+
+    /**
+     * Find examination outcomes with date less than the assigned value, in id
+     * order, one chunk at a time.
+     * Inner join, so the appeals can be selected first through the date index
      * @param date
+     * @param id the last id of the previous chunk
+     * @param pageable the chunk size
      * @return List of examination outcomes
      * @throws PersistenceException persistence error
      */
-    List<ExaminationOutcome> findByAppeal_DateBefore(LocalDate date);
+    @Query("SELECT o FROM ExaminationOutcome o JOIN FETCH o.appeal a WHERE a.date < :date AND o.id > :id ORDER BY o.id")
+    List<ExaminationOutcome> findByAppeal_DateBeforeAndIdGreaterThan(
+        @Param("date") LocalDate date,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 
 
     /**
@@ -1,15 +1,23 @@
 package com.alex.universitymanagementsystem.repository;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.alex.universitymanagementsystem.dto.GradeCountDto;
+import com.alex.universitymanagementsystem.dto.GradeTrendDto;
+import com.alex.universitymanagementsystem.entity.Course;
 import com.alex.universitymanagementsystem.entity.Examination;
 import com.alex.universitymanagementsystem.entity.immutable.ExaminationId;
 
+import jakarta.persistence.PersistenceException;
+
 
 @Repository
 public interface ExaminationRepository
@@ -17,11 +25,23 @@ public interface ExaminationRepository
 {
 
     /**
-     * Retrieves all examinations for the given student register.
+     * Retrieves all examinations with their course and its degree course,
+     * read by the mapper, in one statement instead of one per course.
+     *
+     * @return list of all examinations
+     */
+    @Query("SELECT e FROM Examination e LEFT JOIN FETCH e.course c LEFT JOIN FETCH c.degreeCourse")
+    List<Examination> findAllWithCourse();
+
+
+    /**
+     * Retrieves all examinations for the given student register, with
+     * their course and its degree course.
      *
      * @param register the register of the student
      * @return list of examinations associated with the student
      */
+    @Query("SELECT e FROM Examination e LEFT JOIN FETCH e.course c LEFT JOIN FETCH c.degreeCourse WHERE e.register = ?1")
     List<Examination> findByRegister(String register);
 
 
@@ -34,4 +54,63 @@ public interface ExaminationRepository
     List<Examination> findByCourse_Id_Id(UUID courseId);
 
 
+    /**
+     * Retrieves the examinations of the given courses, with their course
+     * and its degree course, in one statement.
+     *
+     * @param courses the courses
+     * @return list of examinations of any of the courses
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT e FROM Examination e JOIN FETCH e.course c LEFT JOIN FETCH c.degreeCourse WHERE c IN ?1")
+    List<Examination> findByCourseIn(Collection<Course> courses);
+
+
+    /**
+     * Retrieves the examinations of the given students for the given courses.
+     *
+     * @param registers the registers of the students
+     * @param courses the courses
+     * @return list of examinations of any of the students for any of the courses
+     * @throws PersistenceException persistence error
+     */
+    List<Examination> findByRegisterInAndCourseIn(Collection<String> registers, Collection<Course> courses);
+
+
+    /**
+     * Counts the examinations of a course by grade, in the database.
+     *
+     * @param course the course
+     * @return the grades with at least one examination, lowest first
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.GradeCountDto(
+            e.grade, COALESCE(e.withHonors, false), COUNT(e))
+        FROM Examination e
+        WHERE e.course = :course
+        GROUP BY e.grade, COALESCE(e.withHonors, false)
+        ORDER BY e.grade
+        """)
+    List<GradeCountDto> countGrades(@Param("course") Course course);
+
+
+    /**
+     * Aggregates the examinations of a course by date, in the database.
+     *
+     * @param course the course
+     * @return the dates with at least one examination, oldest first
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.GradeTrendDto(
+            e.date, COUNT(e), AVG(e.grade), SUM(CASE WHEN e.withHonors = true THEN 1 ELSE 0 END))
+        FROM Examination e
+        WHERE e.course = :course
+        GROUP BY e.date
+        ORDER BY e.date
+        """)
+    List<GradeTrendDto> findGradeTrend(@Param("course") Course course);
+
+
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.dto.GraduationSummaryDto;
+import com.alex.universitymanagementsystem.dto.PassedCourseDto;
+import com.alex.universitymanagementsystem.dto.PlanCourseDto;
+import com.alex.universitymanagementsystem.entity.GraduationEligibility;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.QueryHint;
+
+
+@Repository
+public interface GraduationEligibilityRepository extends JpaRepository<GraduationEligibility, String> {
+
+    /**
+     * Registers of the students, in order, for the evaluation by register ranges.
+     * @param after the last register of the previous range, "" for the first range
+     * @param pageable the range size
+     * @return the registers
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT s.register.register FROM Student s WHERE s.register.register > :after ORDER BY s.register.register")
+    List<String> findStudentRegistersAfter(@Param("after") String after, Pageable pageable);
+
+
+    /**
+     * Streams the study plan courses of a range of registers, in register
+     * order; to be closed, inside a transaction.
+     * @param after the exclusive lower bound
+     * @param upTo the inclusive upper bound
+     * @return the study plan courses
+     * @throws PersistenceException persistence error
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.PlanCourseDto(
+            s.register.register, d.name, c.id, c.name, c.cfu)
+        FROM Student s JOIN s.studyPlan p JOIN p.courses c LEFT JOIN s.degreeCourse d
+        WHERE s.register.register > :after AND s.register.register <= :upTo
+        ORDER BY s.register.register
+        """)
+    Stream<PlanCourseDto> streamPlanCourses(@Param("after") String after, @Param("upTo") String upTo);
+
+
+    /**
+     * Streams the courses passed by a range of registers; to be closed,
+     * inside a transaction. Reads the course key of the examination rather
+     * than joining the courses, which H2 drives from the course side
+     * through every examination of the course.
+     * @param after the exclusive lower bound
+     * @param upTo the inclusive upper bound
+     * @return the passed courses
+     * @throws PersistenceException persistence error
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.PassedCourseDto(e.register, e.course.id)
+        FROM Examination e
+        WHERE e.course IS NOT NULL AND e.register > :after AND e.register <= :upTo
+        """)
+    Stream<PassedCourseDto> streamPassedCourses(@Param("after") String after, @Param("upTo") String upTo);
+
+
+    /**
+     * Deletes the evaluations of a range of registers.
+     * @param after the exclusive lower bound
+     * @param upTo the inclusive upper bound
+     * @return the number of evaluations deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM GraduationEligibility g WHERE g.register > :after AND g.register <= :upTo")
+    int deleteRange(@Param("after") String after, @Param("upTo") String upTo);
+
+
+    /**
+     * Deletes the evaluations after a register.
+     * @param after the exclusive lower bound
+     * @return the number of evaluations deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM GraduationEligibility g WHERE g.register > :after")
+    int deleteAfter(@Param("after") String after);
+
+
+    /**
+     * Summarizes the evaluations by degree course.
+     * @return the summary of each degree course
+     * @throws PersistenceException persistence error
+     */
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.GraduationSummaryDto(
+            g.degreeCourse,
+            COUNT(g),
+            SUM(CASE WHEN g.eligible = true THEN 1 ELSE 0 END),
+            SUM(g.missingCfu))
+        FROM GraduationEligibility g
+        GROUP BY g.degreeCourse
+        ORDER BY g.degreeCourse
+        """)
+    List<GraduationSummaryDto> summarize();
+
+
+    /**
+     * Retrieves the evaluations of a degree course, by eligibility.
+     * @param degreeCourse the degree course name
+     * @param eligible true for the eligible students
+     * @param pageable the page
+     * @return the evaluations in register order
+     * @throws PersistenceException persistence error
+     */
+    List<GraduationEligibility> findByDegreeCourseAndEligibleOrderByRegister(String degreeCourse, boolean eligible, Pageable pageable);
+
+}
@@ -0,0 +1,47 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.JobRun;
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * Retrieve the latest runs of all the jobs
+     * @return the last 100 runs, latest first
+     * @throws PersistenceException persistence error
+     */
+    List<JobRun> findTop100ByOrderByIdDesc();
+
+
+    /**
+     * Close the runs of a job left in a given status by a node that stopped
+     * @param jobName the job name
+     * @param from the status of the stale runs
+     * @param to the new status
+     * @param finishedAt the time the runs are closed
+     * @return the number of runs closed
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("UPDATE JobRun r SET r.status = :to, r.finishedAt = :finishedAt WHERE r.jobName = :jobName AND r.status = :from")
+    int closeRuns(
+        @Param("jobName") String jobName,
+        @Param("from") JobRunStatus from,
+        @Param("to") JobRunStatus to,
+        @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+}
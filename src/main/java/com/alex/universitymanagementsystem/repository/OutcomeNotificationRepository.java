@@ -3,8 +3,10 @@ package com.alex.universitymanagementsystem.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.alex.universitymanagementsystem.entity.OutcomeNotification;
@@ -27,11 +29,24 @@ public interface OutcomeNotificationRepository
 
 
     /**
-     * Delete all expired notifications
+     * Retrieve the ids of the expired notifications, in id order, one chunk
+     * at a time; the rows are then deleted by id
      * @param now
+     * @param id the last id of the previous chunk
+     * @param pageable the chunk size
+     * @return the ids of the expired notifications
      * @throws PersistenceException persistence error
      */
-    @Modifying
-    void deleteByExpiresAtBefore(LocalDateTime now);
+    @Query("SELECT n.id FROM OutcomeNotification n WHERE n.expiresAt < :now AND n.id > :id ORDER BY n.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, @Param("id") Long id, Pageable pageable);
+
+
+    /**
+     * Count the unread notifications among the given ones
+     * @param ids the notification ids
+     * @return the number of unread notifications
+     * @throws PersistenceException persistence error
+     */
+    long countByIdInAndReadFalse(List<Long> ids);
 
 }
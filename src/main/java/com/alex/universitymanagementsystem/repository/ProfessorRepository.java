@@ -2,6 +2,7 @@ package com.alex.universitymanagementsystem.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -32,6 +33,16 @@ public interface ProfessorRepository
     Optional<Professor> findByUniqueCode(UniqueCode uniqueCode);
 
 
+    /**
+     * Retrieves the professors with the given unique codes
+     * @param uniqueCodes the unique codes of the professors to retrieve
+     * @return a list of the professors found
+     * @see UniqueCode
+     */
+    @Query(value = "SELECT s FROM Professor s WHERE s.uniqueCode IN ?1")
+    List<Professor> findByUniqueCodeIn(Set<UniqueCode> uniqueCodes);
+
+
 
     /**
      * Retrieves a professor by fiscal code
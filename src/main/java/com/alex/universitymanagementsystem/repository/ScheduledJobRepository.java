@@ -0,0 +1,143 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.ScheduledJob;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface ScheduledJobRepository extends JpaRepository<ScheduledJob, String> {
+
+    /**
+     * Takes the lease of a job, if it is free, expired or already held by the node.
+     * A single conditional update, so exactly one node wins a race.
+     * @param name the job name
+     * @param node the node taking the lease
+     * @param now the current time
+     * @param until the lease expiration
+     * @return 1 if the node holds the lease, 0 otherwise
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScheduledJob j SET j.leaseOwner = :node, j.leaseUntil = :until
+        WHERE j.name = :name AND (j.leaseUntil IS NULL OR j.leaseUntil < :now OR j.leaseOwner = :node)
+        """)
+    int acquireLease(
+        @Param("name") String name,
+        @Param("node") String node,
+        @Param("now") LocalDateTime now,
+        @Param("until") LocalDateTime until
+    );
+
+
+    /**
+     * Saves the checkpoint of a running job and extends the lease.
+     * @param name the job name
+     * @param node the node holding the lease
+     * @param checkpoint where the run has arrived
+     * @param until the new lease expiration
+     * @return 0 if the node lost the lease meanwhile
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScheduledJob j SET j.checkpoint = :checkpoint, j.leaseUntil = :until
+        WHERE j.name = :name AND j.leaseOwner = :node
+        """)
+    int saveCheckpoint(
+        @Param("name") String name,
+        @Param("node") String node,
+        @Param("checkpoint") String checkpoint,
+        @Param("until") LocalDateTime until
+    );
+
+
+    /**
+     * Records a completed run, schedules the next one, clears the failures
+     * and releases the lease.
+     * @param name the job name
+     * @param node the node holding the lease
+     * @param completedAt the completion time
+     * @param nextRunAt the next scheduled run
+     * @return 0 if the node lost the lease meanwhile
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScheduledJob j
+        SET j.checkpoint = NULL, j.lastCompletedAt = :completedAt, j.nextRunAt = :nextRunAt,
+            j.consecutiveFailures = 0, j.leaseOwner = NULL, j.leaseUntil = NULL
+        WHERE j.name = :name AND j.leaseOwner = :node
+        """)
+    int complete(
+        @Param("name") String name,
+        @Param("node") String node,
+        @Param("completedAt") LocalDateTime completedAt,
+        @Param("nextRunAt") LocalDateTime nextRunAt
+    );
+
+
+    /**
+     * Records a failed run and releases the lease, keeping the checkpoint:
+     * the run is retried from it at {@code retryAt}, or the job is parked
+     * when it has failed {@code maxFailures} times in a row.
+     * @param name the job name
+     * @param node the node holding the lease
+     * @param retryAt the time of the retry
+     * @param maxFailures the consecutive failures that park the job
+     * @return 0 if the node lost the lease meanwhile
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScheduledJob j
+        SET j.consecutiveFailures = j.consecutiveFailures + 1, j.nextRunAt = :retryAt,
+            j.parked = CASE WHEN j.consecutiveFailures + 1 >= :maxFailures THEN true ELSE false END,
+            j.leaseOwner = NULL, j.leaseUntil = NULL
+        WHERE j.name = :name AND j.leaseOwner = :node
+        """)
+    int recordFailure(
+        @Param("name") String name,
+        @Param("node") String node,
+        @Param("retryAt") LocalDateTime retryAt,
+        @Param("maxFailures") int maxFailures
+    );
+
+
+    /**
+     * Makes a parked or failing job due now, from its checkpoint, with no
+     * failures counted.
+     * @param name the job name
+     * @param now the current time
+     * @return 0 if there is no such job
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        UPDATE ScheduledJob j SET j.parked = false, j.consecutiveFailures = 0, j.nextRunAt = :now
+        WHERE j.name = :name
+        """)
+    int resume(@Param("name") String name, @Param("now") LocalDateTime now);
+
+
+    /**
+     * Releases the lease, keeping the checkpoint for the next run.
+     * @param name the job name
+     * @param node the node holding the lease
+     * @return 0 if the node did not hold the lease
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJob j SET j.leaseOwner = NULL, j.leaseUntil = NULL WHERE j.name = :name AND j.leaseOwner = :node")
+    int releaseLease(@Param("name") String name, @Param("node") String node);
+
+}
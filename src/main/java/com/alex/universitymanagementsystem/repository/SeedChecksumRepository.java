@@ -0,0 +1,10 @@
+package com.alex.universitymanagementsystem.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.SeedChecksum;
+
+
+@Repository
+public interface SeedChecksumRepository extends JpaRepository<SeedChecksum, String> {}
@@ -0,0 +1,95 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.dto.RankedGradeDto;
+import com.alex.universitymanagementsystem.entity.StudentRanking;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.QueryHint;
+
+
+@Repository
+public interface StudentRankingRepository extends JpaRepository<StudentRanking, String> {
+
+    /**
+     * Names of the degree courses, in order, for the ranking one degree course at a time.
+     * @param after the last degree course ranked, "" for the first
+     * @param pageable the number of names
+     * @return the names
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT d.name FROM DegreeCourse d WHERE d.name > :after ORDER BY d.name")
+    List<String> findDegreeCourseNamesAfter(@Param("after") String after, Pageable pageable);
+
+
+    /**
+     * Streams the examinations of the students of a degree course, in
+     * register order; to be closed, inside a transaction.
+     * @param degreeCourseName the degree course name
+     * @return the grade and CFU of each examination
+     * @throws PersistenceException persistence error
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.RankedGradeDto(e.register, c.cfu, e.grade)
+        FROM Student s JOIN s.degreeCourse d, Examination e JOIN e.course c
+        WHERE d.name = :degreeCourseName AND e.register = s.register.register
+        ORDER BY e.register
+        """)
+    Stream<RankedGradeDto> streamGrades(@Param("degreeCourseName") String degreeCourseName);
+
+
+    /**
+     * Deletes the rankings of a degree course and of the students now enrolled in it.
+     * @param degreeCourseName the degree course name
+     * @return the number of rankings deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM StudentRanking r
+        WHERE r.degreeCourse = :degreeCourseName
+            OR r.register IN (
+                SELECT s.register.register FROM Student s JOIN s.degreeCourse d WHERE d.name = :degreeCourseName)
+        """)
+    int deleteDegreeCourse(@Param("degreeCourseName") String degreeCourseName);
+
+
+    /**
+     * Deletes the rankings of the students deleted, or no longer enrolled
+     * in the degree course of their ranking.
+     * @return the number of rankings deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM StudentRanking r
+        WHERE NOT EXISTS (
+            SELECT 1 FROM Student s JOIN s.degreeCourse d
+            WHERE s.register.register = r.register AND d.name = r.degreeCourse)
+        """)
+    int deleteStale();
+
+
+    /**
+     * Retrieves a page of the ranking of a degree course.
+     * @param degreeCourse the degree course name
+     * @param pageable the page
+     * @return the rankings by rank, then register
+     * @throws PersistenceException persistence error
+     */
+    Page<StudentRanking> findByDegreeCourseOrderByDenseRankAscRegisterAsc(String degreeCourse, Pageable pageable);
+
+}
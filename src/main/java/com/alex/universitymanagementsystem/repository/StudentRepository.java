@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,6 +15,9 @@ import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
 import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UserId;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+
 
 
 
@@ -35,13 +39,42 @@ public interface StudentRepository
     Optional<Student> findByRegister(Register register);
 
 
+    /**
+     * Retrieves a student by register and locks its row until the end of
+     * the transaction, to serialize the bookings of the student
+     * @param register the register of the student
+     * @return Optional<Student> with the student if found, or an empty
+     *         Optional if no student is found
+     * @throws PersistenceException persistence error
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT s FROM Student s WHERE s.register = ?1")
+    Optional<Student> lockByRegister(Register register);
+
+
+    /**
+     * Retrieves all students with their degree course and study plan, its
+     * courses included, in one statement instead of three more per student
+     * @return List<Student>
+     */
+    @Query("""
+        SELECT s FROM Student s LEFT JOIN FETCH s.degreeCourse
+        LEFT JOIN FETCH s.studyPlan p LEFT JOIN FETCH p.courses
+        """)
+    List<Student> findAllWithStudyPlan();
+
+
     /**
      * Retrieves a Set of students by his registers
      * @param registers
      * @return Set<Student>
      * @see Register
      */
-    @Query("SELECT s FROM Student s WHERE s.register IN ?1")
+    @Query("""
+        SELECT s FROM Student s LEFT JOIN FETCH s.degreeCourse
+        LEFT JOIN FETCH s.studyPlan p LEFT JOIN FETCH p.courses
+        WHERE s.register IN ?1
+        """)
     Set<Student> findByRegisterIn(Set<Register> registers);
 
 
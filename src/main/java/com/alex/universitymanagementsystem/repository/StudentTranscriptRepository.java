@@ -0,0 +1,150 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.StudentTranscript;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface StudentTranscriptRepository extends JpaRepository<StudentTranscript, String> {
+
+    /**
+     * Adds the contribution of an examination to a transcript, or removes
+     * it with negative values, in one statement: concurrent changes of the
+     * same student are serialized by the row lock. The last examination
+     * date is read again from the examinations of the student.
+     * @param register the register of the student
+     * @param gradePoints grade x cfu
+     * @param cfu the cfu of the course
+     * @param examinations 1 or -1
+     * @param honors 1 or -1 if with honors, 0 otherwise
+     * @return 0 if the student has no transcript yet, 1 otherwise
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE StudentTranscript t
+        SET t.gradePoints = t.gradePoints + :gradePoints,
+            t.cfu = t.cfu + :cfu,
+            t.examinations = t.examinations + :examinations,
+            t.honors = t.honors + :honors,
+            t.lastExamDate = (SELECT MAX(e.date) FROM Examination e WHERE e.register = :register)
+        WHERE t.register = :register
+        """)
+    int applyDelta(
+        @Param("register") String register,
+        @Param("gradePoints") long gradePoints,
+        @Param("cfu") int cfu,
+        @Param("examinations") int examinations,
+        @Param("honors") int honors
+    );
+
+
+    /**
+     * Creates the empty transcript of a student, unless another transaction
+     * has just created it: the first examinations of a student registered
+     * concurrently must not fail on the primary key. The update on conflict
+     * never applies: unlike DO NOTHING, it is emulated on H2 as well.
+     * @param register the register of the student
+     * @param date the last examination date
+     * @return 1 if the transcript was created, 0 if it already existed
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO StudentTranscript (register, gradePoints, cfu, examinations, honors, lastExamDate)
+        VALUES (:register, 0, 0, 0, 0, :date)
+        ON CONFLICT (register) DO UPDATE SET lastExamDate = excluded.lastExamDate WHERE 1 = 0
+        """)
+    int createIfAbsent(@Param("register") String register, @Param("date") LocalDate date);
+
+
+    /**
+     * Registers of the students with examinations, in order, for the rebuild by chunks.
+     * @param after the last register of the previous chunk, "" for the first chunk
+     * @param pageable the chunk size
+     * @return the registers
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT DISTINCT e.register FROM Examination e WHERE e.register > :after ORDER BY e.register")
+    List<String> findRegistersAfter(@Param("after") String after, Pageable pageable);
+
+
+    /**
+     * Deletes the transcripts of a range of registers.
+     * @param after the exclusive lower bound
+     * @param upTo the inclusive upper bound
+     * @return the number of transcripts deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM StudentTranscript t WHERE t.register > :after AND t.register <= :upTo")
+    int deleteRange(@Param("after") String after, @Param("upTo") String upTo);
+
+
+    /**
+     * Deletes the transcripts after a register.
+     * @param after the exclusive lower bound, "" for every transcript
+     * @return the number of transcripts deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM StudentTranscript t WHERE t.register > :after")
+    int deleteAfter(@Param("after") String after);
+
+
+    /**
+     * Computes the transcripts of a range of registers from their examinations.
+     * @param after the exclusive lower bound
+     * @param upTo the inclusive upper bound
+     * @return the number of transcripts inserted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO StudentTranscript (register, gradePoints, cfu, examinations, honors, lastExamDate)
+        SELECT e.register,
+            SUM(e.grade * COALESCE(c.cfu, 0)),
+            CAST(SUM(COALESCE(c.cfu, 0)) AS Integer),
+            CAST(COUNT(e) AS Integer),
+            CAST(SUM(CASE WHEN e.withHonors = true THEN 1 ELSE 0 END) AS Integer),
+            MAX(e.date)
+        FROM Examination e LEFT JOIN e.course c
+        WHERE e.register > :after AND e.register <= :upTo
+        GROUP BY e.register
+        """)
+    int insertRange(@Param("after") String after, @Param("upTo") String upTo);
+
+
+    /**
+     * Computes the transcripts after a register from their examinations.
+     * @param after the exclusive lower bound, "" for every student
+     * @return the number of transcripts inserted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        INSERT INTO StudentTranscript (register, gradePoints, cfu, examinations, honors, lastExamDate)
+        SELECT e.register,
+            SUM(e.grade * COALESCE(c.cfu, 0)),
+            CAST(SUM(COALESCE(c.cfu, 0)) AS Integer),
+            CAST(COUNT(e) AS Integer),
+            CAST(SUM(CASE WHEN e.withHonors = true THEN 1 ELSE 0 END) AS Integer),
+            MAX(e.date)
+        FROM Examination e LEFT JOIN e.course c
+        WHERE e.register > :after
+        GROUP BY e.register
+        """)
+    int insertAfter(@Param("after") String after);
+
+}
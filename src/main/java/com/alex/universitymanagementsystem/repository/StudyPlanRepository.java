@@ -1,11 +1,23 @@
 package com.alex.universitymanagementsystem.repository;
 
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.alex.universitymanagementsystem.dto.PlanEnrollmentDto;
 import com.alex.universitymanagementsystem.entity.StudyPlan;
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
 import com.alex.universitymanagementsystem.entity.immutable.StudyPlanId;
 
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.QueryHint;
+
 
 
 @Repository
@@ -13,4 +25,19 @@ public interface StudyPlanRepository
     extends JpaRepository<StudyPlan, StudyPlanId> {
 
 
+    /**
+     * Streams the study plan courses among some courses; to be closed,
+     * inside a transaction.
+     * @param courseIds the courses
+     * @return a row for each study plan and course
+     * @throws PersistenceException persistence error
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT new com.alex.universitymanagementsystem.dto.PlanEnrollmentDto(p.id, c.id)
+        FROM StudyPlan p JOIN p.courses c
+        WHERE c.id IN :courseIds
+        """)
+    Stream<PlanEnrollmentDto> streamEnrollments(@Param("courseIds") Collection<CourseId> courseIds);
+
 }
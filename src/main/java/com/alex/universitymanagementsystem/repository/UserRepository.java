@@ -33,6 +33,20 @@ public interface UserRepository extends JpaRepository<User, UserId> {
     Optional<User> findByUsername(String username);
 
 
+    /**
+     * Find all users with their address, so they can be rendered
+     * once the persistence context is closed; the study plan of the
+     * students is joined, or each student would load it with a
+     * statement of its own
+     * @return List<User>
+     */
+    @Query(value = """
+        SELECT u FROM User u JOIN FETCH u.address
+        LEFT JOIN FETCH TREAT(u AS Student).studyPlan
+        """)
+    List<User> findAllWithAddress();
+
+
     /**
      * Find user by fullname
      * @param firstName
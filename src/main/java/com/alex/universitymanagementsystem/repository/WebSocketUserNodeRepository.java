@@ -0,0 +1,86 @@
+package com.alex.universitymanagementsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.alex.universitymanagementsystem.entity.WebSocketUserNode;
+
+import jakarta.persistence.PersistenceException;
+
+
+@Repository
+public interface WebSocketUserNodeRepository extends JpaRepository<WebSocketUserNode, Long> {
+
+    /**
+     * @param username the username
+     * @param node the node
+     * @return the entry of the user on the node, if any
+     * @throws PersistenceException persistence error
+     */
+    Optional<WebSocketUserNode> findByUsernameAndNode(String username, String node);
+
+
+    /**
+     * The live nodes holding sessions of a user.
+     * @param username the username
+     * @param since entries not refreshed since then belong to dead nodes
+     * @return the node ids
+     * @throws PersistenceException persistence error
+     */
+    @Query("SELECT n.node FROM WebSocketUserNode n WHERE n.username = :username AND n.seenAt > :since")
+    List<String> findNodes(@Param("username") String username, @Param("since") LocalDateTime since);
+
+
+    /**
+     * Removes the entry of a user whose last session on the node closed.
+     * @param username the username
+     * @param node the node
+     * @return the number of entries deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM WebSocketUserNode n WHERE n.username = :username AND n.node = :node")
+    int deleteEntry(@Param("username") String username, @Param("node") String node);
+
+
+    /**
+     * Heartbeat of a node: refreshes all its entries.
+     * @param node the node
+     * @param now the current time
+     * @return the number of entries refreshed
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("UPDATE WebSocketUserNode n SET n.seenAt = :now WHERE n.node = :node")
+    int touch(@Param("node") String node, @Param("now") LocalDateTime now);
+
+
+    /**
+     * Removes the entries of a node, on shutdown.
+     * @param node the node
+     * @return the number of entries deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM WebSocketUserNode n WHERE n.node = :node")
+    int deleteNode(@Param("node") String node);
+
+
+    /**
+     * Removes the entries of the nodes that stopped refreshing them.
+     * @param before the refresh time limit
+     * @return the number of entries deleted
+     * @throws PersistenceException persistence error
+     */
+    @Modifying
+    @Query("DELETE FROM WebSocketUserNode n WHERE n.seenAt < :before")
+    int deleteStale(@Param("before") LocalDateTime before);
+
+}
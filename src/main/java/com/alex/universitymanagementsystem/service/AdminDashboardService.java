@@ -0,0 +1,19 @@
+package com.alex.universitymanagementsystem.service;
+
+import com.alex.universitymanagementsystem.dto.AdminDashboardDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+
+
+public interface AdminDashboardService {
+
+
+    /**
+     * Retrieves the counters of the admin dashboard: students by degree
+     * course, appeals of the week, bookings, pending outcomes and unread
+     * notifications, read from the snapshot kept by the services.
+     * @return AdminDashboardDto
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    AdminDashboardDto getDashboard() throws DataAccessServiceException;
+
+}
@@ -0,0 +1,27 @@
+package com.alex.universitymanagementsystem.service;
+
+import java.time.LocalDate;
+
+import com.alex.universitymanagementsystem.dto.ExamCalendarDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+
+
+public interface ExamCalendarService {
+
+
+    /**
+     * Proposes dates for the courses with an appeal in a session, so that
+     * the fewest students have two exams on the same day. The proposal is
+     * not applied: the professors move their appeals.
+     * @param from the first day of the session
+     * @param to the last day of the session
+     * @param maxPerDay the maximum number of exams a day
+     * @param degreeCourseName the degree course to plan, null for all of them
+     * @return the proposed calendar
+     * @throws IllegalArgumentException if the session is invalid or the courses do not fit
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    ExamCalendarDto proposeCalendar(LocalDate from, LocalDate to, int maxPerDay, String degreeCourseName)
+        throws IllegalArgumentException, DataAccessServiceException;
+
+}
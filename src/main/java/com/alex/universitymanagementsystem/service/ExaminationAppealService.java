@@ -11,6 +11,7 @@ import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+import com.alex.universitymanagementsystem.exception.SameDayBookingException;
 
 import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
@@ -121,12 +122,14 @@ public interface ExaminationAppealService {
      * @return examinationAppeal
      * @throws IllegalArgumentException if any of the parameters is invalid
      * @throws ObjectNotFoundException if the student or examination appeal does not exist
+     * @throws SameDayBookingException if the student has booked another appeal on the same day
+     * and same-day clashes are rejected
      * @throws DataAccessServiceException if there is an error accessing the database
      */
-    @Transactional(rollbackOn = {IllegalArgumentException.class, ObjectNotFoundException.class})
+    @Transactional(rollbackOn = {IllegalArgumentException.class, ObjectNotFoundException.class, SameDayBookingException.class})
     @Retryable(retryFor = PersistenceException.class, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public ExaminationAppealDto addStudentToAppeal(Long id, Register register)
-        throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException;
+        throws IllegalArgumentException, ObjectNotFoundException, SameDayBookingException, DataAccessServiceException;
 
 
     /**
@@ -6,6 +6,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 
 import com.alex.universitymanagementsystem.dto.ExaminationDto;
+import com.alex.universitymanagementsystem.dto.StudentTranscriptDto;
 import com.alex.universitymanagementsystem.dto.UpdateExaminationDto;
 import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
@@ -55,6 +56,15 @@ public interface ExaminationService {
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException;
 
 
+    /**
+     * Get the transcript aggregates of a student
+     * @param register of the student
+     * @return StudentTranscriptDto, empty if the student has no examinations
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    StudentTranscriptDto getTranscript(Register register) throws DataAccessServiceException;
+
+
     /**
      * Get all examinations by professor unique code
      * @param uniqueCode of the professor
@@ -0,0 +1,25 @@
+package com.alex.universitymanagementsystem.service;
+
+import com.alex.universitymanagementsystem.dto.GradeDistributionDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+
+
+public interface GradeAnalyticsService {
+
+
+    /**
+     * Retrieves the grade histogram, the trend by date and the pass rates
+     * by appeal of a course, computed by the database and cached until
+     * the examinations or outcomes of the course change.
+     * @param courseName the course name
+     * @param degreeCourseName the degree course name
+     * @return GradeDistributionDto
+     * @throws IllegalArgumentException if a name is blank
+     * @throws ObjectNotFoundException if the course does not exist
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    GradeDistributionDto getGradeDistribution(String courseName, String degreeCourseName)
+        throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException;
+
+}
@@ -0,0 +1,34 @@
+package com.alex.universitymanagementsystem.service;
+
+import java.util.List;
+
+import com.alex.universitymanagementsystem.dto.GraduationEligibilityDto;
+import com.alex.universitymanagementsystem.dto.GraduationSummaryDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+
+
+public interface GraduationService {
+
+
+    /**
+     * Retrieves, for each degree course, the students with a study plan,
+     * the ones eligible for graduation and the CFU still missing, as
+     * computed by the last run of the graduation eligibility job.
+     * @return the summaries, by degree course name
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    List<GraduationSummaryDto> getGraduationSummary() throws DataAccessServiceException;
+
+
+    /**
+     * Retrieves the students of a degree course by graduation eligibility.
+     * @param degreeCourseName the degree course name
+     * @param eligible true for the students who can graduate, false for the others
+     * @return the first students, by register
+     * @throws IllegalArgumentException if the name is blank
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    List<GraduationEligibilityDto> getStudents(String degreeCourseName, boolean eligible)
+        throws IllegalArgumentException, DataAccessServiceException;
+
+}
@@ -0,0 +1,38 @@
+package com.alex.universitymanagementsystem.service;
+
+import java.util.List;
+
+import com.alex.universitymanagementsystem.dto.JobRunDto;
+import com.alex.universitymanagementsystem.dto.ScheduledJobDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+
+
+public interface JobService {
+
+
+    /**
+     * Retrieves the state of every scheduled job.
+     * @return the jobs, by name
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    List<ScheduledJobDto> getJobs() throws DataAccessServiceException;
+
+
+    /**
+     * Retrieves the latest runs of the scheduled jobs.
+     * @return the last 100 runs, latest first
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    List<JobRunDto> getJobHistory() throws DataAccessServiceException;
+
+
+    /**
+     * Makes a parked or failing job due now, resuming from its checkpoint.
+     * @param name the job name
+     * @throws ObjectNotFoundException if there is no such job
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    void resumeJob(String name) throws ObjectNotFoundException, DataAccessServiceException;
+
+}
@@ -5,7 +5,6 @@ import java.util.List;
 import org.springframework.messaging.MessagingException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Scheduled;
 
 import com.alex.universitymanagementsystem.entity.OutcomeNotification;
 import com.alex.universitymanagementsystem.entity.Student;
@@ -51,13 +50,4 @@ public interface OutcomeNotificationService {
     @Retryable(retryFor = PersistenceException.class, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     void markAsRead(Long notificationId) throws DataAccessServiceException;
 
-
-    /**
-     * Pulizia notifiche scadute: viene eseguita ogni notte alle 2:00
-     * @throws DataAccessServiceException
-     */
-    @Transactional
-    @Scheduled(cron = "0 0 2 * * ?")
-    void cleanExpiredNotifications() throws DataAccessServiceException;
-
 }
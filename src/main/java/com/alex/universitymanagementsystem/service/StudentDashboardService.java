@@ -0,0 +1,19 @@
+package com.alex.universitymanagementsystem.service;
+
+import com.alex.universitymanagementsystem.dto.StudentDashboardDto;
+import com.alex.universitymanagementsystem.entity.Student;
+
+
+public interface StudentDashboardService {
+
+
+    /**
+     * Retrieves study plan, available and booked appeals, outcomes and
+     * unread notifications of a student, read concurrently. The sections
+     * not read within the deadline are left empty and marked unavailable.
+     * @param student the authenticated student
+     * @return StudentDashboardDto
+     */
+    StudentDashboardDto getDashboard(Student student);
+
+}
@@ -0,0 +1,24 @@
+package com.alex.universitymanagementsystem.service;
+
+import org.springframework.data.domain.Page;
+
+import com.alex.universitymanagementsystem.dto.StudentRankingDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+
+
+public interface StudentRankingService {
+
+
+    /**
+     * Retrieves a page of the ranking of a degree course, as computed by
+     * the last run of the ranking job.
+     * @param degreeCourseName the degree course name
+     * @param page the page number, from 0
+     * @return the rankings of the page, by rank then register
+     * @throws IllegalArgumentException if the name is blank or the page negative
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    Page<StudentRankingDto> getRanking(String degreeCourseName, int page)
+        throws IllegalArgumentException, DataAccessServiceException;
+
+}
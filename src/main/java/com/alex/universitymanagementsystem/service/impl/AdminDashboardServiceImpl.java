@@ -0,0 +1,40 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
+import com.alex.universitymanagementsystem.dto.AdminDashboardDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.repository.AdminKpiValueRepository;
+import com.alex.universitymanagementsystem.service.AdminDashboardService;
+
+import jakarta.persistence.PersistenceException;
+
+@Service
+public class AdminDashboardServiceImpl implements AdminDashboardService {
+
+    // instance variables
+    private final AdminKpiValueRepository adminKpiValueRepository;
+
+    // constructor
+    public AdminDashboardServiceImpl(AdminKpiValueRepository adminKpiValueRepository) {
+        this.adminKpiValueRepository = adminKpiValueRepository;
+    }
+
+
+    /**
+     * Retrieves the counters of the admin dashboard in one query.
+     * @return AdminDashboardDto
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public AdminDashboardDto getDashboard() throws DataAccessServiceException {
+        try {
+            return AdminDashboardDto.toDto(adminKpiValueRepository.findAll());
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for the admin dashboard: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -4,11 +4,14 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.CourseDto;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
@@ -16,6 +19,7 @@ import com.alex.universitymanagementsystem.dto.UpdateCourseDto;
 import com.alex.universitymanagementsystem.entity.Course;
 import com.alex.universitymanagementsystem.entity.DegreeCourse;
 import com.alex.universitymanagementsystem.entity.Professor;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectAlreadyExistsException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -33,16 +37,19 @@ public class CourseServiceImpl implements CourseService {
     private final CourseRepository courseRepository;
     private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+    private final ApplicationEventPublisher eventPublisher;
 
     // constructor
     public CourseServiceImpl(
         CourseRepository courseRepository,
         ServiceHelpers helpers,
-        ServiceValidators validators
+        ServiceValidators validators,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.courseRepository = courseRepository;
         this.helpers = helpers;
         this.validators = validators;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -52,6 +59,7 @@ public class CourseServiceImpl implements CourseService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public Set<CourseDto> getCourses() throws DataAccessServiceException {
         try {
             return courseRepository
@@ -75,6 +83,7 @@ public class CourseServiceImpl implements CourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public CourseDto getCourseByNameAndDegreeCourseName(String courseName, String degreeCourseName)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -101,6 +110,7 @@ public class CourseServiceImpl implements CourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<CourseDto> getCoursesByProfessor(ProfessorDto professor)
         throws DataAccessServiceException
     {
@@ -142,6 +152,7 @@ public class CourseServiceImpl implements CourseService {
             Course course = new Course(dto.getName(), dto.getType(), dto.getCfu(), professor, degreeCourse);
             // save
             courseRepository.saveAndFlush(course);
+            publishChanged(course);
             return CourseMapper.toDto(course);
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for course " + dto.getName() + ": " + e.getMessage(), e);
@@ -177,6 +188,7 @@ public class CourseServiceImpl implements CourseService {
 
             // Save changes
             courseRepository.saveAndFlush(course);
+            publishChanged(course);
             return CourseMapper.toDto(course);
 
         } catch (PersistenceException e) {
@@ -208,6 +220,7 @@ public class CourseServiceImpl implements CourseService {
             Course course = helpers.fetchCourse(courseName, degreeCourseName);
             // delete
             courseRepository.delete(course);
+            publishChanged(course);
             return CourseMapper.toDto(course);
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for course " + courseName + ": " + e.getMessage(), e);
@@ -215,4 +228,17 @@ public class CourseServiceImpl implements CourseService {
     }
 
 
+
+    // helpers
+
+    /**
+     * Invalidates the course and its degree course, on every node, when the transaction commits.
+     * @param course the changed course
+     */
+    private void publishChanged(Course course) {
+        eventPublisher.publishEvent(UmsInvalidationEvent.of(InvalidationTopic.COURSE, course));
+        eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.DEGREE_COURSE, course.getDegreeCourse().getName()));
+    }
+
+
 }
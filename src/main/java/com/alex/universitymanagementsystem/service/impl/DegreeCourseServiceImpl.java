@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.CourseDto;
@@ -55,6 +56,7 @@ public class DegreeCourseServiceImpl implements DegreeCourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public Set<DegreeCourseDto> getDegreeCourses() throws DataAccessServiceException {
         try {
             return degreeCourseRepository
@@ -79,6 +81,7 @@ public class DegreeCourseServiceImpl implements DegreeCourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public DegreeCourseDto getDegreeCourseByName(String name)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -103,6 +106,7 @@ public class DegreeCourseServiceImpl implements DegreeCourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<CourseDto> getCourses(String name)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -132,6 +136,7 @@ public class DegreeCourseServiceImpl implements DegreeCourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<ProfessorDto> getProfessors(String name)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -164,6 +169,7 @@ public class DegreeCourseServiceImpl implements DegreeCourseService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<StudentDto> getStudents(String name)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
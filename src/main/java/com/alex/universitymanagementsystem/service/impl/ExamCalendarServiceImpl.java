@@ -0,0 +1,142 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
+import com.alex.universitymanagementsystem.component.calendar.UmsConflictGraph;
+import com.alex.universitymanagementsystem.component.calendar.UmsExamCalendarSolver;
+import com.alex.universitymanagementsystem.dto.ExamCalendarDto;
+import com.alex.universitymanagementsystem.dto.ExamCalendarEntryDto;
+import com.alex.universitymanagementsystem.dto.PlanEnrollmentDto;
+import com.alex.universitymanagementsystem.dto.SessionAppealDto;
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.entity.immutable.StudyPlanId;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
+import com.alex.universitymanagementsystem.repository.StudyPlanRepository;
+import com.alex.universitymanagementsystem.service.ExamCalendarService;
+
+import jakarta.persistence.PersistenceException;
+
+@Service
+public class ExamCalendarServiceImpl implements ExamCalendarService {
+
+    // constants
+    private static final String SESSION_ERROR = "The session must start before it ends";
+    private static final String LENGTH_ERROR = "The session cannot last more than %d days";
+
+    // instance variables
+    private final ExaminationAppealRepository examinationAppealRepository;
+    private final StudyPlanRepository studyPlanRepository;
+    private final UmsExamCalendarSolver solver;
+    private final int maxSessionDays;
+
+    // constructor
+    public ExamCalendarServiceImpl(
+        ExaminationAppealRepository examinationAppealRepository,
+        StudyPlanRepository studyPlanRepository,
+        UmsExamCalendarSolver solver,
+        @Value("${ums.calendar.max-session-days:92}") int maxSessionDays
+    ) {
+        this.examinationAppealRepository = examinationAppealRepository;
+        this.studyPlanRepository = studyPlanRepository;
+        this.solver = solver;
+        this.maxSessionDays = maxSessionDays;
+    }
+
+
+    /**
+     * Proposes dates for the courses with an appeal in a session. Sundays
+     * are left out; a course with several appeals in the session is
+     * planned by its first one.
+     * @param from the first day of the session
+     * @param to the last day of the session
+     * @param maxPerDay the maximum number of exams a day
+     * @param degreeCourseName the degree course to plan, null for all of them
+     * @return the proposed calendar
+     * @throws IllegalArgumentException if the session is invalid or the courses do not fit
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public ExamCalendarDto proposeCalendar(LocalDate from, LocalDate to, int maxPerDay, String degreeCourseName)
+        throws IllegalArgumentException, DataAccessServiceException
+    {
+        if (from == null || to == null || to.isBefore(from))
+            throw new IllegalArgumentException(SESSION_ERROR);
+        if (ChronoUnit.DAYS.between(from, to) >= maxSessionDays)
+            throw new IllegalArgumentException(LENGTH_ERROR.formatted(maxSessionDays));
+
+        List<LocalDate> days = from.datesUntil(to.plusDays(1))
+            .filter(day -> day.getDayOfWeek() != DayOfWeek.SUNDAY)
+            .toList();
+
+        try {
+            // the first appeal of each course of the session
+            Map<CourseId, SessionAppealDto> appeals = new LinkedHashMap<>();
+            for (SessionAppealDto appeal : examinationAppealRepository.findSessionAppeals(from, to))
+                if (degreeCourseName == null || degreeCourseName.isBlank()
+                    || appeal.degreeCourseName().equalsIgnoreCase(degreeCourseName))
+                    appeals.putIfAbsent(appeal.courseId(), appeal);
+            List<SessionAppealDto> courses = new ArrayList<>(appeals.values());
+            Map<CourseId, Integer> courseIndex = new HashMap<>();
+            for (SessionAppealDto course : courses)
+                courseIndex.put(course.courseId(), courseIndex.size());
+
+            UmsConflictGraph graph = new UmsConflictGraph(courses.size());
+            Map<StudyPlanId, Integer> studentIndex = new HashMap<>();
+            if (!courses.isEmpty()) {
+                try (Stream<PlanEnrollmentDto> enrollments = studyPlanRepository.streamEnrollments(courseIndex.keySet())) {
+                    enrollments.forEach(enrollment -> graph.add(
+                        courseIndex.get(enrollment.courseId()),
+                        studentIndex.computeIfAbsent(enrollment.studyPlanId(), _ -> studentIndex.size())));
+                }
+            }
+            int[][] weights = graph.weights();
+
+            int[] currentDays = new int[courses.size()];
+            int[] preferredDays = new int[courses.size()];
+            for (int course = 0; course < courses.size(); course++) {
+                LocalDate date = courses.get(course).date();
+                currentDays[course] = (int) date.toEpochDay();
+                preferredDays[course] = days.indexOf(date);
+            }
+            int[] proposedDays = solver.solve(weights, days.size(), maxPerDay, preferredDays);
+
+            List<ExamCalendarEntryDto> entries = new ArrayList<>();
+            for (int course = 0; course < courses.size(); course++) {
+                SessionAppealDto appeal = courses.get(course);
+                entries.add(new ExamCalendarEntryDto(
+                    appeal.courseName(),
+                    appeal.degreeCourseName(),
+                    appeal.date(),
+                    days.get(proposedDays[course]),
+                    UmsExamCalendarSolver.clashes(weights, currentDays, course),
+                    UmsExamCalendarSolver.clashes(weights, proposedDays, course)));
+            }
+            entries.sort(Comparator.comparing(ExamCalendarEntryDto::proposedDate)
+                .thenComparing(ExamCalendarEntryDto::degreeCourseName)
+                .thenComparing(ExamCalendarEntryDto::courseName));
+
+            return new ExamCalendarDto(from, to, maxPerDay, studentIndex.size(),
+                UmsExamCalendarSolver.clashes(weights, currentDays),
+                UmsExamCalendarSolver.clashes(weights, proposedDays),
+                entries);
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for the session calendar: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -2,17 +2,23 @@ package com.alex.universitymanagementsystem.service.impl;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.booking.UmsBookingCalendar;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.ExaminationAppealDto;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
@@ -25,8 +31,11 @@ import com.alex.universitymanagementsystem.entity.Professor;
 import com.alex.universitymanagementsystem.entity.immutable.CourseId;
 import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+import com.alex.universitymanagementsystem.exception.SameDayBookingException;
 import com.alex.universitymanagementsystem.mapper.ExaminationAppealMapper;
 import com.alex.universitymanagementsystem.mapper.StudentMapper;
 import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
@@ -57,6 +66,9 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
     private final StudentRepository studentRepository;
     private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UmsBookingCalendar bookingCalendar;
+    private final boolean rejectSameDayClash;
 
 
     // constructor
@@ -66,7 +78,10 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
         ProfessorRepository professorRepository,
         StudentRepository studentRepository,
         ServiceHelpers helpers,
-        ServiceValidators validators
+        ServiceValidators validators,
+        ApplicationEventPublisher eventPublisher,
+        UmsBookingCalendar bookingCalendar,
+        @Value("${ums.booking.reject-same-day-clash:true}") boolean rejectSameDayClash
     ) {
         this.examinationAppealRepository = examinationAppealRepository;
         this.examinationOutcomeRepository = examinationOutcomeRepository;
@@ -74,6 +89,9 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
         this.studentRepository = studentRepository;
         this.helpers = helpers;
         this.validators = validators;
+        this.eventPublisher = eventPublisher;
+        this.bookingCalendar = bookingCalendar;
+        this.rejectSameDayClash = rejectSameDayClash;
     }
 
 
@@ -83,6 +101,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationAppealDto> getExaminationAppeals() throws DataAccessServiceException {
         try {
             return examinationAppealRepository
@@ -112,6 +131,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public ExaminationAppealDto getExaminationAppealById(Long id)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -138,6 +158,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationAppealDto> getExaminationAppealsAvailable(Register register)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -145,41 +166,46 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
         validators.validateNotNullOrNotBlank(register.toString(), REGISTER_ERROR);
 
         try {
+            Set<UUID> passed = helpers.fetchExaminations(register.toString())
+                .stream()
+                .map(Examination::getCourse)
+                .map(Course::getId)
+                .map(CourseId::id)
+                .collect(Collectors.toSet());
             List<UUID> courseIds = helpers.fetchStudent(register.toString())
                 .getStudyPlan()
                 .getCourses()
                 .stream()
                 .map(Course::getId)
                 .map(CourseId::id)
-                .filter(courseId -> !helpers.fetchExaminations(register.toString())
-                    .stream()
-                    .map(Examination::getCourse)
-                    .map(Course::getId)
-                    .map(CourseId::id)
-                    .collect(Collectors.toSet())
-                    .contains(courseId))
+                .filter(courseId -> !passed.contains(courseId))
                 .toList();
 
-            return examinationAppealRepository
-                .findByCourse_Id_IdIn(courseIds)
+            List<ExaminationAppeal> appeals = examinationAppealRepository
+                .findWithRegistersByCourseIdIn(courseIds)
                 .stream()
                 .filter(appeal -> appeal
                     .getRegisters()
                     .stream()
                     .noneMatch(studentRegister -> studentRegister.equals(register)))
                 .filter(appeal -> appeal.getDate().isAfter(LocalDate.now()))
-                .map(appeal -> {
-                    ExaminationAppealDto dto = helpers.mapAppealToDto(appeal);
-                    professorRepository
-                        .findByUniqueCode(new UniqueCode(dto.getProfessorCode()))
-                        .ifPresent(profDto -> {
-                            String fullName = profDto.getFirstName() + " " + profDto.getLastName();
-                            dto.setProfessorFullName(fullName);
-                        });
-                    return dto;
-                })
                 .toList();
 
+            // professors of all the appeals read at once
+            Map<String, String> professorNames = appeals.isEmpty() ? Map.of() : professorRepository
+                .findByUniqueCodeIn(appeals.stream().map(ExaminationAppeal::getProfessor).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(
+                    professor -> professor.getUniqueCode().toString(),
+                    professor -> professor.getFirstName() + " " + professor.getLastName()));
+
+            List<ExaminationAppealDto> dtos = helpers.mapAppealsToDto(appeals);
+            dtos.forEach(dto -> {
+                dto.setClashing(bookingCalendar.isBooked(register, dto.getDate()));
+                dto.setProfessorFullName(professorNames.get(dto.getProfessorCode()));
+            });
+            return dtos;
+
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
         }
@@ -195,6 +221,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationAppealDto> getExaminationAppealsBookedByStudent(Register register)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -210,15 +237,14 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
                 .map(CourseId::id)
                 .toList();
 
-            return examinationAppealRepository
-                .findByCourse_Id_IdIn(courseIds)
+            return helpers.mapAppealsToDto(examinationAppealRepository
+                .findWithRegistersByCourseIdIn(courseIds)
                 .stream()
                 .filter(appeal -> appeal
                     .getRegisters()
                     .stream()
                     .anyMatch(studentRegister -> studentRegister.equals(register)))
-                    .map(helpers::mapAppealToDto)
-                    .toList();
+                .toList());
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
         }
@@ -234,6 +260,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationAppealDto> getExaminationAppealsMadeByProfessor(UniqueCode uniqueCode)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -284,6 +311,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
 
             ExaminationAppeal appeal = ExaminationAppeal.of(course, dto.getDescription(), dto.getDate());
             ExaminationAppeal savedAppeal = examinationAppealRepository.saveAndFlush(appeal);
+            eventPublisher.publishEvent(AdminKpiEvent.appeal(appeal.getDate(), 1));
 
             if(savedAppeal.getId() != null)
                 return dto;
@@ -321,6 +349,10 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
                 return false;
 
             examinationAppealRepository.delete(appeal);
+            eventPublisher.publishEvent(AdminKpiEvent.appeal(appeal.getDate(), -1));
+            eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.BOOKINGS, -appeal.getRegisters().size()));
+            for (Register register : appeal.getRegisters())
+                eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.BOOKING, register.toString()));
             return true;
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
@@ -333,6 +365,7 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @return boolean
      */
     @Override
+    @ReadOnlyTransactional
     public boolean hasRegisteredStudents(Long appealId)
         throws ObjectNotFoundException, DataAccessServiceException
     {
@@ -348,13 +381,15 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
      * @return examinationAppeal data transfer object
      * @throws IllegalArgumentException if any of the parameters is invalid
      * @throws ObjectNotFoundException if the student or examination appeal does not exist
+     * @throws SameDayBookingException if the student has booked another appeal on the same day
+     * and same-day clashes are rejected
      * @throws DataAccessServiceException if there is an error accessing the database
      */
     @Override
-    @Transactional(rollbackOn = {IllegalArgumentException.class, ObjectNotFoundException.class})
+    @Transactional(rollbackOn = {IllegalArgumentException.class, ObjectNotFoundException.class, SameDayBookingException.class})
     @Retryable(retryFor = PersistenceException.class, maxAttempts = 3, backoff = @Backoff(delay = 1000))
     public ExaminationAppealDto addStudentToAppeal(Long id, Register register)
-        throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
+        throws IllegalArgumentException, ObjectNotFoundException, SameDayBookingException, DataAccessServiceException
     {
         // sanity checks
         validators.validateNotNullOrNotBlank(id.toString(), ID_ERROR);
@@ -363,9 +398,25 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
 
         try {
             ExaminationAppeal appeal = helpers.fetchExaminationAppeal(id);
-            appeal.addRegister(register);
+            // the bookings of a student are serialized on the student row, so two
+            // same-day bookings cannot both pass the check; the days are read again
+            // under the lock, the calendar may not have seen the last commit yet
+            studentRepository.lockByRegister(register);
+            bookingCalendar.reload(register);
+            boolean clashing = !appeal.getRegisters().contains(register)
+                && bookingCalendar.isBooked(register, appeal.getDate());
+            if (clashing && rejectSameDayClash)
+                throw new SameDayBookingException(appeal.getDate());
+
+            boolean booked = appeal.addRegister(register);
             ExaminationAppeal updatedAppeal = examinationAppealRepository.saveAndFlush(appeal);
-            return helpers.mapAppealToDto(updatedAppeal);
+            if (booked) {
+                eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.BOOKINGS, 1));
+                eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.BOOKING, register.toString()));
+            }
+            ExaminationAppealDto dto = helpers.mapAppealToDto(updatedAppeal);
+            dto.setClashing(clashing);
+            return dto;
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
         }
@@ -394,8 +445,12 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
 
         try {
             ExaminationAppeal appeal = helpers.fetchExaminationAppeal(id);
-            appeal.removeRegister(register);
+            boolean unbooked = appeal.removeRegister(register);
             ExaminationAppeal updatedAppeal = examinationAppealRepository.save(appeal);
+            if (unbooked) {
+                eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.BOOKINGS, -1));
+                eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.BOOKING, register.toString()));
+            }
             return helpers.mapAppealToDto(updatedAppeal);
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
@@ -411,35 +466,11 @@ public class ExaminationAppealServiceImpl implements ExaminationAppealService {
     public void addExaminationOutcome(ExaminationOutcome outcome) throws DataAccessServiceException {
         try {
             examinationOutcomeRepository.saveAndFlush(outcome);
+            eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.PENDING_OUTCOMES, 1));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
         }
     }
 
 
-
-    /**
-     * Deletes expired examination appeals
-     */
-    @Scheduled(fixedDelay = 86400000) // ogni giorno
-    protected void cleanExpiredAppeals() throws DataAccessServiceException {
-        LocalDate today = LocalDate.now();
-        // clean instance every month
-        LocalDate expirationDateOneMonth = today.minusMonths(1);
-
-        try {
-            List<ExaminationAppeal> expiredExaminationAppealsOneMonth = examinationAppealRepository
-                .findByDateBefore(expirationDateOneMonth);
-
-            expiredExaminationAppealsOneMonth
-                .stream()
-                .filter(ExaminationAppeal::deleteIfExpiredAndNoRegisters)
-                .forEach(examinationAppealRepository::delete);
-        } catch (PersistenceException e) {
-            throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
-        }
-    }
-
-
-
 }
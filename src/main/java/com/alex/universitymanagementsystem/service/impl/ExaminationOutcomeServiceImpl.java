@@ -1,22 +1,17 @@
 package com.alex.universitymanagementsystem.service.impl;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.ExaminationOutcomeDto;
 import com.alex.universitymanagementsystem.entity.Course;
@@ -24,7 +19,9 @@ import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
 import com.alex.universitymanagementsystem.entity.ExaminationOutcome;
 import com.alex.universitymanagementsystem.entity.Student;
 import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
 import com.alex.universitymanagementsystem.enum_type.DomainType;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectAlreadyExistsException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -50,17 +47,20 @@ public class ExaminationOutcomeServiceImpl implements ExaminationOutcomeService
     private final ExaminationAppealService examinationAppealService;
     private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ExaminationOutcomeServiceImpl(
         ExaminationOutcomeRepository examinationOutcomeRepository,
         ExaminationAppealService examinationAppealService,
         ServiceHelpers helpers,
-        ServiceValidators validators
+        ServiceValidators validators,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.examinationOutcomeRepository = examinationOutcomeRepository;
         this.examinationAppealService = examinationAppealService;
         this.helpers = helpers;
         this.validators = validators;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -172,6 +172,8 @@ public class ExaminationOutcomeServiceImpl implements ExaminationOutcomeService
             // if the outcome is created successfully, save the outcome and return Optional.of(dto)
             if (outcome != null) {
                 examinationOutcomeRepository.saveAndFlush(outcome);
+                eventPublisher.publishEvent(UmsInvalidationEvent.of(InvalidationTopic.GRADES, appeal.getCourse()));
+                eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.PENDING_OUTCOMES, 1));
                 examinationAppealService.removeStudentFromAppeal(dto.getAppeal().getId(), studentRegister);
                 return Optional.of(dto);
             }
@@ -202,6 +204,8 @@ public class ExaminationOutcomeServiceImpl implements ExaminationOutcomeService
         try {
             ExaminationOutcome outcome = helpers.fetchExaminationOutcome(id);
             examinationOutcomeRepository.delete(outcome);
+            eventPublisher.publishEvent(UmsInvalidationEvent.of(InvalidationTopic.GRADES, outcome.getAppeal().getCourse()));
+            eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.PENDING_OUTCOMES, -1));
             return helpers.mapOutcomeToDto(outcome);
         } catch (PersistenceException e) {
             throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
@@ -209,51 +213,4 @@ public class ExaminationOutcomeServiceImpl implements ExaminationOutcomeService
     }
 
 
-
-    @Scheduled(fixedDelay = 1209600000) // ogni due settimane
-    public void cleanExpiredOutcomes() throws DataAccessServiceException {
-        LocalDate today = LocalDate.now();
-        LocalDate expirationDateTwoWeeks = today.minusWeeks(2);
-
-        try {
-            List<ExaminationOutcome> expiredExaminationOutcomes = examinationOutcomeRepository
-                .findByAppeal_DateBefore(expirationDateTwoWeeks);
-
-            expiredExaminationOutcomes
-                .stream()
-                .forEach(outcome -> {
-                    if (outcome.getGrade() > 18) {
-                        // Chiamata all'URL per creare l'esame
-                        String register = outcome.getRegister();
-                        String courseName = outcome.getAppeal().getCourse().getName();
-                        String degreeCourseName = outcome.getAppeal().getCourse().getDegreeCourse().getName();
-                        String grade = String.valueOf(outcome.getGrade());
-                        Boolean withHonors = outcome.isWithHonors();
-                        LocalDate date = outcome.getAppeal().getDate();
-
-                        RestTemplate restTemplate = new RestTemplate();
-                        String url = "http://localhost:8081/api/v1/examination/create";
-                        HttpHeaders headers = new HttpHeaders();
-                        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-                        MultiValueMap<String, String> map = new LinkedMultiValueMap<>();
-                        map.add("register", register);
-                        map.add("courseName", courseName);
-                        map.add("degreeCourseName", degreeCourseName);
-                        map.add("grade", grade);
-                        map.add("withHonors", String.valueOf(withHonors));
-                        map.add("date", date.toString());
-
-                        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(map, headers);
-                        restTemplate.postForObject(url, request, String.class);
-                    }
-
-                examinationOutcomeRepository.delete(outcome);
-            });
-        } catch (PersistenceException e) {
-            throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
-        }
-    }
-
-
 }
@@ -1,14 +1,19 @@
 package com.alex.universitymanagementsystem.service.impl;
 
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.ExaminationDto;
+import com.alex.universitymanagementsystem.dto.StudentTranscriptDto;
 import com.alex.universitymanagementsystem.dto.UpdateExaminationDto;
 import com.alex.universitymanagementsystem.entity.Course;
 import com.alex.universitymanagementsystem.entity.DegreeCourse;
@@ -16,12 +21,14 @@ import com.alex.universitymanagementsystem.entity.Examination;
 import com.alex.universitymanagementsystem.entity.Student;
 import com.alex.universitymanagementsystem.entity.immutable.Register;
 import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectAlreadyExistsException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
 import com.alex.universitymanagementsystem.mapper.ExaminationMapper;
 import com.alex.universitymanagementsystem.repository.CourseRepository;
 import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
 import com.alex.universitymanagementsystem.service.ExaminationService;
 
 import jakarta.persistence.PersistenceException;
@@ -41,21 +48,27 @@ public class ExaminationServiceImpl implements ExaminationService {
     // instance variables
     private final CourseRepository courseRepository;
     private final ExaminationRepository examinationRepository;
+    private final StudentTranscriptRepository studentTranscriptRepository;
     private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // autowired - dependency injection - constructor
     public ExaminationServiceImpl(
         CourseRepository courseRepository,
         ExaminationRepository examinationRepository,
+        StudentTranscriptRepository studentTranscriptRepository,
         ServiceHelpers helpers,
-        ServiceValidators validators
+        ServiceValidators validators,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.courseRepository = courseRepository;
         this.examinationRepository = examinationRepository;
+        this.studentTranscriptRepository = studentTranscriptRepository;
         this.helpers = helpers;
         this.validators = validators;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -65,9 +78,10 @@ public class ExaminationServiceImpl implements ExaminationService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationDto> getExaminations() throws DataAccessServiceException {
         try {
-            return helpers.mapExaminations(examinationRepository.findAll());
+            return helpers.mapExaminations(examinationRepository.findAllWithCourse());
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for fetching examinations: " + e.getMessage(), e);
         }
@@ -84,6 +98,7 @@ public class ExaminationServiceImpl implements ExaminationService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationDto> getExaminationsByCourseNameAndDegreeCourseName(String courseName, String degreeCourseName)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -110,6 +125,7 @@ public class ExaminationServiceImpl implements ExaminationService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationDto> getExaminationsByStudentRegister(Register register)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -125,6 +141,26 @@ public class ExaminationServiceImpl implements ExaminationService {
     }
 
 
+    /**
+     * Get the transcript aggregates of a student, from one row
+     * @param register of the student
+     * @return StudentTranscriptDto, empty if the student has no examinations
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public StudentTranscriptDto getTranscript(Register register) throws DataAccessServiceException {
+        try {
+            return studentTranscriptRepository
+                .findById(register.toString())
+                .map(StudentTranscriptDto::toDto)
+                .orElseGet(() -> StudentTranscriptDto.empty(register.toString()));
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for fetching transcript: " + e.getMessage(), e);
+        }
+    }
+
+
     /**
      * Get all examinations by professor unique code
      * @param uniqueCode unique code of the professor
@@ -134,6 +170,7 @@ public class ExaminationServiceImpl implements ExaminationService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public List<ExaminationDto> getExaminationsByProfessorUniqueCode(UniqueCode uniqueCode)
         throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
     {
@@ -142,14 +179,8 @@ public class ExaminationServiceImpl implements ExaminationService {
         validators.validateProfessorExists(uniqueCode);
 
         try {
-            return courseRepository
-                .findByProfessor(uniqueCode)
-                .stream()
-                .flatMap(course -> examinationRepository
-                    .findByCourse_Id_Id(course.getId().getId())
-                    .stream()
-                    .map(ExaminationMapper::toDto))
-                .toList();
+            Set<Course> courses = courseRepository.findByProfessor(uniqueCode);
+            return courses.isEmpty() ? List.of() : helpers.mapExaminations(examinationRepository.findByCourseIn(courses));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for fetching examinations: " + e.getMessage(), e);
         }
@@ -197,7 +228,10 @@ public class ExaminationServiceImpl implements ExaminationService {
 
             // --- Create & persist ---
             Examination examination = new Examination(course, student, request.getGrade(), request.isWithHonors(), request.getDate());
-            return ExaminationMapper.toDto(examinationRepository.saveAndFlush(examination));
+            Examination saved = examinationRepository.saveAndFlush(examination);
+            addToTranscript(saved, 1);
+            publishChanged(saved);
+            return ExaminationMapper.toDto(saved);
 
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for adding new examination: " + e.getMessage(), e);
@@ -247,13 +281,23 @@ public class ExaminationServiceImpl implements ExaminationService {
                 throw new ObjectNotFoundException("Course is not part of the student's study plan.");
 
             // --- Update and save ---
+            String previousRegister = examination.getRegister();
+            addToTranscript(examination, -1);
+            publishChanged(examination);
             examination.setStudentSnapshot(newStudent);
             examination.setCourse(newCourse);
             examination.setGrade(parsedGrade);
             examination.setWithHonors(request.isWithHonors());
             examination.setDate(request.getDate());
 
-            return ExaminationMapper.toDto(examinationRepository.saveAndFlush(examination));
+            Examination saved = examinationRepository.saveAndFlush(examination);
+            addToTranscript(saved, 1);
+            // reassigned: the last examination date of the previous student was computed
+            // while the examination was still theirs
+            if (!previousRegister.equals(saved.getRegister()))
+                studentTranscriptRepository.applyDelta(previousRegister, 0, 0, 0, 0);
+            publishChanged(saved);
+            return ExaminationMapper.toDto(saved);
 
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for updating examination: " + e.getMessage(), e);
@@ -290,11 +334,13 @@ public class ExaminationServiceImpl implements ExaminationService {
             Examination examination = examinationRepository
                 .findByCourse_Id_Id(course.getId().getId())
                 .stream()
-                .filter(exam -> !exam.getRegister().equals(register))
+                .filter(exam -> exam.getRegister().equals(register))
                 .findFirst()
                 .orElseThrow(() -> new ObjectNotFoundException("Examination of course " + courseName + " and student register " + register));
 
             examinationRepository.delete(examination);
+            addToTranscript(examination, -1);
+            publishChanged(examination);
             return ExaminationMapper.toDto(examination);
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("data access error while deleting examination of course " + courseName + " and student register " + register, e);
@@ -302,5 +348,41 @@ public class ExaminationServiceImpl implements ExaminationService {
     }
 
 
-}
 
+    // helpers
+
+    /**
+     * Adds or removes the contribution of an examination to the transcript
+     * of its student, in the transaction of the change.
+     * @param examination the examination, as persisted
+     * @param sign 1 to add, -1 to remove
+     */
+    private void addToTranscript(Examination examination, int sign) {
+        int cfu = examination.getCourse() != null ? examination.getCourse().getCfu() : 0;
+        int grade = examination.getGrade();
+        int honors = examination.isWithHonors() ? sign : 0;
+        String register = examination.getRegister();
+
+        int updated = studentTranscriptRepository.applyDelta(register, (long) sign * grade * cfu, sign * cfu, sign, honors);
+        // first examination of the student: the empty transcript is created (or found
+        // created by a concurrent transaction) and the delta applied to it; a missing
+        // transcript to decrease is left to the rebuild job
+        if (updated == 0 && sign > 0) {
+            studentTranscriptRepository.createIfAbsent(register, examination.getDate());
+            studentTranscriptRepository.applyDelta(register, (long) grade * cfu, cfu, 1, honors);
+        }
+    }
+
+
+    /**
+     * Invalidates the examinations of the student and the grades of the
+     * course, on every node, when the transaction commits.
+     * @param examination the examination, before or after the change
+     */
+    private void publishChanged(Examination examination) {
+        eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.EXAMINATION, examination.getRegister()));
+        if (examination.getCourse() != null)
+            eventPublisher.publishEvent(UmsInvalidationEvent.of(InvalidationTopic.GRADES, examination.getCourse()));
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationBus;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
+import com.alex.universitymanagementsystem.dto.GradeCountDto;
+import com.alex.universitymanagementsystem.dto.GradeDistributionDto;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+import com.alex.universitymanagementsystem.repository.ExaminationOutcomeRepository;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.service.GradeAnalyticsService;
+
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Grade analytics computed by GROUP BY queries over the examinations and
+ * the outcomes of one course, read from the covering indexes: the rows
+ * never reach the application, whatever the size of the history.
+ * <p>
+ * The result is cached per course until an examination or an outcome of
+ * the course, or the course itself, changes on any node (through the
+ * {@link UmsInvalidationBus}), and at most for {@code ums.analytics.cache-ttl}:
+ * the outcomes closed by the cleanup job are not announced.
+ */
+@Service
+public class GradeAnalyticsServiceImpl implements GradeAnalyticsService {
+
+    // constants
+    private static final int MIN_GRADE = 18;
+    private static final int MAX_GRADE = 30;
+    private static final String NAME_ERROR = "Course and degree course names cannot be null or empty";
+
+    // instance variables
+    private final ExaminationRepository examinationRepository;
+    private final ExaminationOutcomeRepository examinationOutcomeRepository;
+    private final ServiceHelpers helpers;
+    private final ServiceValidators validators;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration cacheTtl;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // increased by every invalidation: a result computed across one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // constructor
+    public GradeAnalyticsServiceImpl(
+        ExaminationRepository examinationRepository,
+        ExaminationOutcomeRepository examinationOutcomeRepository,
+        ServiceHelpers helpers,
+        ServiceValidators validators,
+        PlatformTransactionManager transactionManager,
+        UmsInvalidationBus invalidationBus,
+        @Value("${ums.analytics.cache-ttl:10m}") Duration cacheTtl,
+        @Value("${ums.analytics.max-entries:500}") int maxEntries
+    ) {
+        this.examinationRepository = examinationRepository;
+        this.examinationOutcomeRepository = examinationOutcomeRepository;
+        this.helpers = helpers;
+        this.validators = validators;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cacheTtl = cacheTtl;
+        this.maxEntries = maxEntries;
+        invalidationBus.subscribe(InvalidationTopic.GRADES, this::invalidate);
+        invalidationBus.subscribe(InvalidationTopic.COURSE, this::invalidate);
+    }
+
+
+    /**
+     * Retrieves the grade analytics of a course, from the cache when still valid.
+     * @param courseName the course name
+     * @param degreeCourseName the degree course name
+     * @return GradeDistributionDto
+     * @throws IllegalArgumentException if a name is blank
+     * @throws ObjectNotFoundException if the course does not exist
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    public GradeDistributionDto getGradeDistribution(String courseName, String degreeCourseName)
+        throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
+    {
+        validators.validateNotNullOrNotBlank(courseName, NAME_ERROR);
+        validators.validateNotNullOrNotBlank(degreeCourseName, NAME_ERROR);
+
+        String key = UmsInvalidationEvent.key(courseName, degreeCourseName.toUpperCase());
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt().isAfter(LocalDateTime.now()))
+            return entry.distribution();
+
+        long generation = invalidations.get();
+        try {
+            Entry computed = readOnlyTransaction.execute(status -> {
+                Course course = helpers.fetchCourse(courseName, degreeCourseName);
+                return new Entry(
+                    UmsInvalidationEvent.of(InvalidationTopic.GRADES, course).key(),
+                    compute(course),
+                    LocalDateTime.now().plus(cacheTtl));
+            });
+            if (invalidations.get() == generation) {
+                if (entries.size() >= maxEntries)
+                    entries.clear();
+                entries.put(key, computed);
+            }
+            return computed.distribution();
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for grade analytics of " + courseName + ": " + e.getMessage(), e);
+        }
+    }
+
+
+    // helpers
+    private GradeDistributionDto compute(Course course) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int grade = MIN_GRADE; grade <= MAX_GRADE; grade++)
+            histogram.put(grade, 0L);
+
+        long examinations = 0;
+        long points = 0;
+        long honors = 0;
+        for (GradeCountDto count : examinationRepository.countGrades(course)) {
+            histogram.merge(count.grade(), count.count(), Long::sum);
+            examinations += count.count();
+            points += count.grade() * count.count();
+            if (count.withHonors())
+                honors += count.count();
+        }
+
+        return new GradeDistributionDto(
+            course.getName(),
+            course.getDegreeCourse().getName(),
+            examinations,
+            examinations == 0 ? 0 : (double) points / examinations,
+            honors,
+            histogram,
+            examinationRepository.findGradeTrend(course),
+            examinationOutcomeRepository.findPassRates(course),
+            LocalDateTime.now());
+    }
+
+    // the key of the event is the one of the stored course, the cache key the one requested
+    private void invalidate(String courseKey) {
+        invalidations.incrementAndGet();
+        entries.values().removeIf(entry -> entry.courseKey().equals(courseKey));
+    }
+
+    private record Entry(String courseKey, GradeDistributionDto distribution, LocalDateTime expiresAt) {}
+
+}
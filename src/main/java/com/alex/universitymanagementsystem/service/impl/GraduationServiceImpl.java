@@ -0,0 +1,83 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
+import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
+import com.alex.universitymanagementsystem.dto.GraduationEligibilityDto;
+import com.alex.universitymanagementsystem.dto.GraduationSummaryDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.repository.GraduationEligibilityRepository;
+import com.alex.universitymanagementsystem.service.GraduationService;
+
+import jakarta.persistence.PersistenceException;
+
+@Service
+public class GraduationServiceImpl implements GraduationService {
+
+    // constants
+    private static final String NAME_ERROR = "Degree course name cannot be null or empty";
+
+    // instance variables
+    private final GraduationEligibilityRepository graduationEligibilityRepository;
+    private final ServiceValidators validators;
+    private final int maxStudents;
+
+    // constructor
+    public GraduationServiceImpl(
+        GraduationEligibilityRepository graduationEligibilityRepository,
+        ServiceValidators validators,
+        @Value("${ums.graduation.max-listed-students:500}") int maxStudents
+    ) {
+        this.graduationEligibilityRepository = graduationEligibilityRepository;
+        this.validators = validators;
+        this.maxStudents = maxStudents;
+    }
+
+
+    /**
+     * Retrieves the graduation summary of each degree course.
+     * @return the summaries, by degree course name
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public List<GraduationSummaryDto> getGraduationSummary() throws DataAccessServiceException {
+        try {
+            return graduationEligibilityRepository.summarize();
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for the graduation summary: " + e.getMessage(), e);
+        }
+    }
+
+
+    /**
+     * Retrieves the students of a degree course by graduation eligibility.
+     * @param degreeCourseName the degree course name
+     * @param eligible true for the students who can graduate, false for the others
+     * @return the first students, by register
+     * @throws IllegalArgumentException if the name is blank
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public List<GraduationEligibilityDto> getStudents(String degreeCourseName, boolean eligible)
+        throws IllegalArgumentException, DataAccessServiceException
+    {
+        validators.validateNotNullOrNotBlank(degreeCourseName, NAME_ERROR);
+        try {
+            return graduationEligibilityRepository
+                .findByDegreeCourseAndEligibleOrderByRegister(degreeCourseName.toUpperCase(), eligible, PageRequest.ofSize(maxStudents))
+                .stream()
+                .map(GraduationEligibilityDto::toDto)
+                .toList();
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for degree course " + degreeCourseName + ": " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
+import com.alex.universitymanagementsystem.dto.JobRunDto;
+import com.alex.universitymanagementsystem.dto.ScheduledJobDto;
+import com.alex.universitymanagementsystem.enum_type.DomainType;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
+import com.alex.universitymanagementsystem.repository.JobRunRepository;
+import com.alex.universitymanagementsystem.repository.ScheduledJobRepository;
+import com.alex.universitymanagementsystem.service.JobService;
+
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transactional;
+
+@Service
+public class JobServiceImpl implements JobService {
+
+    // constants
+    private static final String DATA_ACCESS_ERROR = "Error accessing database for the scheduled jobs: ";
+
+    // instance variables
+    private final ScheduledJobRepository scheduledJobRepository;
+    private final JobRunRepository jobRunRepository;
+
+    public JobServiceImpl(ScheduledJobRepository scheduledJobRepository, JobRunRepository jobRunRepository) {
+        this.scheduledJobRepository = scheduledJobRepository;
+        this.jobRunRepository = jobRunRepository;
+    }
+
+
+    /**
+     * Retrieves the state of every scheduled job.
+     * @return the jobs, by name
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public List<ScheduledJobDto> getJobs() throws DataAccessServiceException {
+        try {
+            return scheduledJobRepository
+                .findAll(Sort.by("name"))
+                .stream()
+                .map(ScheduledJobDto::toDto)
+                .toList();
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
+        }
+    }
+
+
+    /**
+     * Retrieves the latest runs of the scheduled jobs.
+     * @return the last 100 runs, latest first
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public List<JobRunDto> getJobHistory() throws DataAccessServiceException {
+        try {
+            return jobRunRepository
+                .findTop100ByOrderByIdDesc()
+                .stream()
+                .map(JobRunDto::toDto)
+                .toList();
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
+        }
+    }
+
+
+    /**
+     * Makes a parked or failing job due now, resuming from its checkpoint.
+     * @param name the job name
+     * @throws ObjectNotFoundException if there is no such job
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @Transactional(rollbackOn = ObjectNotFoundException.class)
+    public void resumeJob(String name) throws ObjectNotFoundException, DataAccessServiceException {
+        try {
+            if (scheduledJobRepository.resume(name, LocalDateTime.now()) == 0)
+                throw new ObjectNotFoundException(DomainType.SCHEDULED_JOB);
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException(DATA_ACCESS_ERROR, e);
+        }
+    }
+
+}
@@ -3,15 +3,17 @@ package com.alex.universitymanagementsystem.service.impl;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.MessagingException;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.component.cluster.UmsUserDestinationRelay;
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
 import com.alex.universitymanagementsystem.entity.OutcomeNotification;
 import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
 import com.alex.universitymanagementsystem.enum_type.DomainType;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -25,18 +27,21 @@ import jakarta.transaction.Transactional;
 @Service
 public class OutcomeNotificationServiceImpl implements OutcomeNotificationService {
     // instance variables
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UmsUserDestinationRelay userDestinationRelay;
     private final OutcomeNotificationRepository outcomeNotificationRepository;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OutcomeNotificationServiceImpl(
-        SimpMessagingTemplate messagingTemplate,
+        UmsUserDestinationRelay userDestinationRelay,
         OutcomeNotificationRepository outcomeNotificationRepository,
-        StudentRepository studentRepository
+        StudentRepository studentRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
-        this.messagingTemplate = messagingTemplate;
+        this.userDestinationRelay = userDestinationRelay;
         this.outcomeNotificationRepository = outcomeNotificationRepository;
         this.studentRepository = studentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -55,8 +60,8 @@ public class OutcomeNotificationServiceImpl implements OutcomeNotificationServic
         throws MessagingException, ObjectNotFoundException, DataAccessServiceException {
 
         try {
-            // send WebSocket notification
-            messagingTemplate.convertAndSendToUser(username, "/topic/exam-outcome", message);
+            // send WebSocket notification, on whichever node the student is connected to
+            userDestinationRelay.convertAndSendToUser(username, "/topic/exam-outcome", message);
 
             // persistenza su DB
             Student student = studentRepository
@@ -70,6 +75,7 @@ public class OutcomeNotificationServiceImpl implements OutcomeNotificationServic
             notification.setRead(false);
 
             outcomeNotificationRepository.save(notification);
+            eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.UNREAD_NOTIFICATIONS, 1));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for fetching notifications: ", e);
         }
@@ -107,29 +113,14 @@ public class OutcomeNotificationServiceImpl implements OutcomeNotificationServic
         try {
             outcomeNotificationRepository
                 .findById(notificationId)
+                .filter(n -> !n.isRead())
                 .ifPresent(n -> {
                     n.setRead(true);
                     outcomeNotificationRepository.save(n);
+                    eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.UNREAD_NOTIFICATIONS, -1));
                 });
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for marking notification as read: ", e);
         }
     }
-
-
-    /**
-     * Pulizia notifiche scadute: viene eseguita ogni notte alle 2:00
-     * @throws DataAccessServiceException
-     */
-    @Override
-    @Transactional
-    @Scheduled(cron = "0 0 2 * * ?")
-    public void cleanExpiredNotifications() throws DataAccessServiceException {
-        try {
-            outcomeNotificationRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-        } catch (PersistenceException e) {
-            throw new DataAccessServiceException("Error accessing database for cleaning expired notifications: ", e);
-        }
-    }
 }
-
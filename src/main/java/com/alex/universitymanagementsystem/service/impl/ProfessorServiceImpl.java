@@ -3,18 +3,21 @@ package com.alex.universitymanagementsystem.service.impl;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.ProfessorDto;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.entity.Professor;
 import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
 import com.alex.universitymanagementsystem.enum_type.DomainType;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectAlreadyExistsException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -37,18 +40,21 @@ public class ProfessorServiceImpl implements ProfessorService {
     private final PasswordEncoder passwordEncoder;
     private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+    private final ApplicationEventPublisher eventPublisher;
 
     // autowired - dependency injection - constructor
     public ProfessorServiceImpl(
         ProfessorRepository professorRepository,
         PasswordEncoder passwordEncoder,
         ServiceHelpers helpers,
-        ServiceValidators validators
+        ServiceValidators validators,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.professorRepository = professorRepository;
         this.passwordEncoder = passwordEncoder;
         this.helpers = helpers;
         this.validators = validators;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -167,6 +173,9 @@ public class ProfessorServiceImpl implements ProfessorService {
     {
         try {
             Professor professor = professorRepository.saveAndFlush(form.toProfessor(passwordEncoder));
+            // invalidates the user and the catalog on every node when the transaction commits
+            eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.USER, professor.getUsername()));
+            eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.PROFESSOR, professor.getUniqueCode().toString()));
             return Optional.of(ProfessorMapper.toDto(professor));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for user " + form.getUsername() + ": " + e.getMessage(), e);
@@ -0,0 +1,169 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.dto.ExaminationAppealDto;
+import com.alex.universitymanagementsystem.dto.ExaminationOutcomeDto;
+import com.alex.universitymanagementsystem.dto.OutcomeNotificationDto;
+import com.alex.universitymanagementsystem.dto.StudentDashboardDto;
+import com.alex.universitymanagementsystem.dto.StudyPlanDto;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.service.ExaminationAppealService;
+import com.alex.universitymanagementsystem.service.ExaminationOutcomeService;
+import com.alex.universitymanagementsystem.service.OutcomeNotificationService;
+import com.alex.universitymanagementsystem.service.StudentDashboardService;
+import com.alex.universitymanagementsystem.service.StudyPlanService;
+
+/**
+ * Composes the student dashboard from five independent reads, each forked
+ * on its own virtual thread in its own read-only transaction: the page
+ * takes as long as the slowest read, not their sum. The reads share one
+ * deadline ({@code ums.dashboard.deadline}); a read failing or missing it
+ * is cancelled and its section shown as unavailable. So is a read forked
+ * while {@code ums.dashboard.max-concurrent-reads} are already running:
+ * it is refused at once rather than waited for.
+ */
+@Service
+public class StudentDashboardServiceImpl implements StudentDashboardService {
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(StudentDashboardServiceImpl.class);
+
+    // instance variables
+    private final StudyPlanService studyPlanService;
+    private final ExaminationAppealService examinationAppealService;
+    private final ExaminationOutcomeService examinationOutcomeService;
+    private final OutcomeNotificationService outcomeNotificationService;
+    private final AsyncTaskExecutor dashboardExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration deadline;
+    private final Semaphore reads;
+
+    // constructor
+    public StudentDashboardServiceImpl(
+        StudyPlanService studyPlanService,
+        ExaminationAppealService examinationAppealService,
+        ExaminationOutcomeService examinationOutcomeService,
+        OutcomeNotificationService outcomeNotificationService,
+        @Qualifier("dashboardExecutor") AsyncTaskExecutor dashboardExecutor,
+        PlatformTransactionManager transactionManager,
+        @Value("${ums.dashboard.deadline:2s}") Duration deadline,
+        @Value("${ums.dashboard.max-concurrent-reads:200}") int maxConcurrentReads
+    ) {
+        this.studyPlanService = studyPlanService;
+        this.examinationAppealService = examinationAppealService;
+        this.examinationOutcomeService = examinationOutcomeService;
+        this.outcomeNotificationService = outcomeNotificationService;
+        this.dashboardExecutor = dashboardExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.deadline = deadline;
+        this.reads = new Semaphore(maxConcurrentReads);
+    }
+
+
+    /**
+     * Retrieves study plan, available and booked appeals, outcomes and
+     * unread notifications of a student, read concurrently.
+     * @param student the authenticated student
+     * @return StudentDashboardDto
+     */
+    @Override
+    public StudentDashboardDto getDashboard(Student student) {
+        Register register = student.getRegister();
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        Future<StudyPlanDto> studyPlan =
+            fork(() -> studyPlanService.getStudyPlanByRegister(register));
+        Future<List<ExaminationAppealDto>> availableAppeals =
+            fork(() -> examinationAppealService.getExaminationAppealsAvailable(register));
+        Future<List<ExaminationAppealDto>> bookedAppeals =
+            fork(() -> examinationAppealService.getExaminationAppealsBookedByStudent(register));
+        Future<List<ExaminationOutcomeDto>> outcomes =
+            fork(() -> examinationOutcomeService.getStudentOutcomes(register.toString()));
+        Future<List<OutcomeNotificationDto>> notifications =
+            fork(() -> outcomeNotificationService
+                .getActiveNotifications(student)
+                .stream()
+                .map(OutcomeNotificationDto::toDto)
+                .toList());
+
+        Set<String> unavailable = new TreeSet<>();
+        return new StudentDashboardDto(
+            join(StudentDashboardDto.STUDY_PLAN, studyPlan, null, deadlineNanos, unavailable),
+            join(StudentDashboardDto.AVAILABLE_APPEALS, availableAppeals, List.of(), deadlineNanos, unavailable),
+            join(StudentDashboardDto.BOOKED_APPEALS, bookedAppeals, List.of(), deadlineNanos, unavailable),
+            join(StudentDashboardDto.OUTCOMES, outcomes, List.of(), deadlineNanos, unavailable),
+            join(StudentDashboardDto.NOTIFICATIONS, notifications, List.of(), deadlineNanos, unavailable),
+            unavailable
+        );
+    }
+
+
+    // helpers
+    private <T> Future<T> fork(Supplier<T> read) {
+        if (!reads.tryAcquire())
+            return CompletableFuture.failedFuture(new TaskRejectedException("Too many dashboard reads running"));
+
+        // the permit goes back once: after the read, or on a cancel before it started
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<T> task = new FutureTask<>(() -> {
+            if (!claimed.compareAndSet(false, true))
+                return null;
+            try {
+                return readOnlyTransaction.execute(status -> read.get());
+            } finally {
+                reads.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (claimed.compareAndSet(false, true))
+                    reads.release();
+            }
+        };
+        dashboardExecutor.execute(task);
+        return task;
+    }
+
+
+    private <T> T join(String section, Future<T> read, T fallback, long deadlineNanos, Set<String> unavailable) {
+        try {
+            return read.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException _) {
+            read.cancel(true);
+            logger.warn("Dashboard section {} missed the {} ms deadline", section, deadline.toMillis());
+        } catch (ExecutionException e) {
+            logger.warn("Dashboard section {} could not be read", section, e.getCause());
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            read.cancel(true);
+        }
+        unavailable.add(section);
+        return fallback;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
+import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
+import com.alex.universitymanagementsystem.dto.StudentRankingDto;
+import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
+import com.alex.universitymanagementsystem.repository.StudentRankingRepository;
+import com.alex.universitymanagementsystem.service.StudentRankingService;
+
+import jakarta.persistence.PersistenceException;
+
+@Service
+public class StudentRankingServiceImpl implements StudentRankingService {
+
+    // constants
+    private static final String NAME_ERROR = "Degree course name cannot be null or empty";
+    private static final String PAGE_ERROR = "Page cannot be negative";
+
+    // instance variables
+    private final StudentRankingRepository studentRankingRepository;
+    private final ServiceValidators validators;
+    private final int pageSize;
+
+    // constructor
+    public StudentRankingServiceImpl(
+        StudentRankingRepository studentRankingRepository,
+        ServiceValidators validators,
+        @Value("${ums.ranking.page-size:50}") int pageSize
+    ) {
+        this.studentRankingRepository = studentRankingRepository;
+        this.validators = validators;
+        this.pageSize = pageSize;
+    }
+
+
+    /**
+     * Retrieves a page of the ranking of a degree course.
+     * @param degreeCourseName the degree course name
+     * @param page the page number, from 0
+     * @return the rankings of the page, by rank then register
+     * @throws IllegalArgumentException if the name is blank or the page negative
+     * @throws DataAccessServiceException if there is an error accessing the database.
+     */
+    @Override
+    @ReadOnlyTransactional
+    public Page<StudentRankingDto> getRanking(String degreeCourseName, int page)
+        throws IllegalArgumentException, DataAccessServiceException
+    {
+        validators.validateNotNullOrNotBlank(degreeCourseName, NAME_ERROR);
+        if (page < 0) throw new IllegalArgumentException(PAGE_ERROR);
+        try {
+            return studentRankingRepository
+                .findByDegreeCourseOrderByDenseRankAscRegisterAsc(degreeCourseName.toUpperCase(), PageRequest.of(page, pageSize))
+                .map(StudentRankingDto::toDto);
+        } catch (PersistenceException e) {
+            throw new DataAccessServiceException("Error accessing database for the ranking of " + degreeCourseName + ": " + e.getMessage(), e);
+        }
+    }
+
+}
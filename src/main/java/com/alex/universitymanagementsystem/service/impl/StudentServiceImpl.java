@@ -4,12 +4,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.dto.StudentDto;
@@ -17,6 +21,8 @@ import com.alex.universitymanagementsystem.entity.DegreeCourse;
 import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
 import com.alex.universitymanagementsystem.entity.Student;
 import com.alex.universitymanagementsystem.entity.StudyPlan;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.ObjectAlreadyExistsException;
 import com.alex.universitymanagementsystem.exception.ObjectNotFoundException;
@@ -45,6 +51,7 @@ public class StudentServiceImpl implements StudentService {
 	private final PasswordEncoder passwordEncoder;
 	private final ServiceHelpers helpers;
     private final ServiceValidators validators;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 	// autowired - dependency injection - constructor
@@ -54,7 +61,8 @@ public class StudentServiceImpl implements StudentService {
 		StudyPlanRepository studyPlanRepository,
 		PasswordEncoder passwordEncoder,
 		ServiceHelpers helpers,
-		ServiceValidators validators
+		ServiceValidators validators,
+		ApplicationEventPublisher eventPublisher
 	) {
 		this.studentRepository = studentRepository;
 		this.examinationAppealRepository = examinationAppealRepository;
@@ -62,6 +70,7 @@ public class StudentServiceImpl implements StudentService {
 		this.passwordEncoder = passwordEncoder;
 		this.helpers = helpers;
 		this.validators = validators;
+		this.eventPublisher = eventPublisher;
 	}
 
 
@@ -71,10 +80,11 @@ public class StudentServiceImpl implements StudentService {
 	 * @throws DataAccessServiceException if there is an error accessing the database.
 	 */
 	@Override
+	@ReadOnlyTransactional
     public List<StudentDto> getStudents() throws DataAccessServiceException {
 		try {
 			return studentRepository
-				.findAll()
+				.findAllWithStudyPlan()
 				.stream()
 				.map(StudentMapper::toDto)
 				.toList();
@@ -93,6 +103,7 @@ public class StudentServiceImpl implements StudentService {
 	 * @throws DataAccessServiceException if there is an error accessing the database.
 	 */
 	@Override
+	@ReadOnlyTransactional
 	public StudentDto getStudentByRegister(String register)
 		throws IllegalArgumentException, ObjectNotFoundException, DataAccessServiceException
 	{
@@ -115,6 +126,7 @@ public class StudentServiceImpl implements StudentService {
 	 * @throws DataAccessServiceException if there is an error accessing the database.
 	 */
 	@Override
+	@ReadOnlyTransactional
 	public List<StudentDto> getStudentsByFullname(String fullname)
 		throws IllegalArgumentException, DataAccessServiceException
 	{
@@ -179,6 +191,9 @@ public class StudentServiceImpl implements StudentService {
 			studentRepository.saveAndFlush(student);
 			// save the study plan
 			studyPlanRepository.saveAndFlush(student.getStudyPlan());
+			eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.STUDENTS, 1));
+			eventPublisher.publishEvent(AdminKpiEvent.degreeCourse(student, 1));
+			eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.USER, student.getUsername()));
 			// return the student as DTO
 			return Optional.of(StudentMapper.toDto(student));
 		} catch (PersistenceException e) {
@@ -210,6 +225,7 @@ public class StudentServiceImpl implements StudentService {
 			.toList();
 
 		examinationAppealRepository.saveAll(appealsToUpdate);
+		eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.BOOKINGS, -appealsToUpdate.size()));
     }
 
 
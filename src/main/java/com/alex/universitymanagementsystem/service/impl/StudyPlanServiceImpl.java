@@ -8,6 +8,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.annotation.ReadOnlyTransactional;
 import com.alex.universitymanagementsystem.component.ServiceHelpers;
 import com.alex.universitymanagementsystem.component.validator.ServiceValidators;
 import com.alex.universitymanagementsystem.dto.CourseDto;
@@ -58,6 +59,7 @@ public class StudyPlanServiceImpl implements StudyPlanService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public String getOrderingByRegister(Register register)
         throws ObjectNotFoundException, DataAccessServiceException
     {
@@ -73,6 +75,7 @@ public class StudyPlanServiceImpl implements StudyPlanService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public Set<CourseDto> getCoursesByRegister(Register register)
         throws ObjectNotFoundException, DataAccessServiceException
     {
@@ -93,13 +96,15 @@ public class StudyPlanServiceImpl implements StudyPlanService {
      * @throws DataAccessServiceException if there is an error accessing the database.
      */
     @Override
+    @ReadOnlyTransactional
     public StudyPlanDto getStudyPlanByRegister(Register register)
         throws ObjectNotFoundException, DataAccessServiceException
     {
+        StudyPlan studyPlan = getStudyPlan(register);
         // retrieve the ordering of the study plan
-        String ordering = getStudyPlan(register).getOrdering();
+        String ordering = studyPlan.getOrdering();
         // retrieve the courses of the study plan
-        Set<CourseDto> courses = getStudyPlan(register)
+        Set<CourseDto> courses = studyPlan
             .getCourses()
             .stream()
             .map(CourseMapper::toDto)
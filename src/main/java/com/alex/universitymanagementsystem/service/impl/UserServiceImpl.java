@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.access.AccessDeniedException;
@@ -14,15 +15,20 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.kpi.AdminKpiEvent;
 import com.alex.universitymanagementsystem.dto.RegistrationForm;
 import com.alex.universitymanagementsystem.dto.UpdateForm;
 import com.alex.universitymanagementsystem.dto.UserDto;
 import com.alex.universitymanagementsystem.entity.Address;
+import com.alex.universitymanagementsystem.entity.Professor;
 import com.alex.universitymanagementsystem.entity.Student;
 import com.alex.universitymanagementsystem.entity.User;
 import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
 import com.alex.universitymanagementsystem.entity.immutable.UserId;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
 import com.alex.universitymanagementsystem.enum_type.DomainType;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
 import com.alex.universitymanagementsystem.exception.DataAccessServiceException;
 import com.alex.universitymanagementsystem.exception.DuplicateFiscalCodeException;
 import com.alex.universitymanagementsystem.exception.DuplicateUsernameException;
@@ -43,11 +49,18 @@ public class UserServiceImpl implements UserService{
     private final UserRepository userRepository;
     private final StudentService studentService;
     private final PasswordEncoder passwordEncoder;
-
-    public UserServiceImpl(UserRepository userRepository, StudentService studentService, PasswordEncoder passwordEncoder) {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserServiceImpl(
+        UserRepository userRepository,
+        StudentService studentService,
+        PasswordEncoder passwordEncoder,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.userRepository = userRepository;
         this.studentService = studentService;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -61,7 +74,7 @@ public class UserServiceImpl implements UserService{
         try {
             // fetch all users from the repository
             return userRepository
-                .findAll()
+                .findAllWithAddress()
                 .stream()
                 .map(UserMapper::toDto)
                 .toList();
@@ -101,6 +114,7 @@ public class UserServiceImpl implements UserService{
         try {
             // save the user
             User user = userRepository.saveAndFlush((form.toUser(passwordEncoder)));
+            publishChanged(user);
             // if the user was created successfully, return the DTO
             return Optional.of(UserMapper.toDto(user));
         } catch (PersistenceException e) {
@@ -156,6 +170,7 @@ public class UserServiceImpl implements UserService{
 
             // save the user
             User updatedUser = userRepository.saveAndFlush(updatableUser);
+            publishChanged(updatedUser);
             return Optional.of(UserMapper.toDto(updatedUser));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for user " + updatableUser.getId() + ": " + e.getMessage(), e);
@@ -184,11 +199,15 @@ public class UserServiceImpl implements UserService{
                 .findById(new UserId(UUID.fromString(userId)))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-            if(userToDelete instanceof Student student)
+            if(userToDelete instanceof Student student) {
                 studentService.deleteStudentRelationship(student);
+                eventPublisher.publishEvent(AdminKpiEvent.of(AdminKpi.STUDENTS, -1));
+                eventPublisher.publishEvent(AdminKpiEvent.degreeCourse(student, -1));
+            }
 
             // delete the user
             userRepository.delete(userToDelete);
+            publishChanged(userToDelete);
             return Optional.of(UserMapper.toDto(userToDelete));
         } catch (PersistenceException e) {
             throw new DataAccessServiceException("Error accessing database for user " + userId + ": " + e.getMessage(), e);
@@ -203,6 +222,17 @@ public class UserServiceImpl implements UserService{
 
     // helper methods
 
+    /**
+     * Invalidates the user, and the catalog if a professor, on every node when the transaction commits.
+     * @param user the changed user
+     */
+    private void publishChanged(User user) {
+        eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.USER, user.getUsername()));
+        if (user instanceof Professor professor)
+            eventPublisher.publishEvent(new UmsInvalidationEvent(InvalidationTopic.PROFESSOR, professor.getUniqueCode().toString()));
+    }
+
+
     /**
      * Checks if the username of the user to be updated is already taken by another user.
      * @param updatableUser the user to be updated
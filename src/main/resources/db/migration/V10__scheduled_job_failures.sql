@@ -0,0 +1,8 @@
+-- ===============================
+-- Failing runs of a scheduled job: retried with an exponential backoff,
+-- parked after ums.jobs.max-failures consecutive failures until an admin
+-- resumes the job
+-- ===============================
+
+alter table scheduled_jobs add column consecutive_failures integer not null default 0;
+alter table scheduled_jobs add column parked boolean not null default false;
@@ -0,0 +1,170 @@
+-- ===============================
+-- Baseline schema, matches the JPA mapping (validated at startup)
+-- ===============================
+
+create sequence addresses_seq start with 1 increment by 50;
+
+create table addresses (
+    address_id bigint not null,
+    city varchar(50) not null,
+    state varchar(50) not null,
+    street text not null,
+    zip_code varchar(50) not null,
+    constraint pk_addresses primary key (address_id)
+);
+
+create table users (
+    id uuid not null,
+    username varchar(50) not null,
+    password varchar(255) not null,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    dob date not null,
+    fiscal_code varchar(16) not null,
+    phone varchar(15) not null,
+    role varchar(255) not null,
+    address_address_id bigint not null,
+    enabled boolean not null,
+    account_locked boolean not null,
+    credentials_expiration date,
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_fiscal_code unique (fiscal_code),
+    constraint uk_users_address unique (address_address_id),
+    constraint ck_users_role check (role in ('STUDENT', 'PROFESSOR', 'ADMIN')),
+    constraint fk_users_address foreign key (address_address_id) references addresses (address_id)
+);
+
+create table professors (
+    id uuid not null,
+    unique_code varchar(255) not null,
+    constraint pk_professors primary key (id),
+    constraint uk_professors_unique_code unique (unique_code),
+    constraint fk_professors_user foreign key (id) references users (id)
+);
+
+create table degree_courses (
+    id uuid not null,
+    name varchar(255),
+    graduation_class smallint,
+    duration integer,
+    constraint pk_degree_courses primary key (id),
+    constraint uk_degree_courses_name unique (name)
+);
+
+create table students (
+    id uuid not null,
+    register varchar(6) not null,
+    degree_course_id uuid,
+    constraint pk_students primary key (id),
+    constraint uk_students_register unique (register),
+    constraint fk_student_degreeCourse foreign key (degree_course_id) references degree_courses (id) on delete set null,
+    constraint fk_students_user foreign key (id) references users (id)
+);
+
+create table courses (
+    id uuid not null,
+    miur_course_code varchar(255) not null,
+    name varchar(255) not null,
+    type varchar(255) not null,
+    cfu integer not null,
+    professor_id uuid,
+    degree_course_id uuid,
+    constraint pk_courses primary key (id),
+    constraint uk_courses_miur_course_code unique (miur_course_code),
+    constraint fk_course_professor foreign key (professor_id) references professors (id) on delete set null,
+    constraint fk_course_degree_course foreign key (degree_course_id) references degree_courses (id) on delete set null
+);
+
+create table study_plans (
+    study_plan_id uuid not null,
+    student_id uuid not null,
+    ordering varchar(255),
+    constraint pk_study_plans primary key (study_plan_id),
+    constraint uk_study_plans_student unique (student_id),
+    constraint fk_study_plans_student foreign key (student_id) references students (id) on delete cascade
+);
+
+create table study_plan_courses (
+    study_plan_id uuid not null,
+    course_id uuid not null,
+    constraint pk_study_plan_courses primary key (study_plan_id, course_id),
+    constraint fk_study_plan_courses_study_plan foreign key (study_plan_id) references study_plans (study_plan_id) on delete cascade,
+    constraint fk_study_plan_courses_course foreign key (course_id) references courses (id)
+);
+
+create table examinations (
+    id uuid not null,
+    course_id uuid,
+    course_name_snapshot varchar(255) not null,
+    register varchar(20) not null,
+    student_first_name varchar(50) not null,
+    student_last_name varchar(50) not null,
+    grade integer not null,
+    with_honors boolean,
+    examination_date date not null,
+    constraint pk_examinations primary key (id),
+    constraint ck_examinations_grade check (grade >= 18 and grade <= 30),
+    constraint fk_examination_course foreign key (course_id) references courses (id)
+);
+
+create table examination_appeals (
+    examination_appeal_id bigint generated by default as identity,
+    course_id uuid,
+    unique_code varchar(255) not null,
+    description varchar(255),
+    date date not null,
+    constraint pk_examination_appeals primary key (examination_appeal_id),
+    constraint fk_examination_appeals_course foreign key (course_id) references courses (id) on delete cascade
+);
+
+create table examination_appeal_registers (
+    examination_appeal_id bigint not null,
+    register varchar(6) not null,
+    constraint pk_examination_appeal_registers primary key (examination_appeal_id, register),
+    constraint fk_examination_appeal_registers_appeal foreign key (examination_appeal_id) references examination_appeals (examination_appeal_id)
+);
+
+create table examination_outcomes (
+    outcome_id bigint generated by default as identity,
+    examination_appeal_id bigint not null,
+    register varchar(6) not null,
+    present boolean not null,
+    grade integer,
+    with_honors boolean,
+    accepted boolean,
+    message varchar(255),
+    constraint pk_examination_outcomes primary key (outcome_id),
+    constraint ck_examination_outcomes_grade check (grade >= 0 and grade <= 30),
+    constraint fk_examination_outcomes_appeal foreign key (examination_appeal_id) references examination_appeals (examination_appeal_id)
+);
+
+create table outcome_notifications (
+    id bigint generated by default as identity,
+    student_id uuid,
+    message varchar(255) not null,
+    read boolean not null,
+    created_at timestamp(6),
+    expires_at timestamp(6),
+    constraint pk_outcome_notifications primary key (id),
+    constraint fk_outcome_notifications_student foreign key (student_id) references students (id)
+);
+
+create table password_reset_tokens (
+    id bigint generated by default as identity,
+    token varchar(255) not null,
+    user_id uuid,
+    expiry_date timestamp(6) not null,
+    used boolean not null,
+    constraint pk_password_reset_tokens primary key (id),
+    constraint uk_password_reset_tokens_token unique (token),
+    constraint uk_password_reset_tokens_user unique (user_id),
+    constraint fk_password_reset_tokens_user foreign key (user_id) references users (id)
+);
+
+create table seed_checksums (
+    dataset varchar(100) not null,
+    checksum varchar(64) not null,
+    applied_at timestamp(6) not null,
+    constraint pk_seed_checksums primary key (dataset)
+);
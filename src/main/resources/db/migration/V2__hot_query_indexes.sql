@@ -0,0 +1,32 @@
+-- ===============================
+-- Secondary indexes for the hot queries and the foreign keys used in joins
+-- ===============================
+
+-- transcripts and course statistics
+create index ix_examinations_register on examinations (register);
+create index ix_examinations_course on examinations (course_id);
+
+-- appeals of a course, optionally on a date; expiry job
+create index ix_examination_appeals_course_date on examination_appeals (course_id, date);
+create index ix_examination_appeals_date on examination_appeals (date);
+
+-- bookings of a student (the primary key leads with the appeal)
+create index ix_examination_appeal_registers_register on examination_appeal_registers (register);
+
+-- outcomes of a student, per appeal
+create index ix_examination_outcomes_register_appeal on examination_outcomes (register, examination_appeal_id);
+create index ix_examination_outcomes_appeal on examination_outcomes (examination_appeal_id);
+
+-- unread, unexpired notifications of a student; cleanup job
+create index ix_outcome_notifications_student_read_expires on outcome_notifications (student_id, read, expires_at);
+create index ix_outcome_notifications_expires on outcome_notifications (expires_at);
+
+-- search by full name, by date of birth
+create index ix_users_full_name on users (first_name, last_name);
+create index ix_users_dob on users (dob);
+
+-- foreign keys followed by the degree course, professor and study plan pages
+create index ix_courses_degree_course on courses (degree_course_id);
+create index ix_courses_professor on courses (professor_id);
+create index ix_students_degree_course on students (degree_course_id);
+create index ix_study_plan_courses_course on study_plan_courses (course_id);
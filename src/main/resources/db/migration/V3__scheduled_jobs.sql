@@ -0,0 +1,31 @@
+-- ===============================
+-- Scheduled job framework: per-job lease, schedule and checkpoint, run history
+-- ===============================
+
+create table scheduled_jobs (
+    name varchar(100) not null,
+    next_run_at timestamp(6) not null,
+    last_completed_at timestamp(6),
+    checkpoint varchar(255),
+    lease_owner varchar(100),
+    lease_until timestamp(6),
+    constraint pk_scheduled_jobs primary key (name)
+);
+
+create table job_runs (
+    id bigint generated by default as identity,
+    job_name varchar(100) not null,
+    node varchar(100) not null,
+    status varchar(20) not null,
+    started_at timestamp(6) not null,
+    finished_at timestamp(6),
+    resumed_from varchar(255),
+    chunks integer not null,
+    rows_affected bigint not null,
+    error varchar(1000),
+    constraint pk_job_runs primary key (id),
+    constraint ck_job_runs_status check (status in ('RUNNING', 'COMPLETED', 'FAILED', 'INTERRUPTED'))
+);
+
+-- runs of a job, latest first; stale RUNNING rows of a resumed job
+create index ix_job_runs_job_status on job_runs (job_name, status);
@@ -0,0 +1,29 @@
+-- ===============================
+-- Inter-node messaging without an external broker: messages polled by the
+-- nodes, and the nodes holding the WebSocket sessions of each user
+-- ===============================
+
+create table cluster_messages (
+    id bigint generated by default as identity,
+    channel varchar(100) not null,
+    sender_node varchar(100) not null,
+    target_node varchar(100),
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    constraint pk_cluster_messages primary key (id)
+);
+
+-- recent messages rescanned for late commits, retention purge
+create index ix_cluster_messages_created_at on cluster_messages (created_at);
+
+create table websocket_user_nodes (
+    id bigint generated by default as identity,
+    username varchar(100) not null,
+    node varchar(100) not null,
+    seen_at timestamp(6) not null,
+    constraint pk_websocket_user_nodes primary key (id),
+    constraint uk_websocket_user_nodes unique (username, node)
+);
+
+-- heartbeat of a node
+create index ix_websocket_user_nodes_node on websocket_user_nodes (node);
@@ -0,0 +1,25 @@
+-- ===============================
+-- Transcript aggregates of each student, kept up to date by the examination
+-- service and rebuilt by the rebuildTranscripts job
+-- ===============================
+
+create table student_transcripts (
+    register varchar(20) not null,
+    grade_points bigint not null,
+    cfu integer not null,
+    examinations integer not null,
+    honors integer not null,
+    last_exam_date date,
+    constraint pk_student_transcripts primary key (register)
+);
+
+insert into student_transcripts (register, grade_points, cfu, examinations, honors, last_exam_date)
+select e.register,
+       sum(e.grade * coalesce(c.cfu, 0)),
+       sum(coalesce(c.cfu, 0)),
+       count(*),
+       sum(case when e.with_honors then 1 else 0 end),
+       max(e.examination_date)
+from examinations e
+left join courses c on c.id = e.course_id
+group by e.register;
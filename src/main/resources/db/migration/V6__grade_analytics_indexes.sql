@@ -0,0 +1,11 @@
+-- ===============================
+-- Grade analytics of a course: the aggregates read only the indexes
+-- ===============================
+
+-- histogram and trend of the examinations of a course
+drop index ix_examinations_course;
+create index ix_examinations_course_grades on examinations (course_id, examination_date, grade, with_honors);
+
+-- pass rates of the appeals of a course
+drop index ix_examination_outcomes_appeal;
+create index ix_examination_outcomes_appeal_grades on examination_outcomes (examination_appeal_id, present, grade);
@@ -0,0 +1,37 @@
+-- ===============================
+-- Counters of the admin dashboard, kept up to date by the services and
+-- reconciled every hour by the reconcileAdminKpis job
+-- ===============================
+
+create table admin_kpis (
+    id bigint generated by default as identity,
+    kpi varchar(50) not null,
+    scope varchar(255) not null,
+    total bigint not null,
+    updated_at timestamp(6) not null,
+    constraint pk_admin_kpis primary key (id),
+    constraint uk_admin_kpis unique (kpi, scope)
+);
+
+insert into admin_kpis (kpi, scope, total, updated_at)
+select 'STUDENTS', '', count(*), current_timestamp from students;
+
+insert into admin_kpis (kpi, scope, total, updated_at)
+select 'DEGREE_COURSE_STUDENTS', d.name, count(s.id), current_timestamp
+from degree_courses d
+left join students s on s.degree_course_id = d.id
+where d.name is not null
+group by d.name;
+
+-- depends on the current week: counted by the first reconcile
+insert into admin_kpis (kpi, scope, total, updated_at)
+values ('APPEALS_THIS_WEEK', '', 0, current_timestamp);
+
+insert into admin_kpis (kpi, scope, total, updated_at)
+select 'BOOKINGS', '', count(*), current_timestamp from examination_appeal_registers;
+
+insert into admin_kpis (kpi, scope, total, updated_at)
+select 'PENDING_OUTCOMES', '', count(*), current_timestamp from examination_outcomes;
+
+insert into admin_kpis (kpi, scope, total, updated_at)
+select 'UNREAD_NOTIFICATIONS', '', count(*), current_timestamp from outcome_notifications where read = false;
@@ -0,0 +1,20 @@
+-- ===============================
+-- Graduation eligibility of each student with a study plan, computed by
+-- the evaluateGraduation job
+-- ===============================
+
+create table graduation_eligibility (
+    register varchar(6) not null,
+    degree_course varchar(255),
+    plan_cfu integer not null,
+    earned_cfu integer not null,
+    missing_cfu integer not null,
+    missing_courses integer not null,
+    missing_course_names varchar(2000),
+    eligible boolean not null,
+    evaluated_at timestamp(6) not null,
+    constraint pk_graduation_eligibility primary key (register)
+);
+
+-- summary by degree course, eligible students of a degree course
+create index ix_graduation_eligibility_degree_course on graduation_eligibility (degree_course, eligible, register);
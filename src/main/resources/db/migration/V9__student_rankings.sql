@@ -0,0 +1,19 @@
+-- ===============================
+-- Ranking of the students of each degree course by CFU-weighted average,
+-- computed by the rankStudents job
+-- ===============================
+
+create table student_rankings (
+    register varchar(6) not null,
+    degree_course varchar(255) not null,
+    cfu integer not null,
+    grade_points bigint not null,
+    weighted_average double precision not null,
+    dense_rank integer not null,
+    percentile double precision not null,
+    computed_at timestamp(6) not null,
+    constraint pk_student_rankings primary key (register)
+);
+
+-- ranking pages of a degree course
+create index ix_student_rankings_degree_course on student_rankings (degree_course, dense_rank, register);
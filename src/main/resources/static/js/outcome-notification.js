@@ -1,5 +1,7 @@
-const socket = new SockJS('http://localhost:8081/ws');
-const stompClient = Stomp.over(socket);
+// native WebSocket, SockJS where it is not available
+const stompClient = 'WebSocket' in window
+    ? Stomp.client(`${location.protocol === 'https:' ? 'wss' : 'ws'}://${location.host}/ws-native`)
+    : Stomp.over(new SockJS('/ws'));
 
 
 // web socket connection
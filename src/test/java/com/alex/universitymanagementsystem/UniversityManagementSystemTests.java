@@ -6,8 +6,10 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest(properties = "spring.main.lazy-initialization=true")
+@ActiveProfiles({"embedded", "test"})
 class UniversityManagementSystemTests {
 
 	@Autowired
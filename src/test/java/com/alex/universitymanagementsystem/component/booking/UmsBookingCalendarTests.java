@@ -0,0 +1,98 @@
+package com.alex.universitymanagementsystem.component.booking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationBus;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlStatementCounter;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+import com.alex.universitymanagementsystem.exception.SameDayBookingException;
+import com.alex.universitymanagementsystem.repository.CourseRepository;
+import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
+import com.alex.universitymanagementsystem.service.ExaminationAppealService;
+
+/**
+ * Two appeals of the seeded course on the same day, the first booked by
+ * the seeded student: the second is rejected from the booking calendar.
+ * Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class UmsBookingCalendarTests {
+
+    private static final String COURSE = "fondamenti di informatica";
+    private static final String DEGREE_COURSE = "INGEGNERIA GESTIONALE";
+    private static final Register REGISTER = new Register("123456");
+
+    @Autowired
+    private UmsBookingCalendar bookingCalendar;
+
+    @Autowired
+    private ExaminationAppealService examinationAppealService;
+
+    @Autowired
+    private ExaminationAppealRepository examinationAppealRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private UmsInvalidationBus invalidationBus;
+
+    @Autowired
+    private UmsSqlStatementCounter statementCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void rejectsSameDayBooking() {
+        LocalDate date = LocalDate.now().plusYears(2);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Course course = courseRepository.findByNameAndDegreeCourseName(COURSE, DEGREE_COURSE).orElseThrow();
+            ExaminationAppeal booked = ExaminationAppeal.of(course, "written", date);
+            booked.addRegister(REGISTER);
+            examinationAppealRepository.saveAndFlush(booked);
+            ExaminationAppeal other = examinationAppealRepository.saveAndFlush(ExaminationAppeal.of(course, "oral", date));
+            evict();
+
+            try {
+                assertTrue(bookingCalendar.isBooked(REGISTER, date));
+                statementCounter.start();
+                assertFalse(bookingCalendar.isBooked(REGISTER, date.plusDays(1)));
+                assertEquals(0, statementCounter.stop());
+
+                assertThrows(SameDayBookingException.class,
+                    () -> examinationAppealService.addStudentToAppeal(other.getId(), REGISTER));
+            } finally {
+                // the calendar has read the booking about to be rolled back
+                evict();
+            }
+        });
+    }
+
+
+    // helpers
+    private void evict() {
+        invalidationBus.deliverLocally(new UmsInvalidationEvent(InvalidationTopic.BOOKING, REGISTER.toString()));
+    }
+
+}
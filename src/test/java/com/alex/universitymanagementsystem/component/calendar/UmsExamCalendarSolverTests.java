@@ -0,0 +1,101 @@
+package com.alex.universitymanagementsystem.component.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Small sessions whose best calendar is known.
+ */
+class UmsExamCalendarSolverTests {
+
+    private final UmsExamCalendarSolver solver = new UmsExamCalendarSolver(50);
+
+
+    @Test
+    void countsSharedStudents() {
+        UmsConflictGraph graph = new UmsConflictGraph(3);
+        graph.add(0, 1);
+        graph.add(0, 130);
+        graph.add(1, 130);
+        graph.add(1, 1);
+        graph.add(2, 64);
+
+        int[][] weights = graph.weights();
+        assertEquals(2, weights[0][1]);
+        assertEquals(2, weights[1][0]);
+        assertEquals(0, weights[0][2]);
+        assertEquals(0, weights[0][0]);
+    }
+
+
+    @Test
+    void separatesConflictingCourses() {
+        int[][] weights = {
+            {0, 3, 2},
+            {3, 0, 1},
+            {2, 1, 0}
+        };
+
+        int[] days = solver.solve(weights, 3, 2, new int[] {0, 0, 0});
+
+        assertEquals(0, UmsExamCalendarSolver.clashes(weights, days));
+        assertEquals(3, Arrays.stream(days).distinct().count());
+    }
+
+
+    @Test
+    void pairsTheCoursesSharingFewerStudents() {
+        // two days of two exams: {0, 2} and {1, 3} share 2 students, the other pairings 10 and 20
+        int[][] weights = {
+            {0, 10, 1, 5},
+            {10, 0, 5, 1},
+            {1, 5, 0, 10},
+            {5, 1, 10, 0}
+        };
+
+        int[] days = solver.solve(weights, 2, 2, new int[] {0, 0, 1, 1});
+
+        assertEquals(2, UmsExamCalendarSolver.clashes(weights, days));
+        assertEquals(days[0], days[2]);
+        assertEquals(days[1], days[3]);
+    }
+
+
+    @Test
+    void keepsTheCurrentDayWithoutConflicts() {
+        int[][] weights = new int[3][3];
+
+        int[] days = solver.solve(weights, 5, 1, new int[] {4, 2, UmsExamCalendarSolver.NO_DAY});
+
+        assertEquals(4, days[0]);
+        assertEquals(2, days[1]);
+        assertTrue(days[2] >= 0 && days[2] != 4 && days[2] != 2);
+    }
+
+
+    @Test
+    void respectsTheExamsPerDay() {
+        int[][] weights = new int[5][5];
+
+        int[] days = solver.solve(weights, 3, 2, new int[] {0, 0, 0, 0, 0});
+
+        int[] exams = new int[3];
+        for (int day : days)
+            exams[day]++;
+        assertArrayEquals(new int[] {1, 2, 2}, Arrays.stream(exams).sorted().toArray());
+    }
+
+
+    @Test
+    void rejectsTooManyCourses() {
+        int[][] weights = new int[5][5];
+        assertThrows(IllegalArgumentException.class, () -> solver.solve(weights, 2, 2, new int[5]));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogVersion;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two buses over joined loopback transports, driven outside a transaction
+ * as the event listeners would be once the change commits.
+ */
+class UmsInvalidationBusTests {
+
+    private final UmsCatalogVersion catalogA = new UmsCatalogVersion();
+    private final UmsCatalogVersion catalogB = new UmsCatalogVersion();
+    private final SimpleMeterRegistry metersB = new SimpleMeterRegistry();
+    private final List<String> examinationsA = new CopyOnWriteArrayList<>();
+    private final List<String> examinationsB = new CopyOnWriteArrayList<>();
+    private UmsInvalidationBus busA;
+
+
+    @BeforeEach
+    void setUp() {
+        UmsLoopbackClusterTransport transportA = new UmsLoopbackClusterTransport("a");
+        busA = new UmsInvalidationBus(transportA, catalogA, new SimpleMeterRegistry());
+        UmsInvalidationBus busB = new UmsInvalidationBus(transportA.join("b"), catalogB, metersB);
+        busA.subscribe(InvalidationTopic.EXAMINATION, examinationsA::add);
+        busB.subscribe(InvalidationTopic.EXAMINATION, examinationsB::add);
+    }
+
+
+    @Test
+    void deliversOnEveryNode() {
+        UmsInvalidationEvent event = new UmsInvalidationEvent(InvalidationTopic.EXAMINATION, "123456");
+
+        busA.broadcast(event);
+        assertTrue(examinationsA.isEmpty());
+        assertEquals(List.of("123456"), examinationsB);
+        assertEquals(1, metersB.get("ums.invalidation.lag").tag("topic", "EXAMINATION").timer().count());
+
+        busA.deliverLocally(event);
+        assertEquals(List.of("123456"), examinationsA);
+        assertEquals(List.of("123456"), examinationsB);
+    }
+
+
+    @Test
+    void changesCatalogVersionOfOtherNodes() {
+        busA.broadcast(new UmsInvalidationEvent(InvalidationTopic.COURSE, "analisi 1@ingegneria informatica"));
+
+        // on the node of the change the version is changed by the JPA listener
+        assertEquals(0, catalogA.current());
+        assertEquals(1, catalogB.current());
+
+        busA.broadcast(new UmsInvalidationEvent(InvalidationTopic.USER, "student"));
+        assertEquals(1, catalogB.current());
+    }
+
+}
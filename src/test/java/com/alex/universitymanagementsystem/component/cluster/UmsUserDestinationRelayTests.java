@@ -0,0 +1,121 @@
+package com.alex.universitymanagementsystem.component.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.alex.universitymanagementsystem.repository.WebSocketUserNodeRepository;
+
+/**
+ * Two nodes in one JVM: loopback transports joined together, registries
+ * sharing the embedded database and messaging templates capturing what
+ * each node would push to its sessions.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class UmsUserDestinationRelayTests {
+
+    private static final String DESTINATION = "/topic/exam-outcome";
+
+    @Autowired
+    private WebSocketUserNodeRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> sentOnA = new CopyOnWriteArrayList<>();
+    private final List<String> sentOnB = new CopyOnWriteArrayList<>();
+    private UmsUserNodeRegistry registryA;
+    private UmsUserNodeRegistry registryB;
+    private UmsUserDestinationRelay relayA;
+    private String username;
+
+
+    @BeforeEach
+    void setUp() {
+        UmsLoopbackClusterTransport transportA = new UmsLoopbackClusterTransport("a");
+        UmsLoopbackClusterTransport transportB = transportA.join("b");
+        // not started: no heartbeat, the entries are fresh for the test
+        registryA = new UmsUserNodeRegistry(repository, transactionManager, null, properties("a"));
+        registryB = new UmsUserNodeRegistry(repository, transactionManager, null, properties("b"));
+        relayA = new UmsUserDestinationRelay(template(sentOnA), transportA, registryA);
+        new UmsUserDestinationRelay(template(sentOnB), transportB, registryB);
+        username = "user-" + UUID.randomUUID();
+    }
+
+
+    @Test
+    void deliversOnTheNodeOfTheUser() {
+        registryB.connected("session-1", username);
+
+        relayA.convertAndSendToUser(username, DESTINATION, "passed\n30");
+
+        assertTrue(sentOnA.isEmpty());
+        assertEquals(List.of("/user/" + username + DESTINATION + " passed\n30"), sentOnB);
+        registryB.disconnected("session-1");
+    }
+
+
+    @Test
+    void deliversOnEveryNodeOfTheUser() {
+        registryA.connected("session-1", username);
+        registryB.connected("session-2", username);
+        registryB.connected("session-3", username);
+
+        relayA.convertAndSendToUser(username, DESTINATION, "passed");
+
+        assertEquals(1, sentOnA.size());
+        assertEquals(1, sentOnB.size());
+        registryA.disconnected("session-1");
+        registryB.disconnected("session-2");
+        registryB.disconnected("session-3");
+    }
+
+
+    @Test
+    void skipsDisconnectedUser() {
+        registryB.connected("session-1", username);
+        registryB.connected("session-2", username);
+        registryB.disconnected("session-1");
+        registryB.disconnected("session-2");
+        // the close of a session may be reported twice
+        registryB.disconnected("session-2");
+
+        relayA.convertAndSendToUser(username, DESTINATION, "passed");
+
+        assertTrue(sentOnA.isEmpty());
+        assertTrue(sentOnB.isEmpty());
+        assertTrue(repository.findByUsernameAndNode(username, "b").isEmpty());
+    }
+
+
+    // helpers
+    private static UmsClusterProperties properties(String nodeId) {
+        return new UmsClusterProperties(
+            nodeId, Duration.ofMillis(250), Duration.ofSeconds(10), Duration.ofMinutes(10), 500, Duration.ofSeconds(90));
+    }
+
+    // records "destination payload" of each message sent
+    private static SimpMessagingTemplate template(List<String> sent) {
+        return new SimpMessagingTemplate((Message<?> message, long timeout) -> {
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            sent.add(destination + " " + message.getPayload());
+            return true;
+        });
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.alex.universitymanagementsystem.component.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes transactions between two database instances, wired as in
+ * {@code UmsDataSourceConfig}; each instance answers with its own name.
+ */
+class ReplicaRoutingTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(300);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = instance("primary");
+        DataSource replica = instance("replica");
+        UmsRecentWriteTracker writeTracker = new UmsRecentWriteTracker(WINDOW);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new UmsReplicaRoutingDataSource(primary, replica, writeTracker));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionManager.addListener(writeTracker);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+
+    @Test
+    void readOnlyTransactionReadsReplica() {
+        login("bob");
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        login("bob");
+        assertEquals("primary", readWrite.execute(status -> node()));
+    }
+
+    @Test
+    void anonymousReadUsesPrimary() {
+        assertEquals("primary", readOnly.execute(status -> node()));
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() throws InterruptedException {
+        login("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+        assertEquals("primary", readOnly.execute(status -> node()));
+
+        login("bob");
+        assertEquals("replica", readOnly.execute(status -> node()));
+
+        login("alice");
+        Thread.sleep(WINDOW.toMillis() + 100);
+        assertEquals("replica", readOnly.execute(status -> node()));
+    }
+
+
+    // helpers
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static DataSource instance(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20), writes INT)");
+        jdbc.update("DELETE FROM node");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.alex.universitymanagementsystem.component.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Admission gate of one connection in front of an in-memory database.
+ */
+class UmsConnectionAdmissionDataSourceTests {
+
+    @Test
+    @Timeout(10)
+    void waitsForClosedConnection() throws Exception {
+        UmsConnectionAdmissionDataSource gate = gate(1, Duration.ofSeconds(5));
+        Connection first = gate.getConnection();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Connection> second = new CompletableFuture<>();
+        Thread waiter = Thread.ofPlatform().start(() -> {
+            started.countDown();
+            second.complete(connect(gate));
+        });
+        started.await();
+        // parked on the admission permits, the only timed wait of the thread
+        while (waiter.getState() != Thread.State.TIMED_WAITING && !second.isDone())
+            Thread.onSpinWait();
+        assertFalse(second.isDone());
+        assertEquals(1, gate.getWaiting());
+
+        first.close();
+        second.get(5, TimeUnit.SECONDS).close();
+        assertEquals(0, gate.getWaiting());
+    }
+
+    @Test
+    void refusesWhenQueueIsFull() throws SQLException {
+        UmsConnectionAdmissionDataSource gate = gate(0, Duration.ofSeconds(5));
+        try (Connection connection = gate.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, gate::getConnection);
+            assertEquals(1, gate.getRejected());
+        }
+    }
+
+    @Test
+    void refusesAfterTimeout() throws SQLException {
+        UmsConnectionAdmissionDataSource gate = gate(10, Duration.ofMillis(50));
+        try (Connection connection = gate.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, gate::getConnection);
+        }
+        // closing twice releases the permit once
+        Connection connection = gate.getConnection();
+        connection.close();
+        connection.close();
+        try (Connection again = gate.getConnection()) {
+            assertThrows(SQLTransientConnectionException.class, gate::getConnection);
+        }
+    }
+
+
+    // helpers
+    private static UmsConnectionAdmissionDataSource gate(int maxWaiting, Duration timeout) {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:admission;DB_CLOSE_DELAY=-1");
+        return new UmsConnectionAdmissionDataSource(database, "test", 1, maxWaiting, timeout);
+    }
+
+    private static Connection connect(UmsConnectionAdmissionDataSource gate) {
+        try {
+            return gate.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
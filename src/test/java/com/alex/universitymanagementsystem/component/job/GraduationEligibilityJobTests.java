@@ -0,0 +1,86 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.GraduationEligibility;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.entity.immutable.CourseId;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.repository.GraduationEligibilityRepository;
+import com.alex.universitymanagementsystem.repository.StudentRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Evaluates the seeded students in partitions of one student, two at a
+ * time, and compares the evaluation of one with its study plan and its
+ * examinations. Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class GraduationEligibilityJobTests {
+
+    private static final String REGISTER = "123456";
+
+    @Autowired
+    private GraduationEligibilityRepository graduationEligibilityRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private ExaminationRepository examinationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void evaluationMatchesStudyPlan() {
+        GraduationEligibilityJob job = new GraduationEligibilityJob(
+            graduationEligibilityRepository, entityManager, transactionManager, 2, 1, "0 30 1 * * ?");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            List<String> checkpoints = new ArrayList<>();
+            UmsJobChunk chunk = job.processChunk(null);
+            while (!chunk.isLast()) {
+                checkpoints.add(chunk.nextCheckpoint());
+                chunk = job.processChunk(chunk.nextCheckpoint());
+            }
+            assertEquals(checkpoints.stream().sorted().distinct().toList(), checkpoints);
+
+            Student student = studentRepository.findByRegister(new Register(REGISTER)).orElseThrow();
+            Set<Course> plan = student.getStudyPlan().getCourses();
+            Set<CourseId> passed = examinationRepository.findByRegister(REGISTER).stream()
+                .map(examination -> examination.getCourse().getId())
+                .collect(Collectors.toSet());
+            List<Course> missing = plan.stream().filter(course -> !passed.contains(course.getId())).toList();
+
+            GraduationEligibility evaluation = graduationEligibilityRepository.findById(REGISTER).orElseThrow();
+            assertEquals(plan.stream().mapToInt(Course::getCfu).sum(), evaluation.getPlanCfu());
+            assertEquals(missing.stream().mapToInt(Course::getCfu).sum(), evaluation.getMissingCfu());
+            assertEquals(missing.size(), evaluation.getMissingCourses());
+            assertEquals(missing.isEmpty(), evaluation.isEligible());
+        });
+    }
+
+}
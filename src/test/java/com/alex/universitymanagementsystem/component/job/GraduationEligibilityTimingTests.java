@@ -0,0 +1,80 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.repository.GraduationEligibilityRepository;
+
+/**
+ * Times a full evaluateGraduation run on 100k generated students, against
+ * the target of one minute. Slow (the dataset alone takes minutes on H2),
+ * so it runs on request only, with a heap large enough for the 3.6M rows
+ * of the in-memory database:
+ *     mvn test -Dtest=GraduationEligibilityTimingTests -Dums.timing=true -DargLine=-Xmx3g
+ */
+@SpringBootTest(properties = {
+    // own database: the in-memory one is shared by every context of the JVM
+    "spring.datasource.url=jdbc:h2:mem:ums-graduation-timing;DB_CLOSE_DELAY=-1",
+    "ums.dataset.enabled=true",
+    "ums.dataset.students=100000"
+})
+@ActiveProfiles({"embedded", "test"})
+@EnabledIfSystemProperty(named = "ums.timing", matches = "true")
+class GraduationEligibilityTimingTests {
+
+    // constants
+    private static final Duration TARGET = Duration.ofMinutes(1);
+
+    // logger
+    private static final Logger logger = LoggerFactory.getLogger(GraduationEligibilityTimingTests.class);
+
+    @Autowired
+    private GraduationEligibilityJob job;
+
+    @Autowired
+    private GraduationEligibilityRepository graduationEligibilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void evaluatesEveryStudentWithinTarget() {
+        // one transaction per chunk, as in the job runner
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+
+        long start = System.nanoTime();
+        UmsJobChunk chunk = chunkTransaction.execute(status -> job.processChunk(null));
+        int chunks = 1;
+        while (!chunk.isLast()) {
+            String checkpoint = chunk.nextCheckpoint();
+            chunk = chunkTransaction.execute(status -> job.processChunk(checkpoint));
+            chunks++;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // the students without a study plan are not evaluated
+        long students = jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT study_plan_id) FROM study_plan_courses", Long.class);
+        logger.info("evaluateGraduation: {} students, {} chunks in {} ms", students, chunks, elapsed.toMillis());
+        assertEquals(students, graduationEligibilityRepository.count());
+        assertTrue(elapsed.compareTo(TARGET) < 0, () -> "evaluateGraduation took " + elapsed.toMillis() + " ms");
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.Examination;
+import com.alex.universitymanagementsystem.entity.StudentRanking;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.repository.StudentRankingRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Ranks the seeded degree courses and checks the average of one student
+ * and the ranks of its degree course. Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class StudentRankingJobTests {
+
+    private static final String REGISTER = "123456";
+
+    @Autowired
+    private StudentRankingRepository studentRankingRepository;
+
+    @Autowired
+    private ExaminationRepository examinationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void ranksByWeightedAverage() {
+        StudentRankingJob job = new StudentRankingJob(studentRankingRepository, entityManager);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            UmsJobChunk chunk = job.processChunk(null);
+            while (!chunk.isLast())
+                chunk = job.processChunk(chunk.nextCheckpoint());
+
+            List<Examination> examinations = examinationRepository.findByRegister(REGISTER);
+            long gradePoints = examinations.stream().mapToLong(e -> (long) e.getGrade() * e.getCourse().getCfu()).sum();
+            int cfu = examinations.stream().mapToInt(e -> e.getCourse().getCfu()).sum();
+            StudentRanking ranking = studentRankingRepository.findById(REGISTER).orElseThrow();
+            assertEquals(gradePoints, ranking.getGradePoints());
+            assertEquals(cfu, ranking.getCfu());
+            assertEquals((double) gradePoints / cfu, ranking.getWeightedAverage(), 1e-9);
+
+            List<StudentRanking> cohort = studentRankingRepository
+                .findByDegreeCourseOrderByDenseRankAscRegisterAsc(ranking.getDegreeCourse(), Pageable.unpaged())
+                .getContent();
+            assertEquals(1, cohort.getFirst().getDenseRank());
+            assertEquals(100.0, cohort.getFirst().getPercentile(), 1e-9);
+            for (int i = 1; i < cohort.size(); i++) {
+                StudentRanking previous = cohort.get(i - 1);
+                StudentRanking current = cohort.get(i);
+                assertTrue(previous.getWeightedAverage() >= current.getWeightedAverage());
+                assertEquals(previous.getWeightedAverage() == current.getWeightedAverage()
+                    ? previous.getDenseRank() : previous.getDenseRank() + 1, current.getDenseRank());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.Examination;
+import com.alex.universitymanagementsystem.entity.StudentTranscript;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
+
+/**
+ * Rebuilds the transcripts of the seeded students, one student per chunk,
+ * after corrupting one, and compares it with its examinations. Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TranscriptRebuildJobTests {
+
+    private static final String REGISTER = "123456";
+
+    @Autowired
+    private StudentTranscriptRepository studentTranscriptRepository;
+
+    @Autowired
+    private ExaminationRepository examinationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void rebuildMatchesExaminations() {
+        UmsJobProperties properties = new UmsJobProperties(
+            false, "test", Duration.ofMinutes(1), Duration.ZERO, Duration.ofMinutes(10), 1, 5);
+        TranscriptRebuildJob job = new TranscriptRebuildJob(studentTranscriptRepository, properties);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            studentTranscriptRepository.applyDelta(REGISTER, 1000, 10, 3, 1);
+
+            List<String> checkpoints = new ArrayList<>();
+            UmsJobChunk chunk = job.processChunk(null);
+            while (!chunk.isLast()) {
+                checkpoints.add(chunk.nextCheckpoint());
+                chunk = job.processChunk(chunk.nextCheckpoint());
+            }
+            assertEquals(checkpoints.stream().sorted().distinct().toList(), checkpoints);
+
+            List<Examination> examinations = examinationRepository.findByRegister(REGISTER);
+            StudentTranscript transcript = studentTranscriptRepository.findById(REGISTER).orElseThrow();
+            assertEquals(examinations.stream().mapToLong(e -> (long) e.getGrade() * e.getCourse().getCfu()).sum(),
+                transcript.getGradePoints());
+            assertEquals(examinations.stream().mapToInt(e -> e.getCourse().getCfu()).sum(), transcript.getCfu());
+            assertEquals(examinations.size(), transcript.getExaminations());
+            assertEquals(examinations.stream().filter(Examination::isWithHonors).count(), transcript.getHonors());
+            assertEquals(examinations.stream().map(Examination::getDate).max(LocalDate::compareTo).orElseThrow(),
+                transcript.getLastExamDate());
+        });
+    }
+
+
+    @Test
+    void createIfAbsentKeepsExistingTranscript() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            long gradePoints = studentTranscriptRepository.findById(REGISTER).orElseThrow().getGradePoints();
+
+            assertEquals(0, studentTranscriptRepository.createIfAbsent(REGISTER, LocalDate.now()));
+            assertEquals(1, studentTranscriptRepository.createIfAbsent("999999", LocalDate.now()));
+            assertEquals(1, studentTranscriptRepository.applyDelta("999999", 30L * 6, 6, 1, 0));
+
+            assertEquals(gradePoints, studentTranscriptRepository.findById(REGISTER).orElseThrow().getGradePoints());
+            assertEquals(30L * 6, studentTranscriptRepository.findById("999999").orElseThrow().getGradePoints());
+        });
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.alex.universitymanagementsystem.component.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.JobRun;
+import com.alex.universitymanagementsystem.entity.ScheduledJob;
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+import com.alex.universitymanagementsystem.repository.JobRunRepository;
+import com.alex.universitymanagementsystem.repository.ScheduledJobRepository;
+
+/**
+ * Drives {@link UmsJobRunner#poll(UmsJob)} with in-memory jobs counting
+ * to a limit, one checkpoint per chunk. The scheduler itself is disabled
+ * in the test profile.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class UmsJobRunnerTests {
+
+    @Autowired
+    private UmsJobRunner jobRunner;
+
+    @Autowired
+    private ScheduledJobRepository scheduledJobRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UmsJobProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+
+    @Test
+    void runsEveryChunkAndSchedulesNextRun() {
+        CountingJob job = new CountingJob(5, -1);
+
+        assertTrue(jobRunner.poll(job));
+
+        assertEquals(List.of("", "1", "2", "3", "4"), job.checkpoints);
+        ScheduledJob state = scheduledJobRepository.findById(job.getName()).orElseThrow();
+        assertNull(state.getCheckpoint());
+        assertNull(state.getLeaseOwner());
+        assertTrue(state.getNextRunAt().isAfter(LocalDateTime.now()));
+
+        JobRun run = lastRun(job);
+        assertEquals(JobRunStatus.COMPLETED, run.getStatus());
+        assertEquals(5, run.getChunks());
+        assertEquals(5, run.getRowsAffected());
+
+        // not due again until the delay has passed
+        assertFalse(jobRunner.poll(job));
+    }
+
+    @Test
+    void leaseHeldByAnotherNodeSkipsRun() {
+        CountingJob job = new CountingJob(3, -1);
+        LocalDateTime now = LocalDateTime.now();
+        scheduledJobRepository.saveAndFlush(new ScheduledJob(job.getName(), now));
+        new TransactionTemplate(transactionManager).execute(status ->
+            scheduledJobRepository.acquireLease(job.getName(), "other-node", now, now.plusMinutes(10)));
+
+        assertFalse(jobRunner.poll(job));
+        assertTrue(job.checkpoints.isEmpty());
+    }
+
+    @Test
+    void failedRunResumesFromLastCheckpoint() {
+        CountingJob job = new CountingJob(5, 3);
+
+        assertTrue(jobRunner.poll(job));
+        assertEquals(JobRunStatus.FAILED, lastRun(job).getStatus());
+        ScheduledJob failed = scheduledJobRepository.findById(job.getName()).orElseThrow();
+        assertEquals("3", failed.getCheckpoint());
+        assertEquals(1, failed.getConsecutiveFailures());
+        assertFalse(failed.isParked());
+
+        // backed off: not retried before the retry time
+        assertTrue(failed.getNextRunAt().isAfter(LocalDateTime.now()));
+        assertFalse(jobRunner.poll(job));
+
+        job.failAt = -1;
+        job.checkpoints.clear();
+        resume(job);
+        assertTrue(jobRunner.poll(job));
+
+        // the failed chunk was rolled back and is processed again
+        assertEquals(List.of("3", "4"), job.checkpoints);
+        JobRun resumed = lastRun(job);
+        assertEquals(JobRunStatus.COMPLETED, resumed.getStatus());
+        assertEquals("3", resumed.getResumedFrom());
+        assertEquals(0, scheduledJobRepository.findById(job.getName()).orElseThrow().getConsecutiveFailures());
+    }
+
+    @Test
+    void jobFailingEveryRunIsParked() {
+        CountingJob job = new CountingJob(5, 0);
+
+        for (int run = 1; run <= properties.maxFailures(); run++) {
+            assertTrue(jobRunner.poll(job));
+            ScheduledJob state = scheduledJobRepository.findById(job.getName()).orElseThrow();
+            assertEquals(run, state.getConsecutiveFailures());
+            assertEquals(run == properties.maxFailures(), state.isParked());
+            // due again, as if the backoff had passed
+            jdbcTemplate.update("UPDATE scheduled_jobs SET next_run_at = ? WHERE name = ?",
+                LocalDateTime.now(), job.getName());
+        }
+
+        // parked: never due until resumed
+        job.checkpoints.clear();
+        assertFalse(jobRunner.poll(job));
+        assertTrue(job.checkpoints.isEmpty());
+
+        job.failAt = -1;
+        resume(job);
+        assertTrue(jobRunner.poll(job));
+        assertEquals(JobRunStatus.COMPLETED, lastRun(job).getStatus());
+    }
+
+
+    // helpers
+    private void resume(UmsJob job) {
+        new TransactionTemplate(transactionManager).execute(status ->
+            scheduledJobRepository.resume(job.getName(), LocalDateTime.now()));
+    }
+
+    private JobRun lastRun(UmsJob job) {
+        return jobRunRepository.findTop100ByOrderByIdDesc().stream()
+            .filter(run -> run.getJobName().equals(job.getName()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+
+    private static final class CountingJob implements UmsJob {
+
+        private final String name = "test-" + UUID.randomUUID();
+        private final int limit;
+        private final List<String> checkpoints = new ArrayList<>();
+        private int failAt;
+
+        private CountingJob(int limit, int failAt) {
+            this.limit = limit;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public UmsJobSchedule getSchedule() {
+            return UmsJobSchedule.fixedDelay(Duration.ofHours(1));
+        }
+
+        @Override
+        public UmsJobChunk processChunk(String checkpoint) {
+            checkpoints.add(checkpoint == null ? "" : checkpoint);
+            int position = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+            if (position == failAt)
+                throw new IllegalStateException("chunk " + position + " failed");
+            int next = position + 1;
+            return next < limit ? UmsJobChunk.next(1, String.valueOf(next)) : UmsJobChunk.last(1);
+        }
+    }
+
+}
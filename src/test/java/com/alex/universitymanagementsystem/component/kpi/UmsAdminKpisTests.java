@@ -0,0 +1,80 @@
+package com.alex.universitymanagementsystem.component.kpi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.dto.AdminDashboardDto;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.service.AdminDashboardService;
+
+/**
+ * Drifts the counters of the seeded database with deltas, then reconciles
+ * them with the data. Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class UmsAdminKpisTests {
+
+    @Autowired
+    private UmsAdminKpis adminKpis;
+
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void reconcileRepairsDeltas() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            adminKpis.reconcile();
+            AdminDashboardDto reconciled = adminDashboardService.getDashboard();
+            assertEquals(count("select count(*) from students"), reconciled.students());
+            assertEquals(count("select count(*) from examination_appeal_registers"), reconciled.bookings());
+            assertEquals(count("select count(*) from examination_outcomes"), reconciled.pendingOutcomes());
+            assertEquals(reconciled.students(),
+                reconciled.studentsByDegreeCourse().values().stream().mapToLong(Long::longValue).sum()
+                    + count("select count(*) from students where degree_course_id is null"));
+
+            adminKpis.add(AdminKpiEvent.of(AdminKpi.BOOKINGS, 2));
+            adminKpis.add(AdminKpiEvent.of(AdminKpi.UNREAD_NOTIFICATIONS, -1));
+            AdminDashboardDto drifted = adminDashboardService.getDashboard();
+            assertEquals(reconciled.bookings() + 2, drifted.bookings());
+            assertEquals(reconciled.unreadNotifications() - 1, drifted.unreadNotifications());
+
+            adminKpis.reconcile();
+            AdminDashboardDto repaired = adminDashboardService.getDashboard();
+            assertEquals(reconciled.bookings(), repaired.bookings());
+            assertEquals(reconciled.unreadNotifications(), repaired.unreadNotifications());
+        });
+    }
+
+
+    @Test
+    void countsOnlyAppealsOfTheCurrentWeek() {
+        assertEquals(1, AdminKpiEvent.appeal(LocalDate.now(), 1).delta());
+        assertEquals(0, AdminKpiEvent.appeal(LocalDate.now().minusWeeks(1), 1).delta());
+        assertEquals(0, AdminKpiEvent.appeal(LocalDate.now().plusWeeks(1), -1).delta());
+    }
+
+
+    // helpers
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.alex.universitymanagementsystem.component.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import com.alex.universitymanagementsystem.component.catalog.UmsCatalogVersion;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fragment cache over a string template, counting the variable reads.
+ */
+class UmsFragmentCacheTests {
+
+    private static final String TEMPLATE = "<div><table th:fragment=\"names\"><td th:text=\"${name}\"></td></table></div>";
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private UmsCatalogVersion catalogVersion;
+    private UmsFragmentCache fragmentCache;
+
+
+    @BeforeEach
+    void setUp() {
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(new StringTemplateResolver());
+        catalogVersion = new UmsCatalogVersion();
+        fragmentCache = new UmsFragmentCache(templateEngine, catalogVersion, new SimpleMeterRegistry(), true, 10);
+    }
+
+
+    @Test
+    void rendersOncePerCatalogVersion() {
+        assertEquals("<table><td>first</td></table>", render("first"));
+        assertEquals("<table><td>first</td></table>", render("second"));
+        assertEquals(1, reads.get());
+
+        catalogVersion.changed();
+        assertEquals("<table><td>third</td></table>", render("third"));
+        assertEquals(2, reads.get());
+    }
+
+
+    // helpers
+    private String render(String name) {
+        return fragmentCache.render(TEMPLATE, "names", () -> {
+            reads.incrementAndGet();
+            return Map.of("name", name);
+        });
+    }
+
+}
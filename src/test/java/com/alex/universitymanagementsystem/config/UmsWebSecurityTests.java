@@ -0,0 +1,65 @@
+package com.alex.universitymanagementsystem.config;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * The actuator endpoints are served by the stateless HTTP basic chain, the
+ * application by the session chain with its CSRF protection.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class UmsWebSecurityTests {
+
+    // seeded admin
+    private static final String ADMIN = "rico@gmail.com";
+    private static final String ADMIN_PASSWORD = "rico";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+
+    @Test
+    void actuatorTakesBasicCredentialsOnly() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic(ADMIN, ADMIN_PASSWORD))).andExpect(status().isOk());
+
+        // the session of a logged in admin is not used by the actuator chain
+        MockHttpSession session = (MockHttpSession) mockMvc
+            .perform(formLogin().user(ADMIN).password(ADMIN_PASSWORD))
+            .andReturn()
+            .getRequest()
+            .getSession(false);
+        mockMvc.perform(get("/actuator/metrics").session(session)).andExpect(status().isUnauthorized());
+    }
+
+
+    @Test
+    void sessionChainRequiresCsrfToken() throws Exception {
+        MockHttpSession session = (MockHttpSession) mockMvc
+            .perform(formLogin().user(ADMIN).password(ADMIN_PASSWORD))
+            .andReturn()
+            .getRequest()
+            .getSession(false);
+        mockMvc.perform(delete("/api/v1/user/delete").session(session)).andExpect(status().isForbidden());
+    }
+
+}
@@ -0,0 +1,276 @@
+package com.alex.universitymanagementsystem.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.alex.universitymanagementsystem.annotation.SqlBudget;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlBudgetInterceptor;
+import com.alex.universitymanagementsystem.component.sql.UmsViewRenderingSqlDetector;
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.ExaminationAppeal;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.repository.CourseRepository;
+import com.alex.universitymanagementsystem.repository.ExaminationAppealRepository;
+import com.alex.universitymanagementsystem.repository.StudentRepository;
+
+/**
+ * Replays the read endpoints and a study plan swap against the seeded embedded database plus a
+ * synthetic dataset, so that a statement per row cannot hide behind the
+ * handful of seeded rows, and fails when a handler issues more SQL statements than its {@link SqlBudget}
+ * or when its view still loads data while it is rendered (open-in-view is
+ * disabled in the test profile, as in prod). Budgets above
+ * {@link SqlBudget#DEBT_THRESHOLD} must name the debt they allow for.
+ */
+@SpringBootTest(properties = {
+    // own database: the in-memory one is shared by every context of the JVM
+    "spring.datasource.url=jdbc:h2:mem:ums-sql-budgets;DB_CLOSE_DELAY=-1",
+    "ums.dataset.enabled=true",
+    "ums.dataset.students=2000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class SqlBudgetTests {
+
+    // seeded users
+    private static final String ADMIN = "rico@gmail.com";
+    private static final String STUDENT = "alexpetruzzi89@gmail.com";
+    private static final String PROFESSOR = "professore.genesio@dominio.it";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private ExaminationAppealRepository examinationAppealRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+
+    @Test
+    void everyEndpointDeclaresBudget() {
+        List<String> missing = handlerMapping
+            .getHandlerMethods()
+            .values()
+            .stream()
+            .filter(method -> method.getBeanType().getPackageName().equals(getClass().getPackageName()))
+            .filter(method -> !method.hasMethodAnnotation(SqlBudget.class))
+            .map(HandlerMethod::getShortLogMessage)
+            .toList();
+
+        assertTrue(missing.isEmpty(), () -> "Endpoints without @SqlBudget: " + missing);
+    }
+
+
+    @Test
+    void everyLargeBudgetNamesItsDebt() {
+        List<String> unexplained = handlerMapping
+            .getHandlerMethods()
+            .values()
+            .stream()
+            .filter(method -> method.hasMethodAnnotation(SqlBudget.class))
+            .filter(method -> {
+                SqlBudget budget = method.getMethodAnnotation(SqlBudget.class);
+                return budget.value() > SqlBudget.DEBT_THRESHOLD && budget.debt().isBlank();
+            })
+            .map(HandlerMethod::getShortLogMessage)
+            .toList();
+
+        assertTrue(unexplained.isEmpty(), () -> "Budgets above " + SqlBudget.DEBT_THRESHOLD + " without debt: " + unexplained);
+    }
+
+
+    static Stream<Arguments> readEndpoints() {
+        return Stream.of(
+            // public
+            Arguments.of(null, "/login"),
+            Arguments.of(null, "/forgot-password"),
+            Arguments.of(null, "/reset-password?token=unknown"),
+            Arguments.of(null, "/registration"),
+            Arguments.of(null, "/api/v1/degree-course/read/degree-courses/ajax"),
+
+            // admin
+            Arguments.of(ADMIN, "/api/v1/user/read/users"),
+            Arguments.of(ADMIN, "/api/v1/user/selection"),
+            Arguments.of(ADMIN, "/api/v1/user/update"),
+            Arguments.of(ADMIN, "/api/v1/student/read/students"),
+            Arguments.of(ADMIN, "/api/v1/student/read/register?register=123456"),
+            Arguments.of(ADMIN, "/api/v1/student/read/name?name=alex petruzzi"),
+            Arguments.of(ADMIN, "/api/v1/professor/read/professors"),
+            Arguments.of(ADMIN, "/api/v1/professor/read/uniquecode?uniqueCode=wer123er"),
+            Arguments.of(ADMIN, "/api/v1/professor/read/name?fullName=gilles villeneuve"),
+            Arguments.of(ADMIN, "/api/v1/course/read/courses"),
+            Arguments.of(ADMIN, "/api/v1/course/read/course?courseName=fondamenti di informatica&degreeCourseName=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/course/create"),
+            Arguments.of(ADMIN, "/api/v1/course/update"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/degree-courses"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/courses/ajax?name=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/professors?name=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/students?name=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/graduation"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/graduation?name=ingegneria gestionale&eligible=false"),
+            Arguments.of(ADMIN, "/api/v1/degree-course/read/ranking?name=ingegneria gestionale&page=1"),
+            Arguments.of(ADMIN, "/api/v1/examination/update"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/examinations"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/course/degree-course?courseName=fondamenti di informatica&degreeCourseName=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/professor/unique-code?uniqueCode=wer123er"),
+            Arguments.of(ADMIN, "/api/v1/examination-appeal/read/calendar?from=2025-06-01&to=2025-07-31&maxPerDay=5"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/analytics"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/analytics?courseName=fondamenti di informatica&degreeCourseName=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/examination/read/analytics/ajax?courseName=fondamenti di informatica&degreeCourseName=ingegneria gestionale"),
+            Arguments.of(ADMIN, "/api/v1/job/read/history"),
+            Arguments.of(ADMIN, "/api/v1/dashboard/admin"),
+            Arguments.of(ADMIN, "/api/v1/dashboard/admin/ajax"),
+
+            // student
+            Arguments.of(STUDENT, "/api/v1/user/update/student"),
+            Arguments.of(STUDENT, "/api/v1/study-plan/read"),
+            Arguments.of(STUDENT, "/api/v1/study-plan/change"),
+            Arguments.of(STUDENT, "/api/v1/degree-course/read/courses?name=ingegneria gestionale"),
+            Arguments.of(STUDENT, "/api/v1/examination/create"),
+            Arguments.of(STUDENT, "/api/v1/examination/read/student/register"),
+            Arguments.of(STUDENT, "/api/v1/examination-appeal/available/student"),
+            Arguments.of(STUDENT, "/api/v1/examination-appeal/booked/student"),
+            Arguments.of(STUDENT, "/api/v1/examination-outcome/read/outcomes"),
+            Arguments.of(STUDENT, "/api/v1/examination-outcome/read/outcome?id=0"),
+            Arguments.of(STUDENT, "/api/v1/outcome-notifications"),
+            Arguments.of(STUDENT, "/api/v1/dashboard/student"),
+
+            // professor
+            Arguments.of(PROFESSOR, "/api/v1/user/update/professor"),
+            Arguments.of(PROFESSOR, "/api/v1/course/read/professor"),
+            Arguments.of(PROFESSOR, "/api/v1/examination-appeal/read/professor"),
+            Arguments.of(PROFESSOR, "/api/v1/examination-appeal/make"),
+            Arguments.of(PROFESSOR, "/api/v1/examination-appeal/delete")
+        );
+    }
+
+
+    @ParameterizedTest(name = "{0} GET {1}")
+    @MethodSource("readEndpoints")
+    void readEndpointStaysWithinBudget(String username, String url) throws Exception {
+        assertWithinBudget(username, get(url));
+    }
+
+
+    @Test
+    void appealEndpointsStayWithinBudget() throws Exception {
+        // the registers are lazy: the appeal is picked while its session is open
+        ExaminationAppeal appeal = new TransactionTemplate(transactionManager).execute(status ->
+            examinationAppealRepository
+                .findAll()
+                .stream()
+                .filter(a -> !a.getRegisters().isEmpty())
+                .findFirst()
+                .orElseThrow());
+
+        assertWithinBudget(PROFESSOR, get("/api/v1/examination-appeal/read/students-booked/{id}/{date}", appeal.getId(), appeal.getDate()));
+        assertWithinBudget(PROFESSOR, get("/api/v1/examination-outcome/make/{register}/{id}", "123456", appeal.getId()));
+    }
+
+
+    @Test
+    void studyPlanSwapStaysWithinBudget() throws Exception {
+        // a course of the study plan and one outside it with the same cfu,
+        // read as name and degree course name while the session is open
+        String[] swap = new TransactionTemplate(transactionManager).execute(status -> {
+            Student student = studentRepository.findByUsername(STUDENT).orElseThrow();
+            Set<Course> studyPlan = student.getStudyPlan().getCourses();
+            for (Course toRemove : studyPlan)
+                for (Course toAdd : courseRepository.findAll())
+                    if (!studyPlan.contains(toAdd) && toAdd.getCfu().equals(toRemove.getCfu()))
+                        return new String[] {
+                            toAdd.getName(), toAdd.getDegreeCourse().getName(),
+                            toRemove.getName(), toRemove.getDegreeCourse().getName()
+                        };
+            throw new IllegalStateException("No course to swap in the study plan of " + STUDENT);
+        });
+
+        // swapped and swapped back, the study plan read by the other tests is left as seeded
+        assertWithinBudget(STUDENT, swapRequest(swap[0], swap[1], swap[2], swap[3]));
+        assertWithinBudget(STUDENT, swapRequest(swap[2], swap[3], swap[0], swap[1]));
+    }
+
+
+    // helpers
+    private static MockHttpServletRequestBuilder swapRequest(
+        String courseToAdd,
+        String degreeCourseOfNewCourse,
+        String courseToRemove,
+        String degreeCourseOfOldCourse
+    ) {
+        return put("/api/v1/study-plan/swap")
+            .with(csrf())
+            .param("courseToAdd", courseToAdd)
+            .param("degreeCourseOfNewCourse", degreeCourseOfNewCourse)
+            .param("courseToRemove", courseToRemove)
+            .param("degreeCourseOfOldCourse", degreeCourseOfOldCourse);
+    }
+
+
+    private void assertWithinBudget(String username, MockHttpServletRequestBuilder request) throws Exception {
+        if (username != null)
+            request.with(user(userDetailsService.loadUserByUsername(username)));
+
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertTrue(result.getResponse().getStatus() < 500,
+            () -> "Request failed with status " + result.getResponse().getStatus());
+
+        HandlerMethod handler = assertInstanceOf(HandlerMethod.class, result.getHandler(),
+            () -> "Request not handled by a controller, status " + result.getResponse().getStatus());
+        SqlBudget budget = handler.getMethodAnnotation(SqlBudget.class);
+        assertNotNull(budget, () -> handler.getShortLogMessage() + " has no @SqlBudget");
+
+        Integer statements = (Integer) result.getRequest().getAttribute(UmsSqlBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE);
+        assertNotNull(statements, "SQL budget interceptor not registered");
+        assertTrue(statements <= budget.value(), () -> handler.getShortLogMessage()
+            + " issued " + statements + " SQL statements, budget " + budget.value());
+
+        Integer rendering = (Integer) result.getRequest().getAttribute(UmsViewRenderingSqlDetector.RENDERING_STATEMENT_COUNT_ATTRIBUTE);
+        assertNotNull(rendering, "View rendering detector not registered");
+        assertEquals(0, rendering, () -> handler.getShortLogMessage() + " issued SQL while rendering the view");
+        assertEquals(Boolean.FALSE, result.getRequest().getAttribute(UmsViewRenderingSqlDetector.LAZY_INITIALIZATION_FAILURE_ATTRIBUTE),
+            () -> handler.getShortLogMessage() + " loaded a lazy association outside a transaction");
+    }
+
+}
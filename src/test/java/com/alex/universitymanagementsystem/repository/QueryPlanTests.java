@@ -0,0 +1,507 @@
+package com.alex.universitymanagementsystem.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.entity.Course;
+import com.alex.universitymanagementsystem.entity.Student;
+import com.alex.universitymanagementsystem.entity.immutable.FiscalCode;
+import com.alex.universitymanagementsystem.entity.immutable.Register;
+import com.alex.universitymanagementsystem.entity.immutable.UniqueCode;
+import com.alex.universitymanagementsystem.enum_type.AdminKpi;
+import com.alex.universitymanagementsystem.enum_type.CourseType;
+import com.alex.universitymanagementsystem.enum_type.JobRunStatus;
+
+/**
+ * Runs every query method declared by the repositories against the seeded
+ * embedded database plus a synthetic dataset, asks the database for the plan
+ * of each SELECT issued and fails when a large table is read with a full scan.
+ * Plans are recognised for H2 ({@code tableScan}) and PostgreSQL ({@code Seq Scan}).
+ * Each statement is explained with the parameters it was executed with,
+ * the planner picks a different path for a null than for a selective value.
+ */
+@SpringBootTest(properties = {
+    // own database: the in-memory one is shared by every context of the JVM
+    "spring.datasource.url=jdbc:h2:mem:ums-query-plans;DB_CLOSE_DELAY=-1",
+    "ums.dataset.enabled=true",
+    "ums.dataset.students=2000"
+})
+@ActiveProfiles({"embedded", "test"})
+class QueryPlanTests {
+
+    // tables growing with the number of students
+    private static final Set<String> LARGE_TABLES = Set.of(
+        "addresses", "users", "students", "study_plans", "study_plan_courses",
+        "examinations", "examination_appeals", "examination_appeal_registers",
+        "examination_outcomes", "outcome_notifications", "password_reset_tokens", "student_transcripts",
+        "graduation_eligibility", "student_rankings"
+    );
+    // queries reading a whole table on purpose (admin pages, reconcile jobs), covered but not plan checked
+    private static final Set<String> FULL_LISTINGS = Set.of(
+        "UserRepository.findAllWithAddress",
+        "StudentRepository.findAllWithStudyPlan",
+        "ExaminationRepository.findAllWithCourse",
+        "AdminKpiValueRepository.countStudents",
+        "AdminKpiValueRepository.countStudentsByDegreeCourse",
+        "AdminKpiValueRepository.countBookings",
+        "AdminKpiValueRepository.countOutcomes",
+        "AdminKpiValueRepository.countUnreadNotifications",
+        "GraduationEligibilityRepository.summarize"
+    );
+    private static final Pattern FULL_SCAN =
+        Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan|Seq Scan on (\\w+)", Pattern.CASE_INSENSITIVE);
+    // statements executed by the thread running a query method, null outside of it
+    private static final ThreadLocal<List<Execution>> EXECUTIONS = new ThreadLocal<>();
+
+    // seeded data
+    private static final String DEGREE_COURSE = "INGEGNERIA GESTIONALE";
+    private static final String COURSE = "fondamenti di informatica";
+    private static final String REGISTER = "123456";
+    private static final String STUDENT = "alexpetruzzi89@gmail.com";
+    private static final String PROFESSOR = "wer123er";
+    private static final String FISCAL_CODE = "abc678rde217we12";
+    private static final String JOB = "cleanExpiredAppeals";
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void everyQueryMethodIsCovered() {
+        Set<String> covered = queries().keySet();
+        List<String> missing = Arrays
+            .stream(context.getBeanNamesForType(org.springframework.data.repository.Repository.class))
+            .<Class<?>>map(context::getType)
+            .filter(type -> type.getPackageName().equals(getClass().getPackageName()))
+            .flatMap(type -> Arrays.stream(type.getDeclaredMethods()).map(method -> name(type, method)))
+            .filter(name -> !covered.contains(name))
+            .toList();
+
+        assertTrue(missing.isEmpty(), () -> "Repository queries without a plan check: " + missing);
+    }
+
+
+    static Stream<Arguments> queryNames() {
+        return queries().keySet().stream().filter(name -> !FULL_LISTINGS.contains(name)).map(Arguments::of);
+    }
+
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryNames")
+    void queryAvoidsFullScansOfLargeTables(String name) {
+        List<Execution> executions = capture(queries().get(name));
+        assertFalse(executions.isEmpty(), () -> name + " issued no statement");
+
+        List<String> scans = new ArrayList<>();
+        for (Execution execution : executions) {
+            if (!execution.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+                continue;
+            Matcher matcher = FULL_SCAN.matcher(explain(execution));
+            while (matcher.find()) {
+                String table = (matcher.group(1) != null ? matcher.group(1) : matcher.group(2)).toLowerCase();
+                if (LARGE_TABLES.contains(table))
+                    scans.add(table + " in " + execution.sql() + " with " + execution.parameters());
+            }
+        }
+
+        assertTrue(scans.isEmpty(), () -> name + " scans large tables: " + scans);
+    }
+
+
+    /*
+     * One invocation per repository query method, keyed Repository.method.
+     * Each one runs in a transaction rolled back afterwards.
+     */
+    private static Map<String, Consumer<Repositories>> queries() {
+        Map<String, Consumer<Repositories>> queries = new LinkedHashMap<>();
+
+        // admin kpi
+        queries.put("AdminKpiValueRepository.applyDelta", r -> r.adminKpis.applyDelta(AdminKpi.BOOKINGS, "", 1, LocalDateTime.now()));
+        queries.put("AdminKpiValueRepository.createIfAbsent", r -> r.adminKpis.createIfAbsent(AdminKpi.DEGREE_COURSE_STUDENTS, DEGREE_COURSE, LocalDateTime.now()));
+        queries.put("AdminKpiValueRepository.setTotal", r -> r.adminKpis.setTotal(AdminKpi.BOOKINGS, "", 0, LocalDateTime.now()));
+        queries.put("AdminKpiValueRepository.resetScopes", r -> r.adminKpis.resetScopes(AdminKpi.DEGREE_COURSE_STUDENTS, LocalDateTime.now()));
+        queries.put("AdminKpiValueRepository.countStudents", r -> r.adminKpis.countStudents());
+        queries.put("AdminKpiValueRepository.countStudentsByDegreeCourse", r -> r.adminKpis.countStudentsByDegreeCourse());
+        queries.put("AdminKpiValueRepository.countAppealsBetween", r -> r.adminKpis.countAppealsBetween(LocalDate.of(2025, 10, 13), LocalDate.of(2025, 10, 19)));
+        queries.put("AdminKpiValueRepository.countBookings", r -> r.adminKpis.countBookings());
+        queries.put("AdminKpiValueRepository.countOutcomes", r -> r.adminKpis.countOutcomes());
+        queries.put("AdminKpiValueRepository.countUnreadNotifications", r -> r.adminKpis.countUnreadNotifications());
+
+        // cluster message
+        queries.put("ClusterMessageRepository.findAfter", r -> r.clusterMessages.findAfter(0L, "node", PageRequest.ofSize(500)));
+        queries.put("ClusterMessageRepository.findRecent", r -> r.clusterMessages.findRecent(LocalDateTime.now().minusSeconds(10), 0L, 1000L, "node", PageRequest.ofSize(500)));
+        queries.put("ClusterMessageRepository.findLastId", r -> r.clusterMessages.findLastId());
+        queries.put("ClusterMessageRepository.deleteCreatedBefore", r -> r.clusterMessages.deleteCreatedBefore(LocalDateTime.of(2000, 1, 1, 0, 0)));
+
+        // course
+        queries.put("CourseRepository.findByNameAndDegreeCourseName", r -> r.courses.findByNameAndDegreeCourseName(COURSE, DEGREE_COURSE));
+        queries.put("CourseRepository.findByType", r -> r.courses.findByType(CourseType.INFORMATICA));
+        queries.put("CourseRepository.findByProfessor", r -> r.courses.findByProfessor(new UniqueCode(PROFESSOR)));
+        queries.put("CourseRepository.existsByName", r -> r.courses.existsByName(COURSE));
+        queries.put("CourseRepository.existsByNameAndDegreeCourseName", r -> r.courses.existsByNameAndDegreeCourseName(COURSE, DEGREE_COURSE));
+
+        // degree course
+        queries.put("DegreeCourseRepository.findByName", r -> r.degreeCourses.findByName(DEGREE_COURSE));
+        queries.put("DegreeCourseRepository.existsByName", r -> r.degreeCourses.existsByName(DEGREE_COURSE));
+
+        // graduation eligibility
+        queries.put("GraduationEligibilityRepository.findStudentRegistersAfter", r -> r.graduation.findStudentRegistersAfter(REGISTER, PageRequest.ofSize(4000)));
+        queries.put("GraduationEligibilityRepository.streamPlanCourses", r -> {
+            try (var plan = r.graduation.streamPlanCourses("", REGISTER)) { plan.count(); }
+        });
+        queries.put("GraduationEligibilityRepository.streamPassedCourses", r -> {
+            try (var passed = r.graduation.streamPassedCourses("", REGISTER)) { passed.count(); }
+        });
+        queries.put("GraduationEligibilityRepository.deleteRange", r -> r.graduation.deleteRange("", REGISTER));
+        queries.put("GraduationEligibilityRepository.deleteAfter", r -> r.graduation.deleteAfter(REGISTER));
+        queries.put("GraduationEligibilityRepository.summarize", r -> r.graduation.summarize());
+        queries.put("GraduationEligibilityRepository.findByDegreeCourseAndEligibleOrderByRegister", r -> r.graduation.findByDegreeCourseAndEligibleOrderByRegister(DEGREE_COURSE, true, PageRequest.ofSize(500)));
+
+        // study plan
+        queries.put("StudyPlanRepository.streamEnrollments", r -> {
+            try (var enrollments = r.studyPlans.streamEnrollments(List.of(r.course().getId()))) { enrollments.count(); }
+        });
+
+        // student ranking
+        queries.put("StudentRankingRepository.findDegreeCourseNamesAfter", r -> r.rankings.findDegreeCourseNamesAfter("", PageRequest.ofSize(2)));
+        queries.put("StudentRankingRepository.streamGrades", r -> {
+            try (var grades = r.rankings.streamGrades(DEGREE_COURSE)) { grades.count(); }
+        });
+        queries.put("StudentRankingRepository.deleteDegreeCourse", r -> r.rankings.deleteDegreeCourse(DEGREE_COURSE));
+        queries.put("StudentRankingRepository.deleteStale", r -> r.rankings.deleteStale());
+        queries.put("StudentRankingRepository.findByDegreeCourseOrderByDenseRankAscRegisterAsc", r -> r.rankings.findByDegreeCourseOrderByDenseRankAscRegisterAsc(DEGREE_COURSE, PageRequest.of(1, 50)));
+
+        // examination appeal
+        queries.put("ExaminationAppealRepository.findByCourseIdAndDate", r -> r.appeals.findByCourseIdAndDate(r.course().getId(), LocalDate.of(2025, 10, 19)));
+        queries.put("ExaminationAppealRepository.findByCourse_Id_IdIn", r -> r.appeals.findByCourse_Id_IdIn(List.of(r.course().getId().getId())));
+        queries.put("ExaminationAppealRepository.findWithRegistersByCourseIdIn", r -> r.appeals.findWithRegistersByCourseIdIn(List.of(r.course().getId().getId())));
+        queries.put("ExaminationAppealRepository.findBookedDates", r -> r.appeals.findBookedDates(new Register(REGISTER), LocalDate.of(2025, 10, 19)));
+        queries.put("ExaminationAppealRepository.findSessionAppeals", r -> r.appeals.findSessionAppeals(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 31)));
+        queries.put("ExaminationAppealRepository.findByDateBeforeAndIdGreaterThanOrderByIdAsc", r -> r.appeals.findByDateBeforeAndIdGreaterThanOrderByIdAsc(LocalDate.of(2000, 1, 1), 0L, PageRequest.ofSize(500)));
+
+        // examination outcome
+        queries.put("ExaminationOutcomeRepository.findByAppeal_CourseAndRegister", r -> r.outcomes.findByAppeal_CourseAndRegister(r.course(), REGISTER));
+        queries.put("ExaminationOutcomeRepository.findByRegister", r -> r.outcomes.findByRegister(REGISTER));
+        queries.put("ExaminationOutcomeRepository.findByAppeal_DateBeforeAndIdGreaterThan", r -> r.outcomes.findByAppeal_DateBeforeAndIdGreaterThan(LocalDate.of(2000, 1, 1), 0L, PageRequest.ofSize(500)));
+        queries.put("ExaminationOutcomeRepository.existsByIdAndRegister", r -> r.outcomes.existsByIdAndRegister(1L, REGISTER));
+        queries.put("ExaminationOutcomeRepository.findPassRates", r -> r.outcomes.findPassRates(r.course()));
+
+        // examination
+        queries.put("ExaminationRepository.findAllWithCourse", r -> r.examinations.findAllWithCourse());
+        queries.put("ExaminationRepository.findByRegister", r -> r.examinations.findByRegister(REGISTER));
+        queries.put("ExaminationRepository.findByCourse_Id_Id", r -> r.examinations.findByCourse_Id_Id(r.course().getId().getId()));
+        queries.put("ExaminationRepository.findByCourseIn", r -> r.examinations.findByCourseIn(List.of(r.course())));
+        queries.put("ExaminationRepository.findByRegisterInAndCourseIn", r -> r.examinations.findByRegisterInAndCourseIn(List.of(REGISTER), List.of(r.course())));
+        queries.put("ExaminationRepository.countGrades", r -> r.examinations.countGrades(r.course()));
+        queries.put("ExaminationRepository.findGradeTrend", r -> r.examinations.findGradeTrend(r.course()));
+
+        // outcome notification
+        queries.put("OutcomeNotificationRepository.findByStudentAndReadFalseAndExpiresAtAfter", r -> r.notifications.findByStudentAndReadFalseAndExpiresAtAfter(r.student(), LocalDateTime.now()));
+        queries.put("OutcomeNotificationRepository.findExpiredIds", r -> r.notifications.findExpiredIds(LocalDateTime.of(2000, 1, 1, 0, 0), 0L, PageRequest.ofSize(500)));
+        queries.put("OutcomeNotificationRepository.countByIdInAndReadFalse", r -> r.notifications.countByIdInAndReadFalse(List.of(1L, 2L)));
+
+        // job run
+        queries.put("JobRunRepository.findTop100ByOrderByIdDesc", r -> r.jobRuns.findTop100ByOrderByIdDesc());
+        queries.put("JobRunRepository.closeRuns", r -> r.jobRuns.closeRuns(JOB, JobRunStatus.RUNNING, JobRunStatus.INTERRUPTED, LocalDateTime.now()));
+
+        // password reset token
+        queries.put("PasswordResetTokenRepository.findByToken", r -> r.tokens.findByToken("token"));
+
+        // professor
+        queries.put("ProfessorRepository.findByUniqueCode", r -> r.professors.findByUniqueCode(new UniqueCode(PROFESSOR)));
+        queries.put("ProfessorRepository.findByUniqueCodeIn", r -> r.professors.findByUniqueCodeIn(Set.of(new UniqueCode(PROFESSOR))));
+        queries.put("ProfessorRepository.findByFiscalCode", r -> r.professors.findByFiscalCode(new FiscalCode(FISCAL_CODE)));
+        queries.put("ProfessorRepository.findByFullname", r -> r.professors.findByFullname("tazio", "nuvolari"));
+        queries.put("ProfessorRepository.existsByUniqueCode", r -> r.professors.existsByUniqueCode(new UniqueCode(PROFESSOR)));
+        queries.put("ProfessorRepository.existsByFiscalCode", r -> r.professors.existsByFiscalCode(new FiscalCode(FISCAL_CODE)));
+        queries.put("ProfessorRepository.deleteByUniqueCode", r -> r.professors.deleteByUniqueCode(new UniqueCode("zzz999zz")));
+
+        // scheduled job
+        queries.put("ScheduledJobRepository.acquireLease", r -> r.scheduledJobs.acquireLease(JOB, "node", LocalDateTime.now(), LocalDateTime.now()));
+        queries.put("ScheduledJobRepository.saveCheckpoint", r -> r.scheduledJobs.saveCheckpoint(JOB, "node", "1", LocalDateTime.now()));
+        queries.put("ScheduledJobRepository.complete", r -> r.scheduledJobs.complete(JOB, "node", LocalDateTime.now(), LocalDateTime.now()));
+        queries.put("ScheduledJobRepository.recordFailure", r -> r.scheduledJobs.recordFailure(JOB, "node", LocalDateTime.now(), 5));
+        queries.put("ScheduledJobRepository.resume", r -> r.scheduledJobs.resume(JOB, LocalDateTime.now()));
+        queries.put("ScheduledJobRepository.releaseLease", r -> r.scheduledJobs.releaseLease(JOB, "node"));
+
+        // student
+        queries.put("StudentRepository.findByRegister", r -> r.students.findByRegister(new Register(REGISTER)));
+        queries.put("StudentRepository.lockByRegister", r -> r.students.lockByRegister(new Register(REGISTER)));
+        queries.put("StudentRepository.findAllWithStudyPlan", r -> r.students.findAllWithStudyPlan());
+        queries.put("StudentRepository.findByRegisterIn", r -> r.students.findByRegisterIn(Set.of(new Register(REGISTER))));
+        queries.put("StudentRepository.findByUsername", r -> r.students.findByUsername(STUDENT));
+        queries.put("StudentRepository.findByFullname", r -> r.students.findByFullname("bob", "dylamie"));
+        queries.put("StudentRepository.existsByRegister", r -> r.students.existsByRegister(new Register(REGISTER)));
+        queries.put("StudentRepository.existsByFiscalCode", r -> r.students.existsByFiscalCode(new FiscalCode(FISCAL_CODE)));
+        queries.put("StudentRepository.deleteByRegister", r -> r.students.deleteByRegister(new Register("999999")));
+
+        // student transcript
+        queries.put("StudentTranscriptRepository.applyDelta", r -> r.transcripts.applyDelta(REGISTER, 27 * 6, 6, 1, 0));
+        queries.put("StudentTranscriptRepository.createIfAbsent", r -> r.transcripts.createIfAbsent(REGISTER, LocalDate.of(2025, 10, 19)));
+        queries.put("StudentTranscriptRepository.findRegistersAfter", r -> r.transcripts.findRegistersAfter(REGISTER, PageRequest.ofSize(500)));
+        queries.put("StudentTranscriptRepository.deleteRange", r -> r.transcripts.deleteRange("", REGISTER));
+        queries.put("StudentTranscriptRepository.deleteAfter", r -> r.transcripts.deleteAfter(REGISTER));
+        queries.put("StudentTranscriptRepository.insertRange", r -> {
+            r.transcripts.deleteRange("", REGISTER);
+            r.transcripts.insertRange("", REGISTER);
+        });
+        queries.put("StudentTranscriptRepository.insertAfter", r -> {
+            r.transcripts.deleteAfter(REGISTER);
+            r.transcripts.insertAfter(REGISTER);
+        });
+
+        // user
+        queries.put("UserRepository.findByUsername", r -> r.users.findByUsername(STUDENT));
+        queries.put("UserRepository.findAllWithAddress", r -> r.users.findAllWithAddress());
+        queries.put("UserRepository.findByFullname", r -> r.users.findByFullname("bob", "dylamie"));
+        queries.put("UserRepository.findByDob", r -> r.users.findByDob(LocalDate.of(1991, 4, 6)));
+        queries.put("UserRepository.findByFiscalCode_FiscalCode", r -> r.users.findByFiscalCode_FiscalCode(FISCAL_CODE));
+        queries.put("UserRepository.existsByUsername", r -> r.users.existsByUsername(STUDENT));
+        queries.put("UserRepository.existsByFiscalCode_FiscalCode", r -> r.users.existsByFiscalCode_FiscalCode(FISCAL_CODE));
+        queries.put("UserRepository.existsByUsernameAndIdNot", r -> r.users.existsByUsernameAndIdNot(STUDENT, r.student().getId()));
+        queries.put("UserRepository.existsByFiscalCodeAndIdNot", r -> r.users.existsByFiscalCodeAndIdNot(new FiscalCode(FISCAL_CODE), r.student().getId()));
+
+        // websocket user node
+        queries.put("WebSocketUserNodeRepository.findByUsernameAndNode", r -> r.userNodes.findByUsernameAndNode(STUDENT, "node"));
+        queries.put("WebSocketUserNodeRepository.findNodes", r -> r.userNodes.findNodes(STUDENT, LocalDateTime.now().minusSeconds(90)));
+        queries.put("WebSocketUserNodeRepository.deleteEntry", r -> r.userNodes.deleteEntry(STUDENT, "node"));
+        queries.put("WebSocketUserNodeRepository.touch", r -> r.userNodes.touch("node", LocalDateTime.now()));
+        queries.put("WebSocketUserNodeRepository.deleteNode", r -> r.userNodes.deleteNode("node"));
+        queries.put("WebSocketUserNodeRepository.deleteStale", r -> r.userNodes.deleteStale(LocalDateTime.of(2000, 1, 1, 0, 0)));
+
+        return queries;
+    }
+
+
+    // helpers
+    private List<Execution> capture(Consumer<Repositories> query) {
+        Repositories repositories = new Repositories(context);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            status.setRollbackOnly();
+            // resolve the arguments before recording
+            repositories.course();
+            repositories.student();
+            EXECUTIONS.set(new ArrayList<>());
+            try {
+                query.accept(repositories);
+                repositories.flush();
+                return List.copyOf(EXECUTIONS.get());
+            } finally {
+                EXECUTIONS.remove();
+            }
+        });
+    }
+
+    private String explain(Execution execution) {
+        return String.join("\n", jdbcTemplate.query("EXPLAIN " + execution.sql(),
+            statement -> {
+                for (int i = 0; i < execution.parameters().size(); i++)
+                    statement.setObject(i + 1, execution.parameters().get(i));
+            },
+            (rs, rowNum) -> rs.getString(1)));
+    }
+
+    private static String name(Class<?> type, Method method) {
+        return type.getSimpleName() + "." + method.getName();
+    }
+
+
+    /*
+     * A statement executed by a query method, with the values bound to its
+     * parameters in order, null for the ones bound with setNull.
+     */
+    private record Execution(String sql, List<Object> parameters) {}
+
+
+    /*
+     * Wraps the application data source to record the statements executed
+     * by the thread running a query method, together with their parameters.
+     * The other threads, and the EXPLAIN statements, are passed through.
+     */
+    @TestConfiguration
+    static class ExecutionRecorder {
+
+        @Bean
+        static BeanPostProcessor executionRecordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                    if (bean instanceof DataSource dataSource && "dataSource".equals(beanName))
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return record(obtainTargetDataSource().getConnection());
+                            }
+                        };
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection record(Connection connection) {
+            return proxy(Connection.class, connection, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof PreparedStatement statement && !(result instanceof CallableStatement))
+                    return record(statement, (String) args[0]);
+                return result;
+            });
+        }
+
+        private static PreparedStatement record(PreparedStatement statement, String sql) {
+            Map<Integer, Object> parameters = new TreeMap<>();
+            return proxy(PreparedStatement.class, statement, (proxy, method, args) -> {
+                String name = method.getName();
+                List<Execution> executions = EXECUTIONS.get();
+                if (name.equals("clearParameters"))
+                    parameters.clear();
+                else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index)
+                    parameters.put(index, name.equals("setNull") ? null : args[1]);
+                else if (name.startsWith("execute") && executions != null)
+                    executions.add(new Execution(sql, new ArrayList<>(parameters.values())));
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+            return type.cast(Proxy.newProxyInstance(
+                QueryPlanTests.class.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Recording proxy for " + target;
+                    default -> handler.invoke(proxy, method, args);
+                }
+            ));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+    }
+
+
+    /*
+     * Repositories plus the seeded entities used as arguments.
+     */
+    private static final class Repositories {
+
+        private final AdminKpiValueRepository adminKpis;
+        private final ClusterMessageRepository clusterMessages;
+        private final CourseRepository courses;
+        private final DegreeCourseRepository degreeCourses;
+        private final ExaminationAppealRepository appeals;
+        private final ExaminationOutcomeRepository outcomes;
+        private final ExaminationRepository examinations;
+        private final OutcomeNotificationRepository notifications;
+        private final GraduationEligibilityRepository graduation;
+        private final JobRunRepository jobRuns;
+        private final PasswordResetTokenRepository tokens;
+        private final ProfessorRepository professors;
+        private final ScheduledJobRepository scheduledJobs;
+        private final StudentRepository students;
+        private final StudentTranscriptRepository transcripts;
+        private final StudentRankingRepository rankings;
+        private final StudyPlanRepository studyPlans;
+        private final UserRepository users;
+        private final WebSocketUserNodeRepository userNodes;
+
+        private Course course;
+        private Student student;
+
+        private Repositories(ApplicationContext context) {
+            this.adminKpis = context.getBean(AdminKpiValueRepository.class);
+            this.clusterMessages = context.getBean(ClusterMessageRepository.class);
+            this.courses = context.getBean(CourseRepository.class);
+            this.degreeCourses = context.getBean(DegreeCourseRepository.class);
+            this.appeals = context.getBean(ExaminationAppealRepository.class);
+            this.outcomes = context.getBean(ExaminationOutcomeRepository.class);
+            this.examinations = context.getBean(ExaminationRepository.class);
+            this.notifications = context.getBean(OutcomeNotificationRepository.class);
+            this.graduation = context.getBean(GraduationEligibilityRepository.class);
+            this.jobRuns = context.getBean(JobRunRepository.class);
+            this.tokens = context.getBean(PasswordResetTokenRepository.class);
+            this.professors = context.getBean(ProfessorRepository.class);
+            this.scheduledJobs = context.getBean(ScheduledJobRepository.class);
+            this.students = context.getBean(StudentRepository.class);
+            this.transcripts = context.getBean(StudentTranscriptRepository.class);
+            this.rankings = context.getBean(StudentRankingRepository.class);
+            this.studyPlans = context.getBean(StudyPlanRepository.class);
+            this.users = context.getBean(UserRepository.class);
+            this.userNodes = context.getBean(WebSocketUserNodeRepository.class);
+        }
+
+        private Course course() {
+            if (course == null)
+                course = courses.findByNameAndDegreeCourseName(COURSE, DEGREE_COURSE).orElseThrow();
+            return course;
+        }
+
+        private Student student() {
+            if (student == null)
+                student = students.findByRegister(new Register(REGISTER)).orElseThrow();
+            return student;
+        }
+
+        // statements of modifying queries are only issued on flush
+        private void flush() {
+            courses.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.alex.universitymanagementsystem.dto.UpdateExaminationDto;
+import com.alex.universitymanagementsystem.entity.Examination;
+import com.alex.universitymanagementsystem.entity.StudentTranscript;
+import com.alex.universitymanagementsystem.repository.ExaminationRepository;
+import com.alex.universitymanagementsystem.repository.StudentTranscriptRepository;
+import com.alex.universitymanagementsystem.service.ExaminationService;
+
+/**
+ * Reassigns the latest seeded examination of a student to another student
+ * of the same degree course, and compares both transcripts with their
+ * examinations. Rolled back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class ExaminationServiceTests {
+
+    private static final String DEGREE_COURSE = "INGEGNERIA GESTIONALE";
+    private static final String OLD_REGISTER = "123456";
+    private static final String NEW_REGISTER = "555555";
+
+    @Autowired
+    private ExaminationService examinationService;
+
+    @Autowired
+    private ExaminationRepository examinationRepository;
+
+    @Autowired
+    private StudentTranscriptRepository studentTranscriptRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+
+    @Test
+    void reassignmentUpdatesBothTranscripts() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            // the examination with the latest date of the old student, to a course the new one has not taken
+            UpdateExaminationDto request = new UpdateExaminationDto();
+            request.setOldRegister(OLD_REGISTER);
+            request.setOldCourseName("analisi matematica");
+            request.setOldDegreeCourseName(DEGREE_COURSE);
+            request.setNewRegister(NEW_REGISTER);
+            request.setNewCourseName("fisica generale");
+            request.setNewDegreeCourseName(DEGREE_COURSE);
+            request.setGrade("27");
+            request.setWithHonors(false);
+            request.setDate(LocalDate.of(2023, 1, 10));
+
+            examinationService.updateExamination(request);
+
+            assertMatchesExaminations(OLD_REGISTER);
+            assertMatchesExaminations(NEW_REGISTER);
+            assertEquals(LocalDate.of(2021, 2, 18),
+                studentTranscriptRepository.findById(OLD_REGISTER).orElseThrow().getLastExamDate());
+        });
+    }
+
+
+    // helpers
+    private void assertMatchesExaminations(String register) {
+        List<Examination> examinations = examinationRepository.findByRegister(register);
+        StudentTranscript transcript = studentTranscriptRepository.findById(register).orElseThrow();
+        assertEquals(examinations.stream().mapToLong(e -> (long) e.getGrade() * e.getCourse().getCfu()).sum(),
+            transcript.getGradePoints());
+        assertEquals(examinations.stream().mapToInt(e -> e.getCourse().getCfu()).sum(), transcript.getCfu());
+        assertEquals(examinations.size(), transcript.getExaminations());
+        assertEquals(examinations.stream().filter(Examination::isWithHonors).count(), transcript.getHonors());
+        assertEquals(examinations.stream().map(Examination::getDate).max(LocalDate::compareTo).orElseThrow(),
+            transcript.getLastExamDate());
+    }
+
+}
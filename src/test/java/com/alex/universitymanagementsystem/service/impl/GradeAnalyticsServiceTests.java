@@ -0,0 +1,56 @@
+package com.alex.universitymanagementsystem.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationBus;
+import com.alex.universitymanagementsystem.component.cluster.UmsInvalidationEvent;
+import com.alex.universitymanagementsystem.component.sql.UmsSqlStatementCounter;
+import com.alex.universitymanagementsystem.dto.GradeDistributionDto;
+import com.alex.universitymanagementsystem.enum_type.InvalidationTopic;
+import com.alex.universitymanagementsystem.service.GradeAnalyticsService;
+
+/**
+ * Grade analytics of a seeded course: the second read is served without
+ * SQL, an invalidation of the course computes it again.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class GradeAnalyticsServiceTests {
+
+    private static final String COURSE = "fondamenti di informatica";
+    private static final String DEGREE_COURSE = "ingegneria gestionale";
+
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+
+    @Autowired
+    private UmsInvalidationBus invalidationBus;
+
+    @Autowired
+    private UmsSqlStatementCounter statementCounter;
+
+
+    @Test
+    void cachesUntilInvalidated() {
+        GradeDistributionDto first = gradeAnalyticsService.getGradeDistribution(COURSE, DEGREE_COURSE);
+        assertEquals(13, first.histogram().size());
+        assertEquals(first.examinations(), first.histogram().values().stream().mapToLong(Long::longValue).sum());
+
+        statementCounter.start();
+        GradeDistributionDto cached = gradeAnalyticsService.getGradeDistribution(COURSE, DEGREE_COURSE.toUpperCase());
+        assertEquals(0, statementCounter.stop());
+        assertSame(first, cached);
+
+        invalidationBus.deliverLocally(new UmsInvalidationEvent(
+            InvalidationTopic.GRADES, UmsInvalidationEvent.key(COURSE, DEGREE_COURSE.toUpperCase())));
+        assertNotSame(first, gradeAnalyticsService.getGradeDistribution(COURSE, DEGREE_COURSE));
+    }
+
+}